@@ -0,0 +1,292 @@
+package com.telangana.ballbadminton.cache;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-process cache with a maximum size, an optional maximum weight and a time-to-live per entry
+ *
+ * Entries are kept in access order and least recently used entries are evicted
+ * once the cache holds more entries, or more total weight, than allowed. Hits,
+ * misses, puts and evictions (including expirations) are counted. Concurrent
+ * get(key, valueLoader) calls that miss the same key run the loader once and
+ * share its value. Used as the L1 tier of TwoLevelCache and as the cache of
+ * BoundedLocalCacheManager.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class BoundedLocalCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final int maxSize;
+    private final long maxWeight;
+    private final ToLongFunction<Object> weigher;
+    private final long ttlMillis;
+
+    private final LinkedHashMap<Object, Entry> store = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long weight;
+
+    private final Map<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private LongSupplier clock = System::currentTimeMillis;
+
+    /**
+     * @param ttl time-to-live of each entry, zero for no expiry
+     */
+    public BoundedLocalCache(String name, int maxSize, Duration ttl, boolean allowNullValues) {
+        this(name, maxSize, 0, value -> 1, ttl, allowNullValues);
+    }
+
+    /**
+     * @param maxWeight largest total weight of the entries, zero for no weight bound
+     * @param weigher   weight of a stored value, at least 1
+     * @param ttl       time-to-live of each entry, zero for no expiry
+     */
+    public BoundedLocalCache(String name, int maxSize, long maxWeight, ToLongFunction<Object> weigher,
+                             Duration ttl, boolean allowNullValues) {
+        super(allowNullValues);
+        this.name = name;
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        lock.lock();
+        try {
+            Entry entry = store.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.isExpired(clock.getAsLong())) {
+                remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = loading.putIfAbsent(key, load);
+        if (existing != null) {
+            return (T) await(key, valueLoader, existing);
+        }
+
+        try {
+            // A load may have completed between the miss and claiming the key
+            Object stored = peek(key);
+            Object value;
+            if (stored != null) {
+                value = fromStoreValue(stored);
+            } else {
+                try {
+                    value = valueLoader.call();
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(key, valueLoader, e);
+                }
+                put(key, value);
+            }
+            load.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * Wait for the value another caller is loading, failing like that caller did
+     */
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+        try {
+            return load.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ValueRetrievalException retrieval && retrieval.getCause() != null) {
+                cause = retrieval.getCause();
+            }
+            throw new ValueRetrievalException(key, valueLoader, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        Entry entry = new Entry(storeValue, Math.max(1, weigher.applyAsLong(storeValue)),
+                ttlMillis > 0 ? clock.getAsLong() + ttlMillis : Long.MAX_VALUE);
+        lock.lock();
+        try {
+            remove(key);
+            store.put(key, entry);
+            weight += entry.weight;
+            puts.increment();
+            evictOverflow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        lock.lock();
+        try {
+            remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            store.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return store.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Total weight of the entries
+     */
+    public long weight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getPutCount() {
+        return puts.sum();
+    }
+
+    /**
+     * Entries removed for size, weight or expiry; explicit evictions are not counted
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Stored value of a live entry, without counting a hit or miss
+     */
+    private Object peek(Object key) {
+        lock.lock();
+        try {
+            Entry entry = store.get(key);
+            return entry != null && !entry.isExpired(clock.getAsLong()) ? entry.value : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Object key) {
+        Entry removed = store.remove(key);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    /**
+     * Drop least recently used entries until the cache is back within its maximum size and weight
+     */
+    private void evictOverflow() {
+        Iterator<Map.Entry<Object, Entry>> iterator = store.entrySet().iterator();
+        while ((store.size() > maxSize || (maxWeight > 0 && weight > maxWeight)) && iterator.hasNext()) {
+            weight -= iterator.next().getValue().weight;
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long weight;
+        private final long expiresAt;
+
+        private Entry(Object value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.telangana.ballbadminton.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * In-process CacheManager with bounded caches, for nodes running without Redis
+ *
+ * Creates one BoundedLocalCache per configured cache, each with its own TTL and
+ * the same size and weight bounds; unknown cache names are not created. Weights
+ * count the elements of cached collections, so a cached list of 500 players weighs
+ * as much as 500 cached players. Hits, misses, puts, evictions, size and weight
+ * are published with the Micrometer cache meter names.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class BoundedLocalCacheManager implements CacheManager {
+
+    private final Map<String, BoundedLocalCache> caches;
+
+    /**
+     * @param maxWeight largest total element weight per cache, zero for no weight bound
+     */
+    public BoundedLocalCacheManager(Map<String, Duration> cacheTtls, int maxSize, long maxWeight,
+                                    MeterRegistry meterRegistry) {
+        Map<String, BoundedLocalCache> created = new LinkedHashMap<>();
+        cacheTtls.forEach((name, ttl) -> {
+            BoundedLocalCache cache = new BoundedLocalCache(name, maxSize, maxWeight,
+                    BoundedLocalCacheManager::elementWeight, ttl, false);
+            registerMetrics(cache, meterRegistry);
+            created.put(name, cache);
+        });
+        this.caches = Collections.unmodifiableMap(created);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    /**
+     * Weight of a cached value: the number of elements of a collection, map, page or
+     * array, otherwise 1. Values wrapped by StampedeProtectedCache are weighed unwrapped.
+     */
+    static long elementWeight(Object value) {
+        if (value instanceof StampedeProtectedCache.TimedValue timed) {
+            value = timed.getValue();
+        }
+        if (value instanceof Optional<?> optional) {
+            value = optional.orElse(null);
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (value instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (value instanceof Object[] array) {
+            return array.length;
+        }
+        return 1;
+    }
+
+    private void registerMetrics(BoundedLocalCache cache, MeterRegistry meterRegistry) {
+        registerCounter(cache, meterRegistry, "cache.gets", "hit", BoundedLocalCache::getHitCount);
+        registerCounter(cache, meterRegistry, "cache.gets", "miss", BoundedLocalCache::getMissCount);
+        registerCounter(cache, meterRegistry, "cache.puts", null, BoundedLocalCache::getPutCount);
+        registerCounter(cache, meterRegistry, "cache.evictions", null, BoundedLocalCache::getEvictionCount);
+        Gauge.builder("cache.size", cache, BoundedLocalCache::size)
+                .description("Number of entries in the local cache")
+                .tag("cache", cache.getName())
+                .register(meterRegistry);
+        Gauge.builder("cache.local.weight", cache, BoundedLocalCache::weight)
+                .description("Total element weight of the local cache entries")
+                .tag("cache", cache.getName())
+                .register(meterRegistry);
+    }
+
+    private void registerCounter(BoundedLocalCache cache, MeterRegistry meterRegistry, String name, String result,
+                                 ToDoubleFunction<BoundedLocalCache> count) {
+        FunctionCounter.Builder<BoundedLocalCache> builder = FunctionCounter.builder(name, cache, count)
+                .description("Local cache " + name.substring("cache.".length()))
+                .tag("cache", cache.getName());
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(meterRegistry);
+    }
+}
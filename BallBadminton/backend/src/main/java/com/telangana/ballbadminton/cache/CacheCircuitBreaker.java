@@ -0,0 +1,219 @@
+package com.telangana.ballbadminton.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker for calls to the shared cache store (Redis)
+ *
+ * Opens after a run of consecutive failed calls, where a call fails when it throws a
+ * DataAccessException (connection failures, command timeouts) or succeeds slower than
+ * the slow-call threshold. While open, calls are refused immediately instead of
+ * waiting on socket timeouts. A background task probes the store while the breaker
+ * is open; once a probe and the recovery action succeed, the breaker closes again.
+ * State, transitions and call outcomes are published as Micrometer metrics.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class CacheCircuitBreaker implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheCircuitBreaker.class);
+
+    /**
+     * Breaker states; the gauge value of each state is its ordinal
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Checks that the store is reachable, throwing when it is not
+     */
+    @FunctionalInterface
+    public interface Probe {
+
+        void ping() throws Exception;
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final Probe probe;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final ScheduledExecutorService prober;
+
+    private final Counter successfulCalls;
+    private final Counter failedCalls;
+    private final Counter slowCalls;
+    private final Counter rejectedCalls;
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+
+    private volatile Runnable recoveryAction = () -> { };
+    private LongSupplier nanoClock = System::nanoTime;
+
+    /**
+     * @param failureThreshold consecutive failed or slow calls that open the breaker, zero to never open
+     * @param slowCallThreshold successful calls slower than this count as failures, zero to ignore latency
+     * @param probeInterval    delay between probes while the breaker is open
+     */
+    public CacheCircuitBreaker(String name, int failureThreshold, Duration slowCallThreshold, Duration probeInterval,
+                               Probe probe, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.probe = probe;
+
+        successfulCalls = callCounter(meterRegistry, "success");
+        failedCalls = callCounter(meterRegistry, "failure");
+        slowCalls = callCounter(meterRegistry, "slow");
+        rejectedCalls = callCounter(meterRegistry, "rejected");
+        for (State target : State.values()) {
+            transitions.put(target, Counter.builder("cache.circuit.transitions")
+                    .description("Cache circuit breaker state changes by target state")
+                    .tag("name", name)
+                    .tag("state", target.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("cache.circuit.state", state, current -> current.get().ordinal())
+                .description("Cache circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-circuit-probe-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = probeInterval.toMillis();
+        prober.scheduleWithFixedDelay(() -> {
+            if (state.get() == State.OPEN) {
+                probe();
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Action run after a successful probe, before the breaker closes; when it throws,
+     * the breaker stays open until the next probe
+     */
+    public void setRecoveryAction(Runnable recoveryAction) {
+        this.recoveryAction = recoveryAction;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public boolean isCallPermitted() {
+        return state.get() == State.CLOSED;
+    }
+
+    /**
+     * Run a call against the store, recording its outcome
+     *
+     * @throws DataAccessException when the breaker is open or the call itself fails
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (!isCallPermitted()) {
+            rejectedCalls.increment();
+            throw new DataAccessResourceFailureException("Cache circuit breaker '" + name + "' is open");
+        }
+
+        long start = nanoClock.getAsLong();
+        T result;
+        try {
+            result = call.get();
+        } catch (DataAccessException e) {
+            failedCalls.increment();
+            recordFailure(e.getMessage());
+            throw e;
+        }
+
+        if (slowCallNanos > 0 && nanoClock.getAsLong() - start > slowCallNanos) {
+            slowCalls.increment();
+            recordFailure("slow call");
+        } else {
+            successfulCalls.increment();
+            consecutiveFailures.set(0);
+        }
+        return result;
+    }
+
+    /**
+     * Probe the store once and close the breaker if it answers and the recovery action succeeds
+     *
+     * @return whether the breaker closed
+     */
+    boolean probe() {
+        if (!state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            return false;
+        }
+        transitions.get(State.HALF_OPEN).increment();
+
+        try {
+            probe.ping();
+            recoveryAction.run();
+        } catch (Exception e) {
+            logger.debug("Cache circuit breaker '{}' probe failed: {}", name, e.getMessage());
+            transition(State.HALF_OPEN, State.OPEN);
+            return false;
+        }
+
+        consecutiveFailures.set(0);
+        transition(State.HALF_OPEN, State.CLOSED);
+        logger.info("Cache circuit breaker '{}' closed, store is reachable again", name);
+        return true;
+    }
+
+    @Override
+    public void close() {
+        prober.shutdownNow();
+    }
+
+    private void recordFailure(String reason) {
+        if (failureThreshold > 0 && consecutiveFailures.incrementAndGet() >= failureThreshold
+                && transition(State.CLOSED, State.OPEN)) {
+            logger.warn("Cache circuit breaker '{}' opened after {} consecutive failures, last: {}",
+                    name, failureThreshold, reason);
+        }
+    }
+
+    private boolean transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return false;
+        }
+        transitions.get(to).increment();
+        return true;
+    }
+
+    private Counter callCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.circuit.calls")
+                .description("Calls through the cache circuit breaker by outcome")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    void setNanoClock(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+}
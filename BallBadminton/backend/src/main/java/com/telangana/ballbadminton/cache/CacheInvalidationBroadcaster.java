@@ -0,0 +1,119 @@
+package com.telangana.ballbadminton.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Broadcasts local cache invalidations to all nodes over Redis pub/sub
+ *
+ * Whenever a TwoLevelCache writes or evicts an entry, the other nodes are told to
+ * drop their L1 copy. Token version changes of users are broadcast the same way for
+ * the PrincipalCache. Messages published by this node are ignored on receipt.
+ * Delivery is best effort: a node that misses a message serves its stale L1 entry
+ * until the entry's TTL expires. Publishing goes through the cache circuit breaker, so
+ * it is skipped rather than waiting on timeouts while Redis is unreachable.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class CacheInvalidationBroadcaster implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBroadcaster.class);
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private static final String SEPARATOR = "\n";
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+    private static final String TOKEN_VERSION = "V";
+
+    /**
+     * Receives invalidations published by other nodes
+     */
+    public interface InvalidationHandler {
+
+        void evict(String cacheName, String key);
+
+        void clear(String cacheName);
+    }
+
+    /**
+     * Receives token version changes published by other nodes
+     */
+    public interface TokenVersionHandler {
+
+        void tokenVersionChanged(UUID userId, int tokenVersion);
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheCircuitBreaker circuitBreaker;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile InvalidationHandler handler;
+    private volatile TokenVersionHandler tokenVersionHandler;
+
+    public CacheInvalidationBroadcaster(StringRedisTemplate redisTemplate, CacheCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public void setHandler(InvalidationHandler handler) {
+        this.handler = handler;
+    }
+
+    public void setTokenVersionHandler(TokenVersionHandler tokenVersionHandler) {
+        this.tokenVersionHandler = tokenVersionHandler;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(String.join(SEPARATOR, nodeId, EVICT, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(String.join(SEPARATOR, nodeId, CLEAR, cacheName, ""));
+    }
+
+    public void publishTokenVersion(UUID userId, int tokenVersion) {
+        publish(String.join(SEPARATOR, nodeId, TOKEN_VERSION, userId.toString(), Integer.toString(tokenVersion)));
+    }
+
+    private void publish(String message) {
+        try {
+            circuitBreaker.execute(() -> redisTemplate.convertAndSend(CHANNEL, message));
+        } catch (Exception e) {
+            logger.warn("Failed to broadcast cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (parts.length < 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        if (TOKEN_VERSION.equals(parts[1])) {
+            TokenVersionHandler currentTokenVersionHandler = tokenVersionHandler;
+            if (currentTokenVersionHandler != null) {
+                currentTokenVersionHandler.tokenVersionChanged(UUID.fromString(parts[2]), Integer.parseInt(parts[3]));
+            }
+            return;
+        }
+
+        InvalidationHandler current = handler;
+        if (current == null) {
+            return;
+        }
+        if (EVICT.equals(parts[1])) {
+            current.evict(parts[2], parts[3]);
+        } else if (CLEAR.equals(parts[1])) {
+            current.clear(parts[2]);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.telangana.ballbadminton.cache;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Index from cache tags to the cache entries carrying them
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public interface CacheTagIndex {
+
+    /**
+     * Record that the entry under the given cache and key carries the given tags
+     */
+    void register(String cacheName, Object key, Collection<String> tags);
+
+    /**
+     * Remove the given tags from the index
+     *
+     * @return every entry that carried at least one of the tags
+     */
+    Collection<Entry> removeTagged(Collection<String> tags);
+
+    /**
+     * A cache entry referenced by a tag
+     */
+    final class Entry {
+
+        private final String cacheName;
+        private final Object key;
+
+        public Entry(String cacheName, Object key) {
+            this.cacheName = cacheName;
+            this.key = key;
+        }
+
+        public String getCacheName() {
+            return cacheName;
+        }
+
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry entry)) return false;
+            return cacheName.equals(entry.cacheName) && key.equals(entry.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cacheName, key);
+        }
+
+        @Override
+        public String toString() {
+            return cacheName + "::" + key;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.telangana.ballbadminton.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Tag-based cache eviction
+ *
+ * Methods that fill a cache record the tags of the entry they produce; writes then
+ * evict only the entries carrying the tags of the records they changed, instead of
+ * clearing whole caches. Evictions go through the CacheManager, so they work the same
+ * for the Redis, two-level and local cache managers.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+public class CacheTagService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheTagService.class);
+
+    private final CacheManager cacheManager;
+    private final CacheTagIndex cacheTagIndex;
+
+    public CacheTagService(CacheManager cacheManager, CacheTagIndex cacheTagIndex) {
+        this.cacheManager = cacheManager;
+        this.cacheTagIndex = cacheTagIndex;
+    }
+
+    /**
+     * Record the tags of a cache entry
+     * Call from the body of a @Cacheable method, which only runs when the entry is (re)loaded.
+     */
+    public void tag(String cacheName, Object key, Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        try {
+            cacheTagIndex.register(cacheName, key, tags);
+        } catch (Exception e) {
+            // The entry still expires with its cache TTL
+            logger.warn("Failed to tag cache entry {}::{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    public void evictTags(String... tags) {
+        evictTags(Arrays.asList(tags));
+    }
+
+    /**
+     * Evict every cache entry carrying at least one of the tags
+     * Inside a transaction the eviction runs after commit, so a concurrent read cannot
+     * cache the old data again once the entries are gone.
+     */
+    public void evictTags(Collection<String> tags) {
+        List<String> distinctTags = tags.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctTags.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(distinctTags);
+                }
+            });
+        } else {
+            evictNow(distinctTags);
+        }
+    }
+
+    private void evictNow(List<String> tags) {
+        try {
+            Collection<CacheTagIndex.Entry> entries = cacheTagIndex.removeTagged(tags);
+            for (CacheTagIndex.Entry entry : entries) {
+                Cache cache = cacheManager.getCache(entry.getCacheName());
+                if (cache != null) {
+                    cache.evict(entry.getKey());
+                }
+            }
+            logger.debug("Evicted {} cache entries tagged {}", entries.size(), tags);
+        } catch (Exception e) {
+            logger.warn("Failed to evict cache entries tagged {}: {}", tags, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.telangana.ballbadminton.cache;
+
+import com.telangana.ballbadminton.dto.news.NewsArticleResponse;
+import com.telangana.ballbadminton.dto.player.PlayerResponse;
+import com.telangana.ballbadminton.dto.tournament.TournamentResponse;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tags attached to cached entries for fine-grained eviction
+ *
+ * Entity tags mark an entry as depending on one record (an entry showing a player's
+ * district name depends on that district); list tags mark entries whose membership
+ * can change when a record starts to qualify for them, such as a tournament that
+ * becomes featured.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public final class CacheTags {
+
+    public static final String UPCOMING_TOURNAMENTS = "list:tournaments:upcoming";
+    public static final String FEATURED_TOURNAMENTS = "list:tournaments:featured";
+    public static final String PROMINENT_PLAYERS = "list:players:prominent";
+    public static final String RANKED_PLAYERS = "list:players:ranked";
+    public static final String FEATURED_NEWS = "list:news:featured";
+
+    private CacheTags() {
+    }
+
+    public static String tournament(UUID tournamentId) {
+        return "tournament:" + tournamentId;
+    }
+
+    public static String player(UUID playerId) {
+        return "player:" + playerId;
+    }
+
+    public static String district(UUID districtId) {
+        return "district:" + districtId;
+    }
+
+    public static String article(UUID articleId) {
+        return "article:" + articleId;
+    }
+
+    /**
+     * Tags of an entry holding the given players: each player and its district,
+     * plus the tags of the lists the entry belongs to
+     */
+    public static Set<String> ofPlayers(Collection<PlayerResponse> players, String... listTags) {
+        Set<String> tags = new LinkedHashSet<>(Arrays.asList(listTags));
+        for (PlayerResponse player : players) {
+            tags.add(player(player.getId()));
+            if (player.getDistrictId() != null) {
+                tags.add(district(player.getDistrictId()));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Tags of an entry holding the given tournaments: each tournament and its district,
+     * plus the tags of the lists the entry belongs to
+     */
+    public static Set<String> ofTournaments(Collection<TournamentResponse> tournaments, String... listTags) {
+        Set<String> tags = new LinkedHashSet<>(Arrays.asList(listTags));
+        for (TournamentResponse tournament : tournaments) {
+            tags.add(tournament(tournament.getId()));
+            if (tournament.getDistrictId() != null) {
+                tags.add(district(tournament.getDistrictId()));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Tags of an entry holding the given articles, plus the tags of the lists the entry belongs to
+     */
+    public static Set<String> ofArticles(Collection<NewsArticleResponse> articles, String... listTags) {
+        Set<String> tags = new LinkedHashSet<>(Arrays.asList(listTags));
+        for (NewsArticleResponse article : articles) {
+            tags.add(article(article.getId()));
+        }
+        return tags;
+    }
+}
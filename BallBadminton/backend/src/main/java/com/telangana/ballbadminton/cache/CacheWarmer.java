@@ -0,0 +1,155 @@
+package com.telangana.ballbadminton.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prefetches hot cache entries once the application is ready
+ *
+ * Each task calls a @Cacheable service method so the first visitors after a deploy
+ * hit warm caches. Tasks run in the background on a small dedicated pool, bounding
+ * how many database connections warm-up takes from live traffic, and the whole run
+ * is capped by a timeout. Failed tasks are logged and skipped; their caches fill on
+ * first use as before.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class CacheWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+
+    public enum Status {
+        NOT_STARTED,
+        RUNNING,
+        COMPLETED,
+        TIMED_OUT
+    }
+
+    private final Map<String, Runnable> tasks;
+    private final int concurrency;
+    private final Duration timeout;
+    private final boolean holdReadiness;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, String> results = new ConcurrentHashMap<>();
+    private volatile Status status = Status.NOT_STARTED;
+
+    /**
+     * @param tasks         named warm-up calls, run in no particular order
+     * @param concurrency   number of tasks run at the same time
+     * @param holdReadiness whether the readiness health group reports out of service until warm-up ends
+     */
+    public CacheWarmer(Map<String, Runnable> tasks, int concurrency, Duration timeout,
+                       boolean holdReadiness, MeterRegistry meterRegistry) {
+        this.tasks = new LinkedHashMap<>(tasks);
+        this.concurrency = Math.max(1, concurrency);
+        this.timeout = timeout;
+        this.holdReadiness = holdReadiness;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        start();
+    }
+
+    /**
+     * Start warming caches in the background
+     *
+     * @return completes when every task finished or the timeout elapsed
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (status != Status.NOT_STARTED) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (tasks.isEmpty()) {
+            status = Status.COMPLETED;
+            return CompletableFuture.completedFuture(null);
+        }
+        status = Status.RUNNING;
+        logger.info("Warming {} caches with concurrency {}", tasks.size(), concurrency);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, warmupThreadFactory());
+        long start = System.nanoTime();
+        CompletableFuture<?>[] runs = tasks.entrySet().stream()
+                .map(task -> CompletableFuture.runAsync(() -> runTask(task.getKey(), task.getValue()), executor))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(runs)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((ignored, error) -> {
+                    executor.shutdownNow();
+                    status = error == null ? Status.COMPLETED : Status.TIMED_OUT;
+                    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    if (error == null) {
+                        logger.info("Cache warm-up completed in {} ms: {}", elapsedMs, results);
+                    } else {
+                        logger.warn("Cache warm-up timed out after {} ms: {}", elapsedMs, results);
+                    }
+                    return null;
+                });
+    }
+
+    private void runTask(String name, Runnable task) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result;
+        try {
+            task.run();
+            result = "warmed";
+        } catch (Exception e) {
+            logger.warn("Cache warm-up task {} failed: {}", name, e.getMessage());
+            result = "failed";
+        }
+        results.put(name, result);
+        sample.stop(Timer.builder("cache.warmup.task")
+                .description("Duration of cache warm-up tasks")
+                .tag("task", name)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    private static ThreadFactory warmupThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isHoldReadiness() {
+        return holdReadiness;
+    }
+
+    /**
+     * Outcome of each finished task: "warmed" or "failed"
+     */
+    public Map<String, String> getResults() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(results));
+    }
+
+    public int getTaskCount() {
+        return tasks.size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.telangana.ballbadminton.cache;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Health of the post-startup cache warm-up, included in the readiness health group
+ *
+ * While warm-up runs the indicator is out of service when readiness is held, and up
+ * (with progress details) otherwise. A finished or timed-out warm-up is always up:
+ * caches that were not warmed simply fill on first use.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmer cacheWarmer;
+
+    public CacheWarmupHealthIndicator(CacheWarmer cacheWarmer) {
+        this.cacheWarmer = cacheWarmer;
+    }
+
+    @Override
+    public Health health() {
+        CacheWarmer.Status status = cacheWarmer.getStatus();
+        boolean warming = status == CacheWarmer.Status.NOT_STARTED || status == CacheWarmer.Status.RUNNING;
+        Health.Builder builder = warming && cacheWarmer.isHoldReadiness() ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("status", status)
+                .withDetail("tasks", cacheWarmer.getTaskCount())
+                .withDetail("results", cacheWarmer.getResults())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.telangana.ballbadminton.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Serialized HTTP response stored by ResponseCacheFilter
+ *
+ * Holds the final JSON bytes, a pre-gzipped copy when the body is large enough to
+ * be worth compressing, and the headers to replay with them (content type,
+ * validators and cache control).
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class CachedResponse {
+
+    private Map<String, String> headers = new LinkedHashMap<>();
+    private byte[] body;
+    private byte[] gzippedBody;
+
+    public CachedResponse() {
+    }
+
+    public CachedResponse(Map<String, String> headers, byte[] body, byte[] gzippedBody) {
+        this.headers = headers;
+        this.body = body;
+        this.gzippedBody = gzippedBody;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public void setBody(byte[] body) {
+        this.body = body;
+    }
+
+    public byte[] getGzippedBody() {
+        return gzippedBody;
+    }
+
+    public void setGzippedBody(byte[] gzippedBody) {
+        this.gzippedBody = gzippedBody;
+    }
+}
@@ -0,0 +1,139 @@
+package com.telangana.ballbadminton.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Cache that calls a shared cache (Redis) through a circuit breaker, failing over to a local cache
+ *
+ * Calls the breaker refuses, and calls that fail, are served by the bounded local
+ * fallback cache, so callers neither wait on an unreachable store nor see its errors.
+ * Evictions always reach the fallback as well, so it never serves an entry the
+ * application has invalidated. Loads run outside the breaker: only the lookup and
+ * the write of the loaded value are timed against the store.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class CircuitBreakingCache implements Cache {
+
+    private final Cache shared;
+    private final Cache fallback;
+    private final CacheCircuitBreaker circuitBreaker;
+
+    public CircuitBreakingCache(Cache shared, Cache fallback, CacheCircuitBreaker circuitBreaker) {
+        this.shared = shared;
+        this.fallback = fallback;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String getName() {
+        return shared.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return shared.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return call(() -> shared.get(key), () -> fallback.get(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        run(() -> shared.put(key, value), () -> fallback.put(key, value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return call(() -> shared.putIfAbsent(key, value), () -> fallback.putIfAbsent(key, value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        fallback.evict(key);
+        run(() -> shared.evict(key), () -> { });
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean presentLocally = fallback.evictIfPresent(key);
+        return call(() -> shared.evictIfPresent(key), () -> presentLocally);
+    }
+
+    @Override
+    public void clear() {
+        fallback.clear();
+        run(shared::clear, () -> { });
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidatedLocally = fallback.invalidate();
+        return call(shared::invalidate, () -> invalidatedLocally);
+    }
+
+    /**
+     * Clear the shared cache directly and drop the fallback entries, once the store is reachable again
+     */
+    void recover() {
+        shared.clear();
+        fallback.clear();
+    }
+
+    private <T> T call(Supplier<T> sharedCall, Supplier<T> fallbackCall) {
+        try {
+            return circuitBreaker.execute(sharedCall);
+        } catch (DataAccessException e) {
+            return fallbackCall.get();
+        }
+    }
+
+    private void run(Runnable sharedCall, Runnable fallbackCall) {
+        call(() -> {
+            sharedCall.run();
+            return null;
+        }, () -> {
+            fallbackCall.run();
+            return null;
+        });
+    }
+}
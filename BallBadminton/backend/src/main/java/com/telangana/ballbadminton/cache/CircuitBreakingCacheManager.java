@@ -0,0 +1,105 @@
+package com.telangana.ballbadminton.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager that guards every cache of a shared manager (Redis) with one circuit breaker
+ *
+ * While the breaker is open each cache is served by its own bounded local fallback,
+ * whose entries live at most as long as the cache's TTL and never longer than the
+ * configured fallback maximum. Writes and tag evictions made during an outage never
+ * reach the store, so when the breaker recovers every shared cache is cleared before
+ * calls are let through again, and the fallback entries are dropped.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class CircuitBreakingCacheManager implements CacheManager {
+
+    private final CacheManager sharedCacheManager;
+    private final CacheCircuitBreaker circuitBreaker;
+    private final Map<String, Duration> cacheTtls;
+    private final int fallbackMaxSize;
+    private final Duration fallbackMaxTtl;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CircuitBreakingCache> caches = new ConcurrentHashMap<>();
+
+    public CircuitBreakingCacheManager(
+            CacheManager sharedCacheManager,
+            CacheCircuitBreaker circuitBreaker,
+            Map<String, Duration> cacheTtls,
+            int fallbackMaxSize,
+            Duration fallbackMaxTtl,
+            MeterRegistry meterRegistry) {
+        this.sharedCacheManager = sharedCacheManager;
+        this.circuitBreaker = circuitBreaker;
+        this.cacheTtls = cacheTtls;
+        this.fallbackMaxSize = fallbackMaxSize;
+        this.fallbackMaxTtl = fallbackMaxTtl;
+        this.meterRegistry = meterRegistry;
+        circuitBreaker.setRecoveryAction(this::recover);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        CircuitBreakingCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache shared = sharedCacheManager.getCache(name);
+        if (shared == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, shared));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return sharedCacheManager.getCacheNames();
+    }
+
+    /**
+     * Fallback TTL for a cache: its own TTL, capped at the fallback maximum
+     */
+    Duration fallbackTtl(String cacheName) {
+        Duration ttl = cacheTtls.getOrDefault(cacheName, fallbackMaxTtl);
+        return ttl.compareTo(fallbackMaxTtl) < 0 ? ttl : fallbackMaxTtl;
+    }
+
+    /**
+     * Clear the shared caches, including those this node never used, since any of them
+     * may hold entries whose invalidation was lost during the outage
+     */
+    void recover() {
+        for (String name : sharedCacheManager.getCacheNames()) {
+            CircuitBreakingCache cache = caches.get(name);
+            if (cache != null) {
+                cache.recover();
+            } else {
+                Cache shared = sharedCacheManager.getCache(name);
+                if (shared != null) {
+                    shared.clear();
+                }
+            }
+        }
+    }
+
+    private CircuitBreakingCache createCache(String name, Cache shared) {
+        BoundedLocalCache fallback = new BoundedLocalCache(name, fallbackMaxSize, fallbackTtl(name), true);
+        Gauge.builder("cache.circuit.fallback.size", fallback, BoundedLocalCache::size)
+                .description("Number of entries in the local fallback of a circuit-broken cache")
+                .tag("cache", name)
+                .register(meterRegistry);
+        return new CircuitBreakingCache(shared, fallback, circuitBreaker);
+    }
+}
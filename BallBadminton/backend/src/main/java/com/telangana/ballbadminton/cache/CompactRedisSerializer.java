@@ -0,0 +1,171 @@
+package com.telangana.ballbadminton.cache;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Dense Redis serializer for cached values
+ *
+ * Values are written with Jackson in binary Smile (or plain JSON) format, omitting
+ * null fields, and deflated when the encoded value reaches the compression
+ * threshold. Each payload starts with one header byte recording whether it is
+ * plain, deflated or Spring's cached-null marker; values without a known header
+ * (such as JSON written before a cache switched format) read as cache misses.
+ * Type information is restricted to application, java.lang, java.math, java.util and
+ * java.time classes.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    /**
+     * Encoding of the value bytes
+     */
+    public enum Format {
+        JSON,
+        SMILE
+    }
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+    private static final byte NULL_VALUE = 2;
+
+    private static final byte[] NULL_VALUE_PAYLOAD = {NULL_VALUE};
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final int compressionThreshold;
+
+    /**
+     * @param compressionThreshold encoded size in bytes from which values are deflated, 0 to never compress
+     */
+    public CompactRedisSerializer(Format format, int compressionThreshold) {
+        ObjectMapper mapper = createMapper(format);
+        this.writer = mapper.writerFor(Object.class);
+        this.reader = mapper.readerFor(Object.class);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    static ObjectMapper createMapper(Format format) {
+        ObjectMapper mapper = format == Format.SMILE ? new ObjectMapper(new SmileFactory()) : new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.telangana.ballbadminton.")
+                        .allowIfSubType("java.lang.")
+                        .allowIfSubType("java.math.")
+                        .allowIfSubType("java.util.")
+                        .allowIfSubType("java.time.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return mapper;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (value instanceof NullValue) {
+            return NULL_VALUE_PAYLOAD.clone();
+        }
+
+        byte[] encoded;
+        try {
+            encoded = writer.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+
+        if (compressionThreshold > 0 && encoded.length >= compressionThreshold) {
+            return withHeader(DEFLATED, deflate(encoded));
+        }
+        return withHeader(PLAIN, encoded);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            return switch (bytes[0]) {
+                case NULL_VALUE -> NullValue.INSTANCE;
+                case PLAIN -> reader.readValue(bytes, 1, bytes.length - 1);
+                case DEFLATED -> reader.readValue(inflate(bytes));
+                // Written by another serializer, e.g. JSON from before a cache switched format: treat as a miss
+                default -> null;
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] withHeader(byte header, byte[] body) {
+        byte[] payload = new byte[body.length + 1];
+        payload[0] = header;
+        System.arraycopy(body, 0, payload, 1, body.length);
+        return payload;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Inflate a deflated payload, skipping its header byte
+     */
+    private static byte[] inflate(byte[] payload) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload, 1, payload.length - 1);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(payload.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("Truncated compressed cache value");
+                }
+                output.write(buffer, 0, count);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupt compressed cache value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
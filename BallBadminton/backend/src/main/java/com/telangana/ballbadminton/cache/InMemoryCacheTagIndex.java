@@ -0,0 +1,47 @@
+package com.telangana.ballbadminton.cache;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache tag index kept in this node's memory, used with the local in-memory cache manager
+ *
+ * Entries keep their original key objects, so evictions match the keys the caches
+ * were filled with. References to entries that already expired stay until their tag
+ * is evicted; they are bounded by the number of distinct cached keys.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+@Profile("local")
+public class InMemoryCacheTagIndex implements CacheTagIndex {
+
+    private final Map<String, Set<Entry>> entriesByTag = new ConcurrentHashMap<>();
+
+    @Override
+    public void register(String cacheName, Object key, Collection<String> tags) {
+        Entry entry = new Entry(cacheName, key);
+        for (String tag : tags) {
+            entriesByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(entry);
+        }
+    }
+
+    @Override
+    public Collection<Entry> removeTagged(Collection<String> tags) {
+        Set<Entry> removed = new LinkedHashSet<>();
+        for (String tag : tags) {
+            Set<Entry> entries = entriesByTag.remove(tag);
+            if (entries != null) {
+                removed.addAll(entries);
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,93 @@
+package com.telangana.ballbadminton.cache;
+
+import com.telangana.ballbadminton.config.CacheConfig;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cache tag index shared by all nodes through Redis, used with the Redis cache manager
+ *
+ * Each tag is a Redis set of "cacheName::key" members. Sets expire after the longest
+ * cache TTL and are refreshed whenever an entry is tagged, so they outlive the entries
+ * they reference. Keys are stored as strings, matching how Redis cache keys are built.
+ * Tags are read and deleted in one script so an entry tagged concurrently is never lost.
+ * Calls go through the cache circuit breaker and fail fast while Redis is unreachable;
+ * the cache manager clears the caches on recovery, covering the evictions lost meanwhile.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+@Profile("!local")
+public class RedisCacheTagIndex implements CacheTagIndex {
+
+    static final String TAG_KEY_PREFIX = "cache:tags:";
+
+    private static final String MEMBER_SEPARATOR = "::";
+
+    private static final long INDEX_TTL_SECONDS = Collections.max(CacheConfig.CACHE_TTLS.values()).getSeconds();
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REMOVE_TAGGED_SCRIPT = new DefaultRedisScript<>(
+            "local members = {} " +
+            "for _, key in ipairs(KEYS) do " +
+            "  for _, member in ipairs(redis.call('SMEMBERS', key)) do table.insert(members, member) end " +
+            "end " +
+            "redis.call('DEL', unpack(KEYS)) " +
+            "return members",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheCircuitBreaker circuitBreaker;
+
+    public RedisCacheTagIndex(StringRedisTemplate redisTemplate, CacheCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void register(String cacheName, Object key, Collection<String> tags) {
+        String member = cacheName + MEMBER_SEPARATOR + key;
+        // One round trip for all tags of the entry
+        circuitBreaker.execute(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection commands = (StringRedisConnection) connection;
+            for (String tag : tags) {
+                commands.sAdd(TAG_KEY_PREFIX + tag, member);
+                commands.expire(TAG_KEY_PREFIX + tag, INDEX_TTL_SECONDS);
+            }
+            return null;
+        }));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<Entry> removeTagged(Collection<String> tags) {
+        List<String> keys = tags.stream().map(tag -> TAG_KEY_PREFIX + tag).collect(Collectors.toList());
+        List<String> members = circuitBreaker.execute(() -> redisTemplate.execute(REMOVE_TAGGED_SCRIPT, keys));
+        if (members == null || members.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<Entry> entries = new LinkedHashSet<>();
+        for (String member : members) {
+            int separator = member.indexOf(MEMBER_SEPARATOR);
+            if (separator > 0) {
+                entries.add(new Entry(member.substring(0, separator),
+                        member.substring(separator + MEMBER_SEPARATOR.length())));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,312 @@
+package com.telangana.ballbadminton.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * HTTP response cache for hot public GET endpoints
+ *
+ * Stores the final JSON bytes of a response, plus a gzipped copy for larger bodies,
+ * keyed by route and normalized query parameters, and writes hits straight to the
+ * output stream without reaching the controller or Jackson. A hit still honours
+ * If-None-Match / If-Modified-Since against the stored validators.
+ *
+ * Entries live in a regular cache, so they are shared through Redis and the L1 tier
+ * like any service cache, and are tagged with the same tags the service caches use:
+ * the route's list tags plus the entity tags of the served body, collected by
+ * ResponseCacheTagAdvice. Writes that evict service entries by tag therefore evict
+ * the stored responses too. Only 200 responses that carry an ETag (meaning the body
+ * matched the database version) and whose body produced tags are stored.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    static final String RECORDING_ATTRIBUTE = ResponseCacheFilter.class.getName() + ".recording";
+    static final String TAGS_ATTRIBUTE = ResponseCacheFilter.class.getName() + ".tags";
+
+    private static final List<String> REPLAYED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.CACHE_CONTROL, HttpHeaders.VARY);
+
+    /**
+     * A cacheable route: an Ant-style path pattern (below the context path), the query
+     * parameters that take part in the key, and the list tags of its responses.
+     * Requests with any other query parameter are not cached.
+     */
+    public static final class Route {
+
+        private final String pattern;
+        private final Set<String> queryParameters;
+        private final List<String> listTags;
+
+        public Route(String pattern, Collection<String> queryParameters, String... listTags) {
+            this.pattern = pattern;
+            this.queryParameters = Set.copyOf(queryParameters);
+            this.listTags = Arrays.asList(listTags);
+        }
+
+        public Route(String pattern, String... listTags) {
+            this(pattern, Set.of(), listTags);
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+    }
+
+    private final CacheManager cacheManager;
+    private final String cacheName;
+    private final CacheTagService cacheTagService;
+    private final List<Route> routes;
+    private final int gzipMinBytes;
+    private final int maxBodyBytes;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stores;
+
+    /**
+     * @param gzipMinBytes body size from which a gzipped copy is stored
+     * @param maxBodyBytes largest body that is stored
+     */
+    public ResponseCacheFilter(
+            CacheManager cacheManager,
+            String cacheName,
+            CacheTagService cacheTagService,
+            List<Route> routes,
+            int gzipMinBytes,
+            int maxBodyBytes,
+            MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.cacheName = cacheName;
+        this.cacheTagService = cacheTagService;
+        this.routes = List.copyOf(routes);
+        this.gzipMinBytes = gzipMinBytes;
+        this.maxBodyBytes = maxBodyBytes;
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.stores = Counter.builder("cache.response.stores")
+                .description("Responses stored in the HTTP response cache")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.response.requests")
+                .description("HTTP response cache lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || route(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Route route = route(request);
+        Cache cache = cacheManager.getCache(cacheName);
+        String key = key(request, route);
+        if (cache == null || key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedResponse cached = lookup(cache, key);
+        if (cached != null) {
+            hits.increment();
+            serve(cached, request, response);
+            return;
+        }
+        misses.increment();
+
+        request.setAttribute(RECORDING_ATTRIBUTE, Boolean.TRUE);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            store(cache, key, route, request, wrapper);
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * First route matching the request path below the context path
+     */
+    private Route route(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Route route : routes) {
+            if (pathMatcher.match(route.pattern, path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cache key: path plus the route's query parameters sorted by name and value,
+     * or null when the request has parameters the route does not declare
+     */
+    String key(HttpServletRequest request, Route route) {
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        StringBuilder key = new StringBuilder(request.getRequestURI().substring(request.getContextPath().length()));
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            if (!route.queryParameters.contains(parameter.getKey())) {
+                return null;
+            }
+            String[] values = parameter.getValue().clone();
+            Arrays.sort(values);
+            for (String value : values) {
+                key.append(separator)
+                        .append(URLEncoder.encode(parameter.getKey(), StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private CachedResponse lookup(Cache cache, String key) {
+        try {
+            return cache.get(key, CachedResponse.class);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read cached response {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void serve(CachedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Map<String, String> headers = cached.getHeaders();
+        headers.forEach((name, value) -> {
+            if (!HttpHeaders.CONTENT_TYPE.equals(name)) {
+                response.setHeader(name, value);
+            }
+        });
+        if (new ServletWebRequest(request, response).checkNotModified(
+                headers.get(HttpHeaders.ETAG), lastModified(headers.get(HttpHeaders.LAST_MODIFIED)))) {
+            return;
+        }
+
+        byte[] body = cached.getBody();
+        if (cached.getGzippedBody() != null && acceptsGzip(request)) {
+            body = cached.getGzippedBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (!response.containsHeader(HttpHeaders.VARY)) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(headers.get(HttpHeaders.CONTENT_TYPE));
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void store(Cache cache, String key, Route route, HttpServletRequest request,
+                       ContentCachingResponseWrapper response) {
+        @SuppressWarnings("unchecked")
+        Collection<String> bodyTags = (Collection<String>) request.getAttribute(TAGS_ATTRIBUTE);
+        byte[] body = response.getContentAsByteArray();
+        if (response.getStatus() != HttpStatus.OK.value() || bodyTags == null
+                || response.getHeader(HttpHeaders.ETAG) == null
+                || body.length == 0 || body.length > maxBodyBytes) {
+            return;
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REPLAYED_HEADERS) {
+            String value = HttpHeaders.CONTENT_TYPE.equals(name) ? response.getContentType() : response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        Set<String> tags = new LinkedHashSet<>(route.listTags);
+        tags.addAll(bodyTags);
+
+        try {
+            byte[] gzipped = body.length >= gzipMinBytes ? gzip(body) : null;
+            cache.put(key, new CachedResponse(headers, body, gzipped));
+            cacheTagService.tag(cacheName, key, tags);
+            stores.increment();
+        } catch (IOException | RuntimeException e) {
+            // The response was already produced; it just is not cached
+            logger.warn("Failed to cache response {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static long lastModified(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(body);
+        }
+        return output.toByteArray();
+    }
+}
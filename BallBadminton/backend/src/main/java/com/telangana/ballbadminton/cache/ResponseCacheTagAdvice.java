@@ -0,0 +1,74 @@
+package com.telangana.ballbadminton.cache;
+
+import com.telangana.ballbadminton.dto.news.NewsArticleResponse;
+import com.telangana.ballbadminton.dto.player.PlayerResponse;
+import com.telangana.ballbadminton.dto.tournament.TournamentResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the cache tags of response bodies recorded by ResponseCacheFilter
+ *
+ * The tags are the entity tags the service caches use for the same DTOs, so a
+ * stored response is evicted by the writes that evict the service entries it was
+ * built from. Bodies containing anything else get no tags and are not stored.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@ControllerAdvice
+public class ResponseCacheTagAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body != null && request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            if (httpRequest.getAttribute(ResponseCacheFilter.RECORDING_ATTRIBUTE) != null) {
+                Set<String> tags = tagsOf(body);
+                if (tags != null) {
+                    httpRequest.setAttribute(ResponseCacheFilter.TAGS_ATTRIBUTE, tags);
+                }
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Entity tags of a DTO or list of DTOs, or null if the body holds an unknown type
+     */
+    static Set<String> tagsOf(Object body) {
+        Collection<?> items = body instanceof Collection<?> collection ? collection : List.of(body);
+        Set<String> tags = new LinkedHashSet<>();
+        for (Object item : items) {
+            if (item instanceof PlayerResponse player) {
+                tags.addAll(CacheTags.ofPlayers(List.of(player)));
+            } else if (item instanceof TournamentResponse tournament) {
+                tags.addAll(CacheTags.ofTournaments(List.of(tournament)));
+            } else if (item instanceof NewsArticleResponse article) {
+                tags.addAll(CacheTags.ofArticles(List.of(article)));
+            } else {
+                return null;
+            }
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,48 @@
+package com.telangana.ballbadminton.cache;
+
+/**
+ * Stampede protection settings of one cache
+ *
+ * Single-flight loading lets only one caller per key and node run the loader of a
+ * @Cacheable(sync = true) method while the others wait for its result. Early refresh
+ * follows the XFetch scheme: a read recomputes an entry ahead of expiry with a
+ * probability that grows as expiry approaches and with how long the entry took to
+ * compute, scaled by beta. A beta of 0 disables early refresh; values above 1 favour
+ * refreshing earlier.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class StampedePolicy {
+
+    private final boolean singleFlight;
+    private final double earlyRefreshBeta;
+
+    public StampedePolicy(boolean singleFlight, double earlyRefreshBeta) {
+        if (earlyRefreshBeta < 0) {
+            throw new IllegalArgumentException("Early refresh beta must not be negative: " + earlyRefreshBeta);
+        }
+        this.singleFlight = singleFlight;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+    }
+
+    public boolean isSingleFlight() {
+        return singleFlight;
+    }
+
+    public double getEarlyRefreshBeta() {
+        return earlyRefreshBeta;
+    }
+
+    /**
+     * XFetch test: refresh when now - loadMillis * beta * ln(random) reaches the expiry time
+     *
+     * @param random uniform sample in (0, 1]
+     */
+    boolean shouldRefreshEarly(long nowMillis, long expiresAtMillis, long loadMillis, double random) {
+        if (earlyRefreshBeta == 0 || loadMillis <= 0) {
+            return false;
+        }
+        return nowMillis - loadMillis * earlyRefreshBeta * Math.log(random) >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,277 @@
+package com.telangana.ballbadminton.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache decorator that protects expensive entries against stampedes
+ *
+ * Values are stored as {@link TimedValue}s recording when they expire and how long
+ * they took to compute. For @Cacheable(sync = true) methods a miss is loaded by one
+ * caller per key while concurrent callers for the same key wait for its result, and a
+ * hit may trigger an early refresh (see {@link StampedePolicy}) that the winning caller
+ * runs while everyone else keeps getting the current value. Coalescing is per node;
+ * each node recomputes a hot key at most once at a time. Values stored before the
+ * decorator was enabled are returned as they are.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class StampedeProtectedCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(StampedeProtectedCache.class);
+
+    /**
+     * Stored form of a cached value
+     * Non-final with a default constructor so the Redis serializers keep its type.
+     */
+    public static class TimedValue {
+
+        private Object value;
+        private long expiresAt;
+        private long loadMillis;
+
+        public TimedValue() {
+        }
+
+        public TimedValue(Object value, long expiresAt, long loadMillis) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.loadMillis = loadMillis;
+        }
+
+        public Object getValue() { return value; }
+        public void setValue(Object value) { this.value = value; }
+
+        public long getExpiresAt() { return expiresAt; }
+        public void setExpiresAt(long expiresAt) { this.expiresAt = expiresAt; }
+
+        public long getLoadMillis() { return loadMillis; }
+        public void setLoadMillis(long loadMillis) { this.loadMillis = loadMillis; }
+    }
+
+    private final Cache delegate;
+    private final StampedePolicy policy;
+    private final long ttlMillis;
+    private final long waitTimeoutMillis;
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter missLoads;
+    private final Counter earlyRefreshes;
+    private final Counter coalescedWaits;
+
+    private LongSupplier clock = System::currentTimeMillis;
+    private DoubleSupplier random = () -> 1.0 - ThreadLocalRandom.current().nextDouble();
+
+    public StampedeProtectedCache(Cache delegate, StampedePolicy policy, Duration ttl,
+                                  Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.ttlMillis = ttl.toMillis();
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.missLoads = loadCounter(meterRegistry, "miss");
+        this.earlyRefreshes = loadCounter(meterRegistry, "early_refresh");
+        this.coalescedWaits = Counter.builder("cache.stampede.coalesced")
+                .description("Callers that waited for another caller's load instead of loading themselves")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+    }
+
+    private Counter loadCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("cache.stampede.loads")
+                .description("Stampede-protected cache loads by reason")
+                .tag("cache", delegate.getName())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper stored = delegate.get(key);
+        if (stored == null || !(stored.get() instanceof TimedValue timed)) {
+            return stored;
+        }
+        return new SimpleValueWrapper(timed.getValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper stored = delegate.get(key);
+        if (stored != null) {
+            if (!(stored.get() instanceof TimedValue timed)) {
+                return (T) stored.get();
+            }
+            if (!policy.shouldRefreshEarly(clock.getAsLong(), timed.getExpiresAt(), timed.getLoadMillis(),
+                    random.getAsDouble())) {
+                return (T) timed.getValue();
+            }
+
+            // Refresh ahead of expiry; if someone else already is, keep serving the current value
+            CompletableFuture<Object> refresh = new CompletableFuture<>();
+            if (inFlight.putIfAbsent(key, refresh) != null) {
+                return (T) timed.getValue();
+            }
+            earlyRefreshes.increment();
+            try {
+                return (T) load(key, valueLoader, refresh);
+            } catch (ValueRetrievalException e) {
+                // The current value is still valid; the next read past expiry will load again
+                logger.warn("Early refresh of {}::{} failed: {}", getName(), key, e.getMessage());
+                return (T) timed.getValue();
+            }
+        }
+
+        if (!policy.isSingleFlight()) {
+            missLoads.increment();
+            return (T) load(key, valueLoader, null);
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            return (T) await(key, valueLoader, existing);
+        }
+
+        // A load may have completed between the miss and claiming the key
+        ValueWrapper loaded = get(key);
+        if (loaded != null) {
+            inFlight.remove(key, load);
+            load.complete(loaded.get());
+            return (T) loaded.get();
+        }
+        missLoads.increment();
+        return (T) load(key, valueLoader, load);
+    }
+
+    /**
+     * Run the loader, store its value and hand it to callers waiting on the future
+     */
+    private Object load(Object key, Callable<?> valueLoader, CompletableFuture<Object> future) {
+        try {
+            long start = clock.getAsLong();
+            Object value = valueLoader.call();
+            long now = clock.getAsLong();
+            delegate.put(key, new TimedValue(value, now + ttlMillis, now - start));
+            if (future != null) {
+                future.complete(value);
+            }
+            return value;
+        } catch (Exception e) {
+            if (future != null) {
+                future.completeExceptionally(e);
+            }
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            if (future != null) {
+                inFlight.remove(key, future);
+            }
+        }
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+        coalescedWaits.increment();
+        try {
+            return load.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // The loading caller is stuck; load without coalescing rather than wait indefinitely
+            missLoads.increment();
+            return load(key, valueLoader, null);
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, wrap(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, wrap(value));
+        if (existing == null || !(existing.get() instanceof TimedValue timed)) {
+            return existing;
+        }
+        return new SimpleValueWrapper(timed.getValue());
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /**
+     * Values put directly (e.g. by @CachePut) have no known load time and are never refreshed early
+     */
+    private TimedValue wrap(Object value) {
+        return new TimedValue(value, clock.getAsLong() + ttlMillis, 0);
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    void setRandom(DoubleSupplier random) {
+        this.random = random;
+    }
+}
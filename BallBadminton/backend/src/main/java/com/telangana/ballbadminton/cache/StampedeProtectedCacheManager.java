@@ -0,0 +1,68 @@
+package com.telangana.ballbadminton.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager that wraps the caches with a stampede policy in a StampedeProtectedCache
+ *
+ * Caches without a policy are returned from the underlying manager unchanged.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class StampedeProtectedCacheManager implements CacheManager {
+
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final CacheManager delegate;
+    private final Map<String, StampedePolicy> policies;
+    private final Map<String, Duration> cacheTtls;
+    private final Duration waitTimeout;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public StampedeProtectedCacheManager(
+            CacheManager delegate,
+            Map<String, StampedePolicy> policies,
+            Map<String, Duration> cacheTtls,
+            Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.policies = policies;
+        this.cacheTtls = cacheTtls;
+        this.waitTimeout = waitTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        StampedePolicy policy = policies.get(name);
+        if (policy == null) {
+            return delegate.getCache(name);
+        }
+
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new StampedeProtectedCache(
+                target, policy, cacheTtls.getOrDefault(cacheName, DEFAULT_TTL), waitTimeout, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,204 @@
+package com.telangana.ballbadminton.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache with a bounded in-process L1 in front of a shared L2 (Redis)
+ *
+ * Reads are served from L1 when possible and fall through to L2, filling L1 on the
+ * way back. Writes and evictions go to both levels and are broadcast so other
+ * nodes drop their L1 copy. L1 keys are the string form of the cache key, which is
+ * also what is sent in invalidation messages.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache local;
+    private final Cache shared;
+    private final CacheInvalidationBroadcaster broadcaster;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder sharedMisses = new LongAdder();
+
+    public TwoLevelCache(Cache local, Cache shared, CacheInvalidationBroadcaster broadcaster) {
+        this.local = local;
+        this.shared = shared;
+        this.broadcaster = broadcaster;
+    }
+
+    @Override
+    public String getName() {
+        return shared.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return shared.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper value = local.get(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        localMisses.increment();
+
+        value = shared.get(key);
+        if (value != null) {
+            sharedHits.increment();
+            local.put(localKey, value.get());
+        } else {
+            sharedMisses.increment();
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.get(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return (T) cached.get();
+        }
+        localMisses.increment();
+
+        boolean[] loaded = new boolean[1];
+        T value = shared.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        (loaded[0] ? sharedMisses : sharedHits).increment();
+        local.put(localKey, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        shared.put(key, value);
+        local.put(localKey, value);
+        broadcaster.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = shared.putIfAbsent(key, value);
+        if (existing == null) {
+            String localKey = localKey(key);
+            local.put(localKey, value);
+            broadcaster.publishEvict(getName(), localKey);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        shared.evict(key);
+        local.evict(localKey);
+        broadcaster.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        boolean present = shared.evictIfPresent(key);
+        local.evict(localKey);
+        broadcaster.publishEvict(getName(), localKey);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        shared.clear();
+        local.clear();
+        broadcaster.publishClear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = shared.invalidate();
+        local.clear();
+        broadcaster.publishClear(getName());
+        return invalidated;
+    }
+
+    /**
+     * Drop an L1 entry after another node changed it
+     */
+    void evictLocal(String localKey) {
+        local.evict(localKey);
+    }
+
+    /**
+     * Drop all L1 entries after another node cleared the cache
+     */
+    void clearLocal() {
+        local.clear();
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getLocalMisses() {
+        return localMisses.sum();
+    }
+
+    public long getSharedHits() {
+        return sharedHits.sum();
+    }
+
+    public long getSharedMisses() {
+        return sharedMisses.sum();
+    }
+
+    /**
+     * Fraction of lookups answered by L1
+     */
+    public double getLocalHitRatio() {
+        return ratio(getLocalHits(), getLocalMisses());
+    }
+
+    /**
+     * Fraction of L1 misses answered by L2
+     */
+    public double getSharedHitRatio() {
+        return ratio(getSharedHits(), getSharedMisses());
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
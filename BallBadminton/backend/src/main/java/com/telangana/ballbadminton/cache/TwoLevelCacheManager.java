@@ -0,0 +1,128 @@
+package com.telangana.ballbadminton.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * CacheManager that puts a bounded local L1 in front of every cache of a shared manager
+ *
+ * L1 entries live at most as long as the cache's own TTL and never longer than the
+ * configured L1 maximum, which bounds staleness when an invalidation message is lost.
+ * Per-level hits, misses and hit ratios are published as Micrometer metrics.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class TwoLevelCacheManager implements CacheManager, CacheInvalidationBroadcaster.InvalidationHandler {
+
+    private final CacheManager sharedCacheManager;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final Map<String, Duration> cacheTtls;
+    private final int localMaxSize;
+    private final Duration localMaxTtl;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager sharedCacheManager,
+            CacheInvalidationBroadcaster broadcaster,
+            Map<String, Duration> cacheTtls,
+            int localMaxSize,
+            Duration localMaxTtl,
+            MeterRegistry meterRegistry) {
+        this.sharedCacheManager = sharedCacheManager;
+        this.broadcaster = broadcaster;
+        this.cacheTtls = cacheTtls;
+        this.localMaxSize = localMaxSize;
+        this.localMaxTtl = localMaxTtl;
+        this.meterRegistry = meterRegistry;
+        broadcaster.setHandler(this);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache shared = sharedCacheManager.getCache(name);
+        if (shared == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, shared));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return sharedCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+
+    /**
+     * L1 TTL for a cache: its own TTL, capped at the L1 maximum
+     */
+    Duration localTtl(String cacheName) {
+        Duration ttl = cacheTtls.getOrDefault(cacheName, localMaxTtl);
+        return ttl.compareTo(localMaxTtl) < 0 ? ttl : localMaxTtl;
+    }
+
+    private TwoLevelCache createCache(String name, Cache shared) {
+        BoundedLocalCache local = new BoundedLocalCache(name, localMaxSize, localTtl(name), true);
+        TwoLevelCache cache = new TwoLevelCache(local, shared, broadcaster);
+
+        registerCounter(cache, "l1", "hit", TwoLevelCache::getLocalHits);
+        registerCounter(cache, "l1", "miss", TwoLevelCache::getLocalMisses);
+        registerCounter(cache, "l2", "hit", TwoLevelCache::getSharedHits);
+        registerCounter(cache, "l2", "miss", TwoLevelCache::getSharedMisses);
+        registerHitRatio(cache, "l1", TwoLevelCache::getLocalHitRatio);
+        registerHitRatio(cache, "l2", TwoLevelCache::getSharedHitRatio);
+        Gauge.builder("cache.tiered.l1.size", local, BoundedLocalCache::size)
+                .description("Number of entries in the local cache tier")
+                .tag("cache", name)
+                .register(meterRegistry);
+        return cache;
+    }
+
+    private void registerCounter(TwoLevelCache cache, String level, String result, ToDoubleFunction<TwoLevelCache> count) {
+        FunctionCounter.builder("cache.tiered.gets", cache, count)
+                .description("Two-level cache lookups by level and result")
+                .tag("cache", cache.getName())
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void registerHitRatio(TwoLevelCache cache, String level, ToDoubleFunction<TwoLevelCache> ratio) {
+        Gauge.builder("cache.tiered.hit.ratio", cache, ratio)
+                .description("Two-level cache hit ratio by level")
+                .tag("cache", cache.getName())
+                .tag("level", level)
+                .register(meterRegistry);
+    }
+}
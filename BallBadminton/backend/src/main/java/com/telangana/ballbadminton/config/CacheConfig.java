@@ -1,5 +1,15 @@
 package com.telangana.ballbadminton.config;
 
+import com.telangana.ballbadminton.cache.CacheCircuitBreaker;
+import com.telangana.ballbadminton.cache.CacheInvalidationBroadcaster;
+import com.telangana.ballbadminton.cache.CircuitBreakingCacheManager;
+import com.telangana.ballbadminton.cache.CompactRedisSerializer;
+import com.telangana.ballbadminton.cache.StampedePolicy;
+import com.telangana.ballbadminton.cache.StampedeProtectedCacheManager;
+import com.telangana.ballbadminton.cache.TwoLevelCacheManager;
+import com.telangana.ballbadminton.service.LiveScoreRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -8,23 +18,36 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Cache configuration for the Telangana Ball Badminton Association Website
  * 
  * This configuration provides:
  * - Redis-based caching for improved performance
+ * - Bounded in-process L1 cache in front of Redis, invalidated across nodes via pub/sub
+ * - Circuit breaker on Redis calls, failing over to local caches during an outage
  * - Custom cache configurations for different data types
  * - Cache eviction policies and TTL settings
- * - Serialization configuration for cached objects
+ * - Serialization configuration for cached objects, with a compact binary format per cache
+ * - Stampede protection for hot caches: single-flight loading and probabilistic early refresh
  * 
  * @author Telangana Ball Badminton Association
  * @version 1.0.0
@@ -45,6 +68,115 @@ public class CacheConfig {
     public static final String MEDIA_CACHE = "media";
     public static final String STATISTICS_CACHE = "statistics";
     public static final String RANKINGS_CACHE = "rankings";
+    public static final String RESPONSES_CACHE = "responses";
+
+    /**
+     * Time-to-live of each cache, shared by the Redis caches and the local L1 tier
+     */
+    public static final Map<String, Duration> CACHE_TTLS;
+
+    static {
+        Map<String, Duration> ttls = new LinkedHashMap<>();
+
+        // Members cache - longer TTL as member data changes less frequently
+        ttls.put(MEMBERS_CACHE, Duration.ofHours(6));
+
+        // Players cache - medium TTL as player data changes moderately
+        ttls.put(PLAYERS_CACHE, Duration.ofHours(3));
+
+        // Tournaments cache - shorter TTL as tournament data changes frequently
+        ttls.put(TOURNAMENTS_CACHE, Duration.ofMinutes(30));
+
+        // Districts cache - very long TTL as geographic data rarely changes
+        ttls.put(DISTRICTS_CACHE, Duration.ofDays(1));
+
+        // News cache - short TTL as news is frequently updated
+        ttls.put(NEWS_CACHE, Duration.ofMinutes(15));
+
+        // Media cache - medium TTL as media galleries change moderately
+        ttls.put(MEDIA_CACHE, Duration.ofHours(2));
+
+        // Statistics cache - short TTL as statistics are calculated frequently
+        ttls.put(STATISTICS_CACHE, Duration.ofMinutes(10));
+
+        // Rankings cache - medium TTL as rankings are updated periodically
+        ttls.put(RANKINGS_CACHE, Duration.ofHours(1));
+
+        // Serialized HTTP responses - evicted by the same tags as the service caches,
+        // short TTL bounds anything missed by an eviction race
+        ttls.put(RESPONSES_CACHE, Duration.ofMinutes(10));
+
+        CACHE_TTLS = Collections.unmodifiableMap(ttls);
+    }
+
+    /**
+     * Stampede protection of each cache, applied to @Cacheable(sync = true) methods;
+     * caches without an entry are not protected
+     */
+    public static final Map<String, StampedePolicy> STAMPEDE_POLICIES;
+
+    static {
+        Map<String, StampedePolicy> policies = new LinkedHashMap<>();
+
+        // Upcoming/featured tournament lists scan all tournaments - refresh early
+        policies.put(TOURNAMENTS_CACHE, new StampedePolicy(true, 1.0));
+
+        // Prominent players list is on the home page - refresh early
+        policies.put(PLAYERS_CACHE, new StampedePolicy(true, 1.0));
+
+        // Ranking queries join statistics and sort - refresh early, favouring earlier refreshes
+        policies.put(RANKINGS_CACHE, new StampedePolicy(true, 2.0));
+
+        // Districts rarely change and load quickly - coalesce misses only
+        policies.put(DISTRICTS_CACHE, new StampedePolicy(true, 0));
+
+        // Featured news is on the home page and expires often - refresh early
+        policies.put(NEWS_CACHE, new StampedePolicy(true, 1.0));
+
+        STAMPEDE_POLICIES = Collections.unmodifiableMap(policies);
+    }
+
+    @Value("${app.cache.l1.enabled:true}")
+    private boolean localCacheEnabled;
+
+    @Value("${app.cache.l1.max-size:1000}")
+    private int localCacheMaxSize;
+
+    @Value("${app.cache.l1.max-ttl-seconds:60}")
+    private long localCacheMaxTtlSeconds;
+
+    @Value("${app.cache.circuit-breaker.enabled:true}")
+    private boolean circuitBreakerEnabled;
+
+    @Value("${app.cache.circuit-breaker.failure-threshold:5}")
+    private int circuitBreakerFailureThreshold;
+
+    @Value("${app.cache.circuit-breaker.slow-call-ms:500}")
+    private long circuitBreakerSlowCallMs;
+
+    @Value("${app.cache.circuit-breaker.probe-interval-ms:5000}")
+    private long circuitBreakerProbeIntervalMs;
+
+    @Value("${app.cache.circuit-breaker.fallback-max-size:1000}")
+    private int fallbackCacheMaxSize;
+
+    @Value("${app.cache.circuit-breaker.fallback-max-ttl-seconds:60}")
+    private long fallbackCacheMaxTtlSeconds;
+
+    @Value("${app.cache.serialization.compact-caches:}")
+    private String compactCaches;
+
+    @Value("${app.cache.serialization.compact-format:SMILE}")
+    private CompactRedisSerializer.Format compactFormat;
+
+    @Value("${app.cache.serialization.compression-threshold-bytes:4096}")
+    private int compressionThresholdBytes;
+
+    @Value("${app.cache.stampede.enabled:true}")
+    private boolean stampedeProtectionEnabled;
+
+    @Value("${app.cache.stampede.wait-timeout-ms:5000}")
+    private long stampedeWaitTimeoutMs;
 
     /**
      * Redis template configuration for custom operations
@@ -67,10 +199,107 @@ public class CacheConfig {
     }
 
     /**
-     * Redis cache manager with custom configurations for different cache types
+     * Broadcasts cache writes and evictions so other nodes drop their L1 entries
+     */
+    @Bean
+    public CacheInvalidationBroadcaster cacheInvalidationBroadcaster(
+            StringRedisTemplate stringRedisTemplate,
+            CacheCircuitBreaker cacheCircuitBreaker) {
+        return new CacheInvalidationBroadcaster(stringRedisTemplate, cacheCircuitBreaker);
+    }
+
+    /**
+     * Circuit breaker for the Redis cache calls and the cache tag index; never opens
+     * when app.cache.circuit-breaker.enabled is false
+     */
+    @Bean
+    public CacheCircuitBreaker cacheCircuitBreaker(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        return new CacheCircuitBreaker(
+                "redis",
+                circuitBreakerEnabled ? circuitBreakerFailureThreshold : 0,
+                Duration.ofMillis(circuitBreakerSlowCallMs),
+                Duration.ofMillis(circuitBreakerProbeIntervalMs),
+                () -> {
+                    try (RedisConnection connection = connectionFactory.getConnection()) {
+                        connection.ping();
+                    }
+                },
+                meterRegistry);
+    }
+
+    /**
+     * Relays live score events so spectators on every node follow a match
+     */
+    @Bean
+    public LiveScoreRelay liveScoreRelay(
+            StringRedisTemplate stringRedisTemplate,
+            CacheCircuitBreaker cacheCircuitBreaker,
+            @Value("${app.live-score.idle-channel-minutes:360}") long idleChannelMinutes) {
+        return new LiveScoreRelay(stringRedisTemplate, cacheCircuitBreaker, Duration.ofMinutes(idleChannelMinutes));
+    }
+
+    /**
+     * Subscribes to cache invalidations and live score events published by other nodes
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBroadcaster cacheInvalidationBroadcaster,
+            LiveScoreRelay liveScoreRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBroadcaster, new ChannelTopic(CacheInvalidationBroadcaster.CHANNEL));
+        container.addMessageListener(liveScoreRelay, new ChannelTopic(LiveScoreRelay.CHANNEL));
+        return container;
+    }
+
+    /**
+     * Cache manager: Redis caches with custom configurations for different cache types,
+     * behind a circuit breaker unless app.cache.circuit-breaker.enabled is false, fronted
+     * by a bounded local L1 unless app.cache.l1.enabled is false, with stampede
+     * protection unless app.cache.stampede.enabled is false
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBroadcaster cacheInvalidationBroadcaster,
+            CacheCircuitBreaker cacheCircuitBreaker,
+            MeterRegistry meterRegistry) {
+        CacheManager cacheManager = redisCacheManager(connectionFactory);
+        if (circuitBreakerEnabled) {
+            cacheManager = new CircuitBreakingCacheManager(
+                    cacheManager,
+                    cacheCircuitBreaker,
+                    CACHE_TTLS,
+                    fallbackCacheMaxSize,
+                    Duration.ofSeconds(fallbackCacheMaxTtlSeconds),
+                    meterRegistry);
+        }
+        if (localCacheEnabled) {
+            cacheManager = new TwoLevelCacheManager(
+                    cacheManager,
+                    cacheInvalidationBroadcaster,
+                    CACHE_TTLS,
+                    localCacheMaxSize,
+                    Duration.ofSeconds(localCacheMaxTtlSeconds),
+                    meterRegistry);
+        }
+        if (!stampedeProtectionEnabled) {
+            return cacheManager;
+        }
+
+        return new StampedeProtectedCacheManager(
+                cacheManager,
+                STAMPEDE_POLICIES,
+                CACHE_TTLS,
+                Duration.ofMillis(stampedeWaitTimeoutMs),
+                meterRegistry);
+    }
+
+    /**
+     * Redis cache manager with custom configurations for different cache types
+     */
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofHours(1)) // Default TTL of 1 hour
                 .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
@@ -78,37 +307,26 @@ public class CacheConfig {
                 .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
                         .fromSerializer(new GenericJackson2JsonRedisSerializer()));
 
+        // Caches listed in app.cache.serialization.compact-caches store compact binary values
+        Set<String> compactCacheNames = Arrays.stream(compactCaches.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        RedisCacheConfiguration compactConfig = defaultConfig.serializeValuesWith(SerializationPair
+                .fromSerializer(new CompactRedisSerializer(compactFormat, compressionThresholdBytes)));
+
         // Custom cache configurations for different data types
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        
-        // Members cache - longer TTL as member data changes less frequently
-        cacheConfigurations.put(MEMBERS_CACHE, defaultConfig.entryTtl(Duration.ofHours(6)));
-        
-        // Players cache - medium TTL as player data changes moderately
-        cacheConfigurations.put(PLAYERS_CACHE, defaultConfig.entryTtl(Duration.ofHours(3)));
-        
-        // Tournaments cache - shorter TTL as tournament data changes frequently
-        cacheConfigurations.put(TOURNAMENTS_CACHE, defaultConfig.entryTtl(Duration.ofMinutes(30)));
-        
-        // Districts cache - very long TTL as geographic data rarely changes
-        cacheConfigurations.put(DISTRICTS_CACHE, defaultConfig.entryTtl(Duration.ofDays(1)));
-        
-        // News cache - short TTL as news is frequently updated
-        cacheConfigurations.put(NEWS_CACHE, defaultConfig.entryTtl(Duration.ofMinutes(15)));
-        
-        // Media cache - medium TTL as media galleries change moderately
-        cacheConfigurations.put(MEDIA_CACHE, defaultConfig.entryTtl(Duration.ofHours(2)));
-        
-        // Statistics cache - short TTL as statistics are calculated frequently
-        cacheConfigurations.put(STATISTICS_CACHE, defaultConfig.entryTtl(Duration.ofMinutes(10)));
-        
-        // Rankings cache - medium TTL as rankings are updated periodically
-        cacheConfigurations.put(RANKINGS_CACHE, defaultConfig.entryTtl(Duration.ofHours(1)));
+        CACHE_TTLS.forEach((cacheName, ttl) -> cacheConfigurations.put(cacheName,
+                (compactCacheNames.contains(cacheName) ? compactConfig : defaultConfig).entryTtl(ttl)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        // Not a bean of its own, so load the configured caches here
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
     }
 
     /**
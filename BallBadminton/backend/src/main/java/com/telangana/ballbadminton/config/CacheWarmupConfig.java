@@ -0,0 +1,87 @@
+package com.telangana.ballbadminton.config;
+
+import com.telangana.ballbadminton.cache.CacheWarmer;
+import com.telangana.ballbadminton.cache.CacheWarmupHealthIndicator;
+import com.telangana.ballbadminton.service.DistrictService;
+import com.telangana.ballbadminton.service.NewsService;
+import com.telangana.ballbadminton.service.PlayerService;
+import com.telangana.ballbadminton.service.TournamentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache warm-up configuration
+ *
+ * Registers the cacheable service calls that can be prefetched after startup and
+ * runs the ones listed in app.cache.warmup.tasks. Progress is reported by the
+ * cacheWarmup health indicator, part of the readiness health group; it stays
+ * registered when warm-up is disabled so the group configuration remains valid.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Configuration
+public class CacheWarmupConfig {
+
+    @Value("${app.cache.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.warmup.tasks:districts,prominent-players,featured-tournaments,upcoming-tournaments,featured-news,top-rankings}")
+    private String warmupTasks;
+
+    @Value("${app.cache.warmup.concurrency:2}")
+    private int concurrency;
+
+    @Value("${app.cache.warmup.timeout-seconds:60}")
+    private long timeoutSeconds;
+
+    @Value("${app.cache.warmup.hold-readiness:false}")
+    private boolean holdReadiness;
+
+    @Value("${app.cache.warmup.top-rankings-limit:10}")
+    private int topRankingsLimit;
+
+    @Bean
+    public CacheWarmer cacheWarmer(
+            DistrictService districtService,
+            PlayerService playerService,
+            TournamentService tournamentService,
+            NewsService newsService,
+            MeterRegistry meterRegistry) {
+        // Calls go through the service proxies, so each result lands in its cache
+        Map<String, Runnable> available = new LinkedHashMap<>();
+        available.put("districts", districtService::getAllActiveDistricts);
+        available.put("prominent-players", playerService::getProminentPlayers);
+        available.put("featured-tournaments", tournamentService::getFeaturedTournaments);
+        available.put("upcoming-tournaments", tournamentService::getUpcomingTournaments);
+        available.put("featured-news", newsService::getFeaturedArticles);
+        available.put("top-rankings", () -> playerService.getTopRankedPlayers(topRankingsLimit));
+
+        Map<String, Runnable> tasks = new LinkedHashMap<>();
+        Arrays.stream(enabled ? warmupTasks.split(",") : new String[0])
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(name -> {
+                    Runnable task = available.get(name);
+                    if (task == null) {
+                        throw new IllegalArgumentException("Unknown cache warm-up task '" + name
+                                + "', expected one of " + available.keySet());
+                    }
+                    tasks.put(name, task);
+                });
+
+        return new CacheWarmer(tasks, concurrency, Duration.ofSeconds(timeoutSeconds), holdReadiness, meterRegistry);
+    }
+
+    @Bean
+    public CacheWarmupHealthIndicator cacheWarmupHealthIndicator(CacheWarmer cacheWarmer) {
+        return new CacheWarmupHealthIndicator(cacheWarmer);
+    }
+}
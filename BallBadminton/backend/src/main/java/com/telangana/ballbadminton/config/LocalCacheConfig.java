@@ -1,46 +1,56 @@
 package com.telangana.ballbadminton.config;
 
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import com.telangana.ballbadminton.cache.BoundedLocalCacheManager;
+import com.telangana.ballbadminton.cache.StampedeProtectedCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 
+import java.time.Duration;
+
 /**
  * Local cache configuration for development without Redis
- * Uses simple in-memory caching for local development
+ * Uses bounded in-memory caches with the TTLs and stampede protection of CacheConfig
  */
 @Configuration
 @EnableCaching
 @Profile("local")
 public class LocalCacheConfig {
 
+    @Value("${app.cache.local.max-size:1000}")
+    private int maxSize;
+
+    @Value("${app.cache.local.max-weight:50000}")
+    private long maxWeight;
+
+    @Value("${app.cache.stampede.enabled:true}")
+    private boolean stampedeProtectionEnabled;
+
+    @Value("${app.cache.stampede.wait-timeout-ms:5000}")
+    private long stampedeWaitTimeoutMs;
+
     /**
-     * Simple in-memory cache manager for local development
+     * Bounded in-memory cache manager for local development
      */
     @Bean
     @Primary
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        
-        // Pre-configure cache names
-        cacheManager.setCacheNames(java.util.Arrays.asList(
-            "members",
-            "players", 
-            "tournaments",
-            "districts",
-            "news",
-            "media",
-            "statistics",
-            "rankings"
-        ));
-        
-        // Allow dynamic cache creation
-        cacheManager.setAllowNullValues(false);
-        
-        return cacheManager;
+    public CacheManager cacheManager(MeterRegistry meterRegistry) {
+        CacheManager cacheManager = new BoundedLocalCacheManager(CacheConfig.CACHE_TTLS, maxSize, maxWeight, meterRegistry);
+        if (!stampedeProtectionEnabled) {
+            return cacheManager;
+        }
+
+        // Also makes @Cacheable(sync = true) loads single-flight, as ConcurrentMapCache did
+        return new StampedeProtectedCacheManager(
+                cacheManager,
+                CacheConfig.STAMPEDE_POLICIES,
+                CacheConfig.CACHE_TTLS,
+                Duration.ofMillis(stampedeWaitTimeoutMs),
+                meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.telangana.ballbadminton.config;
+
+import com.telangana.ballbadminton.cache.CacheTagService;
+import com.telangana.ballbadminton.cache.CacheTags;
+import com.telangana.ballbadminton.cache.ResponseCacheFilter;
+import com.telangana.ballbadminton.cache.ResponseCacheFilter.Route;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * HTTP response cache configuration
+ *
+ * Registers ResponseCacheFilter for the hot public GET endpoints below. The filter
+ * runs after the security filter chain, so authentication, CORS and rate limiting
+ * still apply to cached responses.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Configuration
+public class ResponseCacheConfig {
+
+    private static final String UUID_SEGMENT = "{id:[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}}";
+
+    /**
+     * Cached routes and the list tags of their responses; entity tags come from the bodies
+     */
+    public static final List<Route> ROUTES = List.of(
+            new Route("/api/v1/players/prominent", CacheTags.PROMINENT_PLAYERS),
+            new Route("/api/v1/players/rankings/top", List.of("limit"), CacheTags.RANKED_PLAYERS),
+            new Route("/api/v1/players/" + UUID_SEGMENT),
+            new Route("/api/v1/tournaments/upcoming", CacheTags.UPCOMING_TOURNAMENTS),
+            new Route("/api/v1/tournaments/featured", CacheTags.FEATURED_TOURNAMENTS),
+            new Route("/api/v1/tournaments/" + UUID_SEGMENT),
+            new Route("/api/v1/news/articles/featured", CacheTags.FEATURED_NEWS));
+
+    @Value("${app.cache.response.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.response.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    @Value("${app.cache.response.max-body-bytes:524288}")
+    private int maxBodyBytes;
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            CacheManager cacheManager,
+            CacheTagService cacheTagService,
+            MeterRegistry meterRegistry) {
+        ResponseCacheFilter filter = new ResponseCacheFilter(cacheManager, CacheConfig.RESPONSES_CACHE,
+                cacheTagService, ROUTES, gzipMinBytes, maxBodyBytes, meterRegistry);
+
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(enabled);
+        // Just before the DispatcherServlet, after Spring Security
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+}
@@ -1,6 +1,7 @@
 package com.telangana.ballbadminton.config;
 
 import com.telangana.ballbadminton.security.JwtAuthenticationFilter;
+import com.telangana.ballbadminton.security.RateLimitFilter;
 import com.telangana.ballbadminton.service.UserDetailsServiceImpl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,6 +26,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
  * 
  * Implements JWT-based authentication and authorization with:
  * - JWT token authentication
+ * - Per-user and per-IP rate limiting
  * - Role-based access control with hierarchy
  * - Permission-based authorization
  * - CORS support
@@ -41,15 +43,18 @@ public class SecurityConfig {
 
     private final CorsConfigurationSource corsConfigurationSource;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final UserDetailsServiceImpl userDetailsService;
 
     public SecurityConfig(
             CorsConfigurationSource corsConfigurationSource,
             JwtAuthenticationFilter jwtAuthenticationFilter,
+            RateLimitFilter rateLimitFilter,
             UserDetailsServiceImpl userDetailsService
     ) {
         this.corsConfigurationSource = corsConfigurationSource;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
         this.userDetailsService = userDetailsService;
     }
 
@@ -116,6 +121,9 @@ public class SecurityConfig {
             // JWT filter
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
             
+            // Rate limiting - after JWT so authenticated requests are limited per user
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+            
             // Authorization rules
             .authorizeHttpRequests(authz -> authz
                 // Public endpoints - no authentication required
@@ -159,6 +167,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/v1/tournaments/*/delete").hasAuthority("PERMISSION_TOURNAMENT_DELETE")
                 .requestMatchers("/api/v1/tournaments/*/registration").hasAuthority("PERMISSION_TOURNAMENT_MANAGE_REGISTRATION")
                 .requestMatchers("/api/v1/tournaments/*/results").hasAuthority("PERMISSION_TOURNAMENT_MANAGE_RESULTS")
+                .requestMatchers("/api/v1/tournaments/*/matches/*/live/events").hasAuthority("PERMISSION_TOURNAMENT_MANAGE_RESULTS")
                 .requestMatchers("/api/v1/tournaments/*/update").hasAuthority("PERMISSION_TOURNAMENT_UPDATE")
                 .requestMatchers("/api/v1/tournaments/**").hasAuthority("PERMISSION_TOURNAMENT_READ")
                 
@@ -216,4 +225,4 @@ public class SecurityConfig {
 
         return http.build();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.telangana.ballbadminton.controller;
 
+import com.telangana.ballbadminton.dto.CursorPage;
 import com.telangana.ballbadminton.entity.AuditLog;
 import com.telangana.ballbadminton.service.AuditService;
 import com.telangana.ballbadminton.service.BackupService;
@@ -20,6 +21,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Controller for audit logging and monitoring operations
@@ -129,6 +131,72 @@ public class AuditController {
         return ResponseEntity.ok(logs);
     }
 
+    // Cursor-paginated audit log listings, latest first; pass the nextCursor of a page to get the next one
+
+    @GetMapping("/logs/scroll")
+    @Operation(summary = "Scroll audit logs", description = "Retrieve the last 30 days of audit logs with cursor-based pagination")
+    public ResponseEntity<CursorPage<AuditLog>> scrollAuditLogs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        // A fixed window keeps the cursor positions valid across pages
+        LocalDateTime endTime = LocalDateTime.now().plusDays(1).toLocalDate().atStartOfDay();
+        return scroll(() -> auditService.scrollAuditLogsByTimeRange(
+            endTime.minusDays(31), endTime, cursor, size, includeTotal));
+    }
+
+    @GetMapping("/logs/user/{userId}/scroll")
+    @Operation(summary = "Scroll audit logs by user", description = "Retrieve audit logs for a specific user with cursor-based pagination")
+    public ResponseEntity<CursorPage<AuditLog>> scrollAuditLogsByUser(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        return scroll(() -> auditService.scrollAuditLogsByUser(userId, cursor, size, includeTotal));
+    }
+
+    @GetMapping("/logs/entity/{entityType}/{entityId}/scroll")
+    @Operation(summary = "Scroll audit logs by entity", description = "Retrieve audit logs for a specific entity with cursor-based pagination")
+    public ResponseEntity<CursorPage<AuditLog>> scrollAuditLogsByEntity(
+            @PathVariable String entityType,
+            @PathVariable String entityId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        return scroll(() -> auditService.scrollAuditLogsByEntity(entityType, entityId, cursor, size, includeTotal));
+    }
+
+    @GetMapping("/logs/security/scroll")
+    @Operation(summary = "Scroll security events", description = "Retrieve security-related audit logs with cursor-based pagination")
+    public ResponseEntity<CursorPage<AuditLog>> scrollSecurityEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        return scroll(() -> auditService.scrollSecurityEvents(cursor, size, includeTotal));
+    }
+
+    @GetMapping("/logs/failures/scroll")
+    @Operation(summary = "Scroll failed operations", description = "Retrieve failed operation audit logs with cursor-based pagination")
+    public ResponseEntity<CursorPage<AuditLog>> scrollFailedOperations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        return scroll(() -> auditService.scrollFailedOperations(cursor, size, includeTotal));
+    }
+
+    private ResponseEntity<CursorPage<AuditLog>> scroll(Supplier<CursorPage<AuditLog>> page) {
+        try {
+            return ResponseEntity.ok(page.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/logs/statistics")
     @Operation(summary = "Get audit statistics", description = "Retrieve audit log statistics")
     public ResponseEntity<Map<String, Object>> getAuditStatistics(
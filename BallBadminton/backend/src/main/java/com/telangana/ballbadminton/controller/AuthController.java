@@ -144,7 +144,8 @@ public class AuthController {
         try {
             logger.debug("Logout request from IP: {}", getClientIpAddress(request));
 
-            authenticationService.logout(logoutRequest.getRefreshToken());
+            String accessToken = extractBearerToken(request);
+            authenticationService.logout(logoutRequest.getRefreshToken(), accessToken);
             
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Logout successful");
@@ -199,6 +200,17 @@ public class AuthController {
         return error;
     }
 
+    /**
+     * Get the bearer token from the Authorization header, if any
+     */
+    private String extractBearerToken(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        return null;
+    }
+
     /**
      * Get client IP address from request
      */
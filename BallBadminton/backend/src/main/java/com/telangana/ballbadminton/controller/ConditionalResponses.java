@@ -0,0 +1,95 @@
+package com.telangana.ballbadminton.controller;
+
+import com.telangana.ballbadminton.dto.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Enumeration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET handling for public read endpoints
+ *
+ * The resource version is checked against If-None-Match / If-Modified-Since before
+ * the body is loaded, so a 304 skips DTO mapping and serialization entirely. A full
+ * response only carries validators when the body (which may come from a cache) has
+ * the same version as the database; otherwise a client could keep a stale body
+ * under a current ETag.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * @param version     current version of the resource, read from the database
+     * @param body        loads the body; null means not found
+     * @param bodyVersion version of a loaded body
+     */
+    static <T> ResponseEntity<T> conditional(HttpServletRequest request, ResourceVersion version,
+                                             Supplier<T> body, Function<T, ResourceVersion> bodyVersion) {
+        if (isNotModified(request, version)) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), version).build();
+        }
+
+        T value = body.get();
+        if (value == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!version.equals(bodyVersion.apply(value))) {
+            return ResponseEntity.ok(value);
+        }
+        return withValidators(ResponseEntity.ok(), version).body(value);
+    }
+
+    static boolean isNotModified(HttpServletRequest request, ResourceVersion version) {
+        // If-None-Match takes precedence over If-Modified-Since (RFC 9110, 13.2.2)
+        Enumeration<String> ifNoneMatch = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.hasMoreElements()) {
+            String etag = opaqueTag(version.getETag());
+            while (ifNoneMatch.hasMoreElements()) {
+                for (String candidate : ifNoneMatch.nextElement().split(",")) {
+                    String tag = candidate.trim();
+                    boolean matches = "*".equals(tag) ? version.getCount() > 0 : etag.equals(opaqueTag(tag));
+                    if (matches) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        long lastModified = version.getLastModifiedMillis();
+        if (lastModified < 0) {
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            // HTTP dates have second precision
+            return ifModifiedSince >= 0 && lastModified / 1000 * 1000 <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, ResourceVersion version) {
+        builder.eTag(version.getETag());
+        if (version.getLastModifiedMillis() >= 0) {
+            builder.lastModified(version.getLastModifiedMillis());
+        }
+        return builder;
+    }
+
+    /**
+     * Weak comparison: W/"x" and "x" match
+     */
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
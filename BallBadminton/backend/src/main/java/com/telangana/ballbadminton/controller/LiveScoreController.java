@@ -0,0 +1,93 @@
+package com.telangana.ballbadminton.controller;
+
+import com.telangana.ballbadminton.dto.tournament.LiveScoreEvent;
+import com.telangana.ballbadminton.dto.tournament.ScoreUpdateRequest;
+import com.telangana.ballbadminton.service.LiveScoreService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for Live Match Scores
+ * Lets scorers post point and game updates and spectators follow them as Server-Sent Events
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/tournaments/{tournamentId}/matches/{matchId}/live")
+@Tag(name = "Live Scores", description = "APIs for scoring matches live and streaming the score")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class LiveScoreController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveScoreController.class);
+
+    private final LiveScoreService liveScoreService;
+
+    public LiveScoreController(LiveScoreService liveScoreService) {
+        this.liveScoreService = liveScoreService;
+    }
+
+    @Operation(summary = "Stream live score", description = "Stream the score of a bracket match or league fixture as " +
+            "Server-Sent Events, starting with the current score; reconnects resume after Last-Event-ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Score stream opened"),
+        @ApiResponse(responseCode = "404", description = "Match not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamScore(
+            @Parameter(description = "Tournament ID") @PathVariable UUID tournamentId,
+            @Parameter(description = "Bracket match or league fixture ID") @PathVariable UUID matchId,
+            @Parameter(description = "ID of the last event received before reconnecting")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        logger.debug("GET /api/v1/tournaments/{}/matches/{}/live - Streaming score after event {}",
+                    tournamentId, matchId, lastEventId);
+
+        try {
+            return ResponseEntity.ok(liveScoreService.subscribe(tournamentId, matchId, lastEventId));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Live score stream requested for unknown match {}: {}", matchId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Post score update", description = "Record a point, game or match update and send it to everyone watching")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Score update recorded"),
+        @ApiResponse(responseCode = "400", description = "Invalid score update"),
+        @ApiResponse(responseCode = "404", description = "Match not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/events")
+    @PreAuthorize("hasAuthority('PERMISSION_TOURNAMENT_MANAGE_RESULTS')")
+    public ResponseEntity<LiveScoreEvent> postScoreUpdate(
+            @Parameter(description = "Tournament ID") @PathVariable UUID tournamentId,
+            @Parameter(description = "Bracket match or league fixture ID") @PathVariable UUID matchId,
+            @Valid @RequestBody ScoreUpdateRequest request) {
+
+        logger.debug("POST /api/v1/tournaments/{}/matches/{}/live/events - Recording {}", tournamentId, matchId, request.getType());
+
+        try {
+            LiveScoreEvent event = liveScoreService.publish(tournamentId, matchId, request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(event);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Score update posted for unknown match {}: {}", matchId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.telangana.ballbadminton.controller;
 
+import com.telangana.ballbadminton.dto.ResourceVersion;
 import com.telangana.ballbadminton.dto.news.NewsArticleRequest;
 import com.telangana.ballbadminton.dto.news.NewsArticleResponse;
 import com.telangana.ballbadminton.dto.news.NewsCategoryRequest;
@@ -7,6 +8,7 @@ import com.telangana.ballbadminton.dto.news.NewsCategoryResponse;
 import com.telangana.ballbadminton.service.NewsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -55,9 +57,10 @@ public class NewsController {
 
     @GetMapping("/articles/featured")
     @Operation(summary = "Get featured articles")
-    public ResponseEntity<List<NewsArticleResponse>> getFeaturedArticles() {
-        List<NewsArticleResponse> articles = newsService.getFeaturedArticles();
-        return ResponseEntity.ok(articles);
+    public ResponseEntity<List<NewsArticleResponse>> getFeaturedArticles(HttpServletRequest request) {
+        return ConditionalResponses.conditional(request, newsService.getFeaturedArticlesVersion(),
+                newsService::getFeaturedArticles,
+                articles -> ResourceVersion.of(articles, NewsArticleResponse::getUpdatedAt));
     }
 
     @GetMapping("/articles/slug/{slug}")
@@ -1,5 +1,7 @@
 package com.telangana.ballbadminton.controller;
 
+import com.telangana.ballbadminton.dto.CursorPage;
+import com.telangana.ballbadminton.dto.ResourceVersion;
 import com.telangana.ballbadminton.dto.player.AchievementRequest;
 import com.telangana.ballbadminton.dto.player.AchievementResponse;
 import com.telangana.ballbadminton.dto.player.PlayerRequest;
@@ -13,6 +15,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,7 +26,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -54,13 +56,14 @@ public class PlayerController {
     @Operation(summary = "Get all active players", description = "Retrieve all active players in the system")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved players"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match / If-Modified-Since"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<List<PlayerResponse>> getAllActivePlayers() {
+    public ResponseEntity<List<PlayerResponse>> getAllActivePlayers(HttpServletRequest request) {
         logger.debug("GET /api/v1/players - Fetching all active players");
-        List<PlayerResponse> players = playerService.getAllActivePlayers();
-        return ResponseEntity.ok(players);
+        return ConditionalResponses.conditional(request, playerService.getActivePlayersVersion(),
+                playerService::getAllActivePlayers, PlayerController::version);
     }
 
     @Operation(summary = "Get active players with pagination", description = "Retrieve active players with pagination and sorting")
@@ -83,21 +86,46 @@ public class PlayerController {
         return ResponseEntity.ok(players);
     }
 
+    @Operation(summary = "Scroll active players", description = "Retrieve active players by name with cursor-based pagination; " +
+            "pass the nextCursor of a page to get the next one")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved players"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<PlayerResponse>> scrollActivePlayers(
+            @Parameter(description = "Continuation token of the previous page, omitted for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Also count all active players") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        logger.debug("GET /api/v1/players/scroll - size: {}", size);
+
+        try {
+            return ResponseEntity.ok(playerService.scrollActivePlayers(cursor, size, includeTotal));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to scroll players: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "Get player by ID", description = "Retrieve a specific player by their ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved player"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match / If-Modified-Since"),
         @ApiResponse(responseCode = "404", description = "Player not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{id}")
     public ResponseEntity<PlayerResponse> getPlayerById(
-            @Parameter(description = "Player ID") @PathVariable UUID id) {
+            @Parameter(description = "Player ID") @PathVariable UUID id,
+            HttpServletRequest request) {
         
         logger.debug("GET /api/v1/players/{} - Fetching player by ID", id);
         
-        Optional<PlayerResponse> player = playerService.getPlayerById(id);
-        return player.map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
+        return ConditionalResponses.conditional(request, playerService.getPlayerVersion(id),
+                () -> playerService.getPlayerById(id).orElse(null),
+                player -> version(List.of(player)));
     }
 
     @Operation(summary = "Create new player", description = "Create a new player in the system")
@@ -171,13 +199,14 @@ public class PlayerController {
     @Operation(summary = "Get prominent players", description = "Retrieve all prominent players")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved prominent players"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match / If-Modified-Since"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/prominent")
-    public ResponseEntity<List<PlayerResponse>> getProminentPlayers() {
+    public ResponseEntity<List<PlayerResponse>> getProminentPlayers(HttpServletRequest request) {
         logger.debug("GET /api/v1/players/prominent - Fetching prominent players");
-        List<PlayerResponse> players = playerService.getProminentPlayers();
-        return ResponseEntity.ok(players);
+        return ConditionalResponses.conditional(request, playerService.getProminentPlayersVersion(),
+                playerService::getProminentPlayers, PlayerController::version);
     }
 
     @Operation(summary = "Get players by category", description = "Retrieve players filtered by category")
@@ -255,20 +284,50 @@ public class PlayerController {
         return ResponseEntity.ok(players);
     }
 
+    @Operation(summary = "Scroll filtered players", description = "Filter players with advanced criteria, by name " +
+            "with cursor-based pagination")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered players"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter parameters, cursor or page size"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/filter/scroll")
+    public ResponseEntity<CursorPage<PlayerResponse>> scrollFilteredPlayers(
+            @Parameter(description = "Player category") @RequestParam(required = false) Player.Category category,
+            @Parameter(description = "Player gender") @RequestParam(required = false) Player.Gender gender,
+            @Parameter(description = "District ID") @RequestParam(required = false) UUID districtId,
+            @Parameter(description = "Is prominent player") @RequestParam(required = false) Boolean isProminent,
+            @Parameter(description = "Continuation token of the previous page, omitted for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Also count all matching players") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        logger.debug("GET /api/v1/players/filter/scroll - Scrolling players with criteria");
+
+        try {
+            return ResponseEntity.ok(playerService.scrollFilteredPlayers(category, gender, districtId, isProminent,
+                    cursor, size, includeTotal));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to scroll filtered players: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // Player Rankings and Statistics
 
     @Operation(summary = "Get top ranked players", description = "Retrieve top ranked players")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved top ranked players"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match / If-Modified-Since"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/rankings/top")
     public ResponseEntity<List<PlayerResponse>> getTopRankedPlayers(
-            @Parameter(description = "Number of players to retrieve") @RequestParam(defaultValue = "10") int limit) {
+            @Parameter(description = "Number of players to retrieve") @RequestParam(defaultValue = "10") int limit,
+            HttpServletRequest request) {
         
         logger.debug("GET /api/v1/players/rankings/top - Fetching top {} ranked players", limit);
-        List<PlayerResponse> players = playerService.getTopRankedPlayers(limit);
-        return ResponseEntity.ok(players);
+        return ConditionalResponses.conditional(request, playerService.getTopRankedPlayersVersion(limit),
+                () -> playerService.getTopRankedPlayers(limit), PlayerController::version);
     }
 
     @Operation(summary = "Get players with most tournament wins", description = "Retrieve players with most tournament wins")
@@ -461,4 +520,11 @@ public class PlayerController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * Version of a served player list, compared with the database version before sending validators
+     */
+    private static ResourceVersion version(List<PlayerResponse> players) {
+        return ResourceVersion.of(players, PlayerResponse::getUpdatedAt);
+    }
 }
\ No newline at end of file
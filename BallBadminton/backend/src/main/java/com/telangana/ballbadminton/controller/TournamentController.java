@@ -1,27 +1,35 @@
 package com.telangana.ballbadminton.controller;
 
+import com.telangana.ballbadminton.dto.CursorPage;
+import com.telangana.ballbadminton.dto.ResourceVersion;
 import com.telangana.ballbadminton.dto.tournament.*;
 import com.telangana.ballbadminton.entity.Tournament;
 import com.telangana.ballbadminton.entity.TournamentRegistration;
+import com.telangana.ballbadminton.service.BracketService;
+import com.telangana.ballbadminton.service.FixtureService;
+import com.telangana.ballbadminton.service.RegistrationAdmissionQueue;
 import com.telangana.ballbadminton.service.TournamentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -39,10 +47,24 @@ public class TournamentController {
 
     private static final Logger logger = LoggerFactory.getLogger(TournamentController.class);
 
+    /**
+     * How long a registration ticket stream stays open waiting for the final status
+     */
+    private static final long TICKET_STREAM_TIMEOUT_MS = 60_000;
+
     private final TournamentService tournamentService;
+    private final RegistrationAdmissionQueue registrationAdmissionQueue;
+    private final BracketService bracketService;
+    private final FixtureService fixtureService;
 
-    public TournamentController(TournamentService tournamentService) {
+    public TournamentController(TournamentService tournamentService,
+                              RegistrationAdmissionQueue registrationAdmissionQueue,
+                              BracketService bracketService,
+                              FixtureService fixtureService) {
         this.tournamentService = tournamentService;
+        this.registrationAdmissionQueue = registrationAdmissionQueue;
+        this.bracketService = bracketService;
+        this.fixtureService = fixtureService;
     }
 
     // Tournament CRUD Operations
@@ -50,13 +72,14 @@ public class TournamentController {
     @Operation(summary = "Get all tournaments", description = "Retrieve all tournaments in the system")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved tournaments"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match / If-Modified-Since"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<List<TournamentResponse>> getAllTournaments() {
+    public ResponseEntity<List<TournamentResponse>> getAllTournaments(HttpServletRequest request) {
         logger.debug("GET /api/v1/tournaments - Fetching all tournaments");
-        List<TournamentResponse> tournaments = tournamentService.getAllTournaments();
-        return ResponseEntity.ok(tournaments);
+        return ConditionalResponses.conditional(request, tournamentService.getTournamentsVersion(),
+                tournamentService::getAllTournaments, TournamentController::version);
     }
 
     @Operation(summary = "Get tournaments with pagination", description = "Retrieve tournaments with pagination and sorting")
@@ -79,21 +102,46 @@ public class TournamentController {
         return ResponseEntity.ok(tournaments);
     }
 
+    @Operation(summary = "Scroll tournaments", description = "Retrieve tournaments by start date, latest first, with " +
+            "cursor-based pagination; pass the nextCursor of a page to get the next one")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved tournaments"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<TournamentResponse>> scrollTournaments(
+            @Parameter(description = "Continuation token of the previous page, omitted for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Also count all tournaments") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        logger.debug("GET /api/v1/tournaments/scroll - size: {}", size);
+
+        try {
+            return ResponseEntity.ok(tournamentService.scrollTournaments(cursor, size, includeTotal));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to scroll tournaments: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "Get tournament by ID", description = "Retrieve a specific tournament by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved tournament"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match / If-Modified-Since"),
         @ApiResponse(responseCode = "404", description = "Tournament not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{id}")
     public ResponseEntity<TournamentResponse> getTournamentById(
-            @Parameter(description = "Tournament ID") @PathVariable UUID id) {
+            @Parameter(description = "Tournament ID") @PathVariable UUID id,
+            HttpServletRequest request) {
         
         logger.debug("GET /api/v1/tournaments/{} - Fetching tournament by ID", id);
         
-        Optional<TournamentResponse> tournament = tournamentService.getTournamentById(id);
-        return tournament.map(ResponseEntity::ok)
-                        .orElse(ResponseEntity.notFound().build());
+        return ConditionalResponses.conditional(request, tournamentService.getTournamentVersion(id),
+                () -> tournamentService.getTournamentById(id).orElse(null),
+                tournament -> version(List.of(tournament)));
     }
 
     @Operation(summary = "Create new tournament", description = "Create a new tournament in the system")
@@ -211,6 +259,90 @@ public class TournamentController {
         }
     }
 
+    @Operation(summary = "Queue player registration", description = "Queue a registration for admission in the next batch and return a ticket to follow")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Registration queued"),
+        @ApiResponse(responseCode = "400", description = "Invalid registration data or registration not open"),
+        @ApiResponse(responseCode = "503", description = "Registration queue of the tournament is full"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/{tournamentId}/registration-tickets")
+    public ResponseEntity<RegistrationTicket> queueRegistration(
+            @Parameter(description = "Tournament ID") @PathVariable UUID tournamentId,
+            @Valid @RequestBody TournamentRegistrationRequest request) {
+        
+        logger.debug("POST /api/v1/tournaments/{}/registration-tickets - Queueing registration", tournamentId);
+        
+        try {
+            return registrationAdmissionQueue.submit(tournamentId, request)
+                    .map(ticket -> ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket))
+                    .orElseGet(() -> {
+                        logger.warn("Registration queue of tournament {} is full", tournamentId);
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+                    });
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            logger.warn("Failed to queue registration for tournament {}: {}", tournamentId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Get registration ticket", description = "Retrieve the current status of a queued registration")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved ticket"),
+        @ApiResponse(responseCode = "404", description = "Ticket not found or expired"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/{tournamentId}/registration-tickets/{ticketId}")
+    public ResponseEntity<RegistrationTicket> getRegistrationTicket(
+            @Parameter(description = "Tournament ID") @PathVariable UUID tournamentId,
+            @Parameter(description = "Ticket ID") @PathVariable UUID ticketId) {
+        
+        logger.debug("GET /api/v1/tournaments/{}/registration-tickets/{} - Fetching ticket", tournamentId, ticketId);
+        
+        return registrationAdmissionQueue.getTicket(tournamentId, ticketId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Stream registration ticket", description = "Stream the status of a queued registration until it is final")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ticket events streamed"),
+        @ApiResponse(responseCode = "404", description = "Ticket not found or expired"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/{tournamentId}/registration-tickets/{ticketId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamRegistrationTicket(
+            @Parameter(description = "Tournament ID") @PathVariable UUID tournamentId,
+            @Parameter(description = "Ticket ID") @PathVariable UUID ticketId) {
+        
+        logger.debug("GET /api/v1/tournaments/{}/registration-tickets/{}/stream - Streaming ticket", tournamentId, ticketId);
+        
+        RegistrationTicket ticket = registrationAdmissionQueue.getTicket(tournamentId, ticketId).orElse(null);
+        if (ticket == null) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        // Send the queued status now and the final one as soon as the ticket completes
+        SseEmitter emitter = new SseEmitter(TICKET_STREAM_TIMEOUT_MS);
+        if (!ticket.isCompleted()) {
+            sendTicket(emitter, ticket);
+        }
+        ticket.getCompletion().thenAccept(completed -> {
+            sendTicket(emitter, completed);
+            emitter.complete();
+        });
+        return ResponseEntity.ok(emitter);
+    }
+
+    private static void sendTicket(SseEmitter emitter, RegistrationTicket ticket) {
+        try {
+            emitter.send(SseEmitter.event().name("ticket").data(ticket));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the stream already timed out; the ticket can still be polled
+            emitter.completeWithError(e);
+        }
+    }
+
     @Operation(summary = "Get tournament registrations", description = "Retrieve all registrations for a tournament")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved registrations"),
@@ -253,7 +385,7 @@ public class TournamentController {
             TournamentRegistrationResponse registration = tournamentService.updateRegistrationStatus(
                 tournamentId, registrationId, status);
             return ResponseEntity.ok(registration);
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | IllegalStateException e) {
             logger.warn("Failed to update registration status: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
         }
@@ -261,7 +393,7 @@ public class TournamentController {
 
     // Tournament Bracket Generation
 
-    @Operation(summary = "Generate tournament bracket", description = "Generate a tournament bracket based on registrations")
+    @Operation(summary = "Generate tournament bracket", description = "Draw and store a seeded bracket from the active registrations")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Bracket generated successfully"),
         @ApiResponse(responseCode = "400", description = "Cannot generate bracket (no registrations or invalid state)"),
@@ -276,7 +408,7 @@ public class TournamentController {
         logger.debug("POST /api/v1/tournaments/{}/bracket - Generating bracket", tournamentId);
         
         try {
-            BracketResponse bracket = tournamentService.generateBracket(tournamentId);
+            BracketResponse bracket = bracketService.generateBracket(tournamentId);
             return ResponseEntity.ok(bracket);
         } catch (IllegalArgumentException e) {
             logger.warn("Failed to generate bracket for tournament {}: {}", tournamentId, e.getMessage());
@@ -287,18 +419,112 @@ public class TournamentController {
         }
     }
 
+    @Operation(summary = "Get tournament bracket", description = "Retrieve the stored bracket of a tournament with its results")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved bracket"),
+        @ApiResponse(responseCode = "404", description = "Tournament or bracket not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/{tournamentId}/bracket")
+    public ResponseEntity<BracketResponse> getBracket(
+            @Parameter(description = "Tournament ID") @PathVariable UUID tournamentId) {
+        
+        logger.debug("GET /api/v1/tournaments/{}/bracket - Fetching bracket", tournamentId);
+        
+        try {
+            return ResponseEntity.ok(bracketService.getBracket(tournamentId));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to fetch bracket for tournament {}: {}", tournamentId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Record match result", description = "Record the winner of a bracket match and advance them to the next round")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Result recorded successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid winner or match not ready for a result"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PutMapping("/{tournamentId}/bracket/rounds/{roundNumber}/matches/{matchNumber}/result")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MODERATOR')")
+    public ResponseEntity<BracketResponse.Match> recordMatchResult(
+            @Parameter(description = "Tournament ID") @PathVariable UUID tournamentId,
+            @Parameter(description = "Round number") @PathVariable int roundNumber,
+            @Parameter(description = "Match number within the round") @PathVariable int matchNumber,
+            @Valid @RequestBody MatchResultRequest request) {
+        
+        logger.debug("PUT /api/v1/tournaments/{}/bracket/rounds/{}/matches/{}/result - Recording result",
+                    tournamentId, roundNumber, matchNumber);
+        
+        try {
+            BracketResponse.Match match = bracketService.recordMatchResult(
+                tournamentId, roundNumber, matchNumber, request.getWinnerId(), request.getScore());
+            return ResponseEntity.ok(match);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            logger.warn("Failed to record result of match {} in round {}: {}", matchNumber, roundNumber, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // League Fixtures
+
+    @Operation(summary = "Schedule league fixtures", description = "Schedule round-robin fixtures on the courts and time slots of the venue")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Fixtures scheduled successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid schedule settings, too few registrations or fixtures do not fit"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/{tournamentId}/fixtures")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MODERATOR')")
+    public ResponseEntity<FixtureScheduleResponse> generateFixtures(
+            @Parameter(description = "Tournament ID") @PathVariable UUID tournamentId,
+            @Valid @RequestBody FixtureScheduleRequest request) {
+        
+        logger.debug("POST /api/v1/tournaments/{}/fixtures - Scheduling fixtures on {} courts", tournamentId, request.getCourts());
+        
+        try {
+            return ResponseEntity.ok(fixtureService.generateFixtures(tournamentId, request));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            logger.warn("Cannot schedule fixtures for tournament {}: {}", tournamentId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Get league fixtures", description = "Retrieve the scheduled fixtures of a tournament in playing order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved fixtures"),
+        @ApiResponse(responseCode = "404", description = "Tournament not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/{tournamentId}/fixtures")
+    public ResponseEntity<Page<FixtureResponse>> getFixtures(
+            @Parameter(description = "Tournament ID") @PathVariable UUID tournamentId,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size) {
+        
+        logger.debug("GET /api/v1/tournaments/{}/fixtures - page: {}, size: {}", tournamentId, page, size);
+        
+        try {
+            return ResponseEntity.ok(fixtureService.getFixtures(tournamentId, page, size));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to fetch fixtures for tournament {}: {}", tournamentId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     // Tournament Filtering and Search
 
     @Operation(summary = "Get upcoming tournaments", description = "Retrieve all upcoming tournaments")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved upcoming tournaments"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match / If-Modified-Since"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/upcoming")
-    public ResponseEntity<List<TournamentResponse>> getUpcomingTournaments() {
+    public ResponseEntity<List<TournamentResponse>> getUpcomingTournaments(HttpServletRequest request) {
         logger.debug("GET /api/v1/tournaments/upcoming - Fetching upcoming tournaments");
-        List<TournamentResponse> tournaments = tournamentService.getUpcomingTournaments();
-        return ResponseEntity.ok(tournaments);
+        return ConditionalResponses.conditional(request, tournamentService.getUpcomingTournamentsVersion(),
+                tournamentService::getUpcomingTournaments, TournamentController::version);
     }
 
     @Operation(summary = "Get ongoing tournaments", description = "Retrieve all ongoing tournaments")
@@ -325,16 +551,38 @@ public class TournamentController {
         return ResponseEntity.ok(tournaments);
     }
 
+    @Operation(summary = "Get completed tournaments with pagination", description = "Retrieve completed tournaments, latest first, with pagination")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved completed tournaments"),
+        @ApiResponse(responseCode = "400", description = "Invalid pagination parameters"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/completed/paginated")
+    public ResponseEntity<Page<TournamentResponse>> getCompletedTournaments(
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+
+        logger.debug("GET /api/v1/tournaments/completed/paginated - page: {}, size: {}", page, size);
+
+        try {
+            return ResponseEntity.ok(tournamentService.getCompletedTournaments(page, size));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to fetch completed tournaments: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "Get featured tournaments", description = "Retrieve all featured tournaments")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved featured tournaments"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match / If-Modified-Since"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/featured")
-    public ResponseEntity<List<TournamentResponse>> getFeaturedTournaments() {
+    public ResponseEntity<List<TournamentResponse>> getFeaturedTournaments(HttpServletRequest request) {
         logger.debug("GET /api/v1/tournaments/featured - Fetching featured tournaments");
-        List<TournamentResponse> tournaments = tournamentService.getFeaturedTournaments();
-        return ResponseEntity.ok(tournaments);
+        return ConditionalResponses.conditional(request, tournamentService.getFeaturedTournamentsVersion(),
+                tournamentService::getFeaturedTournaments, TournamentController::version);
     }
 
     @Operation(summary = "Get tournaments by district", description = "Retrieve tournaments filtered by district")
@@ -351,6 +599,28 @@ public class TournamentController {
         return ResponseEntity.ok(tournaments);
     }
 
+    @Operation(summary = "Get tournaments by district with pagination", description = "Retrieve tournaments of a district, latest first, with pagination")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved tournaments"),
+        @ApiResponse(responseCode = "400", description = "Invalid pagination parameters"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/district/{districtId}/paginated")
+    public ResponseEntity<Page<TournamentResponse>> getTournamentsByDistrict(
+            @Parameter(description = "District ID") @PathVariable UUID districtId,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+
+        logger.debug("GET /api/v1/tournaments/district/{}/paginated - page: {}, size: {}", districtId, page, size);
+
+        try {
+            return ResponseEntity.ok(tournamentService.getTournamentsByDistrict(districtId, page, size));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to fetch tournaments of district {}: {}", districtId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "Get tournaments by date range", description = "Retrieve tournaments within a date range")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved tournaments"),
@@ -373,4 +643,41 @@ public class TournamentController {
         List<TournamentResponse> tournaments = tournamentService.getTournamentsByDateRange(startDate, endDate);
         return ResponseEntity.ok(tournaments);
     }
+
+    @Operation(summary = "Get tournaments by date range with pagination", description = "Retrieve tournaments within a date range, earliest first, with pagination")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved tournaments"),
+        @ApiResponse(responseCode = "400", description = "Invalid date or pagination parameters"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/date-range/paginated")
+    public ResponseEntity<Page<TournamentResponse>> getTournamentsByDateRange(
+            @Parameter(description = "Start date (YYYY-MM-DD)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (YYYY-MM-DD)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+
+        logger.debug("GET /api/v1/tournaments/date-range/paginated - between {} and {}, page: {}, size: {}",
+                    startDate, endDate, page, size);
+
+        if (startDate.isAfter(endDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(tournamentService.getTournamentsByDateRange(startDate, endDate, page, size));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to fetch tournaments between {} and {}: {}", startDate, endDate, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Version of a served tournament list, compared with the database version before sending validators
+     */
+    private static ResourceVersion version(List<TournamentResponse> tournaments) {
+        return ResourceVersion.of(tournaments, TournamentResponse::getUpdatedAt);
+    }
 }
@@ -4,9 +4,11 @@ import com.telangana.ballbadminton.entity.Permission;
 import com.telangana.ballbadminton.entity.Role;
 import com.telangana.ballbadminton.entity.User;
 import com.telangana.ballbadminton.security.AuthorizationService;
+import com.telangana.ballbadminton.security.PrincipalCache;
 import com.telangana.ballbadminton.security.annotation.RequireAdmin;
 import com.telangana.ballbadminton.security.annotation.RequirePermission;
 import com.telangana.ballbadminton.security.annotation.RequireRole;
+import com.telangana.ballbadminton.service.UserDetailsServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -35,9 +37,15 @@ import java.util.UUID;
 public class UserManagementController {
 
     private final AuthorizationService authorizationService;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
 
-    public UserManagementController(AuthorizationService authorizationService) {
+    public UserManagementController(AuthorizationService authorizationService,
+                                    UserDetailsServiceImpl userDetailsService,
+                                    PrincipalCache principalCache) {
         this.authorizationService = authorizationService;
+        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     /**
@@ -86,7 +94,11 @@ public class UserManagementController {
     public ResponseEntity<User> updateUser(
             @PathVariable UUID userId, 
             @RequestBody User user) {
-        // Implementation would update user via service
+        if (user.getActive() != null) {
+            User updated = userDetailsService.updateActiveStatus(userId, user.getActive());
+            principalCache.invalidate(userId, updated.getTokenVersion());
+        }
+        // Implementation would update remaining user fields via service
         return ResponseEntity.ok(user);
     }
 
@@ -97,7 +109,9 @@ public class UserManagementController {
     @Operation(summary = "Delete user", description = "Delete a user account")
     @RequirePermission("USER_DELETE")
     public ResponseEntity<Void> deleteUser(@PathVariable UUID userId) {
-        // Implementation would delete user via service
+        // Deactivate right away so the user's tokens stop working; full deletion would go via service
+        User deactivated = userDetailsService.updateActiveStatus(userId, false);
+        principalCache.invalidate(userId, deactivated.getTokenVersion());
         return ResponseEntity.noContent().build();
     }
 
@@ -113,7 +127,8 @@ public class UserManagementController {
         // Validate that current user can manage the target user
         authorizationService.requirePermission(Permission.USER_MANAGE_ROLES);
         
-        // Implementation would assign role via service
+        User updated = userDetailsService.assignRole(userId, role);
+        principalCache.invalidate(userId, updated.getTokenVersion());
         return ResponseEntity.ok().build();
     }
 
@@ -126,7 +141,8 @@ public class UserManagementController {
     public ResponseEntity<Void> removeRole(
             @PathVariable UUID userId, 
             @PathVariable Role role) {
-        // Implementation would remove role via service
+        User updated = userDetailsService.removeRole(userId, role);
+        principalCache.invalidate(userId, updated.getTokenVersion());
         return ResponseEntity.ok().build();
     }
 
@@ -0,0 +1,79 @@
+package com.telangana.ballbadminton.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One page of a keyset paginated listing
+ *
+ * Carries the continuation token of the next page instead of a page number. The
+ * total number of matching rows is only counted when the client asks for it, since
+ * the count query costs more than the page itself on large tables.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final Long totalElements;
+
+    public CursorPage(List<T> content, int size, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    /**
+     * Page from the rows of a seek query fetched with KeysetCursor.limit(size)
+     *
+     * @param rows          up to size + 1 rows; an extra row means another page follows
+     * @param mapper        converts a row to its response
+     * @param cursor        continuation token pointing after a row
+     * @param totalElements total matching rows, or null when not counted
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, T> mapper,
+                                         Function<E, String> cursor, Long totalElements) {
+        return ofBatch(rows, size, page -> page.stream().map(mapper).collect(Collectors.toList()), cursor, totalElements);
+    }
+
+    /**
+     * Page whose rows are converted together, for mappers that load related data in bulk
+     *
+     * @param mapper converts the rows of the page, without the look-ahead row, to their responses in order
+     */
+    public static <E, T> CursorPage<T> ofBatch(List<E> rows, int size, Function<List<E>, List<T>> mapper,
+                                              Function<E, String> cursor, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursor.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(mapper.apply(page), size, nextCursor, totalElements);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Token to pass as the cursor parameter for the next page, null on the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+}
@@ -0,0 +1,113 @@
+package com.telangana.ballbadminton.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Position in a keyset (seek) paginated listing: the sort key and id of the last row returned
+ *
+ * Listings are ordered by (sort key, id), so the next page starts strictly after
+ * that pair whatever rows were inserted or deleted meanwhile. Clients receive the
+ * position as an opaque URL-safe token. Each token names its sort key, so a token
+ * from one listing is rejected by a listing ordered on another key.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class KeysetCursor {
+
+    /**
+     * Largest page size of a keyset listing
+     */
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "\n";
+    private static final KeysetCursor START = new KeysetCursor(null, null);
+
+    private final String value;
+    private final UUID id;
+
+    private KeysetCursor(String value, UUID id) {
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * Token for the position after a row
+     */
+    public static String encode(String sortKey, Object value, UUID id) {
+        String position = sortKey + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Position of a token, or the start of the listing when the token is empty
+     *
+     * @throws IllegalArgumentException when the token is malformed or belongs to another sort key
+     */
+    public static KeysetCursor decode(String token, String sortKey) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int valueStart = position.indexOf(SEPARATOR);
+            int idStart = position.lastIndexOf(SEPARATOR);
+            if (valueStart < 0 || idStart == valueStart || !sortKey.equals(position.substring(0, valueStart))) {
+                throw new IllegalArgumentException("Cursor does not belong to this listing");
+            }
+            return new KeysetCursor(position.substring(valueStart + 1, idStart),
+                    UUID.fromString(position.substring(idStart + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Query limit for a page: one row more than the page size, to tell whether another page follows
+     *
+     * @throws IllegalArgumentException when the size is not between 1 and MAX_SIZE
+     */
+    public static Pageable limit(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SIZE);
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    public boolean isStart() {
+        return id == null;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public LocalDate getDateValue() {
+        return value == null ? null : parse(() -> LocalDate.parse(value));
+    }
+
+    public LocalDateTime getDateTimeValue() {
+        return value == null ? null : parse(() -> LocalDateTime.parse(value));
+    }
+
+    private static <T> T parse(Supplier<T> parser) {
+        try {
+            return parser.get();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor value", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.telangana.ballbadminton.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Version of a resource or collection, used for conditional GET requests
+ *
+ * A version is the number of entities in the resource and the latest updatedAt among
+ * them: any edit moves the latest timestamp and any removal changes the count. It is
+ * read from the database with an aggregate query, and can be recomputed from the
+ * response DTOs to confirm that a cached body matches it. Timestamps are truncated
+ * to milliseconds so both sides agree regardless of database precision.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class ResourceVersion {
+
+    private final long count;
+    private final LocalDateTime lastModified;
+
+    /**
+     * Constructor used by JPQL aggregate queries: SELECT new ...ResourceVersion(COUNT(e), MAX(e.updatedAt))
+     */
+    public ResourceVersion(Long count, LocalDateTime lastModified) {
+        this.count = count == null ? 0 : count;
+        this.lastModified = lastModified == null ? null : lastModified.truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Version of the given entity timestamps
+     */
+    public static ResourceVersion of(Collection<LocalDateTime> updatedAt) {
+        LocalDateTime latest = updatedAt.stream()
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        return new ResourceVersion((long) updatedAt.size(), latest);
+    }
+
+    /**
+     * Version of response DTOs, from each one's updatedAt
+     */
+    public static <T> ResourceVersion of(Collection<T> items, Function<T, LocalDateTime> updatedAt) {
+        return of(items.stream().map(updatedAt).toList());
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Last-Modified as epoch milliseconds, or -1 for an empty resource
+     */
+    public long getLastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Weak entity tag: the version identifies the content, not its exact bytes
+     */
+    public String getETag() {
+        return "W/\"" + Long.toHexString(count) + "-" + Long.toHexString(Math.max(0, getLastModifiedMillis())) + "\"";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResourceVersion that)) return false;
+        return count == that.count && Objects.equals(lastModified, that.lastModified);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, lastModified);
+    }
+
+    @Override
+    public String toString() {
+        return getETag();
+    }
+}
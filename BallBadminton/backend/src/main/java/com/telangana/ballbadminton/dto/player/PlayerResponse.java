@@ -50,6 +50,14 @@ public class PlayerResponse {
     public PlayerResponse() {}
 
     public PlayerResponse(Player player) {
+        this(player, player.getAchievements());
+    }
+
+    /**
+     * Response of a player whose achievements were loaded separately, so that
+     * list reads never touch the lazy achievements collection of each player
+     */
+    public PlayerResponse(Player player, List<Achievement> achievements) {
         this.id = player.getId();
         this.name = player.getName();
         this.dateOfBirth = player.getDateOfBirth();
@@ -77,9 +85,9 @@ public class PlayerResponse {
         }
 
         // Recent achievements (last 5)
-        if (player.getAchievements() != null) {
-            this.totalAchievements = player.getAchievements().size();
-            this.recentAchievements = player.getAchievements().stream()
+        if (achievements != null) {
+            this.totalAchievements = achievements.size();
+            this.recentAchievements = achievements.stream()
                     .sorted((a1, a2) -> {
                         if (a1.getAchievementDate() == null && a2.getAchievementDate() == null) return 0;
                         if (a1.getAchievementDate() == null) return 1;
@@ -86,8 +86,10 @@ public class BracketResponse {
         private Integer matchNumber;
         private UUID player1Id;
         private String player1Name;
+        private Integer player1Seed;
         private UUID player2Id;
         private String player2Name;
+        private Integer player2Seed;
         private UUID winnerId;
         private String winnerName;
         private String score;
@@ -119,6 +121,14 @@ public class BracketResponse {
             this.player1Name = player1Name;
         }
 
+        public Integer getPlayer1Seed() {
+            return player1Seed;
+        }
+
+        public void setPlayer1Seed(Integer player1Seed) {
+            this.player1Seed = player1Seed;
+        }
+
         public UUID getPlayer2Id() {
             return player2Id;
         }
@@ -135,6 +145,14 @@ public class BracketResponse {
             this.player2Name = player2Name;
         }
 
+        public Integer getPlayer2Seed() {
+            return player2Seed;
+        }
+
+        public void setPlayer2Seed(Integer player2Seed) {
+            this.player2Seed = player2Seed;
+        }
+
         public UUID getWinnerId() {
             return winnerId;
         }
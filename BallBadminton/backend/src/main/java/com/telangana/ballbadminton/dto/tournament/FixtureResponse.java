@@ -0,0 +1,130 @@
+package com.telangana.ballbadminton.dto.tournament;
+
+import com.telangana.ballbadminton.entity.TournamentFixture;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for scheduled round-robin fixtures
+ */
+public class FixtureResponse {
+
+    private UUID id;
+    private Integer roundNumber;
+    private Integer courtNumber;
+    private LocalDateTime scheduledAt;
+    private UUID player1Id;
+    private String player1Name;
+    private UUID player2Id;
+    private String player2Name;
+    private UUID winnerId;
+    private String score;
+    private TournamentFixture.Status status;
+
+    // Constructors
+    public FixtureResponse() {}
+
+    public FixtureResponse(TournamentFixture fixture) {
+        this.id = fixture.getId();
+        this.roundNumber = fixture.getRoundNumber();
+        this.courtNumber = fixture.getCourtNumber();
+        this.scheduledAt = fixture.getScheduledAt();
+        this.player1Id = fixture.getPlayer1().getId();
+        this.player1Name = fixture.getPlayer1().getName();
+        this.player2Id = fixture.getPlayer2().getId();
+        this.player2Name = fixture.getPlayer2().getName();
+        this.winnerId = fixture.getWinner() != null ? fixture.getWinner().getId() : null;
+        this.score = fixture.getScore();
+        this.status = fixture.getStatus();
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Integer getRoundNumber() {
+        return roundNumber;
+    }
+
+    public void setRoundNumber(Integer roundNumber) {
+        this.roundNumber = roundNumber;
+    }
+
+    public Integer getCourtNumber() {
+        return courtNumber;
+    }
+
+    public void setCourtNumber(Integer courtNumber) {
+        this.courtNumber = courtNumber;
+    }
+
+    public LocalDateTime getScheduledAt() {
+        return scheduledAt;
+    }
+
+    public void setScheduledAt(LocalDateTime scheduledAt) {
+        this.scheduledAt = scheduledAt;
+    }
+
+    public UUID getPlayer1Id() {
+        return player1Id;
+    }
+
+    public void setPlayer1Id(UUID player1Id) {
+        this.player1Id = player1Id;
+    }
+
+    public String getPlayer1Name() {
+        return player1Name;
+    }
+
+    public void setPlayer1Name(String player1Name) {
+        this.player1Name = player1Name;
+    }
+
+    public UUID getPlayer2Id() {
+        return player2Id;
+    }
+
+    public void setPlayer2Id(UUID player2Id) {
+        this.player2Id = player2Id;
+    }
+
+    public String getPlayer2Name() {
+        return player2Name;
+    }
+
+    public void setPlayer2Name(String player2Name) {
+        this.player2Name = player2Name;
+    }
+
+    public UUID getWinnerId() {
+        return winnerId;
+    }
+
+    public void setWinnerId(UUID winnerId) {
+        this.winnerId = winnerId;
+    }
+
+    public String getScore() {
+        return score;
+    }
+
+    public void setScore(String score) {
+        this.score = score;
+    }
+
+    public TournamentFixture.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(TournamentFixture.Status status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,73 @@
+package com.telangana.ballbadminton.dto.tournament;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalTime;
+
+/**
+ * DTO for scheduling the round-robin fixtures of a tournament at its venue
+ */
+public class FixtureScheduleRequest {
+
+    @NotNull(message = "Number of courts is required")
+    @Min(value = 1, message = "At least one court is required")
+    @Max(value = 100, message = "Number of courts must not exceed 100")
+    private Integer courts;
+
+    @NotNull(message = "Match duration is required")
+    @Min(value = 5, message = "Match duration must be at least 5 minutes")
+    private Integer matchDurationMinutes;
+
+    @Min(value = 0, message = "Rest gap cannot be negative")
+    private Integer restMinutes = 0;
+
+    private LocalTime dayStart = LocalTime.of(9, 0);
+
+    private LocalTime dayEnd = LocalTime.of(18, 0);
+
+    // Constructors
+    public FixtureScheduleRequest() {}
+
+    // Getters and Setters
+    public Integer getCourts() {
+        return courts;
+    }
+
+    public void setCourts(Integer courts) {
+        this.courts = courts;
+    }
+
+    public Integer getMatchDurationMinutes() {
+        return matchDurationMinutes;
+    }
+
+    public void setMatchDurationMinutes(Integer matchDurationMinutes) {
+        this.matchDurationMinutes = matchDurationMinutes;
+    }
+
+    public Integer getRestMinutes() {
+        return restMinutes;
+    }
+
+    public void setRestMinutes(Integer restMinutes) {
+        this.restMinutes = restMinutes;
+    }
+
+    public LocalTime getDayStart() {
+        return dayStart;
+    }
+
+    public void setDayStart(LocalTime dayStart) {
+        this.dayStart = dayStart;
+    }
+
+    public LocalTime getDayEnd() {
+        return dayEnd;
+    }
+
+    public void setDayEnd(LocalTime dayEnd) {
+        this.dayEnd = dayEnd;
+    }
+}
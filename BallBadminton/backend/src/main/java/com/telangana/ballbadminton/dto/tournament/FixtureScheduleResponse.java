@@ -0,0 +1,87 @@
+package com.telangana.ballbadminton.dto.tournament;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO summarising a generated round-robin schedule
+ */
+public class FixtureScheduleResponse {
+
+    private UUID tournamentId;
+    private String venue;
+    private Integer entrants;
+    private Integer rounds;
+    private Integer fixtures;
+    private Integer courts;
+    private LocalDateTime firstFixtureAt;
+    private LocalDateTime lastFixtureAt;
+
+    // Constructors
+    public FixtureScheduleResponse() {}
+
+    // Getters and Setters
+    public UUID getTournamentId() {
+        return tournamentId;
+    }
+
+    public void setTournamentId(UUID tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    public String getVenue() {
+        return venue;
+    }
+
+    public void setVenue(String venue) {
+        this.venue = venue;
+    }
+
+    public Integer getEntrants() {
+        return entrants;
+    }
+
+    public void setEntrants(Integer entrants) {
+        this.entrants = entrants;
+    }
+
+    public Integer getRounds() {
+        return rounds;
+    }
+
+    public void setRounds(Integer rounds) {
+        this.rounds = rounds;
+    }
+
+    public Integer getFixtures() {
+        return fixtures;
+    }
+
+    public void setFixtures(Integer fixtures) {
+        this.fixtures = fixtures;
+    }
+
+    public Integer getCourts() {
+        return courts;
+    }
+
+    public void setCourts(Integer courts) {
+        this.courts = courts;
+    }
+
+    public LocalDateTime getFirstFixtureAt() {
+        return firstFixtureAt;
+    }
+
+    public void setFirstFixtureAt(LocalDateTime firstFixtureAt) {
+        this.firstFixtureAt = firstFixtureAt;
+    }
+
+    public LocalDateTime getLastFixtureAt() {
+        return lastFixtureAt;
+    }
+
+    public void setLastFixtureAt(LocalDateTime lastFixtureAt) {
+        this.lastFixtureAt = lastFixtureAt;
+    }
+}
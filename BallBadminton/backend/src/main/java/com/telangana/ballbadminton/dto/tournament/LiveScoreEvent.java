@@ -0,0 +1,80 @@
+package com.telangana.ballbadminton.dto.tournament;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Live score update of a match, as streamed to spectators
+ *
+ * Events of a match are numbered from 1; the number is the SSE event id a
+ * reconnecting client sends back as Last-Event-ID. Every event carries the full
+ * score, so the latest event alone is enough to show the match.
+ */
+public class LiveScoreEvent {
+
+    public enum Type {
+        MATCH_STARTED,
+        POINT,
+        GAME,
+        MATCH_ENDED
+    }
+
+    private final long id;
+    private final UUID matchId;
+    private final Type type;
+    private final int player1Points;
+    private final int player2Points;
+    private final int player1Games;
+    private final int player2Games;
+    private final String note;
+    private final LocalDateTime recordedAt;
+
+    public LiveScoreEvent(long id, UUID matchId, ScoreUpdateRequest update) {
+        this.id = id;
+        this.matchId = matchId;
+        this.type = update.getType();
+        this.player1Points = update.getPlayer1Points();
+        this.player2Points = update.getPlayer2Points();
+        this.player1Games = update.getPlayer1Games();
+        this.player2Games = update.getPlayer2Games();
+        this.note = update.getNote();
+        this.recordedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public long getId() {
+        return id;
+    }
+
+    public UUID getMatchId() {
+        return matchId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getPlayer1Points() {
+        return player1Points;
+    }
+
+    public int getPlayer2Points() {
+        return player2Points;
+    }
+
+    public int getPlayer1Games() {
+        return player1Games;
+    }
+
+    public int getPlayer2Games() {
+        return player2Games;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.telangana.ballbadminton.dto.tournament;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.UUID;
+
+/**
+ * DTO for posting the result of a bracket match
+ */
+public class MatchResultRequest {
+
+    @NotNull(message = "Winner ID is required")
+    private UUID winnerId;
+
+    @Size(max = 100, message = "Score must not exceed 100 characters")
+    private String score;
+
+    // Constructors
+    public MatchResultRequest() {}
+
+    // Getters and Setters
+    public UUID getWinnerId() {
+        return winnerId;
+    }
+
+    public void setWinnerId(UUID winnerId) {
+        this.winnerId = winnerId;
+    }
+
+    public String getScore() {
+        return score;
+    }
+
+    public void setScore(String score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,153 @@
+package com.telangana.ballbadminton.dto.tournament;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Ticket for a registration request accepted into the admission queue
+ *
+ * Returned as soon as the request is queued; it moves from QUEUED to REGISTERED or
+ * REJECTED once the micro-batch holding it has been committed. Clients poll it or
+ * stream it until then.
+ */
+public class RegistrationTicket {
+
+    public enum Status {
+        QUEUED,
+        REGISTERED,
+        REJECTED
+    }
+
+    /**
+     * Result of admitting one queued request
+     */
+    public static class Outcome {
+        private final UUID registrationId;
+        private final String rejectionReason;
+
+        private Outcome(UUID registrationId, String rejectionReason) {
+            this.registrationId = registrationId;
+            this.rejectionReason = rejectionReason;
+        }
+
+        public static Outcome registered(UUID registrationId) {
+            return new Outcome(registrationId, null);
+        }
+
+        public static Outcome rejected(String reason) {
+            return new Outcome(null, reason);
+        }
+
+        public boolean isRegistered() {
+            return registrationId != null;
+        }
+
+        public UUID getRegistrationId() {
+            return registrationId;
+        }
+
+        public String getRejectionReason() {
+            return rejectionReason;
+        }
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final UUID tournamentId;
+    private final TournamentRegistrationRequest request;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final long submittedNanos = System.nanoTime();
+    private final CompletableFuture<RegistrationTicket> completion = new CompletableFuture<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile UUID registrationId;
+    private volatile String reason;
+    private volatile LocalDateTime completedAt;
+
+    public RegistrationTicket(UUID tournamentId, TournamentRegistrationRequest request) {
+        this.tournamentId = tournamentId;
+        this.request = request;
+    }
+
+    /**
+     * Record the final status of the ticket; later calls are ignored
+     *
+     * @return true if this call completed the ticket
+     */
+    public synchronized boolean complete(Outcome outcome) {
+        if (status != Status.QUEUED) {
+            return false;
+        }
+        registrationId = outcome.getRegistrationId();
+        reason = outcome.getRejectionReason();
+        completedAt = LocalDateTime.now();
+        status = outcome.isRegistered() ? Status.REGISTERED : Status.REJECTED;
+        completion.complete(this);
+        return true;
+    }
+
+    /**
+     * Time from submission to completion, or until now while queued
+     */
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - submittedNanos);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getTournamentId() {
+        return tournamentId;
+    }
+
+    public UUID getPlayerId() {
+        return request.getPlayerId();
+    }
+
+    @JsonIgnore
+    public TournamentRegistrationRequest getRequest() {
+        return request;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isCompleted() {
+        return status != Status.QUEUED;
+    }
+
+    /**
+     * Id of the registration, once REGISTERED
+     */
+    public UUID getRegistrationId() {
+        return registrationId;
+    }
+
+    /**
+     * Why the registration was refused, once REJECTED
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    /**
+     * Completes with the ticket once it is REGISTERED or REJECTED
+     */
+    @JsonIgnore
+    public CompletableFuture<RegistrationTicket> getCompletion() {
+        return completion;
+    }
+}
@@ -0,0 +1,82 @@
+package com.telangana.ballbadminton.dto.tournament;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for a scorer's live score update of a match
+ * Scores are absolute: points in the current game and games won so far
+ */
+public class ScoreUpdateRequest {
+
+    @NotNull(message = "Update type is required")
+    private LiveScoreEvent.Type type;
+
+    @Min(value = 0, message = "Points cannot be negative")
+    private int player1Points;
+
+    @Min(value = 0, message = "Points cannot be negative")
+    private int player2Points;
+
+    @Min(value = 0, message = "Games cannot be negative")
+    private int player1Games;
+
+    @Min(value = 0, message = "Games cannot be negative")
+    private int player2Games;
+
+    @Size(max = 200, message = "Note must not exceed 200 characters")
+    private String note;
+
+    // Constructors
+    public ScoreUpdateRequest() {}
+
+    // Getters and Setters
+    public LiveScoreEvent.Type getType() {
+        return type;
+    }
+
+    public void setType(LiveScoreEvent.Type type) {
+        this.type = type;
+    }
+
+    public int getPlayer1Points() {
+        return player1Points;
+    }
+
+    public void setPlayer1Points(int player1Points) {
+        this.player1Points = player1Points;
+    }
+
+    public int getPlayer2Points() {
+        return player2Points;
+    }
+
+    public void setPlayer2Points(int player2Points) {
+        this.player2Points = player2Points;
+    }
+
+    public int getPlayer1Games() {
+        return player1Games;
+    }
+
+    public void setPlayer1Games(int player1Games) {
+        this.player1Games = player1Games;
+    }
+
+    public int getPlayer2Games() {
+        return player2Games;
+    }
+
+    public void setPlayer2Games(int player2Games) {
+        this.player2Games = player2Games;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
@@ -0,0 +1,161 @@
+package com.telangana.ballbadminton.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Entity representing a pre-aggregated audit event counter
+ *
+ * Each row counts the audit events that fell into one time bucket (a minute or an
+ * hour) for one value of one dimension (action, severity, status or entity type).
+ * Rows are maintained incrementally by AuditStatisticsService as audit batches are
+ * written, so statistics queries read a handful of buckets instead of raw audit_logs.
+ *
+ * Requirements: 6.2, 8.5
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "audit_statistics_buckets", indexes = {
+    @Index(name = "idx_audit_stats_bucket_start", columnList = "granularity, bucket_start")
+})
+@IdClass(AuditStatisticsBucket.BucketId.class)
+public class AuditStatisticsBucket {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private Granularity granularity;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 20)
+    private Dimension dimension;
+
+    @Id
+    @Column(name = "dimension_value", nullable = false, length = 100)
+    private String dimensionValue;
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount = 0L;
+
+    // Constructors
+    public AuditStatisticsBucket() {}
+
+    // Getters and Setters
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(Granularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(Dimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getDimensionValue() {
+        return dimensionValue;
+    }
+
+    public void setDimensionValue(String dimensionValue) {
+        this.dimensionValue = dimensionValue;
+    }
+
+    public Long getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(Long eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    /**
+     * Enum for bucket widths
+     */
+    public enum Granularity {
+        MINUTE,
+        HOUR
+    }
+
+    /**
+     * Enum for the audit log attribute a bucket counts by
+     */
+    public enum Dimension {
+        ACTION,
+        SEVERITY,
+        STATUS,
+        ENTITY_TYPE
+    }
+
+    /**
+     * Composite primary key for AuditStatisticsBucket
+     */
+    public static class BucketId implements Serializable {
+
+        private Granularity granularity;
+        private LocalDateTime bucketStart;
+        private Dimension dimension;
+        private String dimensionValue;
+
+        public BucketId() {}
+
+        public BucketId(Granularity granularity, LocalDateTime bucketStart, Dimension dimension, String dimensionValue) {
+            this.granularity = granularity;
+            this.bucketStart = bucketStart;
+            this.dimension = dimension;
+            this.dimensionValue = dimensionValue;
+        }
+
+        public Granularity getGranularity() {
+            return granularity;
+        }
+
+        public LocalDateTime getBucketStart() {
+            return bucketStart;
+        }
+
+        public Dimension getDimension() {
+            return dimension;
+        }
+
+        public String getDimensionValue() {
+            return dimensionValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BucketId that)) return false;
+            return granularity == that.granularity &&
+                   Objects.equals(bucketStart, that.bucketStart) &&
+                   dimension == that.dimension &&
+                   Objects.equals(dimensionValue, that.dimensionValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(granularity, bucketStart, dimension, dimensionValue);
+        }
+    }
+}
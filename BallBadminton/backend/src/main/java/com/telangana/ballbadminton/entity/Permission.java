@@ -1,5 +1,9 @@
 package com.telangana.ballbadminton.entity;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Enumeration of system permissions for fine-grained access control
  * Defines specific actions that can be performed by users with different roles
@@ -78,12 +82,20 @@ public enum Permission {
     FILE_DELETE("Delete files", "Ability to delete files from the system"),
     FILE_MANAGE("Manage files", "Ability to organize and manage file structure");
 
+    static {
+        if (values().length > Long.SIZE) {
+            throw new IllegalStateException("Permission masks support at most " + Long.SIZE + " permissions");
+        }
+    }
+
     private final String displayName;
     private final String description;
+    private final long mask;
 
     Permission(String displayName, String description) {
         this.displayName = displayName;
         this.description = description;
+        this.mask = 1L << ordinal();
     }
 
     public String getDisplayName() {
@@ -101,6 +113,37 @@ public enum Permission {
         return "PERMISSION_" + this.name();
     }
 
+    /**
+     * Get the single bit representing this permission in a permission mask
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * Combine permissions into a permission mask
+     */
+    public static long maskOf(Collection<Permission> permissions) {
+        long combined = 0L;
+        for (Permission permission : permissions) {
+            combined |= permission.mask;
+        }
+        return combined;
+    }
+
+    /**
+     * Expand a permission mask into the set of permissions it contains
+     */
+    public static Set<Permission> fromMask(long mask) {
+        Set<Permission> permissions = EnumSet.noneOf(Permission.class);
+        for (Permission permission : values()) {
+            if ((mask & permission.mask) != 0) {
+                permissions.add(permission);
+            }
+        }
+        return permissions;
+    }
+
     /**
      * Get permissions by category for easier management
      */
@@ -15,6 +15,10 @@ import java.util.List;
  * Contains player profile information, statistics, and achievements
  */
 @Entity
+@NamedEntityGraph(name = Player.SUMMARY_GRAPH, attributeNodes = {
+    @NamedAttributeNode("district"),
+    @NamedAttributeNode("statistics")
+})
 @Table(name = "players", indexes = {
     @Index(name = "idx_players_district", columnList = "district_id"),
     @Index(name = "idx_players_category", columnList = "category"),
@@ -23,6 +27,11 @@ import java.util.List;
 })
 public class Player extends BaseEntity {
 
+    /**
+     * Entity graph of list reads: the district and statistics every PlayerResponse shows
+     */
+    public static final String SUMMARY_GRAPH = "Player.summary";
+
     @NotBlank(message = "Player name is required")
     @Size(max = 100, message = "Player name must not exceed 100 characters")
     @Column(name = "name", nullable = false, length = 100)
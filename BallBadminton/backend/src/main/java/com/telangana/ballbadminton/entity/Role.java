@@ -1,7 +1,9 @@
 package com.telangana.ballbadminton.entity;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,8 +41,22 @@ public enum Role {
      */
     USER("User", "Basic user access");
 
+    /**
+     * Permissions of each role are computed once when the enum is initialized
+     */
+    static {
+        for (Role role : values()) {
+            Set<Permission> permissions = EnumSet.noneOf(Permission.class);
+            permissions.addAll(role.computePermissions());
+            role.permissions = Collections.unmodifiableSet(permissions);
+            role.permissionMask = Permission.maskOf(permissions);
+        }
+    }
+
     private final String displayName;
     private final String description;
+    private Set<Permission> permissions;
+    private long permissionMask;
 
     Role(String displayName, String description) {
         this.displayName = displayName;
@@ -56,9 +72,33 @@ public enum Role {
     }
 
     /**
-     * Get all permissions associated with this role
+     * Get all permissions associated with this role (unmodifiable)
      */
     public Set<Permission> getPermissions() {
+        return permissions;
+    }
+
+    /**
+     * Get the permission mask of this role, see {@link Permission#getMask()}
+     */
+    public long getPermissionMask() {
+        return permissionMask;
+    }
+
+    /**
+     * Combine the permission masks of several roles
+     */
+    public static long permissionMaskOf(Collection<Role> roles) {
+        long combined = 0L;
+        if (roles != null) {
+            for (Role role : roles) {
+                combined |= role.permissionMask;
+            }
+        }
+        return combined;
+    }
+
+    private Set<Permission> computePermissions() {
         return switch (this) {
             case SUPER_ADMIN -> getAllPermissions();
             case ADMIN -> getAdminPermissions();
@@ -72,7 +112,7 @@ public enum Role {
      * Check if this role has a specific permission
      */
     public boolean hasPermission(Permission permission) {
-        return getPermissions().contains(permission);
+        return permission != null && (permissionMask & permission.getMask()) != 0;
     }
 
     /**
@@ -88,6 +88,14 @@ public class Tournament extends BaseEntity {
     @Column(name = "is_featured", nullable = false)
     private Boolean isFeatured = false;
 
+    /**
+     * Number of active registrations, maintained by the atomic slot updates of
+     * TournamentRepository; never written by entity updates, so saving a stale
+     * tournament cannot overwrite concurrent registrations
+     */
+    @Column(name = "active_registration_count", nullable = false, updatable = false)
+    private Integer activeRegistrationCount = 0;
+
     // Relationships
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "district_id",
@@ -208,6 +216,14 @@ public class Tournament extends BaseEntity {
         this.maxParticipants = maxParticipants;
     }
 
+    public Integer getActiveRegistrationCount() {
+        return activeRegistrationCount;
+    }
+
+    public void setActiveRegistrationCount(Integer activeRegistrationCount) {
+        this.activeRegistrationCount = activeRegistrationCount;
+    }
+
     public BigDecimal getEntryFee() {
         return entryFee;
     }
@@ -284,10 +300,15 @@ public class Tournament extends BaseEntity {
     public void addRegistration(TournamentRegistration registration) {
         registrations.add(registration);
         registration.setTournament(this);
+        if (registration.isActive()) {
+            activeRegistrationCount++;
+        }
     }
 
     public void removeRegistration(TournamentRegistration registration) {
-        registrations.remove(registration);
+        if (registrations.remove(registration) && registration.isActive()) {
+            activeRegistrationCount--;
+        }
         registration.setTournament(null);
     }
 
@@ -315,10 +336,7 @@ public class Tournament extends BaseEntity {
     }
 
     public int getCurrentRegistrationCount() {
-        return (int) registrations.stream()
-                .filter(reg -> reg.getStatus() == TournamentRegistration.RegistrationStatus.REGISTERED ||
-                              reg.getStatus() == TournamentRegistration.RegistrationStatus.CONFIRMED)
-                .count();
+        return activeRegistrationCount;
     }
 
     public boolean hasAvailableSlots() {
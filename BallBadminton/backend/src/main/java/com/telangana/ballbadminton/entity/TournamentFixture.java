@@ -0,0 +1,171 @@
+package com.telangana.ballbadminton.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a scheduled round-robin fixture of a league tournament
+ * Each fixture has a court and a start time at the tournament venue; a court is
+ * never booked twice at the same time
+ */
+@Entity
+@Table(name = "tournament_fixtures",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_tournament_fixture_court_time",
+           columnNames = {"tournament_id", "scheduled_at", "court_number"}
+       ),
+       indexes = {
+           @Index(name = "idx_tournament_fixtures_player1", columnList = "player1_id"),
+           @Index(name = "idx_tournament_fixtures_player2", columnList = "player2_id")
+       })
+public class TournamentFixture extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "tournament_id", nullable = false,
+                foreignKey = @ForeignKey(name = "fk_tournament_fixture_tournament"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Tournament tournament;
+
+    @Column(name = "round_number", nullable = false)
+    private Integer roundNumber;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "player1_id", nullable = false,
+                foreignKey = @ForeignKey(name = "fk_tournament_fixture_player1"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Player player1;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "player2_id", nullable = false,
+                foreignKey = @ForeignKey(name = "fk_tournament_fixture_player2"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Player player2;
+
+    @Column(name = "court_number", nullable = false)
+    private Integer courtNumber;
+
+    @Column(name = "scheduled_at", nullable = false)
+    private LocalDateTime scheduledAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "winner_id",
+                foreignKey = @ForeignKey(name = "fk_tournament_fixture_winner"))
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Player winner;
+
+    @Size(max = 100, message = "Score must not exceed 100 characters")
+    @Column(name = "score", length = 100)
+    private String score;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status = Status.SCHEDULED;
+
+    // Enums
+    public enum Status {
+        SCHEDULED("Scheduled"),
+        IN_PROGRESS("In Progress"),
+        COMPLETED("Completed");
+
+        private final String displayName;
+
+        Status(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    // Constructors
+    public TournamentFixture() {}
+
+    // Getters and Setters
+    public Tournament getTournament() {
+        return tournament;
+    }
+
+    public void setTournament(Tournament tournament) {
+        this.tournament = tournament;
+    }
+
+    public Integer getRoundNumber() {
+        return roundNumber;
+    }
+
+    public void setRoundNumber(Integer roundNumber) {
+        this.roundNumber = roundNumber;
+    }
+
+    public Player getPlayer1() {
+        return player1;
+    }
+
+    public void setPlayer1(Player player1) {
+        this.player1 = player1;
+    }
+
+    public Player getPlayer2() {
+        return player2;
+    }
+
+    public void setPlayer2(Player player2) {
+        this.player2 = player2;
+    }
+
+    public Integer getCourtNumber() {
+        return courtNumber;
+    }
+
+    public void setCourtNumber(Integer courtNumber) {
+        this.courtNumber = courtNumber;
+    }
+
+    public LocalDateTime getScheduledAt() {
+        return scheduledAt;
+    }
+
+    public void setScheduledAt(LocalDateTime scheduledAt) {
+        this.scheduledAt = scheduledAt;
+    }
+
+    public Player getWinner() {
+        return winner;
+    }
+
+    public void setWinner(Player winner) {
+        this.winner = winner;
+    }
+
+    public String getScore() {
+        return score;
+    }
+
+    public void setScore(String score) {
+        this.score = score;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    @Override
+    public String toString() {
+        return "TournamentFixture{" +
+                "id=" + getId() +
+                ", roundNumber=" + roundNumber +
+                ", courtNumber=" + courtNumber +
+                ", scheduledAt=" + scheduledAt +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -0,0 +1,240 @@
+package com.telangana.ballbadminton.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a match of a tournament bracket
+ * Matches are addressed by round and position: the winner of match m of round r
+ * plays match (m + 1) / 2 of round r + 1, as player 1 when m is odd and as player 2
+ * when m is even
+ */
+@Entity
+@Table(name = "tournament_matches",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_tournament_match_position",
+           columnNames = {"tournament_id", "round_number", "match_number"}
+       ),
+       indexes = {
+           @Index(name = "idx_tournament_matches_player1", columnList = "player1_id"),
+           @Index(name = "idx_tournament_matches_player2", columnList = "player2_id")
+       })
+public class TournamentMatch extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "tournament_id", nullable = false,
+                foreignKey = @ForeignKey(name = "fk_tournament_match_tournament"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Tournament tournament;
+
+    @Column(name = "round_number", nullable = false)
+    private Integer roundNumber;
+
+    @Column(name = "match_number", nullable = false)
+    private Integer matchNumber;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player1_id",
+                foreignKey = @ForeignKey(name = "fk_tournament_match_player1"))
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Player player1;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player2_id",
+                foreignKey = @ForeignKey(name = "fk_tournament_match_player2"))
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Player player2;
+
+    @Column(name = "player1_seed")
+    private Integer player1Seed;
+
+    @Column(name = "player2_seed")
+    private Integer player2Seed;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "winner_id",
+                foreignKey = @ForeignKey(name = "fk_tournament_match_winner"))
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Player winner;
+
+    @Size(max = 100, message = "Score must not exceed 100 characters")
+    @Column(name = "score", length = 100)
+    private String score;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status = Status.PENDING;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Enums
+    public enum Status {
+        PENDING("Pending"),
+        IN_PROGRESS("In Progress"),
+        COMPLETED("Completed"),
+        WALKOVER("Walkover");
+
+        private final String displayName;
+
+        Status(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    // Constructors
+    public TournamentMatch() {}
+
+    public TournamentMatch(Tournament tournament, int roundNumber, int matchNumber) {
+        this.tournament = tournament;
+        this.roundNumber = roundNumber;
+        this.matchNumber = matchNumber;
+    }
+
+    // Getters and Setters
+    public Tournament getTournament() {
+        return tournament;
+    }
+
+    public void setTournament(Tournament tournament) {
+        this.tournament = tournament;
+    }
+
+    public Integer getRoundNumber() {
+        return roundNumber;
+    }
+
+    public void setRoundNumber(Integer roundNumber) {
+        this.roundNumber = roundNumber;
+    }
+
+    public Integer getMatchNumber() {
+        return matchNumber;
+    }
+
+    public void setMatchNumber(Integer matchNumber) {
+        this.matchNumber = matchNumber;
+    }
+
+    public Player getPlayer1() {
+        return player1;
+    }
+
+    public void setPlayer1(Player player1) {
+        this.player1 = player1;
+    }
+
+    public Player getPlayer2() {
+        return player2;
+    }
+
+    public void setPlayer2(Player player2) {
+        this.player2 = player2;
+    }
+
+    public Integer getPlayer1Seed() {
+        return player1Seed;
+    }
+
+    public void setPlayer1Seed(Integer player1Seed) {
+        this.player1Seed = player1Seed;
+    }
+
+    public Integer getPlayer2Seed() {
+        return player2Seed;
+    }
+
+    public void setPlayer2Seed(Integer player2Seed) {
+        this.player2Seed = player2Seed;
+    }
+
+    public Player getWinner() {
+        return winner;
+    }
+
+    public void setWinner(Player winner) {
+        this.winner = winner;
+    }
+
+    public String getScore() {
+        return score;
+    }
+
+    public void setScore(String score) {
+        this.score = score;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    // Helper methods
+    public boolean isDecided() {
+        return status == Status.COMPLETED || status == Status.WALKOVER;
+    }
+
+    public boolean hasPlayer(Player player) {
+        return player != null && (isSamePlayer(player1, player) || isSamePlayer(player2, player));
+    }
+
+    /**
+     * Position of the match the winner of this match moves on to
+     */
+    public int getNextMatchNumber() {
+        return (matchNumber + 1) / 2;
+    }
+
+    /**
+     * Put a player in the slot fed by the given match of the previous round
+     */
+    public void setPlayerFrom(int previousMatchNumber, Player player, Integer seed) {
+        if (previousMatchNumber % 2 == 1) {
+            this.player1 = player;
+            this.player1Seed = seed;
+        } else {
+            this.player2 = player;
+            this.player2Seed = seed;
+        }
+    }
+
+    public Integer getSeedOf(Player player) {
+        if (isSamePlayer(player1, player)) {
+            return player1Seed;
+        }
+        return isSamePlayer(player2, player) ? player2Seed : null;
+    }
+
+    private static boolean isSamePlayer(Player a, Player b) {
+        return a != null && b != null && a.getId() != null && a.getId().equals(b.getId());
+    }
+
+    @Override
+    public String toString() {
+        return "TournamentMatch{" +
+                "id=" + getId() +
+                ", roundNumber=" + roundNumber +
+                ", matchNumber=" + matchNumber +
+                ", status=" + status +
+                '}';
+    }
+}
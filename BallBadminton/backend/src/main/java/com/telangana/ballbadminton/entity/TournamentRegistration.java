@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * Entity representing tournament registration
@@ -25,6 +26,18 @@ import java.time.LocalDateTime;
        })
 public class TournamentRegistration extends BaseEntity {
 
+    /**
+     * Statuses of registrations that take a tournament slot
+     */
+    public static final Set<RegistrationStatus> ACTIVE_STATUSES =
+            Set.of(RegistrationStatus.REGISTERED, RegistrationStatus.CONFIRMED);
+
+    /**
+     * Statuses of registrations that do not take a tournament slot
+     */
+    public static final Set<RegistrationStatus> INACTIVE_STATUSES =
+            Set.of(RegistrationStatus.WITHDRAWN, RegistrationStatus.DISQUALIFIED);
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "tournament_id", nullable = false,
                 foreignKey = @ForeignKey(name = "fk_tournament_registration_tournament"))
@@ -9,13 +9,11 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * User entity representing system users with authentication capabilities
@@ -83,12 +81,23 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "password_changed_at")
     private LocalDateTime passwordChangedAt;
 
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
     @ElementCollection(targetClass = Role.class, fetch = FetchType.EAGER)
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "role")
     private Set<Role> roles;
 
+    private static final long UNRESOLVED_PERMISSION_MASK = -1L;
+
+    /**
+     * Combined permission mask of all roles, resolved on first permission check
+     */
+    @Transient
+    private volatile long permissionMask = UNRESOLVED_PERMISSION_MASK;
+
     // Constructors
     public User() {
         super();
@@ -252,15 +261,71 @@ public class User extends BaseEntity implements UserDetails {
         this.passwordChangedAt = passwordChangedAt;
     }
 
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     public Set<Role> getRoles() {
         return roles;
     }
 
     public void setRoles(Set<Role> roles) {
         this.roles = roles;
+        this.permissionMask = UNRESOLVED_PERMISSION_MASK;
+    }
+
+    /**
+     * Add a role to this user
+     *
+     * @return true if the user did not already have the role
+     */
+    public boolean addRole(Role role) {
+        if (roles == null) {
+            roles = new HashSet<>();
+        }
+        boolean added = roles.add(role);
+        permissionMask = UNRESOLVED_PERMISSION_MASK;
+        return added;
+    }
+
+    /**
+     * Remove a role from this user
+     *
+     * @return true if the user had the role
+     */
+    public boolean removeRole(Role role) {
+        boolean removed = roles != null && roles.remove(role);
+        permissionMask = UNRESOLVED_PERMISSION_MASK;
+        return removed;
+    }
+
+    /**
+     * Get the combined permission mask of all roles, see {@link Permission#getMask()}
+     * Roles must be changed through setRoles, addRole or removeRole to keep the mask current.
+     */
+    public long getPermissionMask() {
+        long mask = permissionMask;
+        if (mask == UNRESOLVED_PERMISSION_MASK) {
+            mask = Role.permissionMaskOf(roles);
+            permissionMask = mask;
+        }
+        return mask;
     }
 
     // Utility methods
+
+    /**
+     * Bump the token version after a role or status change
+     * Tokens issued before the change no longer have their role claims trusted
+     */
+    public void incrementTokenVersion() {
+        this.tokenVersion = tokenVersion == null ? 1 : tokenVersion + 1;
+    }
+
     public String getFullName() {
         return firstName + " " + lastName;
     }
@@ -277,10 +342,7 @@ public class User extends BaseEntity implements UserDetails {
      * Check if user has a specific permission
      */
     public boolean hasPermission(Permission permission) {
-        if (roles == null || roles.isEmpty()) {
-            return false;
-        }
-        return roles.stream().anyMatch(role -> role.hasPermission(permission));
+        return permission != null && (getPermissionMask() & permission.getMask()) != 0;
     }
 
     /**
@@ -290,7 +352,13 @@ public class User extends BaseEntity implements UserDetails {
         if (permissions == null || permissions.length == 0) {
             return false;
         }
-        return Arrays.stream(permissions).anyMatch(this::hasPermission);
+        long mask = getPermissionMask();
+        for (Permission permission : permissions) {
+            if (permission != null && (mask & permission.getMask()) != 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -300,7 +368,13 @@ public class User extends BaseEntity implements UserDetails {
         if (permissions == null || permissions.length == 0) {
             return true;
         }
-        return Arrays.stream(permissions).allMatch(this::hasPermission);
+        long mask = getPermissionMask();
+        for (Permission permission : permissions) {
+            if (permission == null || (mask & permission.getMask()) == 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -310,9 +384,7 @@ public class User extends BaseEntity implements UserDetails {
         if (roles == null || roles.isEmpty()) {
             return Collections.emptySet();
         }
-        return roles.stream()
-                .flatMap(role -> role.getPermissions().stream())
-                .collect(Collectors.toSet());
+        return Permission.fromMask(getPermissionMask());
     }
 
     /**
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +33,13 @@ public interface AchievementRepository extends JpaRepository<Achievement, UUID>
      */
     Page<Achievement> findByPlayerIdOrderByAchievementDateDesc(UUID playerId, Pageable pageable);
 
+    /**
+     * Find the achievements of several players with their tournaments, newest first
+     */
+    @Query("SELECT a FROM Achievement a LEFT JOIN FETCH a.tournament " +
+           "WHERE a.player.id IN :playerIds ORDER BY a.achievementDate DESC")
+    List<Achievement> findByPlayerIdInWithTournament(@Param("playerIds") Collection<UUID> playerIds);
+
     /**
      * Find verified achievements by player ID
      */
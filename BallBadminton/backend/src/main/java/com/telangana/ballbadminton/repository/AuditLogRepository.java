@@ -7,6 +7,7 @@ import com.telangana.ballbadminton.entity.AuditLog.AuditStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,6 +21,13 @@ import java.util.UUID;
  * 
  * Provides query methods for audit log retrieval and analysis
  * 
+ * audit_logs is range-partitioned by month on timestamp (V14). Queries that bound
+ * timestamp only scan the partitions covering the requested window.
+ * 
+ * The seek* methods page by (timestamp, id), latest first: each returns the rows after
+ * the given position, or from the start when afterId is null. Page them with
+ * KeysetCursor.limit(size).
+ * 
  * @author Telangana Ball Badminton Association
  * @version 1.0.0
  */
@@ -82,6 +90,123 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
     @Query("SELECT a FROM AuditLog a WHERE a.action IN :securityActions ORDER BY a.timestamp DESC")
     Page<AuditLog> findSecurityEvents(@Param("securityActions") List<AuditAction> securityActions, Pageable pageable);
 
+    // Seek pagination, latest first: the first page, then the rows after a (timestamp, id) position.
+    // The position is compared as a row value so that it bounds the range scan of the
+    // (timestamp, id) index instead of filtering every row before it
+
+    /**
+     * First page of the audit logs within a time range
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.timestamp BETWEEN :startTime AND :endTime " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> seekByTimestampBetween(@Param("startTime") LocalDateTime startTime,
+                                          @Param("endTime") LocalDateTime endTime,
+                                          Pageable pageable);
+
+    /**
+     * Audit logs within a time range after the given position
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.timestamp BETWEEN :startTime AND :endTime " +
+           "AND (a.timestamp, a.id) < (:afterTimestamp, :afterId) " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> seekByTimestampBetween(@Param("startTime") LocalDateTime startTime,
+                                          @Param("endTime") LocalDateTime endTime,
+                                          @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                                          @Param("afterId") UUID afterId,
+                                          Pageable pageable);
+
+    /**
+     * First page of the audit logs of a user
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.userId = :userId " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> seekByUserId(@Param("userId") UUID userId,
+                                Pageable pageable);
+
+    /**
+     * Audit logs of a user after the given position
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.userId = :userId " +
+           "AND (a.timestamp, a.id) < (:afterTimestamp, :afterId) " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> seekByUserId(@Param("userId") UUID userId,
+                                @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                                @Param("afterId") UUID afterId,
+                                Pageable pageable);
+
+    /**
+     * First page of the audit logs of an entity
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.entityType = :entityType AND a.entityId = :entityId " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> seekByEntityTypeAndEntityId(@Param("entityType") String entityType,
+                                               @Param("entityId") String entityId,
+                                               Pageable pageable);
+
+    /**
+     * Audit logs of an entity after the given position
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.entityType = :entityType AND a.entityId = :entityId " +
+           "AND (a.timestamp, a.id) < (:afterTimestamp, :afterId) " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> seekByEntityTypeAndEntityId(@Param("entityType") String entityType,
+                                               @Param("entityId") String entityId,
+                                               @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                                               @Param("afterId") UUID afterId,
+                                               Pageable pageable);
+
+    /**
+     * First page of the security-related events
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.action IN :securityActions " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> seekSecurityEvents(@Param("securityActions") List<AuditAction> securityActions,
+                                      Pageable pageable);
+
+    /**
+     * Security-related events after the given position
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.action IN :securityActions " +
+           "AND (a.timestamp, a.id) < (:afterTimestamp, :afterId) " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> seekSecurityEvents(@Param("securityActions") List<AuditAction> securityActions,
+                                      @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                                      @Param("afterId") UUID afterId,
+                                      Pageable pageable);
+
+    /**
+     * First page of the audit logs by status and severities
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.status = :status AND a.severity IN :severities " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> seekByStatusAndSeverityIn(@Param("status") AuditStatus status,
+                                             @Param("severities") List<AuditSeverity> severities,
+                                             Pageable pageable);
+
+    /**
+     * Audit logs by status and severities after the given position
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.status = :status AND a.severity IN :severities " +
+           "AND (a.timestamp, a.id) < (:afterTimestamp, :afterId) " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> seekByStatusAndSeverityIn(@Param("status") AuditStatus status,
+                                             @Param("severities") List<AuditSeverity> severities,
+                                             @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                                             @Param("afterId") UUID afterId,
+                                             Pageable pageable);
+
+    // Totals of the seek listings, counted only on request
+
+    long countByTimestampBetween(LocalDateTime startTime, LocalDateTime endTime);
+
+    long countByUserId(UUID userId);
+
+    long countByEntityTypeAndEntityId(String entityType, String entityId);
+
+    long countByActionIn(List<AuditAction> actions);
+
+    long countByStatusAndSeverityIn(AuditStatus status, List<AuditSeverity> severities);
+
     /**
      * Find suspicious activities by IP address
      */
@@ -118,11 +243,49 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
     @Query("SELECT a.severity, COUNT(a) FROM AuditLog a WHERE a.timestamp BETWEEN :startTime AND :endTime GROUP BY a.severity")
     List<Object[]> getSeverityStatistics(@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
 
+    /**
+     * Counts grouped by action, severity, status and entity type for timestamps in [startTime, endTime)
+     * Used for the partial edge buckets of rollup-backed statistics
+     */
+    @Query("SELECT a.action, a.severity, a.status, a.entityType, COUNT(a) FROM AuditLog a " +
+           "WHERE a.timestamp >= :startTime AND a.timestamp < :endTime " +
+           "GROUP BY a.action, a.severity, a.status, a.entityType")
+    List<Object[]> getDimensionCounts(@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Counts grouped by action, severity, status and entity type for timestamps in [startTime, endTime]
+     */
+    @Query("SELECT a.action, a.severity, a.status, a.entityType, COUNT(a) FROM AuditLog a " +
+           "WHERE a.timestamp >= :startTime AND a.timestamp <= :endTime " +
+           "GROUP BY a.action, a.severity, a.status, a.entityType")
+    List<Object[]> getDimensionCountsInclusive(@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
+
     /**
      * Delete old audit logs (for cleanup)
      */
     void deleteByTimestampBefore(LocalDateTime timestamp);
 
+    /**
+     * Bulk delete of old audit logs in a single statement
+     * Used only when audit_logs is not partitioned; otherwise whole partitions are dropped
+     */
+    @Modifying
+    @Query("DELETE FROM AuditLog a WHERE a.timestamp < :cutoff")
+    int deleteAllOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Count audit logs by action since a point in time
+     * The timestamp bound lets PostgreSQL prune partitions outside the window
+     */
+    long countByActionAndTimestampAfter(AuditAction action, LocalDateTime since);
+
+    /**
+     * Failed login counts grouped by IP address since a point in time, highest first
+     */
+    @Query("SELECT a.ipAddress, COUNT(a) FROM AuditLog a WHERE a.action = 'LOGIN_FAILED' " +
+           "AND a.ipAddress IS NOT NULL AND a.timestamp > :since GROUP BY a.ipAddress ORDER BY COUNT(a) DESC")
+    List<Object[]> getFailedLoginCountsByIp(@Param("since") LocalDateTime since, Pageable pageable);
+
     /**
      * Find recent critical events
      */
@@ -0,0 +1,44 @@
+package com.telangana.ballbadminton.repository;
+
+import com.telangana.ballbadminton.entity.AuditStatisticsBucket;
+import com.telangana.ballbadminton.entity.AuditStatisticsBucket.BucketId;
+import com.telangana.ballbadminton.entity.AuditStatisticsBucket.Granularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for AuditStatisticsBucket entity
+ *
+ * Provides read access to the pre-aggregated audit counters. Writes are additive
+ * upserts performed by AuditStatisticsService.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Repository
+public interface AuditStatisticsBucketRepository extends JpaRepository<AuditStatisticsBucket, BucketId> {
+
+    /**
+     * Sum bucket counts per dimension and value for buckets starting in [from, to)
+     */
+    @Query("SELECT b.dimension, b.dimensionValue, SUM(b.eventCount) FROM AuditStatisticsBucket b " +
+           "WHERE b.granularity = :granularity AND b.bucketStart >= :from AND b.bucketStart < :to " +
+           "GROUP BY b.dimension, b.dimensionValue")
+    List<Object[]> sumByDimension(@Param("granularity") Granularity granularity,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
+    /**
+     * Delete buckets of one granularity older than the cutoff
+     */
+    @Modifying
+    @Query("DELETE FROM AuditStatisticsBucket b WHERE b.granularity = :granularity AND b.bucketStart < :cutoff")
+    int deleteByGranularityOlderThan(@Param("granularity") Granularity granularity,
+                                     @Param("cutoff") LocalDateTime cutoff);
+}
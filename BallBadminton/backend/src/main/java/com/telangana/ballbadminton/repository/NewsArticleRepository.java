@@ -1,10 +1,12 @@
 package com.telangana.ballbadminton.repository;
 
+import com.telangana.ballbadminton.dto.ResourceVersion;
 import com.telangana.ballbadminton.entity.NewsArticle;
 import com.telangana.ballbadminton.entity.NewsCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -109,4 +111,18 @@ public interface NewsArticleRepository extends JpaRepository<NewsArticle, UUID>
      * Count articles with scheduled publication date that are not yet published
      */
     long countByScheduledPublicationDateIsNotNullAndIsPublishedFalse();
+
+    /**
+     * Version of the featured published articles for conditional GET requests
+     */
+    @Query("SELECT new com.telangana.ballbadminton.dto.ResourceVersion(COUNT(a), MAX(a.updatedAt)) FROM NewsArticle a " +
+           "WHERE a.isFeatured = true AND a.isPublished = true")
+    ResourceVersion findVersionOfFeatured();
+
+    /**
+     * Count a view without loading the article or touching its updatedAt, which versions its content
+     */
+    @Modifying
+    @Query("UPDATE NewsArticle a SET a.viewCount = COALESCE(a.viewCount, 0) + 1 WHERE a.id = :id")
+    int incrementViewCount(@Param("id") UUID id);
 }
\ No newline at end of file
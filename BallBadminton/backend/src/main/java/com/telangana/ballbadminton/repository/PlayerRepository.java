@@ -1,13 +1,16 @@
 package com.telangana.ballbadminton.repository;
 
+import com.telangana.ballbadminton.dto.ResourceVersion;
 import com.telangana.ballbadminton.entity.Player;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,24 +24,31 @@ import java.util.UUID;
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, UUID> {
 
+    // List reads fetch the district and statistics of each player with the player
+    // itself (Player.SUMMARY_GRAPH); achievements are loaded in one batch by PlayerReadModel
+
     /**
      * Find all active players
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     List<Player> findByIsActiveTrueOrderByNameAsc();
 
     /**
      * Find all active players with pagination
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     Page<Player> findByIsActiveTrueOrderByNameAsc(Pageable pageable);
 
     /**
      * Find prominent players
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     List<Player> findByIsActiveTrueAndIsProminentTrueOrderByNameAsc();
 
     /**
      * Find players by category
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     List<Player> findByIsActiveTrueAndCategoryOrderByNameAsc(Player.Category category);
 
     /**
@@ -49,16 +59,19 @@ public interface PlayerRepository extends JpaRepository<Player, UUID> {
     /**
      * Find players by district
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     List<Player> findByIsActiveTrueAndDistrictIdOrderByNameAsc(UUID districtId);
 
     /**
      * Find players by district with pagination
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     Page<Player> findByIsActiveTrueAndDistrictIdOrderByNameAsc(UUID districtId, Pageable pageable);
 
     /**
      * Search players by name, email, or phone
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     @Query("SELECT p FROM Player p WHERE p.isActive = true AND " +
            "(LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(p.contactEmail) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
@@ -68,6 +81,7 @@ public interface PlayerRepository extends JpaRepository<Player, UUID> {
     /**
      * Find players with advanced filtering
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     @Query("SELECT p FROM Player p WHERE p.isActive = true " +
            "AND (:category IS NULL OR p.category = :category) " +
            "AND (:gender IS NULL OR p.gender = :gender) " +
@@ -81,9 +95,82 @@ public interface PlayerRepository extends JpaRepository<Player, UUID> {
             @Param("isProminent") Boolean isProminent,
             Pageable pageable);
 
+    /**
+     * First page of the seek pagination over active players ordered by (name, id)
+     * Page with KeysetCursor.limit(size)
+     */
+    @EntityGraph(Player.SUMMARY_GRAPH)
+    @Query("SELECT p FROM Player p WHERE p.isActive = true ORDER BY p.name ASC, p.id ASC")
+    List<Player> seekActive(Pageable pageable);
+
+    /**
+     * Seek pagination over active players ordered by (name, id), after the given position
+     * The position is compared as a row value, so it bounds the range scan of the (name, id) index
+     */
+    @EntityGraph(Player.SUMMARY_GRAPH)
+    @Query("SELECT p FROM Player p WHERE p.isActive = true " +
+           "AND (p.name, p.id) > (:afterName, :afterId) " +
+           "ORDER BY p.name ASC, p.id ASC")
+    List<Player> seekActive(
+            @Param("afterName") String afterName,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * First page of the seek pagination over filtered players ordered by (name, id)
+     */
+    @EntityGraph(Player.SUMMARY_GRAPH)
+    @Query("SELECT p FROM Player p WHERE p.isActive = true " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:gender IS NULL OR p.gender = :gender) " +
+           "AND (:districtId IS NULL OR p.district.id = :districtId) " +
+           "AND (:isProminent IS NULL OR p.isProminent = :isProminent) " +
+           "ORDER BY p.name ASC, p.id ASC")
+    List<Player> seekWithFilters(
+            @Param("category") Player.Category category,
+            @Param("gender") Player.Gender gender,
+            @Param("districtId") UUID districtId,
+            @Param("isProminent") Boolean isProminent,
+            Pageable pageable);
+
+    /**
+     * Seek pagination over filtered players ordered by (name, id), after the given position
+     */
+    @EntityGraph(Player.SUMMARY_GRAPH)
+    @Query("SELECT p FROM Player p WHERE p.isActive = true " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:gender IS NULL OR p.gender = :gender) " +
+           "AND (:districtId IS NULL OR p.district.id = :districtId) " +
+           "AND (:isProminent IS NULL OR p.isProminent = :isProminent) " +
+           "AND (p.name, p.id) > (:afterName, :afterId) " +
+           "ORDER BY p.name ASC, p.id ASC")
+    List<Player> seekWithFilters(
+            @Param("category") Player.Category category,
+            @Param("gender") Player.Gender gender,
+            @Param("districtId") UUID districtId,
+            @Param("isProminent") Boolean isProminent,
+            @Param("afterName") String afterName,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * Count the players matching the advanced filters
+     */
+    @Query("SELECT COUNT(p) FROM Player p WHERE p.isActive = true " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:gender IS NULL OR p.gender = :gender) " +
+           "AND (:districtId IS NULL OR p.district.id = :districtId) " +
+           "AND (:isProminent IS NULL OR p.isProminent = :isProminent)")
+    long countPlayersWithFilters(
+            @Param("category") Player.Category category,
+            @Param("gender") Player.Gender gender,
+            @Param("districtId") UUID districtId,
+            @Param("isProminent") Boolean isProminent);
+
     /**
      * Find top ranked players (those with current ranking)
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     @Query("SELECT p FROM Player p JOIN p.statistics s WHERE p.isActive = true " +
            "AND s.currentRanking IS NOT NULL ORDER BY s.currentRanking ASC")
     List<Player> findTopRankedPlayers(Pageable pageable);
@@ -91,6 +178,7 @@ public interface PlayerRepository extends JpaRepository<Player, UUID> {
     /**
      * Find players with most tournament wins
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     @Query("SELECT p FROM Player p JOIN p.statistics s WHERE p.isActive = true " +
            "AND s.tournamentsWon > 0 ORDER BY s.tournamentsWon DESC, s.tournamentsParticipated ASC")
     List<Player> findPlayersWithMostTournamentWins(Pageable pageable);
@@ -98,6 +186,7 @@ public interface PlayerRepository extends JpaRepository<Player, UUID> {
     /**
      * Find players with highest win percentage (minimum 10 matches)
      */
+    @EntityGraph(Player.SUMMARY_GRAPH)
     @Query("SELECT p FROM Player p JOIN p.statistics s WHERE p.isActive = true " +
            "AND s.matchesPlayed >= 10 ORDER BY s.winPercentage DESC, s.matchesPlayed DESC")
     List<Player> findPlayersWithHighestWinPercentage(Pageable pageable);
@@ -178,4 +267,30 @@ public interface PlayerRepository extends JpaRepository<Player, UUID> {
            "GROUP BY p.category " +
            "ORDER BY COUNT(p) DESC")
     List<Object[]> getCategoryWisePlayerCounts();
+
+    /**
+     * Version of a single player for conditional GET requests
+     */
+    @Query("SELECT new com.telangana.ballbadminton.dto.ResourceVersion(COUNT(p), MAX(p.updatedAt)) FROM Player p WHERE p.id = :id")
+    ResourceVersion findVersionById(@Param("id") UUID id);
+
+    /**
+     * Version of all active players
+     */
+    @Query("SELECT new com.telangana.ballbadminton.dto.ResourceVersion(COUNT(p), MAX(p.updatedAt)) FROM Player p WHERE p.isActive = true")
+    ResourceVersion findVersionOfActive();
+
+    /**
+     * Version of the active prominent players
+     */
+    @Query("SELECT new com.telangana.ballbadminton.dto.ResourceVersion(COUNT(p), MAX(p.updatedAt)) FROM Player p " +
+           "WHERE p.isActive = true AND p.isProminent = true")
+    ResourceVersion findVersionOfProminent();
+
+    /**
+     * Last update times of the top ranked players, in the same order as findTopRankedPlayers
+     */
+    @Query("SELECT p.updatedAt FROM Player p JOIN p.statistics s WHERE p.isActive = true " +
+           "AND s.currentRanking IS NOT NULL ORDER BY s.currentRanking ASC")
+    List<LocalDateTime> findTopRankedUpdatedAt(Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.telangana.ballbadminton.repository;
+
+import com.telangana.ballbadminton.entity.TournamentFixture;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for TournamentFixture entity
+ * Fixtures are written in bulk by FixtureService and read page by page
+ * 
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Repository
+public interface TournamentFixtureRepository extends JpaRepository<TournamentFixture, UUID> {
+
+    /**
+     * Find the fixtures of a tournament in playing order
+     */
+    @EntityGraph(attributePaths = {"player1", "player2", "winner"})
+    Page<TournamentFixture> findByTournamentIdOrderByScheduledAtAscCourtNumberAsc(UUID tournamentId, Pageable pageable);
+
+    /**
+     * Check whether a fixture belongs to a tournament
+     */
+    boolean existsByIdAndTournamentId(UUID id, UUID tournamentId);
+
+    /**
+     * Check whether a tournament has any fixtures
+     */
+    boolean existsByTournamentId(UUID tournamentId);
+
+    /**
+     * Check whether any fixture of a tournament is not in the given status
+     */
+    boolean existsByTournamentIdAndStatusNot(UUID tournamentId, TournamentFixture.Status status);
+
+    /**
+     * Remove the schedule of a tournament
+     */
+    @Modifying
+    @Query("DELETE FROM TournamentFixture f WHERE f.tournament.id = :tournamentId")
+    int deleteByTournamentId(@Param("tournamentId") UUID tournamentId);
+
+    /**
+     * Remove the fixtures of a player of a tournament that are in the given status
+     */
+    @Modifying
+    @Query("DELETE FROM TournamentFixture f WHERE f.tournament.id = :tournamentId AND f.status = :status " +
+           "AND (f.player1.id = :playerId OR f.player2.id = :playerId)")
+    int deleteByTournamentIdAndPlayerIdAndStatus(@Param("tournamentId") UUID tournamentId, @Param("playerId") UUID playerId,
+                                                 @Param("status") TournamentFixture.Status status);
+}
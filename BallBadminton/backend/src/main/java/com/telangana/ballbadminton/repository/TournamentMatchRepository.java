@@ -0,0 +1,67 @@
+package com.telangana.ballbadminton.repository;
+
+import com.telangana.ballbadminton.entity.TournamentMatch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for TournamentMatch entity
+ * Reads fetch the players shown by every bracket match with the match
+ * 
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Repository
+public interface TournamentMatchRepository extends JpaRepository<TournamentMatch, UUID> {
+
+    /**
+     * Find the bracket of a tournament, round by round
+     */
+    @EntityGraph(attributePaths = {"player1", "player2", "winner"})
+    List<TournamentMatch> findByTournamentIdOrderByRoundNumberAscMatchNumberAsc(UUID tournamentId);
+
+    /**
+     * Find a bracket match by its round and position and lock its row until the end of the transaction
+     * Results of the two matches feeding the same match are written one after the other,
+     * so neither overwrites the player the other moved in
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM TournamentMatch m WHERE m.tournament.id = :tournamentId " +
+           "AND m.roundNumber = :roundNumber AND m.matchNumber = :matchNumber")
+    Optional<TournamentMatch> findByPositionForUpdate(@Param("tournamentId") UUID tournamentId,
+                                                      @Param("roundNumber") Integer roundNumber,
+                                                      @Param("matchNumber") Integer matchNumber);
+
+    /**
+     * Check whether a match belongs to a tournament
+     */
+    boolean existsByIdAndTournamentId(UUID id, UUID tournamentId);
+
+    /**
+     * Check whether any match of a tournament is in the given status
+     */
+    boolean existsByTournamentIdAndStatus(UUID tournamentId, TournamentMatch.Status status);
+
+    /**
+     * Number of rounds of the bracket of a tournament, or null without a bracket
+     */
+    @Query("SELECT MAX(m.roundNumber) FROM TournamentMatch m WHERE m.tournament.id = :tournamentId")
+    Integer findTotalRounds(@Param("tournamentId") UUID tournamentId);
+
+    /**
+     * Remove the bracket of a tournament
+     */
+    @Modifying
+    @Query("DELETE FROM TournamentMatch m WHERE m.tournament.id = :tournamentId")
+    int deleteByTournamentId(@Param("tournamentId") UUID tournamentId);
+}
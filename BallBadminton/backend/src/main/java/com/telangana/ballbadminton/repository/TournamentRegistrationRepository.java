@@ -1,9 +1,17 @@
 package com.telangana.ballbadminton.repository;
 
 import com.telangana.ballbadminton.entity.TournamentRegistration;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -17,4 +25,45 @@ import java.util.UUID;
 public interface TournamentRegistrationRepository extends JpaRepository<TournamentRegistration, UUID> {
     // Basic CRUD operations are inherited from JpaRepository
     // Additional registration-specific methods can be added here as needed
+
+    /**
+     * Find the registration of a player for a tournament, in any status
+     */
+    Optional<TournamentRegistration> findByTournamentIdAndPlayerId(UUID tournamentId, UUID playerId);
+
+    /**
+     * Find the registrations of several players for a tournament, in any status
+     */
+    List<TournamentRegistration> findByTournamentIdAndPlayerIdIn(UUID tournamentId, Collection<UUID> playerIds);
+
+    /**
+     * Find a registration of a tournament
+     */
+    Optional<TournamentRegistration> findByIdAndTournamentId(UUID id, UUID tournamentId);
+
+    /**
+     * Find the registrations of a tournament in the given statuses with their players and rankings
+     */
+    @EntityGraph(attributePaths = {"player", "player.statistics"})
+    List<TournamentRegistration> findByTournamentIdAndStatusIn(UUID tournamentId, Collection<TournamentRegistration.RegistrationStatus> statuses);
+
+    /**
+     * Count the active registrations of a tournament
+     */
+    long countByTournamentIdAndStatusIn(UUID tournamentId, Collection<TournamentRegistration.RegistrationStatus> statuses);
+
+    /**
+     * Move a registration to a status if it is still in one of the expected statuses
+     * Of several concurrent transitions of the same registration only the first changes
+     * the row, so only that one takes or gives back a tournament slot
+     *
+     * @return 1 when the registration was moved, 0 when its status had already changed
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TournamentRegistration r SET r.status = :status, r.updatedAt = :now " +
+           "WHERE r.id = :id AND r.status IN :expected")
+    int transitionStatus(@Param("id") UUID id,
+                         @Param("expected") Collection<TournamentRegistration.RegistrationStatus> expected,
+                         @Param("status") TournamentRegistration.RegistrationStatus status,
+                         @Param("now") LocalDateTime now);
 }
@@ -1,9 +1,23 @@
 package com.telangana.ballbadminton.repository;
 
+import com.telangana.ballbadminton.dto.ResourceVersion;
 import com.telangana.ballbadminton.entity.Tournament;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -16,5 +30,129 @@ import java.util.UUID;
 @Repository
 public interface TournamentRepository extends JpaRepository<Tournament, UUID> {
     // Basic CRUD operations are inherited from JpaRepository
-    // Additional tournament-specific methods can be added here as needed
+    // List queries fetch the district shown by every TournamentResponse with the tournament
+
+    /**
+     * Find tournaments in the given statuses, earliest first
+     */
+    @EntityGraph(attributePaths = "district")
+    List<Tournament> findByStatusInOrderByStartDateAscIdAsc(Collection<Tournament.Status> statuses);
+
+    /**
+     * Find tournaments in a status, earliest first
+     */
+    @EntityGraph(attributePaths = "district")
+    List<Tournament> findByStatusOrderByStartDateAscIdAsc(Tournament.Status status);
+
+    /**
+     * Find tournaments in a status with pagination, latest first
+     */
+    @EntityGraph(attributePaths = "district")
+    Page<Tournament> findByStatusOrderByStartDateDescIdDesc(Tournament.Status status, Pageable pageable);
+
+    /**
+     * Find featured tournaments, latest first
+     */
+    @EntityGraph(attributePaths = "district")
+    List<Tournament> findByIsFeaturedTrueOrderByStartDateDescIdDesc();
+
+    /**
+     * Find tournaments of a district with pagination, latest first
+     */
+    @EntityGraph(attributePaths = "district")
+    Page<Tournament> findByDistrictIdOrderByStartDateDescIdDesc(UUID districtId, Pageable pageable);
+
+    /**
+     * Find tournaments held entirely within a date range with pagination, earliest first
+     * The start date bound is implied by the end date one; it is repeated so that the
+     * index on start_date can be range scanned
+     */
+    @EntityGraph(attributePaths = "district")
+    @Query(value = "SELECT t FROM Tournament t WHERE t.startDate >= :startDate AND t.startDate <= :endDate " +
+                   "AND t.endDate <= :endDate ORDER BY t.startDate ASC, t.id ASC",
+           countQuery = "SELECT COUNT(t) FROM Tournament t WHERE t.startDate >= :startDate " +
+                        "AND t.startDate <= :endDate AND t.endDate <= :endDate")
+    Page<Tournament> findWithinDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+
+    /**
+     * Take a registration slot if the tournament has one left
+     * Checks and increments the active registration count in one statement, so
+     * concurrent registrations can never take more slots than maxParticipants
+     *
+     * @return 1 when a slot was taken, 0 when the tournament is full or does not exist
+     */
+    @Modifying
+    @Query("UPDATE Tournament t SET t.activeRegistrationCount = t.activeRegistrationCount + 1, t.updatedAt = :now " +
+           "WHERE t.id = :id AND (t.maxParticipants IS NULL OR t.activeRegistrationCount < t.maxParticipants)")
+    int reserveRegistrationSlot(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /**
+     * Find a tournament and lock its row until the end of the transaction
+     * Holding the lock keeps the active registration count read from it current
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Tournament t WHERE t.id = :id")
+    Optional<Tournament> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Take several registration slots of a tournament locked with findByIdForUpdate
+     */
+    @Modifying
+    @Query("UPDATE Tournament t SET t.activeRegistrationCount = t.activeRegistrationCount + :slots, t.updatedAt = :now " +
+           "WHERE t.id = :id")
+    int addRegistrationSlots(@Param("id") UUID id, @Param("slots") int slots, @Param("now") LocalDateTime now);
+
+    /**
+     * Give back the slot of a registration that is no longer active
+     */
+    @Modifying
+    @Query("UPDATE Tournament t SET t.activeRegistrationCount = t.activeRegistrationCount - 1, t.updatedAt = :now " +
+           "WHERE t.id = :id AND t.activeRegistrationCount > 0")
+    int releaseRegistrationSlot(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /**
+     * Version of a single tournament for conditional GET requests
+     */
+    @Query("SELECT new com.telangana.ballbadminton.dto.ResourceVersion(COUNT(t), MAX(t.updatedAt)) FROM Tournament t WHERE t.id = :id")
+    ResourceVersion findVersionById(@Param("id") UUID id);
+
+    /**
+     * Version of all tournaments
+     */
+    @Query("SELECT new com.telangana.ballbadminton.dto.ResourceVersion(COUNT(t), MAX(t.updatedAt)) FROM Tournament t")
+    ResourceVersion findVersionOfAll();
+
+    /**
+     * Version of the tournaments in the given statuses
+     */
+    @Query("SELECT new com.telangana.ballbadminton.dto.ResourceVersion(COUNT(t), MAX(t.updatedAt)) FROM Tournament t WHERE t.status IN :statuses")
+    ResourceVersion findVersionByStatusIn(@Param("statuses") Collection<Tournament.Status> statuses);
+
+    /**
+     * Version of the featured tournaments
+     */
+    @Query("SELECT new com.telangana.ballbadminton.dto.ResourceVersion(COUNT(t), MAX(t.updatedAt)) FROM Tournament t WHERE t.isFeatured = true")
+    ResourceVersion findVersionOfFeatured();
+
+    /**
+     * First page of the seek pagination over tournaments ordered by (startDate, id), latest first
+     * Page with KeysetCursor.limit(size)
+     */
+    @Query("SELECT t FROM Tournament t ORDER BY t.startDate DESC, t.id DESC")
+    List<Tournament> seekByStartDateDesc(Pageable pageable);
+
+    /**
+     * Seek pagination over tournaments ordered by (startDate, id), latest first, after the given position
+     * The position is compared as a row value, so it bounds the range scan of the (start_date, id) index
+     */
+    @Query("SELECT t FROM Tournament t " +
+           "WHERE (t.startDate, t.id) < (:afterStartDate, :afterId) " +
+           "ORDER BY t.startDate DESC, t.id DESC")
+    List<Tournament> seekByStartDateDesc(
+            @Param("afterStartDate") LocalDate afterStartDate,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.telangana.ballbadminton.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings
+ *
+ * Answers "definitely not present" or "possibly present" for token IDs so the
+ * revocation check can skip the shared store for the vast majority of tokens.
+ * Bits live in an AtomicLongArray, so concurrent adds and lookups need no locks.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Create a filter sized for the expected number of entries and false positive rate
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing");
+        }
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexFor(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexFor(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int getHashCount() {
+        return hashCount;
+    }
+
+    long getBitCount() {
+        return bitCount;
+    }
+
+    private long indexFor(int combinedHash) {
+        return (combinedHash & 0x7fffffffL) % bitCount;
+    }
+
+    /**
+     * 64-bit FNV-1a followed by the MurmurHash3 finalizer for good bit dispersion
+     */
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,56 @@
+package com.telangana.ballbadminton.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token revocation store kept in this node's memory
+ *
+ * Stand-in for the Redis store in tests and single-node development setups.
+ * Revocations are not shared between nodes and do not survive a restart.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        revokedUntil.merge(tokenId, expiresAt.toEpochMilli(), Math::max);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revokedUntil.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public Collection<String> findActiveRevocations() {
+        long now = System.currentTimeMillis();
+        List<String> active = new ArrayList<>();
+        revokedUntil.forEach((tokenId, expiresAt) -> {
+            if (expiresAt > now) {
+                active.add(tokenId);
+            }
+        });
+        return active;
+    }
+
+    @Override
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedUntil.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
@@ -1,5 +1,6 @@
 package com.telangana.ballbadminton.security;
 
+import com.telangana.ballbadminton.entity.User;
 import com.telangana.ballbadminton.service.JwtService;
 import com.telangana.ballbadminton.service.UserDetailsServiceImpl;
 import io.jsonwebtoken.JwtException;
@@ -19,11 +20,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.UUID;
 
 /**
  * JWT Authentication Filter for processing JWT tokens in requests
  * Validates JWT tokens and sets up Spring Security authentication context
  * 
+ * Principals are served from PrincipalCache where possible so most requests do
+ * not load the user and roles from the database. Revoked tokens are rejected via
+ * TokenRevocationService.
+ * 
  * @author Telangana Ball Badminton Association
  * @version 1.0.0
  */
@@ -36,10 +42,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsServiceImpl userDetailsService,
+                                   PrincipalCache principalCache, TokenRevocationService tokenRevocationService) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -67,6 +78,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
+            // Reject revoked tokens - a Bloom filter lookup for tokens that were never revoked
+            if (tokenRevocationService.isRevoked(jwtService.extractTokenId(jwt))) {
+                logger.warn("Revoked JWT token presented from IP: {}", getClientIpAddress(request));
+                filterChain.doFilter(request, response);
+                return;
+            }
+
             final String username = jwtService.extractUsername(jwt);
 
             // Process authentication if username exists and no authentication is set
@@ -88,7 +106,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private void authenticateUser(HttpServletRequest request, String jwt, String username) {
         try {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = resolvePrincipal(jwt, username);
 
             if (jwtService.isTokenValid(jwt, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -110,6 +128,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * Resolve the principal for a token from the cache, the token's role claims or the database
+     */
+    private UserDetails resolvePrincipal(String jwt, String username) {
+        UUID userId = jwtService.extractUserId(jwt);
+        Integer tokenVersion = jwtService.extractTokenVersion(jwt);
+        if (userId == null || tokenVersion == null) {
+            // Tokens issued before token versions existed are always checked against the database
+            return userDetailsService.loadUserByUsername(username);
+        }
+
+        UserDetails cached = principalCache.get(userId, tokenVersion);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserDetails userDetails;
+        if (principalCache.canTrustTokenRoles(userId, tokenVersion)) {
+            userDetails = jwtService.extractPrincipal(jwt);
+        } else {
+            userDetails = userDetailsService.loadUserByUsername(username);
+            if (userDetails instanceof User user && user.getTokenVersion() != null) {
+                principalCache.recordTokenVersion(userId, user.getTokenVersion());
+            }
+        }
+
+        // Resolve the permission mask once so every request served from the cache reuses it
+        if (userDetails instanceof User user) {
+            user.getPermissionMask();
+        }
+
+        principalCache.put(userId, tokenVersion, userDetails);
+        return userDetails;
+    }
+
     /**
      * Get client IP address from request
      */
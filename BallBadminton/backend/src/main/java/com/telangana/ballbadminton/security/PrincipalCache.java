@@ -0,0 +1,279 @@
+package com.telangana.ballbadminton.security;
+
+import com.telangana.ballbadminton.cache.CacheInvalidationBroadcaster;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals for JwtAuthenticationFilter
+ *
+ * Entries are keyed by user ID and the token version the access token was issued
+ * with, so repeated requests with the same token skip the user and role queries.
+ * User management invalidates a user's entries whenever roles or active status
+ * change and records the user's new token version; tokens carrying an older
+ * version are then never served from trusted role claims.
+ *
+ * Cached principals are dropped on this node only; other nodes pick up the change
+ * when their entries expire, so the TTL bounds how long a stale cached principal is
+ * used. The new token version is also broadcast over the cache invalidation channel,
+ * as role claims of older tokens would otherwise stay trusted on other nodes for the
+ * whole token lifetime. Delivery is best effort: while Redis is unreachable a node
+ * can miss a bump, so trust-token-roles should stay off where that is not acceptable.
+ * Without Redis (the local profile) nothing is broadcast, which suits a single node.
+ *
+ * A recorded token version is kept for one token lifetime, after which every token
+ * issued before the change has expired. At most max-size versions are kept; when
+ * more are recorded within one lifetime they are all dropped and role claims are not
+ * trusted until that lifetime has passed.
+ *
+ * Requirements: 6.1, 8.3
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+public class PrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalCache.class);
+
+    private final Map<PrincipalKey, CachedPrincipal> principals = new ConcurrentHashMap<>();
+    private final Map<UUID, MinimumTokenVersion> minimumTokenVersions = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final boolean trustTokenRoles;
+    private final long tokenLifetimeMillis;
+    private final CacheInvalidationBroadcaster broadcaster;
+
+    private volatile long trustSuspendedUntil;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private LongSupplier clock = System::currentTimeMillis;
+
+    public PrincipalCache(
+            @Value("${app.security.principal-cache.enabled:true}") boolean enabled,
+            @Value("${app.security.principal-cache.max-size:10000}") int maxSize,
+            @Value("${app.security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.security.principal-cache.trust-token-roles:false}") boolean trustTokenRoles,
+            @Value("${app.jwt.expiration}") long tokenLifetimeMillis,
+            Optional<CacheInvalidationBroadcaster> broadcaster,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.trustTokenRoles = trustTokenRoles;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+        this.broadcaster = broadcaster.orElse(null);
+        if (this.broadcaster != null) {
+            this.broadcaster.setTokenVersionHandler(this::applyTokenVersion);
+        }
+
+        this.hitCounter = Counter.builder("security.principal.cache")
+                .description("Principal cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("security.principal.cache")
+                .description("Principal cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("security.principal.cache.size", principals, Map::size)
+                .description("Number of cached principals")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the cached principal for a user and token version, or null if absent or expired
+     */
+    public UserDetails get(UUID userId, int tokenVersion) {
+        if (!enabled) {
+            return null;
+        }
+
+        PrincipalKey key = new PrincipalKey(userId, tokenVersion);
+        CachedPrincipal cached = principals.get(key);
+        if (cached == null || cached.expiresAt <= clock.getAsLong()) {
+            if (cached != null) {
+                principals.remove(key, cached);
+            }
+            missCounter.increment();
+            return null;
+        }
+
+        hitCounter.increment();
+        return cached.principal;
+    }
+
+    /**
+     * Cache a principal for a user and token version
+     */
+    public void put(UUID userId, int tokenVersion, UserDetails principal) {
+        if (!enabled) {
+            return;
+        }
+
+        if (principals.size() >= maxSize) {
+            evict();
+        }
+        principals.put(new PrincipalKey(userId, tokenVersion),
+            new CachedPrincipal(principal, clock.getAsLong() + ttlMillis));
+    }
+
+    /**
+     * Drop all cached principals of a user after a role or status change and tell the other nodes
+     *
+     * @param currentTokenVersion the user's token version after the change
+     */
+    public void invalidate(UUID userId, int currentTokenVersion) {
+        applyTokenVersion(userId, currentTokenVersion);
+        if (broadcaster != null) {
+            broadcaster.publishTokenVersion(userId, currentTokenVersion);
+        }
+        logger.debug("Invalidated cached principals for user {} (token version {})", userId, currentTokenVersion);
+    }
+
+    /**
+     * Remember a user's current token version, e.g. after loading the user from the database
+     */
+    public void recordTokenVersion(UUID userId, int currentTokenVersion) {
+        long now = clock.getAsLong();
+        if (minimumTokenVersions.size() >= maxSize && !minimumTokenVersions.containsKey(userId)) {
+            pruneTokenVersions(now);
+        }
+        minimumTokenVersions.merge(userId, new MinimumTokenVersion(currentTokenVersion, now + tokenLifetimeMillis),
+            MinimumTokenVersion::max);
+    }
+
+    /**
+     * Whether role claims in a token with this version may be used instead of loading the user
+     */
+    public boolean canTrustTokenRoles(UUID userId, int tokenVersion) {
+        long now = clock.getAsLong();
+        if (!trustTokenRoles || now < trustSuspendedUntil) {
+            return false;
+        }
+        MinimumTokenVersion minimum = minimumTokenVersions.get(userId);
+        return minimum == null || minimum.expiresAt <= now || tokenVersion >= minimum.version;
+    }
+
+    public void clear() {
+        principals.clear();
+    }
+
+    int size() {
+        return principals.size();
+    }
+
+    int tokenVersionCount() {
+        return minimumTokenVersions.size();
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Drop a user's cached principals and record their token version, for a change made here or on another node
+     */
+    private void applyTokenVersion(UUID userId, int currentTokenVersion) {
+        principals.keySet().removeIf(key -> key.userId.equals(userId));
+        recordTokenVersion(userId, currentTokenVersion);
+    }
+
+    /**
+     * Make room for a token version: drop expired versions, or all of them when none has expired
+     *
+     * A dropped version no longer stops older tokens from being trusted, so token roles are
+     * not trusted at all until every token issued before now has expired.
+     */
+    private void pruneTokenVersions(long now) {
+        minimumTokenVersions.values().removeIf(minimum -> minimum.expiresAt <= now);
+        if (minimumTokenVersions.size() >= maxSize) {
+            minimumTokenVersions.clear();
+            trustSuspendedUntil = now + tokenLifetimeMillis;
+            logger.warn("More than {} token version changes within one token lifetime; not trusting token roles until {}",
+                maxSize, trustSuspendedUntil);
+        }
+    }
+
+    /**
+     * Make room for a new entry: drop expired entries first, then an arbitrary tenth of the cache
+     */
+    private void evict() {
+        long now = clock.getAsLong();
+        principals.values().removeIf(cached -> cached.expiresAt <= now);
+
+        int toRemove = principals.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<PrincipalKey> iterator = principals.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class PrincipalKey {
+
+        private final UUID userId;
+        private final int tokenVersion;
+
+        private PrincipalKey(UUID userId, int tokenVersion) {
+            this.userId = userId;
+            this.tokenVersion = tokenVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PrincipalKey that)) return false;
+            return tokenVersion == that.tokenVersion && userId.equals(that.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, tokenVersion);
+        }
+    }
+
+    private static final class MinimumTokenVersion {
+
+        private final int version;
+        private final long expiresAt;
+
+        private MinimumTokenVersion(int version, long expiresAt) {
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+
+        private static MinimumTokenVersion max(MinimumTokenVersion a, MinimumTokenVersion b) {
+            return new MinimumTokenVersion(Math.max(a.version, b.version), Math.max(a.expiresAt, b.expiresAt));
+        }
+    }
+
+    private static final class CachedPrincipal {
+
+        private final UserDetails principal;
+        private final long expiresAt;
+
+        private CachedPrincipal(UserDetails principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
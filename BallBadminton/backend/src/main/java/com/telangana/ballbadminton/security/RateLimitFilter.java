@@ -0,0 +1,226 @@
+package com.telangana.ballbadminton.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telangana.ballbadminton.entity.User;
+import com.telangana.ballbadminton.security.RateLimiter.Decision;
+import com.telangana.ballbadminton.security.RateLimiter.Quota;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiting filter enforcing the app.rate-limit quotas
+ *
+ * Runs after JwtAuthenticationFilter so authenticated requests are limited per user
+ * and anonymous requests per client IP. Each endpoint group has its own quota:
+ * - AUTH: login and token refresh, always limited per client IP
+ * - ADMIN: administration endpoints
+ * - WRITE: state-changing API calls
+ * - READ: everything else
+ *
+ * Rejected requests receive 429 Too Many Requests with Retry-After, and every
+ * response carries the X-RateLimit-* headers documented in the OpenAPI description.
+ *
+ * Requirements: 8.5
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String RESET_HEADER = "X-RateLimit-Reset";
+    static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    /**
+     * Endpoint groups with separate quotas
+     */
+    public enum EndpointGroup {
+        AUTH,
+        ADMIN,
+        WRITE,
+        READ
+    }
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Map<EndpointGroup, Quota> quotas = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> userRejections = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> ipRejections = new EnumMap<>(EndpointGroup.class);
+
+    public RateLimitFilter(
+            RateLimiter rateLimiter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.rate-limit.requests-per-minute:60}") int requestsPerMinute,
+            @Value("${app.rate-limit.burst-capacity:100}") int burstCapacity,
+            @Value("${app.rate-limit.groups.auth.requests-per-minute:10}") int authRequestsPerMinute,
+            @Value("${app.rate-limit.groups.auth.burst-capacity:5}") int authBurstCapacity,
+            @Value("${app.rate-limit.groups.admin.requests-per-minute:${app.rate-limit.requests-per-minute:60}}") int adminRequestsPerMinute,
+            @Value("${app.rate-limit.groups.admin.burst-capacity:${app.rate-limit.burst-capacity:100}}") int adminBurstCapacity,
+            @Value("${app.rate-limit.groups.write.requests-per-minute:${app.rate-limit.requests-per-minute:60}}") int writeRequestsPerMinute,
+            @Value("${app.rate-limit.groups.write.burst-capacity:${app.rate-limit.burst-capacity:100}}") int writeBurstCapacity) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+
+        quotas.put(EndpointGroup.AUTH, new Quota(authRequestsPerMinute, authBurstCapacity));
+        quotas.put(EndpointGroup.ADMIN, new Quota(adminRequestsPerMinute, adminBurstCapacity));
+        quotas.put(EndpointGroup.WRITE, new Quota(writeRequestsPerMinute, writeBurstCapacity));
+        quotas.put(EndpointGroup.READ, new Quota(requestsPerMinute, burstCapacity));
+
+        for (EndpointGroup group : EndpointGroup.values()) {
+            userRejections.put(group, rejectionCounter(meterRegistry, group, "user"));
+            ipRejections.put(group, rejectionCounter(meterRegistry, group, "ip"));
+        }
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, EndpointGroup group, String keyType) {
+        return Counter.builder("rate.limit.rejected")
+                .description("Requests rejected by the rate limiter")
+                .tag("group", group.name().toLowerCase())
+                .tag("key_type", keyType)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        EndpointGroup group = resolveGroup(request);
+        String userKey = group == EndpointGroup.AUTH ? null : resolveUserKey();
+        String key = userKey != null ? userKey : "ip:" + getClientIpAddress(request);
+        Quota quota = quotas.get(group);
+
+        Decision decision = rateLimiter.tryAcquire(group.name() + ":" + key, quota);
+
+        long resetEpochSeconds = TimeUnit.MILLISECONDS.toSeconds(
+            System.currentTimeMillis() + decision.getResetAfterMillis() + 999);
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.getLimit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.getRemaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(resetEpochSeconds));
+
+        if (!decision.isAllowed()) {
+            (userKey != null ? userRejections : ipRejections).get(group).increment();
+            logger.debug("Rate limit exceeded for {} on {} {} ({} group)",
+                key, request.getMethod(), request.getRequestURI(), group);
+            writeTooManyRequests(response, decision);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Map a request to its endpoint group
+     */
+    EndpointGroup resolveGroup(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && path.startsWith(contextPath)) {
+            path = path.substring(contextPath.length());
+        }
+
+        if (path.startsWith("/auth/login") || path.startsWith("/auth/refresh") ||
+            path.startsWith("/api/v1/auth/")) {
+            return EndpointGroup.AUTH;
+        }
+        if (path.startsWith("/api/v1/admin/") || path.startsWith("/admin/")) {
+            return EndpointGroup.ADMIN;
+        }
+
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return EndpointGroup.READ;
+        }
+        return EndpointGroup.WRITE;
+    }
+
+    /**
+     * Rate limit key for the authenticated user, or null for anonymous requests
+     */
+    private String resolveUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user && user.getId() != null) {
+            return "user:" + user.getId();
+        }
+        return null;
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, Decision decision) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(decision.getRetryAfterMillis() + 999));
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", true);
+        error.put("message", "Too many requests. Please try again later.");
+        error.put("retryAfterSeconds", retryAfterSeconds);
+        error.put("timestamp", LocalDateTime.now().toString());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(RETRY_AFTER_HEADER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * Get client IP address from request
+     */
+    private String getClientIpAddress(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return xForwardedFor.split(",")[0].trim();
+        }
+
+        String xRealIp = request.getHeader("X-Real-IP");
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Skip rate limiting when disabled, for CORS preflight and for health and documentation endpoints
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        if (!enabled || "OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+
+        String path = request.getRequestURI();
+        return path.contains("/actuator/health") ||
+               path.contains("/actuator/info") ||
+               path.contains("/swagger-ui/") ||
+               path.contains("/api-docs/");
+    }
+}
@@ -0,0 +1,278 @@
+package com.telangana.ballbadminton.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket rate limiter used by RateLimitFilter and SecurityMonitoringService
+ *
+ * Buckets are tracked with the generic cell rate algorithm: each key stores a single
+ * "theoretical arrival time" that is advanced with a compare-and-set, which behaves
+ * exactly like a token bucket refilled at requests-per-minute with room for
+ * burst-capacity requests, without locks or per-request allocation.
+ *
+ * In REDIS mode the same algorithm runs as a Lua script against Redis so the limits
+ * hold across all application nodes. If Redis is unreachable the limiter falls back
+ * to the local buckets rather than failing requests.
+ *
+ * Requirements: 8.5
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final String REDIS_KEY_PREFIX = "rate-limit:";
+
+    /**
+     * GCRA in Lua; times are in microseconds and taken from the Redis clock so all nodes agree
+     * Returns {allowed, remainingMicros, resetMicros}
+     */
+    private static final String GCRA_SCRIPT =
+        "local interval = tonumber(ARGV[1]) " +
+        "local capacity = tonumber(ARGV[2]) " +
+        "local t = redis.call('TIME') " +
+        "local now = tonumber(t[1]) * 1000000 + tonumber(t[2]) " +
+        "local tat = tonumber(redis.call('GET', KEYS[1])) " +
+        "if not tat or tat < now then tat = now end " +
+        "local newTat = tat + interval " +
+        "if newTat - now > capacity then " +
+        "  return {0, newTat - now - capacity, tat - now} " +
+        "end " +
+        "redis.call('SET', KEYS[1], newTat, 'PX', math.ceil((newTat - now) / 1000)) " +
+        "return {1, capacity - (newTat - now), newTat - now}";
+
+    /**
+     * Where bucket state is kept
+     */
+    public enum Mode {
+        LOCAL,  // per-node buckets in memory
+        REDIS   // shared buckets in Redis, local buckets as fallback
+    }
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final Mode mode;
+    private final int maxTrackedKeys;
+    private final StringRedisTemplate redisTemplate;
+    private final DefaultRedisScript<List> gcraScript;
+    private final Counter redisFailureCounter;
+
+    private LongSupplier clock = System::nanoTime;
+
+    public RateLimiter(
+            @Value("${app.rate-limit.mode:LOCAL}") Mode mode,
+            @Value("${app.rate-limit.max-tracked-keys:100000}") int maxTrackedKeys,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            MeterRegistry meterRegistry) {
+        this.mode = mode;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.redisTemplate = mode == Mode.REDIS ? redisTemplateProvider.getIfAvailable() : null;
+        this.gcraScript = new DefaultRedisScript<>(GCRA_SCRIPT, List.class);
+
+        if (mode == Mode.REDIS && redisTemplate == null) {
+            logger.warn("Rate limit mode is REDIS but no Redis connection is configured, using local buckets");
+        }
+
+        this.redisFailureCounter = Counter.builder("rate.limit.redis.failures")
+                .description("Rate limit checks that fell back to local buckets because Redis failed")
+                .register(meterRegistry);
+        Gauge.builder("rate.limit.tracked.keys", buckets, Map::size)
+                .description("Number of rate limit buckets held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take one token from the bucket for the given key
+     */
+    public Decision tryAcquire(String key, Quota quota) {
+        if (redisTemplate != null) {
+            try {
+                return tryAcquireRedis(key, quota);
+            } catch (Exception e) {
+                redisFailureCounter.increment();
+                logger.debug("Redis rate limit check failed, using local bucket: {}", e.getMessage());
+            }
+        }
+        return tryAcquireLocal(key, quota);
+    }
+
+    private Decision tryAcquireLocal(String key, Quota quota) {
+        long now = clock.getAsLong();
+        AtomicLong arrival = buckets.get(key);
+        if (arrival == null) {
+            if (buckets.size() >= maxTrackedKeys) {
+                evictIdleBuckets();
+            }
+            arrival = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        long interval = quota.getEmissionIntervalNanos();
+        long capacity = quota.getCapacityNanos();
+        while (true) {
+            long current = arrival.get();
+            long tat = current - now < 0 ? now : current;
+            long newTat = tat + interval;
+            long backlog = newTat - now;
+
+            if (backlog > capacity) {
+                return Decision.rejected(quota, backlog - capacity, tat - now);
+            }
+            if (arrival.compareAndSet(current, newTat)) {
+                return Decision.allowed(quota, (capacity - backlog) / interval, backlog);
+            }
+        }
+    }
+
+    private Decision tryAcquireRedis(String key, Quota quota) {
+        long interval = TimeUnit.NANOSECONDS.toMicros(quota.getEmissionIntervalNanos());
+        long capacity = TimeUnit.NANOSECONDS.toMicros(quota.getCapacityNanos());
+
+        List<?> result = redisTemplate.execute(gcraScript,
+            Collections.singletonList(REDIS_KEY_PREFIX + key),
+            Long.toString(interval), Long.toString(capacity));
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+
+        boolean allowed = ((Number) result.get(0)).longValue() == 1L;
+        long value = TimeUnit.MICROSECONDS.toNanos(((Number) result.get(1)).longValue());
+        long reset = TimeUnit.MICROSECONDS.toNanos(((Number) result.get(2)).longValue());
+        return allowed
+            ? Decision.allowed(quota, value / quota.getEmissionIntervalNanos(), reset)
+            : Decision.rejected(quota, value, reset);
+    }
+
+    /**
+     * Drop buckets that have fully refilled - they are indistinguishable from a fresh bucket
+     * A request racing with the removal may be counted against the dropped bucket; that
+     * costs at most one uncounted request and keeps the hot path lock-free.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = clock.getAsLong();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+    }
+
+    public Mode getMode() {
+        return redisTemplate != null ? Mode.REDIS : Mode.LOCAL;
+    }
+
+    int getTrackedKeyCount() {
+        return buckets.size();
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Sustained rate and burst size for one class of requests
+     */
+    public static class Quota {
+
+        private final int requestsPerMinute;
+        private final int burstCapacity;
+        private final long emissionIntervalNanos;
+        private final long capacityNanos;
+
+        public Quota(int requestsPerMinute, int burstCapacity) {
+            if (requestsPerMinute <= 0 || burstCapacity <= 0) {
+                throw new IllegalArgumentException("Rate limit quota values must be positive");
+            }
+            this.requestsPerMinute = requestsPerMinute;
+            this.burstCapacity = burstCapacity;
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+            this.capacityNanos = emissionIntervalNanos * burstCapacity;
+        }
+
+        public int getRequestsPerMinute() {
+            return requestsPerMinute;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        long getEmissionIntervalNanos() {
+            return emissionIntervalNanos;
+        }
+
+        long getCapacityNanos() {
+            return capacityNanos;
+        }
+    }
+
+    /**
+     * Outcome of a rate limit check
+     */
+    public static class Decision {
+
+        private final boolean allowed;
+        private final int limit;
+        private final long remaining;
+        private final long retryAfterNanos;
+        private final long resetAfterNanos;
+
+        private Decision(boolean allowed, int limit, long remaining, long retryAfterNanos, long resetAfterNanos) {
+            this.allowed = allowed;
+            this.limit = limit;
+            this.remaining = remaining;
+            this.retryAfterNanos = retryAfterNanos;
+            this.resetAfterNanos = resetAfterNanos;
+        }
+
+        static Decision allowed(Quota quota, long remaining, long resetAfterNanos) {
+            return new Decision(true, quota.getBurstCapacity(), Math.max(0, remaining), 0, resetAfterNanos);
+        }
+
+        static Decision rejected(Quota quota, long retryAfterNanos, long resetAfterNanos) {
+            return new Decision(false, quota.getBurstCapacity(), 0, retryAfterNanos, resetAfterNanos);
+        }
+
+        public boolean isAllowed() {
+            return allowed;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public long getRemaining() {
+            return remaining;
+        }
+
+        /**
+         * Time until the next request would be allowed, zero when allowed
+         */
+        public long getRetryAfterMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(retryAfterNanos);
+        }
+
+        /**
+         * Time until the bucket is completely refilled
+         */
+        public long getResetAfterMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(resetAfterNanos);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.telangana.ballbadminton.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Token revocation store shared by all nodes through Redis
+ *
+ * Revoked token IDs live in one sorted set scored by the token's expiry time,
+ * which gives exact lookups (ZSCORE), a cheap full listing for Bloom filter
+ * syncs (ZRANGEBYSCORE) and range deletion of expired entries.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.revocation.store", havingValue = "redis")
+public class RedisTokenRevocationStore implements TokenRevocationStore {
+
+    static final String REVOKED_TOKENS_KEY = "security:revoked-tokens";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisTokenRevocationStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        redisTemplate.opsForZSet().add(REVOKED_TOKENS_KEY, tokenId, expiresAt.toEpochMilli());
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Double expiresAt = redisTemplate.opsForZSet().score(REVOKED_TOKENS_KEY, tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public Collection<String> findActiveRevocations() {
+        Set<String> active = redisTemplate.opsForZSet()
+                .rangeByScore(REVOKED_TOKENS_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return active != null ? active : Collections.emptySet();
+    }
+
+    @Override
+    public void purgeExpired() {
+        redisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKENS_KEY, 0, System.currentTimeMillis());
+    }
+}
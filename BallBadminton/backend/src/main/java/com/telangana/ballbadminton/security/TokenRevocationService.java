@@ -0,0 +1,210 @@
+package com.telangana.ballbadminton.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for revoking JWTs before they expire
+ *
+ * Revoked token IDs are written to the shared TokenRevocationStore. Each node keeps
+ * a Bloom filter of all active revocations, rebuilt from the store on a fixed
+ * interval, so checking a token that was never revoked costs a few hash lookups in
+ * memory. Only Bloom filter hits (revoked tokens and rare false positives) go to
+ * the store for an exact answer.
+ *
+ * Revocations made on this node take effect immediately; revocations made on other
+ * nodes take effect here after the next sync, at most one sync interval later.
+ * A revocation the store cannot take is kept on this node, where it takes effect at
+ * once, and written to the store on the following syncs until the store accepts it.
+ *
+ * Requirements: 6.1, 8.3
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final TokenRevocationStore revocationStore;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private final long syncIntervalMs;
+
+    private volatile BloomFilter bloomFilter;
+
+    /**
+     * Local revocations kept briefly so a concurrent sync cannot drop them from the new filter
+     */
+    private final Map<String, Long> recentLocalRevocations = new ConcurrentHashMap<>();
+
+    /**
+     * Local revocations the store could not take yet, with their token expiry
+     */
+    private final Map<String, Instant> pendingRevocations = new ConcurrentHashMap<>();
+
+    private final Counter bloomNegativeCounter;
+    private final Counter revokedCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter storeFailureCounter;
+
+    public TokenRevocationService(
+            TokenRevocationStore revocationStore,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.revocation.expected-revocations:100000}") int expectedRevocations,
+            @Value("${app.security.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${app.security.revocation.sync-interval-ms:30000}") long syncIntervalMs) {
+        this.revocationStore = revocationStore;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncIntervalMs = syncIntervalMs;
+        this.bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+
+        this.bloomNegativeCounter = checkCounter(meterRegistry, "bloom_negative");
+        this.revokedCounter = checkCounter(meterRegistry, "revoked");
+        this.falsePositiveCounter = checkCounter(meterRegistry, "false_positive");
+        this.storeFailureCounter = checkCounter(meterRegistry, "store_failure");
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("security.token.revocation.checks")
+                .description("Token revocation checks by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Revoke a token until it would have expired
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        recentLocalRevocations.put(tokenId, System.currentTimeMillis());
+        bloomFilter.put(tokenId);
+        try {
+            revocationStore.revoke(tokenId, expiresAt);
+        } catch (Exception e) {
+            // Logout and refresh rotation still succeed; the store catches up on a later sync
+            pendingRevocations.put(tokenId, expiresAt);
+            logger.warn("Token revocation store unavailable, keeping revocation of {} on this node: {}",
+                tokenId, e.getMessage());
+            return;
+        }
+        logger.debug("Revoked token {} until {}", tokenId, expiresAt);
+    }
+
+    /**
+     * Number of local revocations still waiting to be written to the store
+     */
+    public int getPendingRevocationCount() {
+        return pendingRevocations.size();
+    }
+
+    /**
+     * Check whether a token has been revoked
+     * If the store cannot be reached for a Bloom filter hit the token is treated as revoked.
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+
+        if (!bloomFilter.mightContain(tokenId)) {
+            bloomNegativeCounter.increment();
+            return false;
+        }
+        if (pendingRevocations.containsKey(tokenId)) {
+            revokedCounter.increment();
+            return true;
+        }
+
+        try {
+            boolean revoked = revocationStore.isRevoked(tokenId);
+            (revoked ? revokedCounter : falsePositiveCounter).increment();
+            return revoked;
+        } catch (Exception e) {
+            storeFailureCounter.increment();
+            logger.warn("Token revocation store unavailable, rejecting possibly revoked token: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        syncBloomFilter();
+    }
+
+    /**
+     * Rebuild the Bloom filter from the store - runs on the configured sync interval
+     * Rebuilding (rather than only adding) also clears entries of expired tokens.
+     */
+    @Scheduled(fixedDelayString = "${app.security.revocation.sync-interval-ms:30000}",
+               initialDelayString = "${app.security.revocation.sync-interval-ms:30000}")
+    public void syncBloomFilter() {
+        retryPendingRevocations();
+        try {
+            Collection<String> active = revocationStore.findActiveRevocations();
+            BloomFilter fresh = new BloomFilter(Math.max(expectedRevocations, active.size()), falsePositiveRate);
+            active.forEach(fresh::put);
+            bloomFilter = fresh;
+
+            // Re-add local revocations that may have landed in the old filter during the rebuild
+            long cutoff = System.currentTimeMillis() - 2 * syncIntervalMs;
+            recentLocalRevocations.values().removeIf(revokedAt -> revokedAt < cutoff);
+            recentLocalRevocations.keySet().forEach(fresh::put);
+            pendingRevocations.keySet().forEach(fresh::put);
+
+            logger.debug("Synced token revocation filter with {} active revocations", active.size());
+        } catch (Exception e) {
+            logger.warn("Failed to sync token revocation filter, keeping previous filter: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Write revocations the store could not take earlier, dropping those of expired tokens
+     */
+    private void retryPendingRevocations() {
+        Instant now = Instant.now();
+        for (Map.Entry<String, Instant> pending : pendingRevocations.entrySet()) {
+            if (!pending.getValue().isAfter(now)) {
+                pendingRevocations.remove(pending.getKey());
+                continue;
+            }
+            try {
+                revocationStore.revoke(pending.getKey(), pending.getValue());
+                pendingRevocations.remove(pending.getKey());
+            } catch (Exception e) {
+                logger.warn("Token revocation store still unavailable, {} revocations pending: {}",
+                    pendingRevocations.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Purge revocations of expired tokens from the store - runs hourly
+     */
+    @Scheduled(fixedDelay = 3600000, initialDelay = 3600000)
+    public void purgeExpiredRevocations() {
+        try {
+            revocationStore.purgeExpired();
+        } catch (Exception e) {
+            logger.warn("Failed to purge expired token revocations: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.telangana.ballbadminton.security;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Shared store of revoked JWT IDs
+ *
+ * Entries only need to live until the revoked token would have expired anyway;
+ * implementations drop them after that.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * Record a token ID as revoked until the token's expiry
+     */
+    void revoke(String tokenId, Instant expiresAt);
+
+    /**
+     * Exact check whether a token ID is currently revoked
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * All token IDs that are revoked and not yet expired, used to rebuild the local Bloom filter
+     */
+    Collection<String> findActiveRevocations();
+
+    /**
+     * Remove entries whose tokens have expired
+     */
+    void purgeExpired();
+}
@@ -0,0 +1,249 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.entity.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dedicated writer that drains the AuditLogQueue into audit_logs with JDBC batch inserts
+ *
+ * A single background thread waits for the first buffered event, drains up to one
+ * batch worth of events and writes them in one round trip. This replaces the
+ * previous one-transaction-per-request save and keeps audit traffic off the
+ * request threads and the shared connection pool hot path.
+ *
+ * Requirements: 6.2, 8.5
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+public class AuditLogBatchWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogBatchWriter.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO audit_logs (id, user_id, username, action, entity_type, entity_id, description, " +
+        "old_values, new_values, ip_address, user_agent, request_method, request_url, status_code, " +
+        "execution_time_ms, severity, status, error_message, stack_trace, metadata, timestamp, " +
+        "session_id, correlation_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final AuditLogQueue auditLogQueue;
+    private final AuditStatisticsService auditStatisticsService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogBatchWriter(
+            AuditLogQueue auditLogQueue,
+            AuditStatisticsService auditStatisticsService,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.audit.writer.batch-size:200}") int batchSize,
+            @Value("${app.audit.writer.flush-interval-ms:500}") long flushIntervalMs) {
+        this.auditLogQueue = auditLogQueue;
+        this.auditStatisticsService = auditStatisticsService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+
+        this.flushTimer = Timer.builder("audit.writer.flush")
+                .description("Time taken to write one batch of audit events")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.writer.written")
+                .description("Audit events written to the database")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.writer.failed")
+                .description("Audit events that could not be written to the database")
+                .register(meterRegistry);
+        Gauge.builder("audit.writer.last.flush.ms", lastFlushMillis, AtomicLong::get)
+                .description("Duration of the most recent audit batch flush in milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runLoop, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        logger.info("Audit log writer started (batch size: {}, flush interval: {}ms, policy: {})",
+            batchSize, flushIntervalMs, auditLogQueue.getPolicy());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Flush whatever is still buffered so a graceful shutdown loses nothing
+        List<AuditLog> remaining = new ArrayList<>();
+        while (auditLogQueue.drainTo(remaining, batchSize) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+        logger.info("Audit log writer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server so in-flight requests can still enqueue audit events
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1024;
+    }
+
+    private void runLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditLog first = auditLogQueue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    // Idle: use the quiet period to pull spilled events back in
+                    if (auditLogQueue.getPolicy() == AuditLogQueue.BackpressurePolicy.SPILL) {
+                        auditLogQueue.replaySpilled();
+                    }
+                    continue;
+                }
+
+                batch.add(first);
+                auditLogQueue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("Unexpected error in audit log writer: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Write one batch of audit events in a single JDBC batch
+     */
+    void flush(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bindAuditLog);
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            handleFailedBatch(batch, e);
+            return;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            flushTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            lastFlushMillis.set(TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+
+        // Feed the statistics rollups; a failure here must not lose the rows already written
+        try {
+            auditStatisticsService.recordBatch(batch);
+        } catch (Exception e) {
+            logger.error("Failed to update audit statistics rollups for {} audit logs: {}",
+                batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Keep the events of a rejected batch: spill them for replay or fall back to file logging
+     */
+    private void handleFailedBatch(List<AuditLog> batch, Exception e) {
+        failedCounter.increment(batch.size());
+        logger.error("Failed to write {} audit logs to database: {}", batch.size(), e.getMessage());
+
+        if (auditLogQueue.getPolicy() == AuditLogQueue.BackpressurePolicy.SPILL) {
+            auditLogQueue.spillAll(batch);
+        } else {
+            for (AuditLog auditLog : batch) {
+                logger.info("Audit Event (fallback): {} - {} - {} - {}",
+                    auditLog.getAction(),
+                    auditLog.getSeverity(),
+                    auditLog.getDescription(),
+                    auditLog.getUsername());
+            }
+        }
+    }
+
+    private void bindAuditLog(PreparedStatement ps, AuditLog auditLog) throws SQLException {
+        if (auditLog.getId() == null) {
+            auditLog.setId(UUID.randomUUID());
+        }
+
+        ps.setObject(1, auditLog.getId());
+        setNullable(ps, 2, auditLog.getUserId(), Types.OTHER);
+        ps.setString(3, auditLog.getUsername());
+        ps.setString(4, auditLog.getAction().name());
+        ps.setString(5, auditLog.getEntityType());
+        ps.setString(6, auditLog.getEntityId());
+        ps.setString(7, auditLog.getDescription());
+        ps.setString(8, auditLog.getOldValues());
+        ps.setString(9, auditLog.getNewValues());
+        ps.setString(10, auditLog.getIpAddress());
+        ps.setString(11, auditLog.getUserAgent());
+        ps.setString(12, auditLog.getRequestMethod());
+        ps.setString(13, auditLog.getRequestUrl());
+        setNullable(ps, 14, auditLog.getStatusCode(), Types.INTEGER);
+        setNullable(ps, 15, auditLog.getExecutionTimeMs(), Types.BIGINT);
+        ps.setString(16, auditLog.getSeverity().name());
+        ps.setString(17, auditLog.getStatus().name());
+        ps.setString(18, auditLog.getErrorMessage());
+        ps.setString(19, auditLog.getStackTrace());
+        ps.setString(20, auditLog.getMetadata());
+        ps.setTimestamp(21, Timestamp.valueOf(auditLog.getTimestamp()));
+        ps.setString(22, auditLog.getSessionId());
+        ps.setString(23, auditLog.getCorrelationId());
+    }
+
+    private void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.telangana.ballbadminton.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Service for maintaining the monthly partitions of the audit_logs table
+ *
+ * This service provides:
+ * - Pre-creation of future monthly partitions so inserts never land in the default partition
+ * - Partition-drop retention: whole months older than the retention window are
+ *   detached and dropped instead of deleted row by row
+ * - Row retention for the default partition, which holds rows outside every
+ *   monthly range and cannot be dropped
+ * - Detection of non-partitioned schemas (H2, Hibernate-generated dev schemas),
+ *   in which case callers fall back to a bulk delete
+ *
+ * Partitions are created by V14__Partition_Audit_Logs.sql and named audit_logs_YYYY_MM.
+ *
+ * Requirements: 6.2, 8.5
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Service
+public class AuditLogPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogPartitionService.class);
+
+    private static final String PARENT_TABLE = "audit_logs";
+    private static final String DEFAULT_PARTITION = "audit_logs_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("^audit_logs_(\\d{4})_(\\d{2})$");
+
+    @Value("${app.security.audit-log-retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.audit.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean partitioned;
+
+    public AuditLogPartitionService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Make sure upcoming partitions exist as soon as the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (isPartitioned()) {
+            createFuturePartitions();
+        }
+    }
+
+    /**
+     * Scheduled partition maintenance - runs daily at 1:30 AM
+     * Pre-creates future partitions and drops partitions outside the retention window
+     */
+    @Scheduled(cron = "0 30 1 * * *")
+    public void maintainPartitions() {
+        if (!isPartitioned()) {
+            return;
+        }
+
+        try {
+            createFuturePartitions();
+            dropExpiredPartitions(retentionDays);
+            purgeDefaultPartition(retentionDays);
+        } catch (Exception e) {
+            logger.error("Audit log partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Check whether audit_logs is a natively partitioned PostgreSQL table
+     */
+    public boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            try {
+                Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM pg_partitioned_table pt " +
+                    "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?",
+                    Integer.class, PARENT_TABLE);
+                result = count != null && count > 0;
+            } catch (Exception e) {
+                logger.debug("Partition catalog not available, treating audit_logs as unpartitioned: {}",
+                    e.getMessage());
+                result = false;
+            }
+            partitioned = result;
+        }
+        return result;
+    }
+
+    /**
+     * Create partitions for the current month and the configured number of months ahead
+     *
+     * @return number of partitions created
+     */
+    public int createFuturePartitions() {
+        List<String> existing = listPartitions();
+        YearMonth current = YearMonth.now();
+        int created = 0;
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = partitionName(month);
+            if (existing.contains(name)) {
+                continue;
+            }
+
+            jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                name, PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+            created++;
+            logger.info("Created audit log partition {}", name);
+        }
+
+        return created;
+    }
+
+    /**
+     * Detach and drop every monthly partition whose entire range is older than the retention window
+     * The partition containing the cutoff date is kept until all of its rows have expired.
+     *
+     * @return number of partitions dropped
+     */
+    public int dropExpiredPartitions(int retentionDays) {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        int dropped = 0;
+
+        for (String name : listPartitions()) {
+            YearMonth month = parsePartitionMonth(name);
+            if (month == null || month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                continue;
+            }
+
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", PARENT_TABLE, name));
+            jdbcTemplate.execute(String.format("DROP TABLE IF EXISTS %s", name));
+            dropped++;
+            logger.info("Dropped expired audit log partition {} (retention: {} days)", name, retentionDays);
+        }
+
+        return dropped;
+    }
+
+    /**
+     * Delete the rows of the default partition that are older than the retention window
+     * Rows land there only when no monthly partition covers their timestamp, so the
+     * partition is expected to stay small and a row delete is cheap.
+     *
+     * @return number of rows deleted
+     */
+    public int purgeDefaultPartition(int retentionDays) {
+        if (!attachedPartitions().contains(DEFAULT_PARTITION)) {
+            return 0;
+        }
+
+        int deleted = jdbcTemplate.update(
+            "DELETE FROM " + DEFAULT_PARTITION + " WHERE timestamp < ?",
+            LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            logger.info("Deleted {} expired rows from audit log partition {} (retention: {} days)",
+                deleted, DEFAULT_PARTITION, retentionDays);
+        }
+        return deleted;
+    }
+
+    /**
+     * List the monthly partitions currently attached to audit_logs
+     */
+    public List<String> listPartitions() {
+        List<String> monthly = new ArrayList<>();
+        for (String name : attachedPartitions()) {
+            if (PARTITION_NAME.matcher(name).matches()) {
+                monthly.add(name);
+            }
+        }
+        return monthly;
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = ? ORDER BY c.relname",
+            String.class, PARENT_TABLE);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_" + month.format(PARTITION_SUFFIX);
+    }
+
+    static YearMonth parsePartitionMonth(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
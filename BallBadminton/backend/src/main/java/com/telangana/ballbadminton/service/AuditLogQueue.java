@@ -0,0 +1,261 @@
+package com.telangana.ballbadminton.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telangana.ballbadminton.entity.AuditLog;
+import com.telangana.ballbadminton.entity.AuditLog.AuditAction;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-memory buffer between audit producers and the batch writer
+ *
+ * Producers (the audit aspect and AuditService helpers) enqueue audit logs on the
+ * request thread; AuditLogBatchWriter drains them in batches. When the buffer is
+ * full the configured backpressure policy decides what happens:
+ * - BLOCK: wait up to the block timeout for space, then fall back to file logging
+ * - DROP_READS: shed READ events once the high-water mark is reached, block for the rest
+ * - SPILL: append overflow events to a local JSON-lines file for later replay
+ *
+ * Requirements: 6.2, 8.5
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+public class AuditLogQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogQueue.class);
+    private static final String SPILL_FILE_NAME = "audit-spill.jsonl";
+
+    /**
+     * What to do with a new audit event when the queue has no room for it
+     */
+    public enum BackpressurePolicy {
+        BLOCK,
+        DROP_READS,
+        SPILL
+    }
+
+    private final BlockingQueue<AuditLog> queue;
+    private final int capacity;
+    private final BackpressurePolicy policy;
+    private final long blockTimeoutMs;
+    private final int highWaterMark;
+    private final Path spillFile;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+    private final Object spillLock = new Object();
+
+    public AuditLogQueue(
+            @Value("${app.audit.queue.capacity:10000}") int capacity,
+            @Value("${app.audit.queue.backpressure-policy:DROP_READS}") BackpressurePolicy policy,
+            @Value("${app.audit.queue.block-timeout-ms:50}") long blockTimeoutMs,
+            @Value("${app.audit.queue.read-high-water-percent:80}") int readHighWaterPercent,
+            @Value("${app.audit.queue.spill-directory:./logs/audit-spill}") String spillDirectory,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.policy = policy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.highWaterMark = Math.max(1, capacity * readHighWaterPercent / 100);
+        this.spillFile = Paths.get(spillDirectory, SPILL_FILE_NAME);
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.capacity", () -> capacity)
+                .description("Maximum number of buffered audit events")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.dropped", droppedCount, AtomicLong::get)
+                .description("Audit events dropped because of backpressure")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.spilled", spilledCount, AtomicLong::get)
+                .description("Audit events spilled to the local overflow file")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enqueue an audit event, applying the backpressure policy if the queue is full
+     *
+     * @return true if the event was buffered or spilled, false if it was dropped
+     */
+    public boolean enqueue(AuditLog auditLog) {
+        if (policy == BackpressurePolicy.DROP_READS && isSheddable(auditLog) && queue.size() >= highWaterMark) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+
+        if (queue.offer(auditLog)) {
+            return true;
+        }
+
+        return switch (policy) {
+            case SPILL -> spill(auditLog);
+            case BLOCK, DROP_READS -> offerWithTimeout(auditLog);
+        };
+    }
+
+    /**
+     * Wait for the next event, returning null if none arrives within the timeout
+     */
+    public AuditLog poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    /**
+     * Move up to maxElements buffered events into the given collection
+     */
+    public int drainTo(Collection<AuditLog> batch, int maxElements) {
+        return queue.drainTo(batch, maxElements);
+    }
+
+    /**
+     * Append events to the overflow file regardless of queue state
+     * Used by the writer when the database rejects a batch under the SPILL policy
+     */
+    public void spillAll(Collection<AuditLog> auditLogs) {
+        for (AuditLog auditLog : auditLogs) {
+            spill(auditLog);
+        }
+    }
+
+    /**
+     * Re-enqueue spilled events while there is spare capacity
+     * Events that still do not fit are written back to the overflow file.
+     *
+     * @return number of events moved back into the queue
+     */
+    public int replaySpilled() {
+        synchronized (spillLock) {
+            if (!Files.exists(spillFile)) {
+                return 0;
+            }
+
+            Path replayFile = spillFile.resolveSibling(SPILL_FILE_NAME + ".replay");
+            try {
+                Files.move(spillFile, replayFile, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                logger.error("Failed to rotate audit spill file: {}", e.getMessage());
+                return 0;
+            }
+
+            int replayed = 0;
+            try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    AuditLog auditLog = objectMapper.readValue(line, AuditLog.class);
+                    if (queue.size() < highWaterMark && queue.offer(auditLog)) {
+                        replayed++;
+                    } else {
+                        writeSpillLine(line);
+                    }
+                }
+                Files.deleteIfExists(replayFile);
+            } catch (IOException e) {
+                logger.error("Failed to replay audit spill file {}: {}", replayFile, e.getMessage());
+            }
+
+            if (replayed > 0) {
+                spilledCount.addAndGet(-replayed);
+                logger.info("Replayed {} spilled audit events", replayed);
+            }
+            return replayed;
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public BackpressurePolicy getPolicy() {
+        return policy;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getSpilledCount() {
+        return spilledCount.get();
+    }
+
+    /**
+     * Successful READ events are the high-volume, low-value part of the audit trail
+     */
+    private boolean isSheddable(AuditLog auditLog) {
+        return auditLog.getAction() == AuditAction.READ
+                && auditLog.getStatus() == AuditLog.AuditStatus.SUCCESS;
+    }
+
+    private boolean offerWithTimeout(AuditLog auditLog) {
+        try {
+            if (queue.offer(auditLog, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        droppedCount.incrementAndGet();
+        logger.info("Audit Event (fallback): {} - {} - {} - {}",
+            auditLog.getAction(),
+            auditLog.getSeverity(),
+            auditLog.getDescription(),
+            auditLog.getUsername());
+        return false;
+    }
+
+    private boolean spill(AuditLog auditLog) {
+        try {
+            String line = objectMapper.writeValueAsString(auditLog);
+            synchronized (spillLock) {
+                writeSpillLine(line);
+            }
+            spilledCount.incrementAndGet();
+            return true;
+        } catch (IOException e) {
+            droppedCount.incrementAndGet();
+            logger.error("Failed to spill audit event to {}: {}", spillFile, e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeSpillLine(String line) throws IOException {
+        Files.createDirectories(spillFile.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(line);
+            writer.newLine();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.telangana.ballbadminton.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telangana.ballbadminton.dto.CursorPage;
+import com.telangana.ballbadminton.dto.KeysetCursor;
 import com.telangana.ballbadminton.entity.AuditLog;
 import com.telangana.ballbadminton.entity.AuditLog.AuditAction;
 import com.telangana.ballbadminton.entity.AuditLog.AuditSeverity;
@@ -12,11 +14,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -24,10 +24,12 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * Service for comprehensive audit logging
@@ -49,27 +51,51 @@ public class AuditService {
     private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
     private static final Logger securityLogger = LoggerFactory.getLogger("com.telangana.ballbadminton.security");
 
+    private static final List<AuditAction> SECURITY_ACTIONS = List.of(
+        AuditAction.LOGIN,
+        AuditAction.LOGOUT,
+        AuditAction.LOGIN_FAILED,
+        AuditAction.ACCESS_DENIED,
+        AuditAction.PERMISSION_DENIED,
+        AuditAction.UNAUTHORIZED_ACCESS,
+        AuditAction.SUSPICIOUS_ACTIVITY
+    );
+
+    private static final List<AuditSeverity> FAILURE_SEVERITIES = List.of(AuditSeverity.ERROR, AuditSeverity.CRITICAL);
+
+    /**
+     * Sort key of the audit log cursors
+     */
+    private static final String TIMESTAMP_CURSOR = "timestamp";
+
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogQueue auditLogQueue;
+    private final AuditLogPartitionService auditLogPartitionService;
+    private final AuditStatisticsService auditStatisticsService;
     private final ObjectMapper objectMapper;
 
-    public AuditService(AuditLogRepository auditLogRepository, ObjectMapper objectMapper) {
+    public AuditService(AuditLogRepository auditLogRepository, AuditLogQueue auditLogQueue,
+                        AuditLogPartitionService auditLogPartitionService,
+                        AuditStatisticsService auditStatisticsService, ObjectMapper objectMapper) {
         this.auditLogRepository = auditLogRepository;
+        this.auditLogQueue = auditLogQueue;
+        this.auditLogPartitionService = auditLogPartitionService;
+        this.auditStatisticsService = auditStatisticsService;
         this.objectMapper = objectMapper;
     }
 
     /**
-     * Log an audit event asynchronously
-     * Uses a separate transaction to ensure audit logs are saved even if main transaction fails
+     * Log an audit event
+     * Request context is captured on the calling thread, then the event is handed to
+     * the bounded audit queue and written in batches by AuditLogBatchWriter
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logAudit(AuditLog auditLog) {
         try {
-            // Enrich audit log with request context if available
+            // Enrich audit log with request context while it is still available
             enrichAuditLogWithContext(auditLog);
             
-            // Save to database
-            auditLogRepository.save(auditLog);
+            // Buffer for the batch writer
+            auditLogQueue.enqueue(auditLog);
             
             // Log to security logger for critical events
             if (auditLog.getSeverity() == AuditSeverity.CRITICAL || 
@@ -81,8 +107,8 @@ public class AuditService {
                     auditLog.getUsername());
             }
         } catch (Exception e) {
-            // Fallback to file logging if database save fails
-            logger.error("Failed to save audit log to database: {}", e.getMessage());
+            // Fallback to file logging if the event cannot be buffered
+            logger.error("Failed to queue audit log: {}", e.getMessage());
             logger.info("Audit Event (fallback): {} - {} - {} - {}", 
                 auditLog.getAction(), 
                 auditLog.getSeverity(), 
@@ -326,47 +352,75 @@ public class AuditService {
      * Get security events
      */
     public Page<AuditLog> getSecurityEvents(Pageable pageable) {
-        List<AuditAction> securityActions = List.of(
-            AuditAction.LOGIN,
-            AuditAction.LOGOUT,
-            AuditAction.LOGIN_FAILED,
-            AuditAction.ACCESS_DENIED,
-            AuditAction.PERMISSION_DENIED,
-            AuditAction.UNAUTHORIZED_ACCESS,
-            AuditAction.SUSPICIOUS_ACTIVITY
-        );
-        return auditLogRepository.findSecurityEvents(securityActions, pageable);
+        return auditLogRepository.findSecurityEvents(SECURITY_ACTIONS, pageable);
     }
 
     /**
      * Get failed operations
      */
     public Page<AuditLog> getFailedOperations(Pageable pageable) {
-        List<AuditSeverity> severities = List.of(AuditSeverity.ERROR, AuditSeverity.CRITICAL);
-        return auditLogRepository.findByStatusAndSeverityIn(AuditStatus.FAILURE, severities, pageable);
+        return auditLogRepository.findByStatusAndSeverityIn(AuditStatus.FAILURE, FAILURE_SEVERITIES, pageable);
+    }
+
+    // Keyset paginated listings, latest first: each page continues after the cursor of the previous one
+
+    public CursorPage<AuditLog> scrollAuditLogsByTimeRange(LocalDateTime startTime, LocalDateTime endTime,
+                                                           String cursor, int size, boolean includeTotal) {
+        return scroll(cursor, size, includeTotal,
+            () -> auditLogRepository.seekByTimestampBetween(startTime, endTime, KeysetCursor.limit(size)),
+            (afterTimestamp, afterId) -> auditLogRepository.seekByTimestampBetween(
+                startTime, endTime, afterTimestamp, afterId, KeysetCursor.limit(size)),
+            () -> auditLogRepository.countByTimestampBetween(startTime, endTime));
+    }
+
+    public CursorPage<AuditLog> scrollAuditLogsByUser(UUID userId, String cursor, int size, boolean includeTotal) {
+        return scroll(cursor, size, includeTotal,
+            () -> auditLogRepository.seekByUserId(userId, KeysetCursor.limit(size)),
+            (afterTimestamp, afterId) -> auditLogRepository.seekByUserId(
+                userId, afterTimestamp, afterId, KeysetCursor.limit(size)),
+            () -> auditLogRepository.countByUserId(userId));
+    }
+
+    public CursorPage<AuditLog> scrollAuditLogsByEntity(String entityType, String entityId,
+                                                        String cursor, int size, boolean includeTotal) {
+        return scroll(cursor, size, includeTotal,
+            () -> auditLogRepository.seekByEntityTypeAndEntityId(entityType, entityId, KeysetCursor.limit(size)),
+            (afterTimestamp, afterId) -> auditLogRepository.seekByEntityTypeAndEntityId(
+                entityType, entityId, afterTimestamp, afterId, KeysetCursor.limit(size)),
+            () -> auditLogRepository.countByEntityTypeAndEntityId(entityType, entityId));
+    }
+
+    public CursorPage<AuditLog> scrollSecurityEvents(String cursor, int size, boolean includeTotal) {
+        return scroll(cursor, size, includeTotal,
+            () -> auditLogRepository.seekSecurityEvents(SECURITY_ACTIONS, KeysetCursor.limit(size)),
+            (afterTimestamp, afterId) -> auditLogRepository.seekSecurityEvents(
+                SECURITY_ACTIONS, afterTimestamp, afterId, KeysetCursor.limit(size)),
+            () -> auditLogRepository.countByActionIn(SECURITY_ACTIONS));
+    }
+
+    public CursorPage<AuditLog> scrollFailedOperations(String cursor, int size, boolean includeTotal) {
+        return scroll(cursor, size, includeTotal,
+            () -> auditLogRepository.seekByStatusAndSeverityIn(AuditStatus.FAILURE, FAILURE_SEVERITIES, KeysetCursor.limit(size)),
+            (afterTimestamp, afterId) -> auditLogRepository.seekByStatusAndSeverityIn(
+                AuditStatus.FAILURE, FAILURE_SEVERITIES, afterTimestamp, afterId, KeysetCursor.limit(size)),
+            () -> auditLogRepository.countByStatusAndSeverityIn(AuditStatus.FAILURE, FAILURE_SEVERITIES));
+    }
+
+    private CursorPage<AuditLog> scroll(String cursor, int size, boolean includeTotal, Supplier<List<AuditLog>> first,
+                                        BiFunction<LocalDateTime, UUID, List<AuditLog>> seek, LongSupplier count) {
+        KeysetCursor after = KeysetCursor.decode(cursor, TIMESTAMP_CURSOR);
+        List<AuditLog> rows = after.isStart() ? first.get() : seek.apply(after.getDateTimeValue(), after.getId());
+        return CursorPage.of(rows, size, log -> log,
+            log -> KeysetCursor.encode(TIMESTAMP_CURSOR, log.getTimestamp(), log.getId()),
+            includeTotal ? count.getAsLong() : null);
     }
 
     /**
      * Get audit statistics
+     * Served from the minute/hour rollups with raw rows only for the partial edge minutes
      */
     public Map<String, Object> getAuditStatistics(LocalDateTime startTime, LocalDateTime endTime) {
-        Map<String, Object> statistics = new HashMap<>();
-        
-        List<Object[]> actionStats = auditLogRepository.getActionStatistics(startTime, endTime);
-        Map<String, Long> actionCounts = new HashMap<>();
-        for (Object[] stat : actionStats) {
-            actionCounts.put(stat[0].toString(), (Long) stat[1]);
-        }
-        statistics.put("actionStatistics", actionCounts);
-        
-        List<Object[]> severityStats = auditLogRepository.getSeverityStatistics(startTime, endTime);
-        Map<String, Long> severityCounts = new HashMap<>();
-        for (Object[] stat : severityStats) {
-            severityCounts.put(stat[0].toString(), (Long) stat[1]);
-        }
-        statistics.put("severityStatistics", severityCounts);
-        
-        return statistics;
+        return auditStatisticsService.getStatistics(startTime, endTime);
     }
 
     /**
@@ -389,11 +443,22 @@ public class AuditService {
 
     /**
      * Cleanup old audit logs (should be run as scheduled task)
+     * On a partitioned audit_logs table whole monthly partitions are dropped and
+     * expired rows of the default partition deleted; otherwise expired rows are
+     * removed with a single bulk delete
      */
     @Transactional
     public void cleanupOldAuditLogs(int retentionDays) {
+        if (auditLogPartitionService.isPartitioned()) {
+            int dropped = auditLogPartitionService.dropExpiredPartitions(retentionDays);
+            int purged = auditLogPartitionService.purgeDefaultPartition(retentionDays);
+            logger.info("Dropped {} audit log partitions and {} default partition rows older than {} days",
+                dropped, purged, retentionDays);
+            return;
+        }
+
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
-        auditLogRepository.deleteByTimestampBefore(cutoffDate);
-        logger.info("Cleaned up audit logs older than {} days", retentionDays);
+        int deleted = auditLogRepository.deleteAllOlderThan(cutoffDate);
+        logger.info("Cleaned up {} audit logs older than {} days", deleted, retentionDays);
     }
 }
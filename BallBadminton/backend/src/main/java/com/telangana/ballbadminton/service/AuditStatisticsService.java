@@ -0,0 +1,243 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.entity.AuditLog;
+import com.telangana.ballbadminton.entity.AuditStatisticsBucket.BucketId;
+import com.telangana.ballbadminton.entity.AuditStatisticsBucket.Dimension;
+import com.telangana.ballbadminton.entity.AuditStatisticsBucket.Granularity;
+import com.telangana.ballbadminton.repository.AuditLogRepository;
+import com.telangana.ballbadminton.repository.AuditStatisticsBucketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for rollup-backed audit statistics
+ *
+ * This service provides:
+ * - Incremental per-minute and per-hour counters by action, severity, status and
+ *   entity type, fed by AuditLogBatchWriter after each successful batch
+ * - Statistics queries that read hour buckets for the bulk of a range, minute
+ *   buckets for the partial hours at either end and raw audit_logs rows only for
+ *   the partial minutes at the very edges
+ * - Scheduled purging of minute buckets past their retention window
+ *
+ * Requirements: 6.2, 8.5
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Service
+public class AuditStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditStatisticsService.class);
+
+    static final String UNKNOWN_VALUE = "UNKNOWN";
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO audit_statistics_buckets (granularity, bucket_start, dimension, dimension_value, event_count) " +
+        "VALUES (?, ?, ?, ?, ?) " +
+        "ON CONFLICT (granularity, bucket_start, dimension, dimension_value) " +
+        "DO UPDATE SET event_count = audit_statistics_buckets.event_count + EXCLUDED.event_count";
+
+    @Value("${app.audit.rollup.enabled:true}")
+    private boolean rollupsEnabled;
+
+    @Value("${app.audit.rollup.minute-retention-days:30}")
+    private int minuteRetentionDays;
+
+    @Value("${app.audit.rollup.hour-retention-days:400}")
+    private int hourRetentionDays;
+
+    private final AuditStatisticsBucketRepository bucketRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditStatisticsService(AuditStatisticsBucketRepository bucketRepository,
+                                  AuditLogRepository auditLogRepository,
+                                  JdbcTemplate jdbcTemplate) {
+        this.bucketRepository = bucketRepository;
+        this.auditLogRepository = auditLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add a batch of freshly written audit logs to the minute and hour counters
+     * Counts are pre-aggregated in memory so each bucket is upserted once per batch.
+     */
+    public void recordBatch(List<AuditLog> batch) {
+        if (!rollupsEnabled || batch.isEmpty()) {
+            return;
+        }
+
+        Map<BucketId, Long> increments = new HashMap<>();
+        for (AuditLog auditLog : batch) {
+            LocalDateTime minute = auditLog.getTimestamp().truncatedTo(ChronoUnit.MINUTES);
+            LocalDateTime hour = auditLog.getTimestamp().truncatedTo(ChronoUnit.HOURS);
+
+            for (Dimension dimension : Dimension.values()) {
+                String value = dimensionValue(auditLog, dimension);
+                increments.merge(new BucketId(Granularity.MINUTE, minute, dimension, value), 1L, Long::sum);
+                increments.merge(new BucketId(Granularity.HOUR, hour, dimension, value), 1L, Long::sum);
+            }
+        }
+
+        List<Map.Entry<BucketId, Long>> rows = new ArrayList<>(increments.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            BucketId id = row.getKey();
+            ps.setString(1, id.getGranularity().name());
+            ps.setTimestamp(2, Timestamp.valueOf(id.getBucketStart()));
+            ps.setString(3, id.getDimension().name());
+            ps.setString(4, id.getDimensionValue());
+            ps.setLong(5, row.getValue());
+        });
+    }
+
+    /**
+     * Get audit statistics for the inclusive range [startTime, endTime]
+     *
+     * @return map with actionStatistics, severityStatistics, statusStatistics and entityTypeStatistics
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStatistics(LocalDateTime startTime, LocalDateTime endTime) {
+        Map<Dimension, Map<String, Long>> counts = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            counts.put(dimension, new HashMap<>());
+        }
+
+        if (!rollupsEnabled || !endTime.isAfter(startTime)) {
+            addRawCounts(counts, auditLogRepository.getDimensionCountsInclusive(startTime, endTime));
+            return toResponse(counts);
+        }
+
+        LocalDateTime headMinute = ceil(startTime, ChronoUnit.MINUTES);
+        LocalDateTime tailMinute = endTime.truncatedTo(ChronoUnit.MINUTES);
+
+        if (!headMinute.isBefore(tailMinute)) {
+            // Range does not contain a single whole minute
+            addRawCounts(counts, auditLogRepository.getDimensionCountsInclusive(startTime, endTime));
+            return toResponse(counts);
+        }
+
+        // Partial minute at the start: [startTime, headMinute)
+        if (startTime.isBefore(headMinute)) {
+            addRawCounts(counts, auditLogRepository.getDimensionCounts(startTime, headMinute));
+        }
+
+        LocalDateTime headHour = ceil(headMinute, ChronoUnit.HOURS);
+        LocalDateTime tailHour = tailMinute.truncatedTo(ChronoUnit.HOURS);
+
+        if (headHour.isBefore(tailHour)) {
+            addMinuteSegment(counts, headMinute, headHour);
+            addBucketCounts(counts, Granularity.HOUR, headHour, tailHour);
+            addMinuteSegment(counts, tailHour, tailMinute);
+        } else {
+            addMinuteSegment(counts, headMinute, tailMinute);
+        }
+
+        // Partial minute at the end: [tailMinute, endTime]
+        addRawCounts(counts, auditLogRepository.getDimensionCountsInclusive(tailMinute, endTime));
+
+        return toResponse(counts);
+    }
+
+    /**
+     * Purge minute and hour buckets past their retention windows - runs daily at 1:45 AM
+     */
+    @Scheduled(cron = "0 45 1 * * *")
+    @Transactional
+    public void purgeExpiredBuckets() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int minutes = bucketRepository.deleteByGranularityOlderThan(
+                Granularity.MINUTE, now.minusDays(minuteRetentionDays));
+            int hours = bucketRepository.deleteByGranularityOlderThan(
+                Granularity.HOUR, now.minusDays(hourRetentionDays));
+            logger.info("Purged {} minute and {} hour audit statistics buckets", minutes, hours);
+        } catch (Exception e) {
+            logger.error("Failed to purge audit statistics buckets: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read minute buckets for [from, to), using raw rows for any part older than minute retention
+     */
+    private void addMinuteSegment(Map<Dimension, Map<String, Long>> counts, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+
+        LocalDateTime retainedFrom = LocalDateTime.now().minusDays(minuteRetentionDays)
+            .truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        if (from.isBefore(retainedFrom)) {
+            LocalDateTime rawEnd = to.isBefore(retainedFrom) ? to : retainedFrom;
+            addRawCounts(counts, auditLogRepository.getDimensionCounts(from, rawEnd));
+            from = rawEnd;
+        }
+
+        if (from.isBefore(to)) {
+            addBucketCounts(counts, Granularity.MINUTE, from, to);
+        }
+    }
+
+    private void addBucketCounts(Map<Dimension, Map<String, Long>> counts, Granularity granularity,
+                                 LocalDateTime from, LocalDateTime to) {
+        for (Object[] row : bucketRepository.sumByDimension(granularity, from, to)) {
+            Dimension dimension = (Dimension) row[0];
+            counts.get(dimension).merge((String) row[1], ((Number) row[2]).longValue(), Long::sum);
+        }
+    }
+
+    private void addRawCounts(Map<Dimension, Map<String, Long>> counts, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            long count = ((Number) row[4]).longValue();
+            counts.get(Dimension.ACTION).merge(valueOf(row[0]), count, Long::sum);
+            counts.get(Dimension.SEVERITY).merge(valueOf(row[1]), count, Long::sum);
+            counts.get(Dimension.STATUS).merge(valueOf(row[2]), count, Long::sum);
+            counts.get(Dimension.ENTITY_TYPE).merge(valueOf(row[3]), count, Long::sum);
+        }
+    }
+
+    private Map<String, Object> toResponse(Map<Dimension, Map<String, Long>> counts) {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("actionStatistics", counts.get(Dimension.ACTION));
+        statistics.put("severityStatistics", counts.get(Dimension.SEVERITY));
+        statistics.put("statusStatistics", counts.get(Dimension.STATUS));
+        statistics.put("entityTypeStatistics", counts.get(Dimension.ENTITY_TYPE));
+        return statistics;
+    }
+
+    static String dimensionValue(AuditLog auditLog, Dimension dimension) {
+        return switch (dimension) {
+            case ACTION -> valueOf(auditLog.getAction());
+            case SEVERITY -> valueOf(auditLog.getSeverity());
+            case STATUS -> valueOf(auditLog.getStatus());
+            case ENTITY_TYPE -> valueOf(auditLog.getEntityType());
+        };
+    }
+
+    private static String valueOf(Object value) {
+        if (value == null) {
+            return UNKNOWN_VALUE;
+        }
+        String text = value.toString();
+        return text.length() > 100 ? text.substring(0, 100) : text;
+    }
+
+    private static LocalDateTime ceil(LocalDateTime time, ChronoUnit unit) {
+        LocalDateTime floor = time.truncatedTo(unit);
+        return floor.equals(time) ? time : floor.plus(1, unit);
+    }
+}
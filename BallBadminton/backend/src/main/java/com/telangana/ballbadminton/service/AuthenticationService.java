@@ -5,6 +5,7 @@ import com.telangana.ballbadminton.dto.auth.LoginResponse;
 import com.telangana.ballbadminton.dto.auth.RefreshTokenRequest;
 import com.telangana.ballbadminton.entity.User;
 import com.telangana.ballbadminton.repository.UserRepository;
+import com.telangana.ballbadminton.security.TokenRevocationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Date;
 
 /**
  * Authentication service for handling user login, logout, and token refresh
@@ -34,15 +36,18 @@ public class AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
 
     public AuthenticationService(
             AuthenticationManager authenticationManager,
             JwtService jwtService,
-            UserRepository userRepository
+            UserRepository userRepository,
+            TokenRevocationService tokenRevocationService
     ) {
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
         this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
@@ -107,6 +112,11 @@ public class AuthenticationService {
                 throw new BadCredentialsException("Invalid refresh token format");
             }
 
+            // Reject refresh tokens revoked by logout or an earlier refresh
+            if (tokenRevocationService.isRevoked(jwtService.extractTokenId(refreshToken))) {
+                throw new BadCredentialsException("Refresh token has been revoked");
+            }
+
             // Extract username from refresh token
             String username = jwtService.extractUsername(refreshToken);
             if (username == null) {
@@ -131,6 +141,9 @@ public class AuthenticationService {
             String newAccessToken = jwtService.generateToken(user);
             String newRefreshToken = jwtService.generateRefreshToken(user);
 
+            // Rotate: the refresh token just used cannot be used again
+            revokeToken(refreshToken);
+
             // Create user info for response
             LoginResponse.UserInfo userInfo = createUserInfo(user);
 
@@ -150,21 +163,28 @@ public class AuthenticationService {
     }
 
     /**
-     * Logout user (currently just validates the token)
-     * In a production system, you might want to blacklist the token
+     * Logout user by revoking the refresh token
      */
     public void logout(String refreshToken) {
+        logout(refreshToken, null);
+    }
+
+    /**
+     * Logout user by revoking the refresh token and, when given, the access token
+     * Revoked tokens are rejected until they would have expired.
+     */
+    public void logout(String refreshToken, String accessToken) {
         logger.debug("Logout attempt");
 
         try {
             if (refreshToken != null && jwtService.isValidTokenFormat(refreshToken)) {
                 String username = jwtService.extractUsername(refreshToken);
                 if (username != null) {
+                    revokeToken(refreshToken);
+                    if (accessToken != null && jwtService.isValidTokenFormat(accessToken)) {
+                        revokeToken(accessToken);
+                    }
                     logger.info("User logged out: {}", username);
-                    // In a production system, you might want to:
-                    // 1. Add the token to a blacklist
-                    // 2. Store logout event in audit log
-                    // 3. Invalidate all sessions for the user if requested
                 }
             }
         } catch (Exception e) {
@@ -173,6 +193,17 @@ public class AuthenticationService {
         }
     }
 
+    /**
+     * Revoke a token until its expiry
+     */
+    private void revokeToken(String token) {
+        String tokenId = jwtService.extractTokenId(token);
+        Date expiration = jwtService.extractExpiration(token);
+        if (tokenId != null && expiration != null) {
+            tokenRevocationService.revoke(tokenId, expiration.toInstant());
+        }
+    }
+
     /**
      * Update user's last login timestamp
      */
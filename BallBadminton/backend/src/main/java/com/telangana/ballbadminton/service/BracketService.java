@@ -0,0 +1,278 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.dto.tournament.BracketResponse;
+import com.telangana.ballbadminton.entity.Player;
+import com.telangana.ballbadminton.entity.PlayerStatistics;
+import com.telangana.ballbadminton.entity.Tournament;
+import com.telangana.ballbadminton.entity.TournamentMatch;
+import com.telangana.ballbadminton.entity.TournamentRegistration;
+import com.telangana.ballbadminton.repository.TournamentMatchRepository;
+import com.telangana.ballbadminton.repository.TournamentRegistrationRepository;
+import com.telangana.ballbadminton.repository.TournamentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for single-elimination tournament brackets
+ *
+ * A bracket is drawn once from the active registrations, seeded by ranking, and
+ * stored as one TournamentMatch per match of every round. Byes go to the top seeds
+ * and are decided as walkovers when the bracket is drawn. Posting a result moves
+ * the winner into the next match only, so brackets are never redrawn once play
+ * has started.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class BracketService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BracketService.class);
+
+    /**
+     * Seeding order: ranked players by ranking, then unranked players by registration date
+     */
+    private static final Comparator<TournamentRegistration> SEEDING_ORDER = Comparator
+            .comparing(BracketService::ranking, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TournamentRegistration::getRegistrationDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(registration -> registration.getPlayer().getId());
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentRegistrationRepository tournamentRegistrationRepository;
+    private final TournamentMatchRepository tournamentMatchRepository;
+
+    public BracketService(TournamentRepository tournamentRepository,
+                          TournamentRegistrationRepository tournamentRegistrationRepository,
+                          TournamentMatchRepository tournamentMatchRepository) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentRegistrationRepository = tournamentRegistrationRepository;
+        this.tournamentMatchRepository = tournamentMatchRepository;
+    }
+
+    /**
+     * Draw and store the bracket of a tournament, replacing a bracket without results
+     */
+    public BracketResponse generateBracket(UUID tournamentId) {
+        logger.debug("Generating bracket for tournament: {}", tournamentId);
+
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new IllegalArgumentException("Tournament not found with ID: " + tournamentId));
+
+        List<TournamentRegistration> seeded = new ArrayList<>(tournamentRegistrationRepository
+                .findByTournamentIdAndStatusIn(tournamentId, TournamentRegistration.ACTIVE_STATUSES));
+        if (seeded.size() < 2) {
+            throw new IllegalStateException("At least two active registrations are required to generate a bracket");
+        }
+        if (tournamentMatchRepository.existsByTournamentIdAndStatus(tournamentId, TournamentMatch.Status.COMPLETED)) {
+            throw new IllegalStateException("Bracket cannot be regenerated after results have been recorded");
+        }
+        seeded.sort(SEEDING_ORDER);
+
+        int bracketSize = bracketSize(seeded.size());
+        int totalRounds = Integer.numberOfTrailingZeros(bracketSize);
+        int[] positions = seedPositions(bracketSize);
+        LocalDateTime now = LocalDateTime.now();
+
+        // Every match of every round, so results only ever fill in existing rows
+        List<TournamentMatch> matches = new ArrayList<>(bracketSize - 1);
+        TournamentMatch[][] rounds = new TournamentMatch[totalRounds][];
+        for (int round = 1; round <= totalRounds; round++) {
+            rounds[round - 1] = new TournamentMatch[bracketSize >> round];
+            for (int match = 1; match <= rounds[round - 1].length; match++) {
+                TournamentMatch tournamentMatch = new TournamentMatch(tournament, round, match);
+                rounds[round - 1][match - 1] = tournamentMatch;
+                matches.add(tournamentMatch);
+            }
+        }
+
+        for (TournamentMatch match : rounds[0]) {
+            int seed1 = positions[2 * match.getMatchNumber() - 2];
+            int seed2 = positions[2 * match.getMatchNumber() - 1];
+            Player player1 = seed1 <= seeded.size() ? seeded.get(seed1 - 1).getPlayer() : null;
+            Player player2 = seed2 <= seeded.size() ? seeded.get(seed2 - 1).getPlayer() : null;
+            match.setPlayerFrom(1, player1, player1 != null ? seed1 : null);
+            match.setPlayerFrom(2, player2, player2 != null ? seed2 : null);
+
+            if (player1 == null || player2 == null) {
+                // Bye - the seeded player advances automatically
+                Player winner = player1 != null ? player1 : player2;
+                match.setWinner(winner);
+                match.setStatus(TournamentMatch.Status.WALKOVER);
+                match.setCompletedAt(now);
+                if (totalRounds > 1) {
+                    rounds[1][match.getNextMatchNumber() - 1].setPlayerFrom(match.getMatchNumber(), winner, match.getSeedOf(winner));
+                }
+            }
+        }
+
+        tournamentMatchRepository.deleteByTournamentId(tournamentId);
+        tournamentMatchRepository.saveAll(matches);
+
+        logger.info("Bracket generated for tournament {}: {} players, {} rounds", tournamentId, seeded.size(), totalRounds);
+
+        return toResponse(tournament, matches, totalRounds);
+    }
+
+    @Transactional(readOnly = true)
+    public BracketResponse getBracket(UUID tournamentId) {
+        logger.debug("Fetching bracket for tournament: {}", tournamentId);
+
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new IllegalArgumentException("Tournament not found with ID: " + tournamentId));
+        List<TournamentMatch> matches = tournamentMatchRepository.findByTournamentIdOrderByRoundNumberAscMatchNumberAsc(tournamentId);
+        if (matches.isEmpty()) {
+            throw new IllegalArgumentException("No bracket has been generated for tournament: " + tournamentId);
+        }
+
+        return toResponse(tournament, matches, matches.get(matches.size() - 1).getRoundNumber());
+    }
+
+    /**
+     * Record the result of a bracket match and move the winner into the next match
+     *
+     * Only the match and the one it feeds are updated, both locked in round order so
+     * that results of sibling matches posted together each keep their winner. A result
+     * may be corrected until the next match has started.
+     */
+    public BracketResponse.Match recordMatchResult(UUID tournamentId, int roundNumber, int matchNumber,
+                                                   UUID winnerId, String score) {
+        logger.debug("Recording result of match {} in round {} of tournament {}", matchNumber, roundNumber, tournamentId);
+
+        TournamentMatch match = tournamentMatchRepository
+                .findByPositionForUpdate(tournamentId, roundNumber, matchNumber)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Match " + matchNumber + " of round " + roundNumber + " not found for tournament: " + tournamentId));
+
+        if (match.getStatus() == TournamentMatch.Status.WALKOVER) {
+            throw new IllegalStateException("Match is a walkover");
+        }
+        if (match.getPlayer1() == null || match.getPlayer2() == null) {
+            throw new IllegalStateException("Match is still waiting for its players");
+        }
+        Player winner = winnerId.equals(match.getPlayer1().getId()) ? match.getPlayer1()
+                : winnerId.equals(match.getPlayer2().getId()) ? match.getPlayer2() : null;
+        if (winner == null) {
+            throw new IllegalArgumentException("Winner must be one of the players of the match");
+        }
+
+        Integer totalRounds = tournamentMatchRepository.findTotalRounds(tournamentId);
+        if (roundNumber < totalRounds) {
+            TournamentMatch next = tournamentMatchRepository
+                    .findByPositionForUpdate(tournamentId, roundNumber + 1, match.getNextMatchNumber())
+                    .orElseThrow(() -> new IllegalStateException("Bracket is missing the match after this one"));
+            if (next.getStatus() != TournamentMatch.Status.PENDING && !next.hasPlayer(winner)) {
+                throw new IllegalStateException("Result cannot be changed after the next match has started");
+            }
+            next.setPlayerFrom(match.getMatchNumber(), winner, match.getSeedOf(winner));
+        }
+
+        match.setWinner(winner);
+        match.setScore(score);
+        match.setStatus(TournamentMatch.Status.COMPLETED);
+        match.setCompletedAt(LocalDateTime.now());
+
+        logger.info("Recorded result of match {} in round {} of tournament {}", matchNumber, roundNumber, tournamentId);
+
+        return toMatchResponse(match);
+    }
+
+    /**
+     * Smallest power of two holding all entrants
+     */
+    static int bracketSize(int entrants) {
+        return entrants <= 1 ? 1 : Integer.highestOneBit(entrants - 1) << 1;
+    }
+
+    /**
+     * Seed at each first-round position of a bracket, e.g. 1, 8, 4, 5, 2, 7, 3, 6 for eight
+     *
+     * Built by doubling: every seed s of the smaller bracket is paired with its mirror
+     * size + 1 - s, so the top two seeds can only meet in the final, the top four in
+     * the semi-finals, and seeds above the number of entrants (byes) face the top seeds.
+     */
+    static int[] seedPositions(int bracketSize) {
+        int[] positions = {1};
+        for (int size = 2; size <= bracketSize; size <<= 1) {
+            int[] doubled = new int[size];
+            for (int i = 0; i < positions.length; i++) {
+                doubled[2 * i] = positions[i];
+                doubled[2 * i + 1] = size + 1 - positions[i];
+            }
+            positions = doubled;
+        }
+        return positions;
+    }
+
+    static String roundName(int roundNumber, int totalRounds) {
+        if (roundNumber == totalRounds) {
+            return "Final";
+        } else if (roundNumber == totalRounds - 1) {
+            return "Semi-Final";
+        } else if (roundNumber == totalRounds - 2) {
+            return "Quarter-Final";
+        } else {
+            return "Round " + roundNumber;
+        }
+    }
+
+    private static Integer ranking(TournamentRegistration registration) {
+        PlayerStatistics statistics = registration.getPlayer().getStatistics();
+        return statistics != null ? statistics.getCurrentRanking() : null;
+    }
+
+    /**
+     * Build the bracket response from its matches, ordered by round and position
+     */
+    private BracketResponse toResponse(Tournament tournament, List<TournamentMatch> matches, int totalRounds) {
+        BracketResponse bracket = new BracketResponse();
+        bracket.setTournamentId(tournament.getId());
+        bracket.setTournamentName(tournament.getName());
+        bracket.setTotalRounds(totalRounds);
+
+        List<BracketResponse.Round> rounds = new ArrayList<>(totalRounds);
+        for (int round = 1; round <= totalRounds; round++) {
+            BracketResponse.Round bracketRound = new BracketResponse.Round();
+            bracketRound.setRoundNumber(round);
+            bracketRound.setRoundName(roundName(round, totalRounds));
+            bracketRound.setMatches(new ArrayList<>());
+            rounds.add(bracketRound);
+        }
+        for (TournamentMatch match : matches) {
+            rounds.get(match.getRoundNumber() - 1).getMatches().add(toMatchResponse(match));
+        }
+
+        bracket.setRounds(rounds);
+        return bracket;
+    }
+
+    private BracketResponse.Match toMatchResponse(TournamentMatch match) {
+        BracketResponse.Match response = new BracketResponse.Match();
+        response.setMatchNumber(match.getMatchNumber());
+        response.setStatus(BracketResponse.MatchStatus.valueOf(match.getStatus().name()));
+        response.setScore(match.getScore());
+        if (match.getPlayer1() != null) {
+            response.setPlayer1Id(match.getPlayer1().getId());
+            response.setPlayer1Name(match.getPlayer1().getName());
+            response.setPlayer1Seed(match.getPlayer1Seed());
+        }
+        if (match.getPlayer2() != null) {
+            response.setPlayer2Id(match.getPlayer2().getId());
+            response.setPlayer2Name(match.getPlayer2().getName());
+            response.setPlayer2Seed(match.getPlayer2Seed());
+        }
+        if (match.getWinner() != null) {
+            response.setWinnerId(match.getWinner().getId());
+            response.setWinnerName(match.getWinner().getName());
+        }
+        return response;
+    }
+}
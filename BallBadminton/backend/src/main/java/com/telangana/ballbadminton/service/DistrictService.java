@@ -1,5 +1,7 @@
 package com.telangana.ballbadminton.service;
 
+import com.telangana.ballbadminton.cache.CacheTagService;
+import com.telangana.ballbadminton.cache.CacheTags;
 import com.telangana.ballbadminton.dto.district.DistrictRequest;
 import com.telangana.ballbadminton.dto.district.DistrictResponse;
 import com.telangana.ballbadminton.dto.player.PlayerResponse;
@@ -31,16 +33,18 @@ import java.util.stream.Collectors;
 public class DistrictService {
 
     private final DistrictRepository districtRepository;
+    private final CacheTagService cacheTagService;
 
     @Autowired
-    public DistrictService(DistrictRepository districtRepository) {
+    public DistrictService(DistrictRepository districtRepository, CacheTagService cacheTagService) {
         this.districtRepository = districtRepository;
+        this.cacheTagService = cacheTagService;
     }
 
     /**
      * Get all active districts
      */
-    @Cacheable(value = "districts", key = "'all-active'")
+    @Cacheable(value = "districts", key = "'all-active'", sync = true)
     @Transactional(readOnly = true)
     public List<DistrictResponse> getAllActiveDistricts() {
         return districtRepository.findByIsActiveTrueOrderByName()
@@ -135,6 +139,8 @@ public class DistrictService {
 
         updateEntityFromRequest(district, request);
         District savedDistrict = districtRepository.save(district);
+        // Cached players and tournaments show the district's name
+        cacheTagService.evictTags(CacheTags.district(id));
         return convertToResponse(savedDistrict);
     }
 
@@ -0,0 +1,343 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.dto.tournament.FixtureResponse;
+import com.telangana.ballbadminton.dto.tournament.FixtureScheduleRequest;
+import com.telangana.ballbadminton.dto.tournament.FixtureScheduleResponse;
+import com.telangana.ballbadminton.entity.Player;
+import com.telangana.ballbadminton.entity.Tournament;
+import com.telangana.ballbadminton.entity.TournamentFixture;
+import com.telangana.ballbadminton.entity.TournamentRegistration;
+import com.telangana.ballbadminton.repository.TournamentFixtureRepository;
+import com.telangana.ballbadminton.repository.TournamentRegistrationRepository;
+import com.telangana.ballbadminton.repository.TournamentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for round-robin (league) fixtures
+ *
+ * Every pair of entrants meets once. Rounds are drawn with the circle method, and
+ * the fixtures are then placed round by round on the earliest court and time slot
+ * at the venue where both entrants have had their rest gap since their previous
+ * fixture. Schedules of hundreds of entrants are written with JDBC batch inserts.
+ *
+ * When an entrant withdraws, only their unplayed fixtures are removed: the rest of
+ * a round-robin is still a complete round-robin of the remaining entrants, so no
+ * other fixture moves.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class FixtureService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FixtureService.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO tournament_fixtures (id, tournament_id, round_number, player1_id, player2_id, " +
+        "court_number, scheduled_at, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentRegistrationRepository tournamentRegistrationRepository;
+    private final TournamentFixtureRepository tournamentFixtureRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public FixtureService(TournamentRepository tournamentRepository,
+                          TournamentRegistrationRepository tournamentRegistrationRepository,
+                          TournamentFixtureRepository tournamentFixtureRepository,
+                          JdbcTemplate jdbcTemplate) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentRegistrationRepository = tournamentRegistrationRepository;
+        this.tournamentFixtureRepository = tournamentFixtureRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * A fixture placed on a court and time slot, before it is written
+     */
+    static final class PlannedFixture {
+        final int roundNumber;
+        final int entrant1;
+        final int entrant2;
+        final int slot;
+        final int courtNumber;
+
+        PlannedFixture(int roundNumber, int entrant1, int entrant2, int slot, int courtNumber) {
+            this.roundNumber = roundNumber;
+            this.entrant1 = entrant1;
+            this.entrant2 = entrant2;
+            this.slot = slot;
+            this.courtNumber = courtNumber;
+        }
+    }
+
+    /**
+     * Time slots of the tournament days with the number of courts taken in each
+     *
+     * Slot s starts on day s / slotsPerDay at dayStart plus (s % slotsPerDay) match
+     * durations. Full slots are skipped with a next-free-slot forest, so finding the
+     * earliest free slot from any point costs nearly constant time.
+     */
+    static final class SlotGrid {
+        private final LocalDate firstDay;
+        private final LocalTime dayStart;
+        private final int slotsPerDay;
+        private final int matchMinutes;
+        private final int courts;
+        private final int[] taken;
+        private final int[] nextFree;
+
+        SlotGrid(LocalDate firstDay, int days, LocalTime dayStart, LocalTime dayEnd, int matchMinutes, int courts) {
+            this.firstDay = firstDay;
+            this.dayStart = dayStart;
+            this.slotsPerDay = (int) (Duration.between(dayStart, dayEnd).toMinutes() / matchMinutes);
+            this.matchMinutes = matchMinutes;
+            this.courts = courts;
+            if (slotsPerDay < 1) {
+                throw new IllegalArgumentException("Playing hours must fit at least one match");
+            }
+            int slots = Math.multiplyExact(days, slotsPerDay);
+            this.taken = new int[slots];
+            this.nextFree = new int[slots + 1];
+            for (int i = 0; i <= slots; i++) {
+                nextFree[i] = i;
+            }
+        }
+
+        int size() {
+            return taken.length;
+        }
+
+        LocalDateTime startOf(int slot) {
+            return firstDay.plusDays(slot / slotsPerDay)
+                    .atTime(dayStart.plusMinutes((long) (slot % slotsPerDay) * matchMinutes));
+        }
+
+        /**
+         * First slot starting at or after the given time, or size() when none is left
+         */
+        int firstSlotFrom(LocalDateTime time) {
+            long day = ChronoUnit.DAYS.between(firstDay, time.toLocalDate());
+            if (day < 0) {
+                return 0;
+            }
+            long minutes = Duration.between(dayStart, time.toLocalTime()).toMinutes();
+            long slotOfDay = minutes <= 0 ? 0 : (minutes + matchMinutes - 1) / matchMinutes;
+            long slot = slotOfDay >= slotsPerDay ? (day + 1) * slotsPerDay : day * slotsPerDay + slotOfDay;
+            return (int) Math.min(slot, taken.length);
+        }
+
+        /**
+         * Take a court in the earliest slot from the given one that has a free court
+         *
+         * @return the slot, or -1 when every later slot is full
+         */
+        int take(int fromSlot) {
+            int slot = find(fromSlot);
+            if (slot == taken.length) {
+                return -1;
+            }
+            if (++taken[slot] == courts) {
+                nextFree[slot] = slot + 1;
+            }
+            return slot;
+        }
+
+        /**
+         * Court number of the most recent fixture placed in the slot
+         */
+        int lastCourt(int slot) {
+            return taken[slot];
+        }
+
+        private int find(int slot) {
+            int root = slot;
+            while (nextFree[root] != root) {
+                root = nextFree[root];
+            }
+            while (nextFree[slot] != root) {
+                int next = nextFree[slot];
+                nextFree[slot] = root;
+                slot = next;
+            }
+            return root;
+        }
+    }
+
+    /**
+     * Schedule the round-robin fixtures of a tournament, replacing a schedule no one has played yet
+     */
+    public FixtureScheduleResponse generateFixtures(UUID tournamentId, FixtureScheduleRequest request) {
+        logger.debug("Generating fixtures for tournament: {}", tournamentId);
+
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new IllegalArgumentException("Tournament not found with ID: " + tournamentId));
+        if (!request.getDayEnd().isAfter(request.getDayStart())) {
+            throw new IllegalArgumentException("Day end must be after day start");
+        }
+        if (tournamentFixtureRepository.existsByTournamentIdAndStatusNot(tournamentId, TournamentFixture.Status.SCHEDULED)) {
+            throw new IllegalStateException("Fixtures cannot be regenerated after play has started");
+        }
+
+        List<Player> entrants = tournamentRegistrationRepository
+                .findByTournamentIdAndStatusIn(tournamentId, TournamentRegistration.ACTIVE_STATUSES).stream()
+                .sorted(Comparator.comparing(TournamentRegistration::getRegistrationDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(registration -> registration.getPlayer().getId()))
+                .map(TournamentRegistration::getPlayer)
+                .toList();
+        if (entrants.size() < 2) {
+            throw new IllegalStateException("At least two active registrations are required to schedule fixtures");
+        }
+
+        int days = (int) ChronoUnit.DAYS.between(tournament.getStartDate(), tournament.getEndDate()) + 1;
+        SlotGrid grid = new SlotGrid(tournament.getStartDate(), days, request.getDayStart(), request.getDayEnd(),
+                request.getMatchDurationMinutes(), request.getCourts());
+        List<List<int[]>> rounds = roundRobinRounds(entrants.size());
+        List<PlannedFixture> fixtures = schedule(rounds, entrants.size(), grid,
+                request.getMatchDurationMinutes() + request.getRestMinutes());
+
+        tournamentFixtureRepository.deleteByTournamentId(tournamentId);
+        insertFixtures(tournamentId, entrants, fixtures, grid);
+
+        logger.info("Scheduled {} fixtures in {} rounds for {} entrants of tournament {}",
+                fixtures.size(), rounds.size(), entrants.size(), tournamentId);
+
+        FixtureScheduleResponse response = new FixtureScheduleResponse();
+        response.setTournamentId(tournamentId);
+        response.setVenue(tournament.getVenue());
+        response.setEntrants(entrants.size());
+        response.setRounds(rounds.size());
+        response.setFixtures(fixtures.size());
+        response.setCourts(request.getCourts());
+        response.setFirstFixtureAt(grid.startOf(fixtures.stream().mapToInt(fixture -> fixture.slot).min().orElseThrow()));
+        response.setLastFixtureAt(grid.startOf(fixtures.stream().mapToInt(fixture -> fixture.slot).max().orElseThrow()));
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<FixtureResponse> getFixtures(UUID tournamentId, int page, int size) {
+        logger.debug("Fetching fixtures for tournament: {} - page: {}, size: {}", tournamentId, page, size);
+
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new IllegalArgumentException("Tournament not found with ID: " + tournamentId);
+        }
+        return tournamentFixtureRepository
+                .findByTournamentIdOrderByScheduledAtAscCourtNumberAsc(tournamentId, PageRequest.of(page, size))
+                .map(FixtureResponse::new);
+    }
+
+    /**
+     * Check whether fixtures have been scheduled for the tournament
+     */
+    @Transactional(readOnly = true)
+    public boolean hasFixtures(UUID tournamentId) {
+        return tournamentFixtureRepository.existsByTournamentId(tournamentId);
+    }
+
+    /**
+     * Remove the unplayed fixtures of an entrant who left the tournament
+     *
+     * @return number of fixtures removed
+     */
+    public int removeEntrant(UUID tournamentId, UUID playerId) {
+        int removed = tournamentFixtureRepository.deleteByTournamentIdAndPlayerIdAndStatus(
+                tournamentId, playerId, TournamentFixture.Status.SCHEDULED);
+        if (removed > 0) {
+            logger.info("Removed {} scheduled fixtures of player {} from tournament {}", removed, playerId, tournamentId);
+        }
+        return removed;
+    }
+
+    /**
+     * Pairings of every round of a round-robin, by entrant index, using the circle method
+     *
+     * Entrant 0 stays put while the others rotate one place per round; with an odd
+     * number of entrants a dummy entrant is added and whoever meets it sits the round
+     * out. Entrant 0 alternates between first and second place.
+     */
+    static List<List<int[]>> roundRobinRounds(int entrants) {
+        int size = entrants % 2 == 0 ? entrants : entrants + 1;
+        int[] circle = new int[size];
+        for (int i = 0; i < size; i++) {
+            circle[i] = i;
+        }
+
+        List<List<int[]>> rounds = new ArrayList<>(size - 1);
+        for (int round = 0; round < size - 1; round++) {
+            List<int[]> pairs = new ArrayList<>(size / 2);
+            for (int i = 0; i < size / 2; i++) {
+                int first = circle[i];
+                int second = circle[size - 1 - i];
+                if (first < entrants && second < entrants) {
+                    pairs.add(i == 0 && round % 2 == 1 ? new int[] {second, first} : new int[] {first, second});
+                }
+            }
+            rounds.add(pairs);
+
+            // Rotate everyone but the first entrant one place clockwise
+            int last = circle[size - 1];
+            System.arraycopy(circle, 1, circle, 2, size - 2);
+            circle[1] = last;
+        }
+        return rounds;
+    }
+
+    /**
+     * Place the fixtures round by round on the earliest slot both entrants are rested for
+     *
+     * @param turnaroundMinutes match duration plus rest gap, from one start to the next
+     */
+    static List<PlannedFixture> schedule(List<List<int[]>> rounds, int entrants, SlotGrid grid, int turnaroundMinutes) {
+        int[] readyFrom = new int[entrants];
+        List<PlannedFixture> fixtures = new ArrayList<>(entrants * (entrants - 1) / 2);
+        for (int round = 0; round < rounds.size(); round++) {
+            for (int[] pair : rounds.get(round)) {
+                int slot = grid.take(Math.max(readyFrom[pair[0]], readyFrom[pair[1]]));
+                if (slot < 0) {
+                    throw new IllegalStateException("Fixtures do not fit in the tournament days: only " + fixtures.size()
+                            + " of " + entrants * (entrants - 1) / 2 + " could be scheduled");
+                }
+                fixtures.add(new PlannedFixture(round + 1, pair[0], pair[1], slot, grid.lastCourt(slot)));
+                int next = grid.firstSlotFrom(grid.startOf(slot).plusMinutes(turnaroundMinutes));
+                readyFrom[pair[0]] = next;
+                readyFrom[pair[1]] = next;
+            }
+        }
+        return fixtures;
+    }
+
+    private void insertFixtures(UUID tournamentId, List<Player> entrants, List<PlannedFixture> fixtures, SlotGrid grid) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, fixtures, INSERT_BATCH_SIZE, (ps, fixture) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, tournamentId);
+            ps.setInt(3, fixture.roundNumber);
+            ps.setObject(4, entrants.get(fixture.entrant1).getId());
+            ps.setObject(5, entrants.get(fixture.entrant2).getId());
+            ps.setInt(6, fixture.courtNumber);
+            ps.setTimestamp(7, Timestamp.valueOf(grid.startOf(fixture.slot)));
+            ps.setString(8, TournamentFixture.Status.SCHEDULED.name());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+}
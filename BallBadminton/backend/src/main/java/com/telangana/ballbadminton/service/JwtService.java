@@ -1,5 +1,6 @@
 package com.telangana.ballbadminton.service;
 
+import com.telangana.ballbadminton.entity.Role;
 import com.telangana.ballbadminton.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -7,20 +8,34 @@ import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Iterator;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * JWT Service for token generation, validation, and management
  * Handles access tokens and refresh tokens for authentication
  * 
+ * Verified claims are cached per token (keyed by a SHA-256 hash of the token and
+ * kept no longer than the token's own expiry), so the several claim lookups made
+ * while authenticating one request parse and verify the token only once per node.
+ * 
  * @author Telangana Ball Badminton Association
  * @version 1.0.0
  */
@@ -38,6 +53,14 @@ public class JwtService {
     @Value("${app.jwt.refresh-expiration}")
     private long refreshExpiration;
 
+    @Value("${app.jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize = 10000;
+
+    private final Map<String, CachedClaims> verifiedClaims = new ConcurrentHashMap<>();
+
+    private volatile JwtParser jwtParser;
+    private volatile String jwtParserSecret;
+
     /**
      * Generate access token for user
      */
@@ -77,9 +100,11 @@ public class JwtService {
             claims.put("firstName", user.getFirstName());
             claims.put("lastName", user.getLastName());
             claims.put("roles", user.getRoles());
+            claims.put("tokenVersion", user.getTokenVersion());
         }
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .claims(claims)
                 .subject(userDetails.getUsername())
                 .issuedAt(now)
@@ -95,6 +120,13 @@ public class JwtService {
         return extractClaim(token, Claims::getSubject);
     }
 
+    /**
+     * Extract the token's unique ID (jti), used for revocation
+     */
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
     /**
      * Extract user ID from token
      */
@@ -103,6 +135,40 @@ public class JwtService {
         return userIdStr != null ? UUID.fromString(userIdStr) : null;
     }
 
+    /**
+     * Extract the user's token version from token, null for tokens issued without one
+     */
+    public Integer extractTokenVersion(String token) {
+        return extractClaim(token, claims -> claims.get("tokenVersion", Integer.class));
+    }
+
+    /**
+     * Build a principal from the identity and role claims embedded in the token
+     * Used when role claims are trusted so the request does not need to load the user.
+     */
+    public User extractPrincipal(String token) {
+        Claims claims = extractAllClaims(token);
+
+        User user = new User(claims.getSubject(), claims.get("email", String.class), "",
+                claims.get("firstName", String.class), claims.get("lastName", String.class));
+        user.setId(UUID.fromString(claims.get("userId", String.class)));
+        user.setTokenVersion(claims.get("tokenVersion", Integer.class));
+
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        List<?> roleClaims = claims.get("roles", List.class);
+        if (roleClaims != null) {
+            for (Object roleClaim : roleClaims) {
+                try {
+                    roles.add(Role.valueOf(String.valueOf(roleClaim)));
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Ignoring unknown role claim: {}", roleClaim);
+                }
+            }
+        }
+        user.setRoles(roles);
+        return user;
+    }
+
     /**
      * Extract email from token
      */
@@ -127,20 +193,90 @@ public class JwtService {
 
     /**
      * Extract all claims from token
+     * Served from the verified-claims cache when the token has already been verified.
      */
     private Claims extractAllClaims(String token) {
+        String cacheKey = claimsCacheMaxSize > 0 && token != null ? hashToken(token) : null;
+        if (cacheKey != null) {
+            CachedClaims cached = verifiedClaims.get(cacheKey);
+            if (cached != null) {
+                if (cached.expiresAt > System.currentTimeMillis()) {
+                    return cached.claims;
+                }
+                verifiedClaims.remove(cacheKey, cached);
+            }
+        }
+
         try {
-            return Jwts.parser()
-                    .verifyWith(getSignInKey())
-                    .build()
+            Claims claims = getParser()
                     .parseSignedClaims(token)
                     .getPayload();
+            if (cacheKey != null && claims.getExpiration() != null) {
+                cacheClaims(cacheKey, claims);
+            }
+            return claims;
         } catch (JwtException e) {
             logger.error("Failed to parse JWT token: {}", e.getMessage());
             throw e;
         }
     }
 
+    /**
+     * Drop cached claims of expired tokens - runs every 5 minutes
+     */
+    @Scheduled(fixedDelay = 300000)
+    public void evictExpiredClaims() {
+        long now = System.currentTimeMillis();
+        verifiedClaims.values().removeIf(cached -> cached.expiresAt <= now);
+    }
+
+    int getCachedClaimsCount() {
+        return verifiedClaims.size();
+    }
+
+    private void cacheClaims(String cacheKey, Claims claims) {
+        if (verifiedClaims.size() >= claimsCacheMaxSize) {
+            evictExpiredClaims();
+
+            // Still full: drop an arbitrary tenth of the entries to make room
+            int toRemove = verifiedClaims.size() - claimsCacheMaxSize + Math.max(1, claimsCacheMaxSize / 10);
+            Iterator<String> iterator = verifiedClaims.keySet().iterator();
+            while (toRemove-- > 0 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        verifiedClaims.put(cacheKey, new CachedClaims(claims, claims.getExpiration().getTime()));
+    }
+
+    /**
+     * Hash the token so the cache never holds usable bearer tokens
+     */
+    private static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Parser for the current secret, built once instead of for every token
+     */
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null || !jwtSecret.equals(jwtParserSecret)) {
+            parser = Jwts.parser()
+                    .verifyWith(getSignInKey())
+                    .build();
+            jwtParserSecret = jwtSecret;
+            jwtParser = parser;
+        }
+        return parser;
+    }
+
     /**
      * Check if token is valid for user
      */
@@ -235,4 +371,18 @@ public class JwtService {
             return false;
         }
     }
+
+    /**
+     * Verified claims of one token and the time they stop being valid
+     */
+    private static final class CachedClaims {
+
+        private final Claims claims;
+        private final long expiresAt;
+
+        private CachedClaims(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.cache.CacheCircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Relays live score events between nodes over Redis pub/sub
+ *
+ * Scorers and spectators of a match may be connected to different nodes. Event ids
+ * are taken from a Redis counter per match, so every node numbers a match's events
+ * the same way and a spectator can reconnect to any node with its Last-Event-ID.
+ * Each event is published to the other nodes, and the latest event of a match is
+ * kept so that a node opening a channel mid-match starts from the current score.
+ * Messages published by this node are ignored on receipt. Like the cache
+ * invalidations, delivery is best effort and goes through the cache circuit breaker:
+ * while Redis is unreachable each node numbers and streams its own scorers' events.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class LiveScoreRelay implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveScoreRelay.class);
+
+    public static final String CHANNEL = "live-score:events";
+
+    private static final String SEQUENCE_KEY_PREFIX = "live-score:sequence:";
+    private static final String LATEST_KEY_PREFIX = "live-score:latest:";
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * Increments the counter, moves it past the floor in ARGV[1] when it is behind,
+     * and refreshes its expiry to ARGV[2] milliseconds, in one step
+     */
+    private static final RedisScript<Long> NEXT_SEQUENCE_SCRIPT = new DefaultRedisScript<>(
+            "local next = redis.call('INCR', KEYS[1]) " +
+            "local floor = tonumber(ARGV[1]) " +
+            "if next <= floor then " +
+            "  next = floor + 1 " +
+            "  redis.call('SET', KEYS[1], next) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return next",
+            Long.class);
+
+    /**
+     * Receives events published by other nodes, or the latest event of a match
+     */
+    public interface EventHandler {
+
+        void accept(UUID matchId, long sequence, String payload);
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheCircuitBreaker circuitBreaker;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile EventHandler handler;
+
+    /**
+     * @param retention how long a match's counter and latest event are kept after its last event
+     */
+    public LiveScoreRelay(StringRedisTemplate redisTemplate, CacheCircuitBreaker circuitBreaker, Duration retention) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.retention = retention;
+    }
+
+    public void setHandler(EventHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Id of the match's next event, or 0 when Redis could not be reached
+     *
+     * @param floor latest id known to this node; a counter behind it, as after an
+     *              outage or an expiry, is moved past it
+     */
+    public long nextSequence(UUID matchId, long floor) {
+        String key = SEQUENCE_KEY_PREFIX + matchId;
+        try {
+            Long sequence = circuitBreaker.execute(() -> redisTemplate.execute(NEXT_SEQUENCE_SCRIPT,
+                    List.of(key), Long.toString(floor), Long.toString(retention.toMillis())));
+            return sequence != null ? sequence : 0;
+        } catch (Exception e) {
+            logger.warn("Failed to number live score event of match {}: {}", matchId, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Store the event as the match's latest and send it to the other nodes
+     */
+    public void publish(UUID matchId, long sequence, String payload) {
+        String event = sequence + SEPARATOR + payload;
+        try {
+            circuitBreaker.execute(() -> {
+                redisTemplate.opsForValue().set(LATEST_KEY_PREFIX + matchId, event, retention);
+                redisTemplate.convertAndSend(CHANNEL, String.join(SEPARATOR, nodeId, matchId.toString(), event));
+                return null;
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to relay live score event of match {}: {}", matchId, e.getMessage());
+        }
+    }
+
+    /**
+     * Hand the latest event of the match, if one is kept, to the given handler
+     */
+    public void loadLatest(UUID matchId, EventHandler target) {
+        String event;
+        try {
+            event = circuitBreaker.execute(() -> redisTemplate.opsForValue().get(LATEST_KEY_PREFIX + matchId));
+        } catch (Exception e) {
+            logger.warn("Failed to load latest live score event of match {}: {}", matchId, e.getMessage());
+            return;
+        }
+        if (event != null) {
+            String[] parts = event.split(SEPARATOR, 2);
+            target.accept(matchId, Long.parseLong(parts[0]), parts[1]);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // Serialized JSON escapes line breaks, so the payload is the last part
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (parts.length < 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        EventHandler current = handler;
+        if (current != null) {
+            current.accept(UUID.fromString(parts[1]), Long.parseLong(parts[2]), parts[3]);
+        }
+    }
+}
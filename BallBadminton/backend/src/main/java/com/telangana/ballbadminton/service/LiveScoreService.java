@@ -0,0 +1,496 @@
+package com.telangana.ballbadminton.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telangana.ballbadminton.dto.tournament.LiveScoreEvent;
+import com.telangana.ballbadminton.dto.tournament.ScoreUpdateRequest;
+import com.telangana.ballbadminton.repository.TournamentFixtureRepository;
+import com.telangana.ballbadminton.repository.TournamentMatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live score channels streaming scorer updates to spectators over Server-Sent Events
+ *
+ * Each match being scored has a channel holding its most recent events in a ring
+ * buffer and its subscribed SseEmitters. Emitters are asynchronous servlet
+ * responses, so a watcher holds no thread while waiting; a small fan-out pool
+ * writes new events to the subscribers. A subscriber has at most one write in
+ * flight, sending every event after the last one it received, so events arrive in
+ * order and a burst is coalesced while a slow reader catches up. A client
+ * reconnecting with Last-Event-ID gets the events it missed while they are still
+ * in the buffer; as every event carries the full score, a client that fell further
+ * behind still ends up with the right score.
+ *
+ * Writes are blocking, so a reader that stops reading holds a pool thread until the
+ * container times out its connection. A write in flight for longer than the send
+ * timeout drops its subscriber, and the pool gets an extra thread for each such
+ * write, up to a limit, so the other streams keep moving meanwhile.
+ *
+ * Channels and their streams are per node. With a LiveScoreRelay, events posted to
+ * one node are relayed to the others over Redis, so spectators on every node follow
+ * the match and event ids agree between nodes.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Service
+public class LiveScoreService implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveScoreService.class);
+
+    private static final String EVENT_NAME = "score";
+
+    /**
+     * A spectator's stream and the id of the last event written to it; sending while a pool thread serves it
+     */
+    static final class Subscriber {
+        private final MatchChannel channel;
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long lastSent;
+
+        Subscriber(MatchChannel channel, SseEmitter emitter, long lastSent) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.lastSent = lastSent;
+        }
+    }
+
+    /**
+     * Recent events and subscribers of one match
+     */
+    static final class MatchChannel {
+        private final UUID matchId;
+        private final long[] sequences;
+        private final String[] payloads;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private long lastSequence;
+        private volatile long lastActivityNanos = System.nanoTime();
+
+        MatchChannel(UUID matchId, int bufferSize) {
+            this.matchId = matchId;
+            this.sequences = new long[bufferSize];
+            this.payloads = new String[bufferSize];
+        }
+
+        /**
+         * Add a scorer's update as the given event, or as the next one when the sequence is 0
+         */
+        synchronized LiveScoreEvent append(long sequence, ScoreUpdateRequest update, ObjectMapper objectMapper) {
+            LiveScoreEvent event = new LiveScoreEvent(sequence > 0 ? sequence : lastSequence + 1, matchId, update);
+            try {
+                // Serialized once here instead of once per subscriber
+                insert(event.getId(), objectMapper.writeValueAsString(event));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize live score event", e);
+            }
+            return event;
+        }
+
+        /**
+         * Store a serialized event; relayed events may arrive out of order, and one
+         * older than the buffer or than the event in its slot is ignored
+         */
+        synchronized void insert(long sequence, String payload) {
+            int index = (int) (sequence % sequences.length);
+            if (sequence <= lastSequence - sequences.length || sequences[index] > sequence) {
+                return;
+            }
+            sequences[index] = sequence;
+            payloads[index] = payload;
+            lastSequence = Math.max(lastSequence, sequence);
+            lastActivityNanos = System.nanoTime();
+        }
+
+        synchronized long lastSequence() {
+            return lastSequence;
+        }
+
+        /**
+         * Sequence numbers from the given one still held in the buffer, or the oldest held
+         */
+        synchronized long oldestFrom(long sequence) {
+            return Math.max(sequence, Math.max(1, lastSequence - sequences.length + 1));
+        }
+
+        /**
+         * Serialized event, or null once it has been overwritten by a newer one or
+         * when it was never received here
+         */
+        synchronized String payload(long sequence) {
+            int index = (int) (sequence % sequences.length);
+            return sequences[index] == sequence ? payloads[index] : null;
+        }
+    }
+
+    private final TournamentMatchRepository tournamentMatchRepository;
+    private final TournamentFixtureRepository tournamentFixtureRepository;
+    private final Optional<LiveScoreRelay> relay;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+    private final long idleChannelNanos;
+    private final int fanOutThreads;
+    private final int fanOutMaxThreads;
+    private final long sendTimeoutNanos;
+    private final ThreadPoolExecutor fanOutPool;
+
+    private final Map<UUID, MatchChannel> channels = new ConcurrentHashMap<>();
+    private final Map<Subscriber, Long> writesInFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final Counter publishedCounter;
+    private final Counter deliveredCounter;
+    private final Counter slowDroppedCounter;
+    private final Timer sendTimer;
+
+    public LiveScoreService(
+            TournamentMatchRepository tournamentMatchRepository,
+            TournamentFixtureRepository tournamentFixtureRepository,
+            Optional<LiveScoreRelay> relay,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.live-score.buffer-size:256}") int bufferSize,
+            @Value("${app.live-score.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${app.live-score.idle-channel-minutes:360}") long idleChannelMinutes,
+            @Value("${app.live-score.fan-out-threads:4}") int fanOutThreads,
+            @Value("${app.live-score.fan-out-max-threads:32}") int fanOutMaxThreads,
+            @Value("${app.live-score.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.tournamentMatchRepository = tournamentMatchRepository;
+        this.tournamentFixtureRepository = tournamentFixtureRepository;
+        this.relay = relay;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.idleChannelNanos = TimeUnit.MINUTES.toNanos(idleChannelMinutes);
+        this.fanOutThreads = fanOutThreads;
+        this.fanOutMaxThreads = Math.max(fanOutThreads, fanOutMaxThreads);
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fanOutPool = new ThreadPoolExecutor(fanOutThreads, this.fanOutMaxThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "live-score-fan-out-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.publishedCounter = Counter.builder("live.score.events.published")
+                .description("Live score updates posted by scorers")
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("live.score.events.delivered")
+                .description("Live score events written to spectator streams")
+                .register(meterRegistry);
+        this.slowDroppedCounter = Counter.builder("live.score.subscribers.dropped.slow")
+                .description("Spectator streams dropped for not reading within the send timeout")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("live.score.send")
+                .description("Time taken to write to a spectator stream")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("live.score.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open live score streams")
+                .register(meterRegistry);
+        Gauge.builder("live.score.channels", channels, Map::size)
+                .description("Matches with a live score channel")
+                .register(meterRegistry);
+        Gauge.builder("live.score.fan.out.threads", fanOutPool, ThreadPoolExecutor::getCorePoolSize)
+                .description("Threads writing to spectator streams, including those held by stalled writes")
+                .register(meterRegistry);
+
+        relay.ifPresent(current -> current.setHandler(this::acceptRelayed));
+    }
+
+    /**
+     * Record a scorer's update and send it to the match's subscribers on every node
+     */
+    public LiveScoreEvent publish(UUID tournamentId, UUID matchId, ScoreUpdateRequest update) {
+        MatchChannel channel = channel(tournamentId, matchId);
+        long sequence = relay.map(current -> current.nextSequence(matchId, channel.lastSequence())).orElse(0L);
+        LiveScoreEvent event = channel.append(sequence, update, objectMapper);
+        String payload = channel.payload(event.getId());
+        if (payload != null) {
+            relay.ifPresent(current -> current.publish(matchId, event.getId(), payload));
+        }
+        publishedCounter.increment();
+        logger.debug("Live score event {} of match {}: {}", event.getId(), matchId, event.getType());
+
+        dispatch(channel);
+        return event;
+    }
+
+    /**
+     * Open a stream of the match's score
+     *
+     * @param lastEventId id of the last event the client received, from the Last-Event-ID
+     *                    header of a reconnect; without it the stream starts with the latest event
+     */
+    public SseEmitter subscribe(UUID tournamentId, UUID matchId, Long lastEventId) {
+        SseEmitter emitter = newEmitter();
+        MatchChannel channel;
+        Subscriber joined;
+        long latest;
+        subscriberCount.incrementAndGet();
+        while (true) {
+            channel = channel(tournamentId, matchId);
+            latest = channel.lastSequence();
+            // An id this node has not seen yet is unknown here, so start from the latest event
+            long lastSent = lastEventId != null && lastEventId <= latest ? lastEventId : Math.max(0, latest - 1);
+            joined = new Subscriber(channel, emitter, lastSent);
+            channel.subscribers.add(joined);
+            if (channels.get(matchId) == channel) {
+                break;
+            }
+            // The channel was dropped as idle before the subscriber joined it
+            channel.subscribers.remove(joined);
+        }
+
+        Subscriber subscriber = joined;
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        if (subscriber.lastSent < latest) {
+            deliver(subscriber, false);
+        }
+        return emitter;
+    }
+
+    /**
+     * Number of open streams, over all matches
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Keep idle streams open through proxies and drop channels nobody uses any more
+     */
+    @Scheduled(fixedDelayString = "${app.live-score.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        long now = System.nanoTime();
+        // A subscriber joining meanwhile finds its channel gone and joins a new one
+        for (UUID matchId : channels.keySet()) {
+            channels.computeIfPresent(matchId, (id, channel) ->
+                    channel.subscribers.isEmpty() && now - channel.lastActivityNanos > idleChannelNanos ? null : channel);
+        }
+
+        for (MatchChannel channel : channels.values()) {
+            // A subscriber being written to needs no heartbeat
+            channel.subscribers.forEach(subscriber -> deliver(subscriber, true));
+        }
+    }
+
+    /**
+     * Drop subscribers whose write has been in flight for longer than the send timeout
+     * and give the pool a thread for each stalled write
+     */
+    @Scheduled(fixedDelayString = "${app.live-score.send-timeout-check-ms:1000}")
+    public void dropSlowSubscribers() {
+        long now = System.nanoTime();
+        int stalled = 0;
+        for (Map.Entry<Subscriber, Long> write : writesInFlight.entrySet()) {
+            if (now - write.getValue() <= sendTimeoutNanos) {
+                continue;
+            }
+            stalled++;
+            // The blocked thread completes the emitter once its write returns or fails
+            if (unsubscribe(write.getKey())) {
+                slowDroppedCounter.increment();
+                logger.debug("Dropping live score subscriber of match {}: send timed out", write.getKey().channel.matchId);
+            }
+        }
+
+        int poolSize = Math.min(fanOutThreads + stalled, fanOutMaxThreads);
+        if (fanOutPool.getCorePoolSize() != poolSize) {
+            fanOutPool.setCorePoolSize(poolSize);
+        }
+    }
+
+    @Override
+    public void close() {
+        fanOutPool.shutdownNow();
+        for (MatchChannel channel : channels.values()) {
+            channel.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        }
+        channels.clear();
+    }
+
+    /**
+     * Channel of a match of the tournament, created for the first scorer or spectator
+     */
+    private MatchChannel channel(UUID tournamentId, UUID matchId) {
+        MatchChannel channel = channels.get(matchId);
+        if (channel != null) {
+            return channel;
+        }
+        // Only the first request for a match reads the database
+        if (!tournamentMatchRepository.existsByIdAndTournamentId(matchId, tournamentId)
+                && !tournamentFixtureRepository.existsByIdAndTournamentId(matchId, tournamentId)) {
+            throw new IllegalArgumentException("Match not found with ID: " + matchId);
+        }
+        MatchChannel created = new MatchChannel(matchId, bufferSize);
+        channel = channels.putIfAbsent(matchId, created);
+        if (channel != null) {
+            return channel;
+        }
+        // The match may already be under way on another node
+        relay.ifPresent(current -> current.loadLatest(matchId, (id, sequence, payload) -> created.insert(sequence, payload)));
+        return created;
+    }
+
+    /**
+     * Event posted to another node; its channel is created here without a database
+     * lookup, as the node it was posted to has checked the match
+     */
+    void acceptRelayed(UUID matchId, long sequence, String payload) {
+        MatchChannel channel = channels.computeIfAbsent(matchId, id -> new MatchChannel(id, bufferSize));
+        channel.insert(sequence, payload);
+        dispatch(channel);
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    /**
+     * Bring every subscriber of the channel up to the latest event
+     */
+    private void dispatch(MatchChannel channel) {
+        long latest = channel.lastSequence();
+        for (Subscriber subscriber : channel.subscribers) {
+            if (subscriber.lastSent < latest) {
+                deliver(subscriber, false);
+            }
+        }
+    }
+
+    /**
+     * Hand the subscriber to a pool thread unless one is already writing to it
+     */
+    private void deliver(Subscriber subscriber, boolean heartbeat) {
+        if (!subscriber.sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            fanOutPool.execute(() -> drain(subscriber, heartbeat));
+        } catch (RejectedExecutionException e) {
+            subscriber.sending.set(false);
+            logger.debug("Live score fan-out pool is shut down");
+        }
+    }
+
+    private void drain(Subscriber subscriber, boolean heartbeat) {
+        boolean open = !heartbeat || write(subscriber, SseEmitter.event().comment("heartbeat"));
+        do {
+            open = open && sendPending(subscriber);
+            subscriber.sending.set(false);
+            // Events added after the last check are sent here unless another thread has taken over
+        } while (open && subscriber.lastSent < subscriber.channel.lastSequence()
+                && subscriber.sending.compareAndSet(false, true));
+    }
+
+    /**
+     * Send the subscriber every event after the last one it received
+     *
+     * @return false once the subscriber has been dropped
+     */
+    private boolean sendPending(Subscriber subscriber) {
+        MatchChannel channel = subscriber.channel;
+        long latest = channel.lastSequence();
+        for (long sequence = channel.oldestFrom(subscriber.lastSent + 1); sequence <= latest;
+             sequence = channel.oldestFrom(sequence + 1)) {
+            String payload = channel.payload(sequence);
+            if (payload == null) {
+                // Overwritten while this pass ran, or lost on the way from another node
+                continue;
+            }
+            if (!write(subscriber, SseEmitter.event()
+                    .id(Long.toString(sequence))
+                    .name(EVENT_NAME)
+                    .data(payload, MediaType.APPLICATION_JSON))) {
+                return false;
+            }
+            subscriber.lastSent = sequence;
+            deliveredCounter.increment();
+        }
+        return true;
+    }
+
+    /**
+     * Write to the subscriber's stream, dropping it when the write fails
+     *
+     * @return false once the subscriber has been dropped
+     */
+    private boolean write(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        long start = System.nanoTime();
+        writesInFlight.put(subscriber, start);
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping live score subscriber of match {}: {}", subscriber.channel.matchId, e.getMessage());
+            unsubscribe(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        } finally {
+            writesInFlight.remove(subscriber);
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!subscriber.channel.subscribers.contains(subscriber)) {
+            // Timed out while this write was blocked
+            subscriber.emitter.complete();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean unsubscribe(Subscriber subscriber) {
+        if (subscriber.channel.subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Ids of the events of a match still held in its buffer, oldest first
+     */
+    List<Long> bufferedEventIds(UUID matchId) {
+        MatchChannel channel = channels.get(matchId);
+        List<Long> ids = new ArrayList<>();
+        if (channel != null) {
+            long latest = channel.lastSequence();
+            for (long sequence = channel.oldestFrom(1); sequence <= latest; sequence++) {
+                if (channel.payload(sequence) != null) {
+                    ids.add(sequence);
+                }
+            }
+        }
+        return ids;
+    }
+}
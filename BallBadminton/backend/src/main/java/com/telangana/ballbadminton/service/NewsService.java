@@ -1,5 +1,9 @@
 package com.telangana.ballbadminton.service;
 
+import com.telangana.ballbadminton.cache.CacheTagService;
+import com.telangana.ballbadminton.cache.CacheTags;
+import com.telangana.ballbadminton.config.CacheConfig;
+import com.telangana.ballbadminton.dto.ResourceVersion;
 import com.telangana.ballbadminton.dto.news.NewsArticleRequest;
 import com.telangana.ballbadminton.dto.news.NewsArticleResponse;
 import com.telangana.ballbadminton.dto.news.NewsCategoryRequest;
@@ -33,12 +37,15 @@ public class NewsService {
 
     private final NewsArticleRepository newsArticleRepository;
     private final NewsCategoryRepository newsCategoryRepository;
+    private final CacheTagService cacheTagService;
 
     @Autowired
     public NewsService(NewsArticleRepository newsArticleRepository, 
-                      NewsCategoryRepository newsCategoryRepository) {
+                      NewsCategoryRepository newsCategoryRepository,
+                      CacheTagService cacheTagService) {
         this.newsArticleRepository = newsArticleRepository;
         this.newsCategoryRepository = newsCategoryRepository;
+        this.cacheTagService = cacheTagService;
     }
 
     // News Article methods
@@ -68,28 +75,38 @@ public class NewsService {
     /**
      * Get featured articles
      */
-    @Cacheable(value = "news", key = "'featured'")
+    @Cacheable(value = "news", key = "'featured'", sync = true)
     @Transactional(readOnly = true)
     public List<NewsArticleResponse> getFeaturedArticles() {
-        return newsArticleRepository.findByIsFeaturedTrueAndIsPublishedTrueOrderByPublishedAtDesc()
+        List<NewsArticleResponse> articles = newsArticleRepository.findByIsFeaturedTrueAndIsPublishedTrueOrderByPublishedAtDesc()
                 .stream()
                 .map(this::convertArticleToResponse)
                 .collect(Collectors.toList());
+        cacheTagService.tag(CacheConfig.NEWS_CACHE, "featured", CacheTags.ofArticles(articles, CacheTags.FEATURED_NEWS));
+        return articles;
     }
 
     /**
-     * Get article by slug
+     * Version of the featured articles, checked before loading them for conditional requests
      */
     @Transactional(readOnly = true)
+    public ResourceVersion getFeaturedArticlesVersion() {
+        return newsArticleRepository.findVersionOfFeatured();
+    }
+
+    /**
+     * Get article by slug
+     */
+    @Transactional
     public Optional<NewsArticleResponse> getArticleBySlug(String slug) {
-        Optional<NewsArticle> article = newsArticleRepository.findBySlugAndIsPublishedTrue(slug);
-        if (article.isPresent()) {
-            // Increment view count
-            NewsArticle newsArticle = article.get();
-            newsArticle.incrementViewCount();
-            newsArticleRepository.save(newsArticle);
-        }
-        return article.map(this::convertArticleToResponse);
+        return newsArticleRepository.findBySlugAndIsPublishedTrue(slug)
+                .map(article -> {
+                    // Count the view with a bulk update so it does not change the article's updatedAt
+                    newsArticleRepository.incrementViewCount(article.getId());
+                    NewsArticleResponse response = convertArticleToResponse(article);
+                    response.setViewCount((article.getViewCount() == null ? 0 : article.getViewCount()) + 1);
+                    return response;
+                });
     }
 
     /**
@@ -124,6 +141,7 @@ public class NewsService {
 
         NewsArticle article = convertArticleToEntity(request);
         NewsArticle savedArticle = newsArticleRepository.save(article);
+        evictArticleTags(savedArticle);
         return convertArticleToResponse(savedArticle);
     }
 
@@ -142,6 +160,7 @@ public class NewsService {
 
         updateArticleFromRequest(article, request);
         NewsArticle savedArticle = newsArticleRepository.save(article);
+        evictArticleTags(savedArticle);
         return convertArticleToResponse(savedArticle);
     }
 
@@ -153,6 +172,7 @@ public class NewsService {
             throw new IllegalArgumentException("Article not found with id: " + id);
         }
         newsArticleRepository.deleteById(id);
+        cacheTagService.evictTags(CacheTags.article(id));
     }
 
     // News Category methods
@@ -256,6 +276,7 @@ public class NewsService {
         }
         
         NewsArticle savedArticle = newsArticleRepository.save(article);
+        evictArticleTags(savedArticle);
         
         // TODO: Send notifications to subscribers
         // This would integrate with a notification service
@@ -272,11 +293,21 @@ public class NewsService {
         
         article.setIsPublished(false);
         NewsArticle savedArticle = newsArticleRepository.save(article);
+        evictArticleTags(savedArticle);
         
         return convertArticleToResponse(savedArticle);
     }
 
     // Helper methods for NewsArticle
+
+    /**
+     * Evict cached entries showing a changed article, and the featured list if it now belongs there
+     */
+    private void evictArticleTags(NewsArticle article) {
+        boolean featured = Boolean.TRUE.equals(article.getIsFeatured()) && Boolean.TRUE.equals(article.getIsPublished());
+        cacheTagService.evictTags(CacheTags.article(article.getId()), featured ? CacheTags.FEATURED_NEWS : null);
+    }
+
     private NewsArticleResponse convertArticleToResponse(NewsArticle article) {
         NewsArticleResponse response = new NewsArticleResponse();
         response.setId(article.getId());
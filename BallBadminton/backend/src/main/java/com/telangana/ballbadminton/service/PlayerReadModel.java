@@ -0,0 +1,80 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.dto.player.PlayerResponse;
+import com.telangana.ballbadminton.entity.Achievement;
+import com.telangana.ballbadminton.entity.Player;
+import com.telangana.ballbadminton.repository.AchievementRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Builds player list responses in a fixed number of queries
+ *
+ * Players are read with Player.SUMMARY_GRAPH, which fetches their district and
+ * statistics in the same statement. The achievements of all players on the list,
+ * with their tournaments, are then loaded by one query per ACHIEVEMENT_BATCH_SIZE
+ * players instead of one lazy load per player and another per achievement.
+ * Must be called inside the transaction that read the players.
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+public class PlayerReadModel {
+
+    /**
+     * Largest number of player ids bound to one achievement query
+     */
+    static final int ACHIEVEMENT_BATCH_SIZE = 500;
+
+    private final AchievementRepository achievementRepository;
+
+    public PlayerReadModel(AchievementRepository achievementRepository) {
+        this.achievementRepository = achievementRepository;
+    }
+
+    /**
+     * Responses of the players, in the same order
+     */
+    public List<PlayerResponse> toResponses(List<Player> players) {
+        Map<UUID, List<Achievement>> achievements = achievementsByPlayer(players);
+        return players.stream()
+                .map(player -> new PlayerResponse(player, achievements.getOrDefault(player.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Responses of a page of players
+     */
+    public Page<PlayerResponse> toResponsePage(Page<Player> players) {
+        return new PageImpl<>(toResponses(players.getContent()), players.getPageable(), players.getTotalElements());
+    }
+
+    /**
+     * Response of a single player
+     */
+    public PlayerResponse toResponse(Player player) {
+        return toResponses(List.of(player)).get(0);
+    }
+
+    private Map<UUID, List<Achievement>> achievementsByPlayer(List<Player> players) {
+        List<UUID> playerIds = players.stream().map(Player::getId).collect(Collectors.toList());
+        Map<UUID, List<Achievement>> achievements = new HashMap<>();
+        for (int from = 0; from < playerIds.size(); from += ACHIEVEMENT_BATCH_SIZE) {
+            List<UUID> batch = playerIds.subList(from, Math.min(from + ACHIEVEMENT_BATCH_SIZE, playerIds.size()));
+            for (Achievement achievement : achievementRepository.findByPlayerIdInWithTournament(batch)) {
+                achievements.computeIfAbsent(achievement.getPlayer().getId(), id -> new ArrayList<>())
+                        .add(achievement);
+            }
+        }
+        return achievements;
+    }
+}
@@ -1,5 +1,11 @@
 package com.telangana.ballbadminton.service;
 
+import com.telangana.ballbadminton.cache.CacheTagService;
+import com.telangana.ballbadminton.cache.CacheTags;
+import com.telangana.ballbadminton.config.CacheConfig;
+import com.telangana.ballbadminton.dto.CursorPage;
+import com.telangana.ballbadminton.dto.KeysetCursor;
+import com.telangana.ballbadminton.dto.ResourceVersion;
 import com.telangana.ballbadminton.dto.player.AchievementRequest;
 import com.telangana.ballbadminton.dto.player.AchievementResponse;
 import com.telangana.ballbadminton.dto.player.PlayerRequest;
@@ -10,7 +16,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,22 +45,33 @@ public class PlayerService {
 
     private static final Logger logger = LoggerFactory.getLogger(PlayerService.class);
 
+    /**
+     * Sort key of the player listing cursors
+     */
+    private static final String NAME_CURSOR = "name";
+
     private final PlayerRepository playerRepository;
     private final AchievementRepository achievementRepository;
     private final PlayerStatisticsRepository playerStatisticsRepository;
     private final DistrictRepository districtRepository;
     private final TournamentRepository tournamentRepository;
+    private final CacheTagService cacheTagService;
+    private final PlayerReadModel playerReadModel;
 
     public PlayerService(PlayerRepository playerRepository,
                         AchievementRepository achievementRepository,
                         PlayerStatisticsRepository playerStatisticsRepository,
                         DistrictRepository districtRepository,
-                        TournamentRepository tournamentRepository) {
+                        TournamentRepository tournamentRepository,
+                        CacheTagService cacheTagService,
+                        PlayerReadModel playerReadModel) {
         this.playerRepository = playerRepository;
         this.achievementRepository = achievementRepository;
         this.playerStatisticsRepository = playerStatisticsRepository;
         this.districtRepository = districtRepository;
         this.tournamentRepository = tournamentRepository;
+        this.cacheTagService = cacheTagService;
+        this.playerReadModel = playerReadModel;
     }
 
     /**
@@ -63,9 +81,7 @@ public class PlayerService {
     public List<PlayerResponse> getAllActivePlayers() {
         logger.debug("Fetching all active players");
         List<Player> players = playerRepository.findByIsActiveTrueOrderByNameAsc();
-        return players.stream()
-                .map(PlayerResponse::new)
-                .collect(Collectors.toList());
+        return playerReadModel.toResponses(players);
     }
 
     /**
@@ -79,7 +95,7 @@ public class PlayerService {
         Pageable pageable = PageRequest.of(page, size, sort);
         
         Page<Player> playerPage = playerRepository.findByIsActiveTrueOrderByNameAsc(pageable);
-        return playerPage.map(PlayerResponse::new);
+        return playerReadModel.toResponsePage(playerPage);
     }
 
     /**
@@ -89,21 +105,55 @@ public class PlayerService {
     @Transactional(readOnly = true)
     public Optional<PlayerResponse> getPlayerById(UUID id) {
         logger.debug("Fetching player by ID: {}", id);
-        return playerRepository.findById(id)
-                .map(PlayerResponse::new);
+        Optional<PlayerResponse> player = playerRepository.findById(id)
+                .map(playerReadModel::toResponse);
+        player.ifPresent(response -> cacheTagService.tag(CacheConfig.PLAYERS_CACHE, id, CacheTags.ofPlayers(List.of(response))));
+        return player;
     }
 
     /**
      * Get prominent players
      */
-    @Cacheable(value = "players", key = "'prominent'")
+    @Cacheable(value = "players", key = "'prominent'", sync = true)
     @Transactional(readOnly = true)
     public List<PlayerResponse> getProminentPlayers() {
         logger.debug("Fetching prominent players");
-        List<Player> players = playerRepository.findByIsActiveTrueAndIsProminentTrueOrderByNameAsc();
-        return players.stream()
-                .map(PlayerResponse::new)
-                .collect(Collectors.toList());
+        List<PlayerResponse> players = playerReadModel.toResponses(
+                playerRepository.findByIsActiveTrueAndIsProminentTrueOrderByNameAsc());
+        cacheTagService.tag(CacheConfig.PLAYERS_CACHE, "prominent", CacheTags.ofPlayers(players, CacheTags.PROMINENT_PLAYERS));
+        return players;
+    }
+
+    /**
+     * Version of the active players, checked before loading them for conditional requests
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getActivePlayersVersion() {
+        return playerRepository.findVersionOfActive();
+    }
+
+    /**
+     * Version of a single player
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getPlayerVersion(UUID id) {
+        return playerRepository.findVersionById(id);
+    }
+
+    /**
+     * Version of the prominent players
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getProminentPlayersVersion() {
+        return playerRepository.findVersionOfProminent();
+    }
+
+    /**
+     * Version of the top ranked players
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getTopRankedPlayersVersion(int limit) {
+        return ResourceVersion.of(playerRepository.findTopRankedUpdatedAt(PageRequest.of(0, limit)));
     }
 
     /**
@@ -113,9 +163,7 @@ public class PlayerService {
     public List<PlayerResponse> getPlayersByCategory(Player.Category category) {
         logger.debug("Fetching players by category: {}", category);
         List<Player> players = playerRepository.findByIsActiveTrueAndCategoryOrderByNameAsc(category);
-        return players.stream()
-                .map(PlayerResponse::new)
-                .collect(Collectors.toList());
+        return playerReadModel.toResponses(players);
     }
 
     /**
@@ -125,9 +173,7 @@ public class PlayerService {
     public List<PlayerResponse> getPlayersByDistrict(UUID districtId) {
         logger.debug("Fetching players by district: {}", districtId);
         List<Player> players = playerRepository.findByIsActiveTrueAndDistrictIdOrderByNameAsc(districtId);
-        return players.stream()
-                .map(PlayerResponse::new)
-                .collect(Collectors.toList());
+        return playerReadModel.toResponses(players);
     }
 
     /**
@@ -138,7 +184,7 @@ public class PlayerService {
         logger.debug("Searching players with term: {}", searchTerm);
         Pageable pageable = PageRequest.of(page, size);
         Page<Player> playerPage = playerRepository.searchPlayers(searchTerm, pageable);
-        return playerPage.map(PlayerResponse::new);
+        return playerReadModel.toResponsePage(playerPage);
     }
 
     /**
@@ -155,16 +201,48 @@ public class PlayerService {
         Pageable pageable = PageRequest.of(page, size, sort);
         
         Page<Player> playerPage = playerRepository.findPlayersWithFilters(category, gender, districtId, isProminent, pageable);
-        return playerPage.map(PlayerResponse::new);
+        return playerReadModel.toResponsePage(playerPage);
+    }
+
+    /**
+     * Get active players by name with keyset pagination, continuing after the cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PlayerResponse> scrollActivePlayers(String cursor, int size, boolean includeTotal) {
+        logger.debug("Scrolling active players - size: {}, first page: {}", size, cursor == null);
+        KeysetCursor after = KeysetCursor.decode(cursor, NAME_CURSOR);
+        List<Player> players = after.isStart()
+                ? playerRepository.seekActive(KeysetCursor.limit(size))
+                : playerRepository.seekActive(after.getValue(), after.getId(), KeysetCursor.limit(size));
+        return CursorPage.ofBatch(players, size, playerReadModel::toResponses, PlayerService::nameCursor,
+                includeTotal ? playerRepository.countByIsActiveTrue() : null);
+    }
+
+    /**
+     * Filter players by name with keyset pagination, continuing after the cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PlayerResponse> scrollFilteredPlayers(Player.Category category, Player.Gender gender,
+                                                            UUID districtId, Boolean isProminent,
+                                                            String cursor, int size, boolean includeTotal) {
+        logger.debug("Scrolling players with criteria - category: {}, gender: {}, district: {}, prominent: {}",
+                    category, gender, districtId, isProminent);
+        KeysetCursor after = KeysetCursor.decode(cursor, NAME_CURSOR);
+        List<Player> players = after.isStart()
+                ? playerRepository.seekWithFilters(category, gender, districtId, isProminent, KeysetCursor.limit(size))
+                : playerRepository.seekWithFilters(category, gender, districtId, isProminent,
+                        after.getValue(), after.getId(), KeysetCursor.limit(size));
+        return CursorPage.ofBatch(players, size, playerReadModel::toResponses, PlayerService::nameCursor,
+                includeTotal ? playerRepository.countPlayersWithFilters(category, gender, districtId, isProminent) : null);
+    }
+
+    private static String nameCursor(Player player) {
+        return KeysetCursor.encode(NAME_CURSOR, player.getName(), player.getId());
     }
 
     /**
      * Create a new player
      */
-    @Caching(evict = {
-        @CacheEvict(value = "players", key = "'prominent'", condition = "#result.isProminent"),
-        @CacheEvict(value = "statistics", allEntries = true)
-    })
     public PlayerResponse createPlayer(PlayerRequest request) {
         logger.debug("Creating new player: {}", request.getName());
         
@@ -191,18 +269,16 @@ public class PlayerService {
         savedPlayer.setStatistics(statistics);
         
         logger.info("Created player with ID: {}", savedPlayer.getId());
+        if (Boolean.TRUE.equals(savedPlayer.getIsProminent())) {
+            cacheTagService.evictTags(CacheTags.PROMINENT_PLAYERS);
+        }
         return new PlayerResponse(savedPlayer);
     }
 
     /**
      * Update an existing player
      */
-    @Caching(evict = {
-        @CacheEvict(value = "players", key = "#id"),
-        @CacheEvict(value = "players", key = "'prominent'"),
-        @CacheEvict(value = "statistics", allEntries = true),
-        @CacheEvict(value = "rankings", allEntries = true)
-    })
+    @CacheEvict(value = "players", key = "#id")
     public PlayerResponse updatePlayer(UUID id, PlayerRequest request) {
         logger.debug("Updating player: {}", id);
         
@@ -215,6 +291,7 @@ public class PlayerService {
             throw new IllegalArgumentException("Email already exists: " + request.getContactEmail());
         }
         
+        boolean wasActive = Boolean.TRUE.equals(player.getIsActive());
         mapRequestToEntity(request, player);
         
         // Update district if provided
@@ -228,18 +305,25 @@ public class PlayerService {
         
         Player savedPlayer = playerRepository.save(player);
         logger.info("Updated player with ID: {}", savedPlayer.getId());
+        
+        // Cached lists already showing the player carry its tag; it may also have become
+        // prominent, and a reactivated player may re-enter the rankings
+        List<String> tags = new ArrayList<>();
+        tags.add(CacheTags.player(id));
+        if (Boolean.TRUE.equals(savedPlayer.getIsProminent())) {
+            tags.add(CacheTags.PROMINENT_PLAYERS);
+        }
+        if (!wasActive && Boolean.TRUE.equals(savedPlayer.getIsActive())) {
+            tags.add(CacheTags.RANKED_PLAYERS);
+        }
+        cacheTagService.evictTags(tags);
         return new PlayerResponse(savedPlayer);
     }
 
     /**
      * Delete a player (soft delete by setting isActive to false)
      */
-    @Caching(evict = {
-        @CacheEvict(value = "players", key = "#id"),
-        @CacheEvict(value = "players", key = "'prominent'"),
-        @CacheEvict(value = "statistics", allEntries = true),
-        @CacheEvict(value = "rankings", allEntries = true)
-    })
+    @CacheEvict(value = "players", key = "#id")
     public void deletePlayer(UUID id) {
         logger.debug("Deleting player: {}", id);
         
@@ -248,6 +332,7 @@ public class PlayerService {
         
         player.setIsActive(false);
         playerRepository.save(player);
+        cacheTagService.evictTags(CacheTags.player(id));
         
         logger.info("Deleted player with ID: {}", id);
     }
@@ -255,15 +340,14 @@ public class PlayerService {
     /**
      * Get top ranked players
      */
-    @Cacheable(value = "rankings", key = "'top-' + #limit")
+    @Cacheable(value = "rankings", key = "'top-' + #limit", sync = true)
     @Transactional(readOnly = true)
     public List<PlayerResponse> getTopRankedPlayers(int limit) {
         logger.debug("Fetching top {} ranked players", limit);
         Pageable pageable = PageRequest.of(0, limit);
-        List<Player> players = playerRepository.findTopRankedPlayers(pageable);
-        return players.stream()
-                .map(PlayerResponse::new)
-                .collect(Collectors.toList());
+        List<PlayerResponse> players = playerReadModel.toResponses(playerRepository.findTopRankedPlayers(pageable));
+        cacheTagService.tag(CacheConfig.RANKINGS_CACHE, "top-" + limit, CacheTags.ofPlayers(players, CacheTags.RANKED_PLAYERS));
+        return players;
     }
 
     /**
@@ -274,9 +358,7 @@ public class PlayerService {
         logger.debug("Fetching players with most tournament wins, limit: {}", limit);
         Pageable pageable = PageRequest.of(0, limit);
         List<Player> players = playerRepository.findPlayersWithMostTournamentWins(pageable);
-        return players.stream()
-                .map(PlayerResponse::new)
-                .collect(Collectors.toList());
+        return playerReadModel.toResponses(players);
     }
 
     /**
@@ -287,9 +369,7 @@ public class PlayerService {
         logger.debug("Fetching players with highest win percentage, limit: {}", limit);
         Pageable pageable = PageRequest.of(0, limit);
         List<Player> players = playerRepository.findPlayersWithHighestWinPercentage(pageable);
-        return players.stream()
-                .map(PlayerResponse::new)
-                .collect(Collectors.toList());
+        return playerReadModel.toResponses(players);
     }
 
     /**
@@ -325,6 +405,7 @@ public class PlayerService {
         Achievement achievement = new Achievement();
         mapAchievementRequestToEntity(request, achievement);
         achievement.setPlayer(player);
+        touch(player);
         
         // Set tournament if provided
         if (request.getTournamentId() != null) {
@@ -353,6 +434,7 @@ public class PlayerService {
         }
         
         mapAchievementRequestToEntity(request, achievement);
+        touch(achievement.getPlayer());
         
         // Update tournament if provided
         if (request.getTournamentId() != null) {
@@ -382,6 +464,7 @@ public class PlayerService {
             throw new IllegalArgumentException("Achievement does not belong to player: " + playerId);
         }
         
+        touch(achievement.getPlayer());
         achievementRepository.delete(achievement);
         logger.info("Deleted achievement with ID: {}", achievementId);
     }
@@ -449,8 +532,11 @@ public class PlayerService {
         
         playerStatisticsRepository.save(statistics);
         player.setStatistics(statistics);
+        touch(player);
         
         logger.info("Updated statistics for player: {}", playerId);
+        cacheTagService.evictTags(CacheTags.player(playerId),
+                request.getCurrentRanking() != null ? CacheTags.RANKED_PLAYERS : null);
         return new PlayerResponse(player);
     }
 
@@ -464,15 +550,27 @@ public class PlayerService {
         
         int ranking = 1;
         for (PlayerStatistics stats : playersForRanking) {
+            if (!Integer.valueOf(ranking).equals(stats.getCurrentRanking())) {
+                touch(stats.getPlayer());
+            }
             stats.setCurrentRanking(ranking++);
             playerStatisticsRepository.save(stats);
         }
         
         logger.info("Updated rankings for {} players", playersForRanking.size());
+        cacheTagService.evictTags(CacheTags.RANKED_PLAYERS);
     }
 
     // Helper Methods
 
+    /**
+     * Mark a player as modified when its statistics or achievements change, so its
+     * version (and the ETags derived from it) changes with its representation
+     */
+    private void touch(Player player) {
+        player.setUpdatedAt(LocalDateTime.now());
+    }
+
     private void mapRequestToEntity(PlayerRequest request, Player player) {
         player.setName(request.getName());
         player.setDateOfBirth(request.getDateOfBirth());
@@ -0,0 +1,360 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.dto.tournament.RegistrationTicket;
+import com.telangana.ballbadminton.dto.tournament.TournamentRegistrationRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission pipeline absorbing registration bursts when a tournament opens
+ *
+ * Registration requests are accepted into a bounded queue per tournament and
+ * answered at once with a RegistrationTicket. Worker threads take one tournament
+ * at a time, drain up to one batch of its tickets (lingering briefly so a burst
+ * fills the batch) and admit them with TournamentService.registerPlayers in a
+ * single transaction. Only one worker holds a tournament at a time, so tickets of
+ * a tournament are admitted in the order they were submitted. If the database
+ * refuses a whole batch, its tickets are retried one by one with registerPlayer.
+ *
+ * Only a tournament taking registrations gets a queue, and a queue is dropped as
+ * soon as it has been drained, so queues exist only for tournaments with tickets
+ * waiting. Tickets live in memory on the node that accepted them and are forgotten
+ * once they have been complete for the retention period.
+ *
+ * Requirements: 8.5
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+@Component
+public class RegistrationAdmissionQueue implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationAdmissionQueue.class);
+
+    /**
+     * Queued tickets of one tournament; scheduled while it sits in the ready queue or a
+     * worker holds it, closed once it has been drained and removed
+     */
+    private static final class Lane {
+        private final UUID tournamentId;
+        private final BlockingQueue<RegistrationTicket> tickets;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private boolean closed;
+
+        private Lane(UUID tournamentId, int capacity) {
+            this.tournamentId = tournamentId;
+            this.tickets = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private final TournamentService tournamentService;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long batchLingerMs;
+    private final int workerCount;
+    private final long ticketRetentionMinutes;
+
+    private final Map<UUID, Lane> lanes = new ConcurrentHashMap<>();
+    private final BlockingQueue<Lane> ready = new LinkedBlockingQueue<>();
+    private final Map<UUID, RegistrationTicket> tickets = new ConcurrentHashMap<>();
+
+    private final Counter registeredCounter;
+    private final Counter rejectedCounter;
+    private final Counter overflowCounter;
+    private final Timer latencyTimer;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running;
+    private final List<Thread> workers = new ArrayList<>();
+
+    public RegistrationAdmissionQueue(
+            TournamentService tournamentService,
+            MeterRegistry meterRegistry,
+            @Value("${app.registration.admission.queue-capacity:5000}") int queueCapacity,
+            @Value("${app.registration.admission.batch-size:100}") int batchSize,
+            @Value("${app.registration.admission.batch-linger-ms:20}") long batchLingerMs,
+            @Value("${app.registration.admission.workers:2}") int workerCount,
+            @Value("${app.registration.admission.ticket-retention-minutes:30}") long ticketRetentionMinutes) {
+        this.tournamentService = tournamentService;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.batchLingerMs = batchLingerMs;
+        this.workerCount = workerCount;
+        this.ticketRetentionMinutes = ticketRetentionMinutes;
+
+        this.registeredCounter = Counter.builder("registration.admission.outcomes")
+                .description("Queued registrations admitted or refused")
+                .tag("result", "registered")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("registration.admission.outcomes")
+                .description("Queued registrations admitted or refused")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("registration.admission.overflow")
+                .description("Registration requests turned away because the tournament queue was full")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("registration.admission.latency")
+                .description("Time from queueing a registration to its final status")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("registration.admission.batch")
+                .description("Time taken to admit one batch of registrations")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("registration.admission.batch.size")
+                .description("Registrations admitted per batch")
+                .register(meterRegistry);
+        Gauge.builder("registration.admission.queue.depth", this, RegistrationAdmissionQueue::size)
+                .description("Registration requests waiting to be admitted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a registration request for the tournament
+     *
+     * @return the ticket to follow, or empty if the tournament's queue is full
+     * @throws IllegalArgumentException if the tournament does not exist
+     * @throws IllegalStateException if the tournament is not taking registrations
+     */
+    public Optional<RegistrationTicket> submit(UUID tournamentId, TournamentRegistrationRequest request) {
+        RegistrationTicket ticket = new RegistrationTicket(tournamentId, request);
+        while (true) {
+            Lane lane = lanes.get(tournamentId);
+            if (lane == null) {
+                // Checked once per queue rather than per request; a burst finds its queue in place
+                tournamentService.checkRegistrationOpen(tournamentId);
+                lane = lanes.computeIfAbsent(tournamentId, id -> new Lane(id, queueCapacity));
+            }
+
+            synchronized (lane) {
+                if (lane.closed) {
+                    // Drained and removed meanwhile; go through a new queue
+                    continue;
+                }
+                tickets.put(ticket.getId(), ticket);
+                if (!lane.tickets.offer(ticket)) {
+                    tickets.remove(ticket.getId());
+                    overflowCounter.increment();
+                    return Optional.empty();
+                }
+            }
+
+            schedule(lane);
+            return Optional.of(ticket);
+        }
+    }
+
+    /**
+     * Ticket of a tournament, while it is queued or within its retention period
+     */
+    public Optional<RegistrationTicket> getTicket(UUID tournamentId, UUID ticketId) {
+        return Optional.ofNullable(tickets.get(ticketId))
+                .filter(ticket -> ticket.getTournamentId().equals(tournamentId));
+    }
+
+    /**
+     * Number of registration requests waiting to be admitted, over all tournaments
+     */
+    public int size() {
+        return lanes.values().stream().mapToInt(lane -> lane.tickets.size()).sum();
+    }
+
+    /**
+     * Number of tournaments with a queue
+     */
+    int laneCount() {
+        return lanes.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runLoop, "registration-admission-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        logger.info("Registration admission queue started (workers: {}, batch size: {}, linger: {}ms, capacity: {})",
+            workerCount, batchSize, batchLingerMs, queueCapacity);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workers.clear();
+
+        // Admit whatever is still queued so accepted tickets are not lost on a graceful shutdown
+        List<RegistrationTicket> batch = new ArrayList<>(batchSize);
+        for (Lane lane : lanes.values()) {
+            while (lane.tickets.drainTo(batch, batchSize) > 0) {
+                admit(lane.tournamentId, batch);
+                batch.clear();
+            }
+        }
+        logger.info("Registration admission queue stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server so no more tickets arrive while the queues are drained
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1024;
+    }
+
+    private void runLoop() {
+        List<RegistrationTicket> batch = new ArrayList<>(batchSize);
+        while (running) {
+            Lane lane = null;
+            try {
+                lane = ready.poll(1, TimeUnit.SECONDS);
+                if (lane == null) {
+                    // Idle: use the quiet period to forget old tickets
+                    evictCompletedTickets();
+                    continue;
+                }
+
+                collectBatch(lane, batch);
+                admit(lane.tournamentId, batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("Unexpected error in registration admission: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+                if (lane != null) {
+                    release(lane);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drain up to one batch of the lane, waiting up to the linger time for a burst to fill it
+     */
+    private void collectBatch(Lane lane, List<RegistrationTicket> batch) throws InterruptedException {
+        lane.tickets.drainTo(batch, batchSize);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchLingerMs);
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            RegistrationTicket next = lane.tickets.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            lane.tickets.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    /**
+     * Admit one batch of tickets of a tournament and complete them
+     */
+    void admit(UUID tournamentId, List<RegistrationTicket> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<TournamentRegistrationRequest> requests = batch.stream().map(RegistrationTicket::getRequest).toList();
+        long start = System.nanoTime();
+        List<RegistrationTicket.Outcome> outcomes;
+        try {
+            outcomes = tournamentService.registerPlayers(tournamentId, requests);
+        } catch (Exception e) {
+            logger.warn("Batch of {} registrations for tournament {} failed, admitting one by one: {}",
+                batch.size(), tournamentId, e.getMessage());
+            outcomes = requests.stream().map(request -> admitOne(tournamentId, request)).toList();
+        }
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            RegistrationTicket ticket = batch.get(i);
+            RegistrationTicket.Outcome outcome = outcomes.get(i);
+            if (ticket.complete(outcome)) {
+                (outcome.isRegistered() ? registeredCounter : rejectedCounter).increment();
+                latencyTimer.record(ticket.elapsed());
+            }
+        }
+    }
+
+    private RegistrationTicket.Outcome admitOne(UUID tournamentId, TournamentRegistrationRequest request) {
+        try {
+            return RegistrationTicket.Outcome.registered(tournamentService.registerPlayer(tournamentId, request).getId());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return RegistrationTicket.Outcome.rejected(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Failed to register player {} for tournament {}: {}",
+                request.getPlayerId(), tournamentId, e.getMessage());
+            return RegistrationTicket.Outcome.rejected("Registration could not be processed");
+        }
+    }
+
+    private void schedule(Lane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            ready.offer(lane);
+        }
+    }
+
+    /**
+     * Hand the lane back; tickets queued while a worker held it put it back in line,
+     * otherwise the drained lane is removed
+     */
+    private void release(Lane lane) {
+        synchronized (lane) {
+            lane.scheduled.set(false);
+            if (lane.tickets.isEmpty()) {
+                lane.closed = true;
+                lanes.remove(lane.tournamentId, lane);
+                return;
+            }
+        }
+        schedule(lane);
+    }
+
+    void evictCompletedTickets() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(ticketRetentionMinutes);
+        tickets.values().removeIf(ticket -> ticket.isCompleted() && !ticket.getCompletedAt().isAfter(cutoff));
+    }
+}
@@ -4,6 +4,7 @@ import com.telangana.ballbadminton.entity.AuditLog;
 import com.telangana.ballbadminton.entity.AuditLog.AuditAction;
 import com.telangana.ballbadminton.entity.AuditLog.AuditSeverity;
 import com.telangana.ballbadminton.repository.AuditLogRepository;
+import com.telangana.ballbadminton.security.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,7 +12,6 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Service for security monitoring and alerting
@@ -37,6 +37,7 @@ public class SecurityMonitoringService {
     private final AuditLogRepository auditLogRepository;
     private final AuditService auditService;
     private final EmailService emailService;
+    private final RateLimiter rateLimiter;
 
     // Security thresholds
     private static final int FAILED_LOGIN_THRESHOLD = 5;
@@ -44,6 +45,8 @@ public class SecurityMonitoringService {
     private static final int SUSPICIOUS_ACTIVITY_THRESHOLD = 10;
     private static final int RATE_LIMIT_THRESHOLD = 100;
     private static final int RATE_LIMIT_WINDOW_MINUTES = 1;
+    private static final RateLimiter.Quota RATE_LIMIT_QUOTA =
+        new RateLimiter.Quota(RATE_LIMIT_THRESHOLD / RATE_LIMIT_WINDOW_MINUTES, RATE_LIMIT_THRESHOLD);
 
     // Blocked IPs cache (in production, use Redis)
     private final Set<String> blockedIps = Collections.synchronizedSet(new HashSet<>());
@@ -51,10 +54,12 @@ public class SecurityMonitoringService {
 
     public SecurityMonitoringService(AuditLogRepository auditLogRepository, 
                                     AuditService auditService,
-                                    EmailService emailService) {
+                                    EmailService emailService,
+                                    RateLimiter rateLimiter) {
         this.auditLogRepository = auditLogRepository;
         this.auditService = auditService;
         this.emailService = emailService;
+        this.rateLimiter = rateLimiter;
     }
 
     /**
@@ -124,28 +129,26 @@ public class SecurityMonitoringService {
 
     /**
      * Monitor rate limiting violations
+     * Uses an in-memory token bucket per user (or per IP for anonymous callers) instead of
+     * counting the caller's audit rows, so each check costs no database query.
      */
     public boolean checkRateLimit(UUID userId, String ipAddress) {
-        LocalDateTime since = LocalDateTime.now().minusMinutes(RATE_LIMIT_WINDOW_MINUTES);
+        String key = userId != null ? "monitor:user:" + userId : "monitor:ip:" + ipAddress;
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(key, RATE_LIMIT_QUOTA);
         
-        long requestCount = 0;
-        if (userId != null) {
-            requestCount = auditLogRepository.countByUserInTimeRange(
-                userId, since, LocalDateTime.now());
-        }
-        
-        if (requestCount > RATE_LIMIT_THRESHOLD) {
-            securityLogger.warn("Rate limit exceeded for user: {} - {} requests in {} minute(s)", 
-                userId, requestCount, RATE_LIMIT_WINDOW_MINUTES);
+        if (!decision.isAllowed()) {
+            securityLogger.warn("Rate limit exceeded for user: {} - more than {} requests in {} minute(s)", 
+                userId, RATE_LIMIT_THRESHOLD, RATE_LIMIT_WINDOW_MINUTES);
             
             Map<String, Object> metadata = new HashMap<>();
             metadata.put("userId", userId);
             metadata.put("ipAddress", ipAddress);
-            metadata.put("requestCount", requestCount);
+            metadata.put("requestLimit", RATE_LIMIT_THRESHOLD);
+            metadata.put("retryAfterMillis", decision.getRetryAfterMillis());
             metadata.put("timeWindow", RATE_LIMIT_WINDOW_MINUTES + " minutes");
             
             auditService.logSuspiciousActivity(
-                "Rate limit exceeded for user: " + userId, metadata);
+                "Rate limit exceeded for " + (userId != null ? "user: " + userId : "IP: " + ipAddress), metadata);
             
             return false; // Rate limit exceeded
         }
@@ -191,15 +194,11 @@ public class SecurityMonitoringService {
         Map<String, Object> metrics = new HashMap<>();
         
         // Failed login attempts
-        List<AuditLog> failedLogins = auditLogRepository.findByAction(
-            AuditAction.LOGIN_FAILED, 
-            org.springframework.data.domain.PageRequest.of(0, 1000))
-            .getContent()
-            .stream()
-            .filter(log -> log.getTimestamp().isAfter(last24Hours))
-            .collect(Collectors.toList());
+        // All counts are bounded by timestamp so only the recent audit_logs partitions are scanned
+        long failedLogins = auditLogRepository.countByActionAndTimestampAfter(
+            AuditAction.LOGIN_FAILED, last24Hours);
         
-        metrics.put("failedLoginsLast24Hours", failedLogins.size());
+        metrics.put("failedLoginsLast24Hours", failedLogins);
         
         // Critical events
         List<AuditLog> criticalEvents = auditLogRepository.findRecentCriticalEvents(last24Hours);
@@ -210,44 +209,23 @@ public class SecurityMonitoringService {
         metrics.put("blockedIps", new ArrayList<>(blockedIps));
         
         // Access denied events
-        long accessDeniedCount = auditLogRepository.findByAction(
-            AuditAction.ACCESS_DENIED,
-            org.springframework.data.domain.PageRequest.of(0, 1000))
-            .getContent()
-            .stream()
-            .filter(log -> log.getTimestamp().isAfter(last24Hours))
-            .count();
+        long accessDeniedCount = auditLogRepository.countByActionAndTimestampAfter(
+            AuditAction.ACCESS_DENIED, last24Hours);
         
         metrics.put("accessDeniedLast24Hours", accessDeniedCount);
         
         // Suspicious activities
-        long suspiciousActivities = auditLogRepository.findByAction(
-            AuditAction.SUSPICIOUS_ACTIVITY,
-            org.springframework.data.domain.PageRequest.of(0, 1000))
-            .getContent()
-            .stream()
-            .filter(log -> log.getTimestamp().isAfter(last24Hours))
-            .count();
+        long suspiciousActivities = auditLogRepository.countByActionAndTimestampAfter(
+            AuditAction.SUSPICIOUS_ACTIVITY, last24Hours);
         
         metrics.put("suspiciousActivitiesLast24Hours", suspiciousActivities);
         
         // Top failed IPs
-        Map<String, Long> topFailedIps = failedLogins.stream()
-            .filter(log -> log.getIpAddress() != null)
-            .collect(Collectors.groupingBy(
-                AuditLog::getIpAddress,
-                Collectors.counting()
-            ))
-            .entrySet()
-            .stream()
-            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-            .limit(10)
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue,
-                (e1, e2) -> e1,
-                LinkedHashMap::new
-            ));
+        Map<String, Long> topFailedIps = new LinkedHashMap<>();
+        for (Object[] row : auditLogRepository.getFailedLoginCountsByIp(
+                last24Hours, org.springframework.data.domain.PageRequest.of(0, 10))) {
+            topFailedIps.put((String) row[0], (Long) row[1]);
+        }
         
         metrics.put("topFailedIps", topFailedIps);
         
@@ -1,5 +1,11 @@
 package com.telangana.ballbadminton.service;
 
+import com.telangana.ballbadminton.cache.CacheTagService;
+import com.telangana.ballbadminton.cache.CacheTags;
+import com.telangana.ballbadminton.config.CacheConfig;
+import com.telangana.ballbadminton.dto.CursorPage;
+import com.telangana.ballbadminton.dto.KeysetCursor;
+import com.telangana.ballbadminton.dto.ResourceVersion;
 import com.telangana.ballbadminton.dto.tournament.*;
 import com.telangana.ballbadminton.entity.*;
 import com.telangana.ballbadminton.repository.*;
@@ -7,15 +13,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -28,19 +37,46 @@ public class TournamentService {
 
     private static final Logger logger = LoggerFactory.getLogger(TournamentService.class);
 
+    /**
+     * Sort key of the tournament listing cursors
+     */
+    private static final String START_DATE_CURSOR = "startDate";
+
+    /**
+     * Statuses of the tournaments listed as upcoming, as in Tournament.isUpcoming()
+     */
+    private static final Set<Tournament.Status> UPCOMING_STATUSES = EnumSet.of(
+            Tournament.Status.UPCOMING, Tournament.Status.REGISTRATION_OPEN, Tournament.Status.REGISTRATION_CLOSED);
+
+    /**
+     * Rejection of a player joining, or rejoining after leaving, once fixtures exist; the
+     * schedule was drawn for the entrants of the time and cannot be redrawn around one player
+     */
+    private static final String JOIN_AFTER_FIXTURES =
+            "Fixtures have been scheduled; players can no longer join or rejoin this tournament";
+
     private final TournamentRepository tournamentRepository;
+    private final TournamentRegistrationRepository tournamentRegistrationRepository;
     private final PlayerRepository playerRepository;
     private final DistrictRepository districtRepository;
     private final EmailService emailService;
+    private final CacheTagService cacheTagService;
+    private final FixtureService fixtureService;
 
     public TournamentService(TournamentRepository tournamentRepository,
+                           TournamentRegistrationRepository tournamentRegistrationRepository,
                            PlayerRepository playerRepository,
                            DistrictRepository districtRepository,
-                           EmailService emailService) {
+                           EmailService emailService,
+                           CacheTagService cacheTagService,
+                           FixtureService fixtureService) {
         this.tournamentRepository = tournamentRepository;
+        this.tournamentRegistrationRepository = tournamentRegistrationRepository;
         this.playerRepository = playerRepository;
         this.districtRepository = districtRepository;
         this.emailService = emailService;
+        this.cacheTagService = cacheTagService;
+        this.fixtureService = fixtureService;
     }
 
     // Tournament CRUD Operations
@@ -48,9 +84,7 @@ public class TournamentService {
     @Transactional(readOnly = true)
     public List<TournamentResponse> getAllTournaments() {
         logger.debug("Fetching all tournaments");
-        return tournamentRepository.findAll().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return toResponses(tournamentRepository.findAll());
     }
 
     @Transactional(readOnly = true)
@@ -61,19 +95,57 @@ public class TournamentService {
         Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        return tournamentRepository.findAll(pageable)
-                .map(this::convertToResponse);
+        return toResponsePage(tournamentRepository.findAll(pageable));
+    }
+
+    /**
+     * Tournaments by start date, latest first, with keyset pagination continuing after the cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TournamentResponse> scrollTournaments(String cursor, int size, boolean includeTotal) {
+        logger.debug("Scrolling tournaments - size: {}, first page: {}", size, cursor == null);
+        KeysetCursor after = KeysetCursor.decode(cursor, START_DATE_CURSOR);
+        List<Tournament> tournaments = after.isStart()
+                ? tournamentRepository.seekByStartDateDesc(KeysetCursor.limit(size))
+                : tournamentRepository.seekByStartDateDesc(after.getDateValue(), after.getId(), KeysetCursor.limit(size));
+        return CursorPage.ofBatch(tournaments, size, this::toResponses,
+                tournament -> KeysetCursor.encode(START_DATE_CURSOR, tournament.getStartDate(), tournament.getId()),
+                includeTotal ? tournamentRepository.count() : null);
+    }
+
+    // Versions checked before loading tournaments for conditional requests
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getTournamentsVersion() {
+        return tournamentRepository.findVersionOfAll();
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getTournamentVersion(UUID id) {
+        return tournamentRepository.findVersionById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getUpcomingTournamentsVersion() {
+        return tournamentRepository.findVersionByStatusIn(UPCOMING_STATUSES);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getFeaturedTournamentsVersion() {
+        return tournamentRepository.findVersionOfFeatured();
     }
 
     @Cacheable(value = "tournaments", key = "#id")
     @Transactional(readOnly = true)
     public Optional<TournamentResponse> getTournamentById(UUID id) {
         logger.debug("Fetching tournament by ID: {}", id);
-        return tournamentRepository.findById(id)
+        Optional<TournamentResponse> tournament = tournamentRepository.findById(id)
                 .map(this::convertToResponse);
+        tournament.ifPresent(response -> cacheTagService.tag(CacheConfig.TOURNAMENTS_CACHE, id,
+                CacheTags.ofTournaments(List.of(response))));
+        return tournament;
     }
 
-    @CacheEvict(value = "tournaments", allEntries = true)
     public TournamentResponse createTournament(TournamentRequest request) {
         logger.debug("Creating new tournament: {}", request.getName());
         
@@ -84,14 +156,12 @@ public class TournamentService {
         
         Tournament savedTournament = tournamentRepository.save(tournament);
         logger.info("Tournament created successfully with ID: {}", savedTournament.getId());
+        evictTournamentTags(savedTournament);
         
         return convertToResponse(savedTournament);
     }
 
-    @Caching(evict = {
-        @CacheEvict(value = "tournaments", key = "#id"),
-        @CacheEvict(value = "tournaments", allEntries = true)
-    })
+    @CacheEvict(value = "tournaments", key = "#id")
     public TournamentResponse updateTournament(UUID id, TournamentRequest request) {
         logger.debug("Updating tournament: {}", id);
         
@@ -104,14 +174,12 @@ public class TournamentService {
         
         Tournament updatedTournament = tournamentRepository.save(tournament);
         logger.info("Tournament updated successfully: {}", id);
+        evictTournamentTags(updatedTournament);
         
         return convertToResponse(updatedTournament);
     }
 
-    @Caching(evict = {
-        @CacheEvict(value = "tournaments", key = "#id"),
-        @CacheEvict(value = "tournaments", allEntries = true)
-    })
+    @CacheEvict(value = "tournaments", key = "#id")
     public void deleteTournament(UUID id) {
         logger.debug("Deleting tournament: {}", id);
         
@@ -120,6 +188,7 @@ public class TournamentService {
         
         tournamentRepository.delete(tournament);
         logger.info("Tournament deleted successfully: {}", id);
+        cacheTagService.evictTags(CacheTags.tournament(id));
     }
 
     // Tournament Status Management
@@ -135,6 +204,7 @@ public class TournamentService {
         
         Tournament updatedTournament = tournamentRepository.save(tournament);
         logger.info("Tournament status updated from {} to {}: {}", oldStatus, status, id);
+        evictTournamentTags(updatedTournament);
         
         // Send notifications for status changes
         if (status == Tournament.Status.REGISTRATION_OPEN) {
@@ -150,6 +220,18 @@ public class TournamentService {
 
     // Tournament Registration
 
+    /**
+     * Check that the tournament exists and is taking registrations
+     */
+    @Transactional(readOnly = true)
+    public void checkRegistrationOpen(UUID tournamentId) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new IllegalArgumentException("Tournament not found with ID: " + tournamentId));
+        if (!tournament.isRegistrationOpen()) {
+            throw new IllegalStateException("Registration is not open for this tournament");
+        }
+    }
+
     public TournamentRegistrationResponse registerPlayer(UUID tournamentId, TournamentRegistrationRequest request) {
         logger.debug("Registering player {} for tournament {}", request.getPlayerId(), tournamentId);
         
@@ -164,35 +246,140 @@ public class TournamentService {
             throw new IllegalStateException("Registration is not open for this tournament");
         }
         
-        if (!tournament.hasAvailableSlots()) {
-            throw new IllegalStateException("Tournament is full");
+        // A withdrawn player registers again on their existing row, as (tournament, player) is unique
+        Optional<TournamentRegistration> existing = tournamentRegistrationRepository
+                .findByTournamentIdAndPlayerId(tournamentId, player.getId());
+        if (existing.filter(TournamentRegistration::isActive).isPresent()) {
+            throw new IllegalStateException("Player is already registered for this tournament");
+        }
+        if (existing.filter(reg -> reg.getStatus() == TournamentRegistration.RegistrationStatus.DISQUALIFIED).isPresent()) {
+            throw new IllegalStateException("Player is disqualified from this tournament");
+        }
+        if (fixtureService.hasFixtures(tournamentId)) {
+            throw new IllegalStateException(JOIN_AFTER_FIXTURES);
         }
         
-        // Check for duplicate registration
-        boolean alreadyRegistered = tournament.getRegistrations().stream()
-                .anyMatch(reg -> reg.getPlayer().getId().equals(player.getId()) && reg.isActive());
-        
-        if (alreadyRegistered) {
+        TournamentRegistration registration = existing.orElseGet(() -> new TournamentRegistration(tournament, player));
+        // Of concurrent re-registrations only the one moving the row out of WITHDRAWN goes on to take a slot
+        if (existing.isPresent() && !reactivateWithdrawn(registration)) {
             throw new IllegalStateException("Player is already registered for this tournament");
         }
-        
-        // Create registration
-        TournamentRegistration registration = new TournamentRegistration(tournament, player);
+
+        registration.setStatus(TournamentRegistration.RegistrationStatus.REGISTERED);
+        registration.setRegistrationDate(LocalDateTime.now());
         registration.setPaymentAmount(request.getPaymentAmount());
         registration.setPaymentReference(request.getPaymentReference());
         registration.setNotes(request.getNotes());
         
-        tournament.addRegistration(registration);
-        tournamentRepository.save(tournament);
+        // The unique constraint rejects a concurrent registration of the same player
+        try {
+            tournamentRegistrationRepository.saveAndFlush(registration);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Player is already registered for this tournament", e);
+        }
+        
+        // Taken last, so the tournament row stays locked only until commit
+        reserveRegistrationSlot(tournamentId);
         
         logger.info("Player {} registered successfully for tournament {}", player.getId(), tournamentId);
+        cacheTagService.evictTags(CacheTags.tournament(tournamentId));
         
-        // Send confirmation email
-        notifyPlayerRegistration(tournament, player, registration);
+        // Send confirmation email once the registration is committed
+        afterCommit(() -> notifyPlayerRegistration(tournament, player, registration));
         
         return convertRegistrationToResponse(registration);
     }
 
+    /**
+     * Register a micro-batch of players in one transaction, in request order
+     *
+     * Used by RegistrationAdmissionQueue. The tournament row is locked while the batch
+     * is checked, so the free slots counted here cannot be taken meanwhile. Requests
+     * that cannot be admitted are rejected individually; the batch only fails as a
+     * whole when the database refuses it, e.g. because a player registered through
+     * registerPlayer at the same moment.
+     *
+     * @return the outcome of each request, in the same order
+     */
+    public List<RegistrationTicket.Outcome> registerPlayers(UUID tournamentId, List<TournamentRegistrationRequest> requests) {
+        logger.debug("Registering a batch of {} players for tournament {}", requests.size(), tournamentId);
+        
+        Tournament tournament = tournamentRepository.findByIdForUpdate(tournamentId).orElse(null);
+        if (tournament == null || !tournament.isRegistrationOpen()) {
+            RegistrationTicket.Outcome rejected = RegistrationTicket.Outcome.rejected(tournament == null
+                    ? "Tournament not found with ID: " + tournamentId
+                    : "Registration is not open for this tournament");
+            return Collections.nCopies(requests.size(), rejected);
+        }
+        
+        Set<UUID> playerIds = requests.stream().map(TournamentRegistrationRequest::getPlayerId).collect(Collectors.toSet());
+        Map<UUID, Player> players = playerRepository.findAllById(playerIds).stream()
+                .collect(Collectors.toMap(Player::getId, player -> player));
+        Map<UUID, TournamentRegistration> existing = tournamentRegistrationRepository
+                .findByTournamentIdAndPlayerIdIn(tournamentId, playerIds).stream()
+                .collect(Collectors.toMap(registration -> registration.getPlayer().getId(), registration -> registration));
+        
+        int freeSlots = tournament.getMaxParticipants() == null ? Integer.MAX_VALUE
+                : Math.max(0, tournament.getMaxParticipants() - tournament.getCurrentRegistrationCount());
+        boolean scheduled = fixtureService.hasFixtures(tournamentId);
+        Set<UUID> seen = new HashSet<>();
+        List<RegistrationTicket.Outcome> outcomes = new ArrayList<>(requests.size());
+        Map<Integer, TournamentRegistration> admitted = new LinkedHashMap<>();
+        
+        for (TournamentRegistrationRequest request : requests) {
+            Player player = players.get(request.getPlayerId());
+            TournamentRegistration previous = existing.get(request.getPlayerId());
+            String rejection = null;
+            if (player == null) {
+                rejection = "Player not found with ID: " + request.getPlayerId();
+            } else if (!seen.add(player.getId()) || (previous != null && previous.isActive())) {
+                rejection = "Player is already registered for this tournament";
+            } else if (previous != null && previous.getStatus() == TournamentRegistration.RegistrationStatus.DISQUALIFIED) {
+                rejection = "Player is disqualified from this tournament";
+            } else if (scheduled) {
+                rejection = JOIN_AFTER_FIXTURES;
+            } else if (admitted.size() == freeSlots) {
+                rejection = "Tournament is full";
+            } else if (previous != null && !reactivateWithdrawn(previous)) {
+                // Registered again through registerPlayer since it was read
+                rejection = "Player is already registered for this tournament";
+            }
+            
+            if (rejection != null) {
+                outcomes.add(RegistrationTicket.Outcome.rejected(rejection));
+                continue;
+            }
+            
+            TournamentRegistration registration = previous != null ? previous : new TournamentRegistration(tournament, player);
+            registration.setStatus(TournamentRegistration.RegistrationStatus.REGISTERED);
+            registration.setRegistrationDate(LocalDateTime.now());
+            registration.setPaymentAmount(request.getPaymentAmount());
+            registration.setPaymentReference(request.getPaymentReference());
+            registration.setNotes(request.getNotes());
+            admitted.put(outcomes.size(), registration);
+            outcomes.add(null);
+        }
+        
+        if (admitted.isEmpty()) {
+            return outcomes;
+        }
+        
+        tournamentRegistrationRepository.saveAll(admitted.values());
+        tournamentRegistrationRepository.flush();
+        tournamentRepository.addRegistrationSlots(tournamentId, admitted.size(), LocalDateTime.now());
+        
+        admitted.forEach((index, registration) -> outcomes.set(index, RegistrationTicket.Outcome.registered(registration.getId())));
+        
+        logger.info("Registered {} of {} players for tournament {}", admitted.size(), requests.size(), tournamentId);
+        cacheTagService.evictTags(CacheTags.tournament(tournamentId));
+        
+        List<TournamentRegistration> registrations = List.copyOf(admitted.values());
+        afterCommit(() -> registrations.forEach(registration ->
+                notifyPlayerRegistration(tournament, registration.getPlayer(), registration)));
+        
+        return outcomes;
+    }
+
     @Transactional(readOnly = true)
     public List<TournamentRegistrationResponse> getTournamentRegistrations(UUID tournamentId) {
         logger.debug("Fetching registrations for tournament: {}", tournamentId);
@@ -209,157 +396,110 @@ public class TournamentService {
                                                                    TournamentRegistration.RegistrationStatus status) {
         logger.debug("Updating registration status: {} to {}", registrationId, status);
         
-        Tournament tournament = tournamentRepository.findById(tournamentId)
-                .orElseThrow(() -> new IllegalArgumentException("Tournament not found with ID: " + tournamentId));
-        
-        TournamentRegistration registration = tournament.getRegistrations().stream()
-                .filter(reg -> reg.getId().equals(registrationId))
-                .findFirst()
+        TournamentRegistration registration = tournamentRegistrationRepository.findByIdAndTournamentId(registrationId, tournamentId)
                 .orElseThrow(() -> new IllegalArgumentException("Registration not found with ID: " + registrationId));
         
+        // Only the call that actually moves the row in or out of the active statuses changes the
+        // slot count, so concurrent updates of the same registration take or give back its slot once
+        boolean activating = TournamentRegistration.ACTIVE_STATUSES.contains(status);
+        if (activating && !registration.isActive() && fixtureService.hasFixtures(tournamentId)) {
+            throw new IllegalStateException(JOIN_AFTER_FIXTURES);
+        }
+        boolean slotChanged = tournamentRegistrationRepository.transitionStatus(registrationId,
+                activating ? TournamentRegistration.INACTIVE_STATUSES : TournamentRegistration.ACTIVE_STATUSES,
+                status, LocalDateTime.now()) == 1;
         registration.setStatus(status);
-        tournamentRepository.save(tournament);
+        // Slot updates also bump the tournament's version, as the count is part of its representation
+        if (slotChanged && activating) {
+            reserveRegistrationSlot(tournamentId);
+        } else if (slotChanged) {
+            tournamentRepository.releaseRegistrationSlot(tournamentId, LocalDateTime.now());
+            // A withdrawn entrant's unplayed league fixtures go; the rest of the schedule stays as it is
+            fixtureService.removeEntrant(tournamentId, registration.getPlayer().getId());
+        }
+        tournamentRegistrationRepository.save(registration);
         
         logger.info("Registration status updated to {}: {}", status, registrationId);
+        cacheTagService.evictTags(CacheTags.tournament(tournamentId));
         
         return convertRegistrationToResponse(registration);
     }
 
-    // Tournament Bracket Generation
-
-    public BracketResponse generateBracket(UUID tournamentId) {
-        logger.debug("Generating bracket for tournament: {}", tournamentId);
-        
-        Tournament tournament = tournamentRepository.findById(tournamentId)
-                .orElseThrow(() -> new IllegalArgumentException("Tournament not found with ID: " + tournamentId));
-        
-        List<TournamentRegistration> activeRegistrations = tournament.getRegistrations().stream()
-                .filter(TournamentRegistration::isActive)
-                .collect(Collectors.toList());
-        
-        if (activeRegistrations.isEmpty()) {
-            throw new IllegalStateException("No active registrations found for tournament");
-        }
-        
-        // Shuffle players for random seeding
-        Collections.shuffle(activeRegistrations);
-        
-        BracketResponse bracket = new BracketResponse();
-        bracket.setTournamentId(tournament.getId());
-        bracket.setTournamentName(tournament.getName());
-        
-        int playerCount = activeRegistrations.size();
-        int totalRounds = (int) Math.ceil(Math.log(playerCount) / Math.log(2));
-        bracket.setTotalRounds(totalRounds);
-        
-        List<BracketResponse.Round> rounds = new ArrayList<>();
-        
-        // Generate first round
-        BracketResponse.Round firstRound = new BracketResponse.Round();
-        firstRound.setRoundNumber(1);
-        firstRound.setRoundName(getRoundName(1, totalRounds));
-        
-        List<BracketResponse.Match> firstRoundMatches = new ArrayList<>();
-        int matchNumber = 1;
-        
-        for (int i = 0; i < activeRegistrations.size(); i += 2) {
-            BracketResponse.Match match = new BracketResponse.Match();
-            match.setMatchNumber(matchNumber++);
-            match.setStatus(BracketResponse.MatchStatus.PENDING);
-            
-            TournamentRegistration player1Reg = activeRegistrations.get(i);
-            match.setPlayer1Id(player1Reg.getPlayer().getId());
-            match.setPlayer1Name(player1Reg.getPlayer().getName());
-            
-            if (i + 1 < activeRegistrations.size()) {
-                TournamentRegistration player2Reg = activeRegistrations.get(i + 1);
-                match.setPlayer2Id(player2Reg.getPlayer().getId());
-                match.setPlayer2Name(player2Reg.getPlayer().getName());
-            } else {
-                // Bye - player advances automatically
-                match.setWinnerId(player1Reg.getPlayer().getId());
-                match.setWinnerName(player1Reg.getPlayer().getName());
-                match.setStatus(BracketResponse.MatchStatus.WALKOVER);
-            }
-            
-            firstRoundMatches.add(match);
-        }
-        
-        firstRound.setMatches(firstRoundMatches);
-        rounds.add(firstRound);
-        
-        // Generate subsequent rounds (empty for now)
-        for (int round = 2; round <= totalRounds; round++) {
-            BracketResponse.Round nextRound = new BracketResponse.Round();
-            nextRound.setRoundNumber(round);
-            nextRound.setRoundName(getRoundName(round, totalRounds));
-            nextRound.setMatches(new ArrayList<>());
-            rounds.add(nextRound);
-        }
-        
-        bracket.setRounds(rounds);
-        
-        logger.info("Bracket generated successfully for tournament: {}", tournamentId);
-        
-        return bracket;
-    }
-
     // Tournament Filtering and Search
 
-    @Cacheable(value = "tournaments", key = "'upcoming'")
+    @Cacheable(value = "tournaments", key = "'upcoming'", sync = true)
     @Transactional(readOnly = true)
     public List<TournamentResponse> getUpcomingTournaments() {
         logger.debug("Fetching upcoming tournaments");
-        return tournamentRepository.findAll().stream()
-                .filter(Tournament::isUpcoming)
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<TournamentResponse> tournaments = toResponses(
+                tournamentRepository.findByStatusInOrderByStartDateAscIdAsc(UPCOMING_STATUSES));
+        cacheTagService.tag(CacheConfig.TOURNAMENTS_CACHE, "upcoming",
+                CacheTags.ofTournaments(tournaments, CacheTags.UPCOMING_TOURNAMENTS));
+        return tournaments;
     }
 
     @Transactional(readOnly = true)
     public List<TournamentResponse> getOngoingTournaments() {
         logger.debug("Fetching ongoing tournaments");
-        return tournamentRepository.findAll().stream()
-                .filter(Tournament::isOngoing)
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return toResponses(tournamentRepository.findByStatusOrderByStartDateAscIdAsc(Tournament.Status.ONGOING));
     }
 
     @Transactional(readOnly = true)
     public List<TournamentResponse> getCompletedTournaments() {
         logger.debug("Fetching completed tournaments");
-        return tournamentRepository.findAll().stream()
-                .filter(Tournament::isCompleted)
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return getCompletedTournaments(Pageable.unpaged()).getContent();
     }
 
-    @Cacheable(value = "tournaments", key = "'featured'")
+    @Transactional(readOnly = true)
+    public Page<TournamentResponse> getCompletedTournaments(int page, int size) {
+        logger.debug("Fetching completed tournaments - page: {}, size: {}", page, size);
+        return getCompletedTournaments(PageRequest.of(page, size));
+    }
+
+    private Page<TournamentResponse> getCompletedTournaments(Pageable pageable) {
+        return toResponsePage(tournamentRepository.findByStatusOrderByStartDateDescIdDesc(Tournament.Status.COMPLETED, pageable));
+    }
+
+    @Cacheable(value = "tournaments", key = "'featured'", sync = true)
     @Transactional(readOnly = true)
     public List<TournamentResponse> getFeaturedTournaments() {
         logger.debug("Fetching featured tournaments");
-        return tournamentRepository.findAll().stream()
-                .filter(t -> Boolean.TRUE.equals(t.getIsFeatured()))
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<TournamentResponse> tournaments = toResponses(tournamentRepository.findByIsFeaturedTrueOrderByStartDateDescIdDesc());
+        cacheTagService.tag(CacheConfig.TOURNAMENTS_CACHE, "featured",
+                CacheTags.ofTournaments(tournaments, CacheTags.FEATURED_TOURNAMENTS));
+        return tournaments;
     }
 
     @Transactional(readOnly = true)
     public List<TournamentResponse> getTournamentsByDistrict(UUID districtId) {
         logger.debug("Fetching tournaments for district: {}", districtId);
-        return tournamentRepository.findAll().stream()
-                .filter(t -> t.getDistrict() != null && t.getDistrict().getId().equals(districtId))
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return getTournamentsByDistrict(districtId, Pageable.unpaged()).getContent();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TournamentResponse> getTournamentsByDistrict(UUID districtId, int page, int size) {
+        logger.debug("Fetching tournaments for district: {} - page: {}, size: {}", districtId, page, size);
+        return getTournamentsByDistrict(districtId, PageRequest.of(page, size));
+    }
+
+    private Page<TournamentResponse> getTournamentsByDistrict(UUID districtId, Pageable pageable) {
+        return toResponsePage(tournamentRepository.findByDistrictIdOrderByStartDateDescIdDesc(districtId, pageable));
     }
 
     @Transactional(readOnly = true)
     public List<TournamentResponse> getTournamentsByDateRange(LocalDate startDate, LocalDate endDate) {
         logger.debug("Fetching tournaments between {} and {}", startDate, endDate);
-        return tournamentRepository.findAll().stream()
-                .filter(t -> !t.getStartDate().isBefore(startDate) && !t.getEndDate().isAfter(endDate))
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return getTournamentsByDateRange(startDate, endDate, Pageable.unpaged()).getContent();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TournamentResponse> getTournamentsByDateRange(LocalDate startDate, LocalDate endDate, int page, int size) {
+        logger.debug("Fetching tournaments between {} and {} - page: {}, size: {}", startDate, endDate, page, size);
+        return getTournamentsByDateRange(startDate, endDate, PageRequest.of(page, size));
+    }
+
+    private Page<TournamentResponse> getTournamentsByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        return toResponsePage(tournamentRepository.findWithinDateRange(startDate, endDate, pageable));
     }
 
     // Helper Methods
@@ -395,6 +535,65 @@ public class TournamentService {
         }
     }
 
+    /**
+     * Evict entries showing a changed tournament, and the cached lists it now qualifies for
+     */
+    private void evictTournamentTags(Tournament tournament) {
+        List<String> tags = new ArrayList<>();
+        tags.add(CacheTags.tournament(tournament.getId()));
+        if (tournament.isUpcoming()) {
+            tags.add(CacheTags.UPCOMING_TOURNAMENTS);
+        }
+        if (Boolean.TRUE.equals(tournament.getIsFeatured())) {
+            tags.add(CacheTags.FEATURED_TOURNAMENTS);
+        }
+        cacheTagService.evictTags(tags);
+    }
+
+    /**
+     * Move a withdrawn registration back to REGISTERED, unless a concurrent registration already has
+     */
+    private boolean reactivateWithdrawn(TournamentRegistration registration) {
+        return tournamentRegistrationRepository.transitionStatus(registration.getId(),
+                Set.of(TournamentRegistration.RegistrationStatus.WITHDRAWN),
+                TournamentRegistration.RegistrationStatus.REGISTERED, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * Take a registration slot, or fail when the tournament is full
+     */
+    private void reserveRegistrationSlot(UUID tournamentId) {
+        if (tournamentRepository.reserveRegistrationSlot(tournamentId, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("Tournament is full");
+        }
+    }
+
+    /**
+     * Run an action after the current transaction commits, or now outside a transaction
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private List<TournamentResponse> toResponses(List<Tournament> tournaments) {
+        return tournaments.stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
+
+    private Page<TournamentResponse> toResponsePage(Page<Tournament> tournaments) {
+        return tournaments.map(this::convertToResponse);
+    }
+
     private TournamentResponse convertToResponse(Tournament tournament) {
         TournamentResponse response = new TournamentResponse();
         response.setId(tournament.getId());
@@ -452,18 +651,6 @@ public class TournamentService {
         }
     }
 
-    private String getRoundName(int roundNumber, int totalRounds) {
-        if (roundNumber == totalRounds) {
-            return "Final";
-        } else if (roundNumber == totalRounds - 1) {
-            return "Semi-Final";
-        } else if (roundNumber == totalRounds - 2) {
-            return "Quarter-Final";
-        } else {
-            return "Round " + roundNumber;
-        }
-    }
-
     // Notification Methods
 
     private void notifyRegistrationOpen(Tournament tournament) {
@@ -1,5 +1,6 @@
 package com.telangana.ballbadminton.service;
 
+import com.telangana.ballbadminton.entity.Role;
 import com.telangana.ballbadminton.entity.User;
 import com.telangana.ballbadminton.repository.UserRepository;
 import org.slf4j.Logger;
@@ -10,9 +11,12 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 /**
  * Custom UserDetailsService implementation for Spring Security
- * Loads user details from the database for authentication
+ * Loads user details from the database for authentication and applies the
+ * role and status changes that affect what a user's tokens may do
  * 
  * @author Telangana Ball Badminton Association
  * @version 1.0.0
@@ -78,4 +82,52 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             throw new UsernameNotFoundException("Invalid user ID format: " + userId);
         }
     }
+
+    /**
+     * Assign a role to a user
+     * Bumps the user's token version so cached principals and role claims are refreshed.
+     */
+    @Transactional
+    public User assignRole(UUID userId, Role role) {
+        User user = findUserForUpdate(userId);
+        if (user.addRole(role)) {
+            user.incrementTokenVersion();
+            logger.info("Assigned role {} to user {}", role, user.getUsername());
+        }
+        return userRepository.save(user);
+    }
+
+    /**
+     * Remove a role from a user
+     * Bumps the user's token version so cached principals and role claims are refreshed.
+     */
+    @Transactional
+    public User removeRole(UUID userId, Role role) {
+        User user = findUserForUpdate(userId);
+        if (user.removeRole(role)) {
+            user.incrementTokenVersion();
+            logger.info("Removed role {} from user {}", role, user.getUsername());
+        }
+        return userRepository.save(user);
+    }
+
+    /**
+     * Activate or deactivate a user account
+     * Bumps the user's token version so cached principals and role claims are refreshed.
+     */
+    @Transactional
+    public User updateActiveStatus(UUID userId, boolean active) {
+        User user = findUserForUpdate(userId);
+        if (!Boolean.valueOf(active).equals(user.getActive())) {
+            user.setActive(active);
+            user.incrementTokenVersion();
+            logger.info("Set active status of user {} to {}", user.getUsername(), active);
+        }
+        return userRepository.save(user);
+    }
+
+    private User findUserForUpdate(UUID userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
+    }
 }
\ No newline at end of file
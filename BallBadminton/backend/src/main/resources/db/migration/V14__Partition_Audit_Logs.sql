@@ -0,0 +1,96 @@
+-- Migration V14: Monthly range partitioning for audit_logs
+-- Retention is applied by detaching and dropping whole monthly partitions
+-- (see AuditLogPartitionService) instead of bulk DELETEs on one large table.
+-- Partitions are named audit_logs_YYYY_MM and cover [first of month, first of next month).
+-- Author: Telangana Ball Badminton Association
+-- Version: 1.0.0
+
+-- Keep the existing data aside while the partitioned parent is created
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+ALTER TABLE audit_logs_unpartitioned RENAME CONSTRAINT audit_logs_pkey TO audit_logs_unpartitioned_pkey;
+
+-- The partition key must be part of the primary key on a partitioned table
+CREATE TABLE audit_logs (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    user_id UUID,
+    username VARCHAR(100),
+    action VARCHAR(50) NOT NULL,
+    entity_type VARCHAR(100),
+    entity_id VARCHAR(100),
+    description TEXT,
+    old_values TEXT,
+    new_values TEXT,
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(500),
+    request_method VARCHAR(10),
+    request_url VARCHAR(500),
+    status_code INTEGER,
+    execution_time_ms BIGINT,
+    severity VARCHAR(20) NOT NULL DEFAULT 'INFO',
+    status VARCHAR(20) NOT NULL DEFAULT 'SUCCESS',
+    error_message TEXT,
+    stack_trace TEXT,
+    metadata TEXT,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    session_id VARCHAR(100),
+    correlation_id VARCHAR(100),
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+-- Create one partition per month from the oldest existing row up to three months ahead
+DO $$
+DECLARE
+    partition_month DATE;
+    last_month DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(timestamp), CURRENT_TIMESTAMP))::DATE
+      INTO partition_month
+      FROM audit_logs_unpartitioned;
+    last_month := (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months')::DATE;
+
+    WHILE partition_month <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+            'audit_logs_' || to_char(partition_month, 'YYYY_MM'),
+            partition_month,
+            (partition_month + INTERVAL '1 month')::DATE
+        );
+        partition_month := (partition_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+-- Safety net for rows outside every monthly range (e.g. clock skew); expected to stay empty
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Move existing rows into their monthly partitions
+INSERT INTO audit_logs SELECT * FROM audit_logs_unpartitioned;
+DROP TABLE audit_logs_unpartitioned;
+
+-- Indexes on the parent are created on every current and future partition
+CREATE INDEX idx_audit_user_id ON audit_logs(user_id);
+CREATE INDEX idx_audit_username ON audit_logs(username);
+CREATE INDEX idx_audit_entity_type ON audit_logs(entity_type);
+CREATE INDEX idx_audit_entity_type_id ON audit_logs(entity_type, entity_id);
+CREATE INDEX idx_audit_action ON audit_logs(action);
+CREATE INDEX idx_audit_timestamp ON audit_logs(timestamp DESC);
+CREATE INDEX idx_audit_severity ON audit_logs(severity);
+CREATE INDEX idx_audit_status ON audit_logs(status);
+CREATE INDEX idx_audit_ip_address ON audit_logs(ip_address);
+CREATE INDEX idx_audit_correlation_id ON audit_logs(correlation_id);
+CREATE INDEX idx_audit_user_timestamp ON audit_logs(user_id, timestamp DESC);
+CREATE INDEX idx_audit_entity_timestamp ON audit_logs(entity_type, entity_id, timestamp DESC);
+CREATE INDEX idx_audit_severity_timestamp ON audit_logs(severity, timestamp DESC);
+CREATE INDEX idx_audit_action_timestamp ON audit_logs(action, timestamp DESC);
+
+-- Add comments for documentation
+COMMENT ON TABLE audit_logs IS 'Comprehensive audit trail for all system operations, partitioned by month on timestamp';
+COMMENT ON COLUMN audit_logs.user_id IS 'User who performed the action (null for system actions)';
+COMMENT ON COLUMN audit_logs.action IS 'Type of action performed (LOGIN, CREATE, UPDATE, DELETE, etc.)';
+COMMENT ON COLUMN audit_logs.entity_type IS 'Type of entity affected (Member, Player, Tournament, etc.)';
+COMMENT ON COLUMN audit_logs.entity_id IS 'ID of the entity affected';
+COMMENT ON COLUMN audit_logs.old_values IS 'Previous values before change (JSON format)';
+COMMENT ON COLUMN audit_logs.new_values IS 'New values after change (JSON format)';
+COMMENT ON COLUMN audit_logs.severity IS 'Severity level (DEBUG, INFO, WARNING, ERROR, CRITICAL)';
+COMMENT ON COLUMN audit_logs.status IS 'Operation status (SUCCESS, FAILURE, PARTIAL_SUCCESS, IN_PROGRESS)';
+COMMENT ON COLUMN audit_logs.timestamp IS 'Partition key; time-range predicates on this column enable partition pruning';
+COMMENT ON COLUMN audit_logs.correlation_id IS 'ID for tracking related operations';
@@ -0,0 +1,42 @@
+-- Migration V15: Pre-aggregated audit statistics
+-- Per-minute and per-hour event counters by action, severity, status and entity type.
+-- Maintained incrementally by AuditStatisticsService as audit batches are written;
+-- statistics queries read these buckets and touch audit_logs only for partial edge minutes.
+-- Author: Telangana Ball Badminton Association
+-- Version: 1.0.0
+
+CREATE TABLE IF NOT EXISTS audit_statistics_buckets (
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    dimension VARCHAR(20) NOT NULL,
+    dimension_value VARCHAR(100) NOT NULL,
+    event_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (granularity, bucket_start, dimension, dimension_value),
+    CONSTRAINT chk_audit_stats_granularity CHECK (granularity IN ('MINUTE', 'HOUR')),
+    CONSTRAINT chk_audit_stats_dimension CHECK (dimension IN ('ACTION', 'SEVERITY', 'STATUS', 'ENTITY_TYPE')),
+    CONSTRAINT chk_audit_stats_count CHECK (event_count >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_audit_stats_bucket_start ON audit_statistics_buckets(granularity, bucket_start);
+
+-- Backfill the counters from the existing audit trail
+INSERT INTO audit_statistics_buckets (granularity, bucket_start, dimension, dimension_value, event_count)
+SELECT g.granularity, date_trunc(lower(g.granularity), a.timestamp), d.dimension,
+       LEFT(COALESCE(CASE d.dimension
+           WHEN 'ACTION' THEN a.action
+           WHEN 'SEVERITY' THEN a.severity
+           WHEN 'STATUS' THEN a.status
+           ELSE a.entity_type
+       END, 'UNKNOWN'), 100),
+       COUNT(*)
+FROM audit_logs a
+CROSS JOIN (VALUES ('MINUTE'), ('HOUR')) AS g(granularity)
+CROSS JOIN (VALUES ('ACTION'), ('SEVERITY'), ('STATUS'), ('ENTITY_TYPE')) AS d(dimension)
+GROUP BY 1, 2, 3, 4
+ON CONFLICT (granularity, bucket_start, dimension, dimension_value)
+DO UPDATE SET event_count = audit_statistics_buckets.event_count + EXCLUDED.event_count;
+
+COMMENT ON TABLE audit_statistics_buckets IS 'Per-minute and per-hour audit event counters used by the audit statistics endpoint';
+COMMENT ON COLUMN audit_statistics_buckets.granularity IS 'Bucket width (MINUTE, HOUR)';
+COMMENT ON COLUMN audit_statistics_buckets.dimension IS 'Audit log attribute counted (ACTION, SEVERITY, STATUS, ENTITY_TYPE)';
+COMMENT ON COLUMN audit_statistics_buckets.dimension_value IS 'Attribute value; UNKNOWN when the audit log value was null';
@@ -0,0 +1,8 @@
+-- Migration V16: User token version
+-- Incremented whenever a user's roles or active status change. Access tokens carry the
+-- version they were issued with so cached principals and embedded role claims from
+-- older tokens can be recognised as stale.
+-- Author: Telangana Ball Badminton Association
+-- Version: 1.0.0
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Migration V17: Keyset pagination indexes
+-- The seek listings order by (sort key, id) and start after the last row of the previous
+-- page; these indexes let each page be read as one index range scan, however deep it is.
+-- Author: Telangana Ball Badminton Association
+-- Version: 1.0.0
+
+CREATE INDEX IF NOT EXISTS idx_players_active_name_id ON players(name, id) WHERE is_active = true;
+CREATE INDEX IF NOT EXISTS idx_tournaments_start_date_id ON tournaments(start_date DESC, id DESC);
+
+-- Created on the partitioned parent, so every monthly partition gets it
+CREATE INDEX IF NOT EXISTS idx_audit_timestamp_id ON audit_logs(timestamp DESC, id DESC);
+
+COMMENT ON INDEX idx_players_active_name_id IS 'Keyset pagination of active players by name';
+COMMENT ON INDEX idx_tournaments_start_date_id IS 'Keyset pagination of tournaments by start date';
+COMMENT ON INDEX idx_audit_timestamp_id IS 'Keyset pagination of audit logs by timestamp';
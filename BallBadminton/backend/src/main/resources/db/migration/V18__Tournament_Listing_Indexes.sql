@@ -0,0 +1,20 @@
+-- Migration V18: Tournament listing indexes
+-- The status, featured, district and date range listings are read with indexed queries
+-- instead of loading every tournament; these indexes return each listing in its order,
+-- so reading it costs as much as the rows it returns.
+-- Author: Telangana Ball Badminton Association
+-- Version: 1.0.0
+
+CREATE INDEX IF NOT EXISTS idx_tournaments_status_start_date ON tournaments(status, start_date, id);
+CREATE INDEX IF NOT EXISTS idx_tournaments_featured_start_date ON tournaments(start_date DESC, id DESC) WHERE is_featured = true;
+CREATE INDEX IF NOT EXISTS idx_tournaments_district_start_date ON tournaments(district_id, start_date DESC, id DESC);
+
+-- Registration counts of a page of tournaments
+CREATE INDEX IF NOT EXISTS idx_tournament_registrations_tournament_status ON tournament_registrations(tournament_id, status);
+
+-- The date range listing uses idx_tournaments_dates (start_date, end_date) from V1
+
+COMMENT ON INDEX idx_tournaments_status_start_date IS 'Upcoming, ongoing and completed tournament listings by start date';
+COMMENT ON INDEX idx_tournaments_featured_start_date IS 'Featured tournament listing by start date';
+COMMENT ON INDEX idx_tournaments_district_start_date IS 'Tournament listing of a district by start date';
+COMMENT ON INDEX idx_tournament_registrations_tournament_status IS 'Active registration counts per tournament';
@@ -0,0 +1,23 @@
+-- Migration V19: Tournament registration counter
+-- Keeps the number of active (REGISTERED or CONFIRMED) registrations on the tournament row.
+-- Registration takes a slot with a single conditional UPDATE
+--   active_registration_count = active_registration_count + 1 WHERE active_registration_count < max_participants
+-- so concurrent registrations can never overfill a tournament, and nothing needs to load
+-- the registrations of a tournament to count them.
+-- Author: Telangana Ball Badminton Association
+-- Version: 1.0.0
+
+ALTER TABLE tournaments ADD COLUMN IF NOT EXISTS active_registration_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE tournaments t SET active_registration_count = (
+    SELECT COUNT(*) FROM tournament_registrations r
+    WHERE r.tournament_id = t.id AND r.status IN ('REGISTERED', 'CONFIRMED')
+);
+
+-- Not bounded by max_participants, which may be lowered below the registrations already taken
+ALTER TABLE tournaments ADD CONSTRAINT chk_tournaments_active_registration_count
+    CHECK (active_registration_count >= 0);
+
+-- Duplicate registrations are rejected by uk_tournament_player (tournament_id, player_id) from V1
+
+COMMENT ON COLUMN tournaments.active_registration_count IS 'Active registrations, maintained by atomic slot updates';
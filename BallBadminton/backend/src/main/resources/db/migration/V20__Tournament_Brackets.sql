@@ -0,0 +1,32 @@
+-- Migration V20: Tournament brackets
+-- Stores every match of a single-elimination bracket, addressed by round and position.
+-- The winner of match m of round r plays match (m + 1) / 2 of round r + 1, so posting a
+-- result updates that one row instead of redrawing the bracket.
+-- Author: Telangana Ball Badminton Association
+-- Version: 1.0.0
+
+CREATE TABLE IF NOT EXISTS tournament_matches (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    tournament_id UUID NOT NULL REFERENCES tournaments(id) ON DELETE CASCADE,
+    round_number INTEGER NOT NULL CHECK (round_number >= 1),
+    match_number INTEGER NOT NULL CHECK (match_number >= 1),
+    player1_id UUID REFERENCES players(id) ON DELETE SET NULL,
+    player2_id UUID REFERENCES players(id) ON DELETE SET NULL,
+    player1_seed INTEGER,
+    player2_seed INTEGER,
+    winner_id UUID REFERENCES players(id) ON DELETE SET NULL,
+    score VARCHAR(100),
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'WALKOVER')),
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(50) DEFAULT 'system',
+    updated_by VARCHAR(50) DEFAULT 'system',
+    -- Also the index of bracket reads by tournament, round and position
+    CONSTRAINT uk_tournament_match_position UNIQUE (tournament_id, round_number, match_number)
+);
+
+CREATE INDEX IF NOT EXISTS idx_tournament_matches_player1 ON tournament_matches(player1_id);
+CREATE INDEX IF NOT EXISTS idx_tournament_matches_player2 ON tournament_matches(player2_id);
+
+COMMENT ON TABLE tournament_matches IS 'Single-elimination bracket matches, one row per match of every round';
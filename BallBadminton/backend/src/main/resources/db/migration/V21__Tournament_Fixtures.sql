@@ -0,0 +1,30 @@
+-- Migration V21: League fixtures
+-- Round-robin fixtures with the court and start time they were scheduled on at the venue.
+-- A court cannot be booked twice at the same time. When an entrant withdraws, only their
+-- unplayed fixtures are deleted, so the rest of the schedule keeps its courts and times.
+-- Author: Telangana Ball Badminton Association
+-- Version: 1.0.0
+
+CREATE TABLE IF NOT EXISTS tournament_fixtures (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    tournament_id UUID NOT NULL REFERENCES tournaments(id) ON DELETE CASCADE,
+    round_number INTEGER NOT NULL CHECK (round_number >= 1),
+    player1_id UUID NOT NULL REFERENCES players(id) ON DELETE CASCADE,
+    player2_id UUID NOT NULL REFERENCES players(id) ON DELETE CASCADE,
+    court_number INTEGER NOT NULL CHECK (court_number >= 1),
+    scheduled_at TIMESTAMP NOT NULL,
+    winner_id UUID REFERENCES players(id) ON DELETE SET NULL,
+    score VARCHAR(100),
+    status VARCHAR(20) NOT NULL DEFAULT 'SCHEDULED' CHECK (status IN ('SCHEDULED', 'IN_PROGRESS', 'COMPLETED')),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(50) DEFAULT 'system',
+    updated_by VARCHAR(50) DEFAULT 'system',
+    -- Also the index of the fixture listing in playing order
+    CONSTRAINT uk_tournament_fixture_court_time UNIQUE (tournament_id, scheduled_at, court_number)
+);
+
+CREATE INDEX IF NOT EXISTS idx_tournament_fixtures_player1 ON tournament_fixtures(player1_id);
+CREATE INDEX IF NOT EXISTS idx_tournament_fixtures_player2 ON tournament_fixtures(player2_id);
+
+COMMENT ON TABLE tournament_fixtures IS 'Round-robin fixtures scheduled on venue courts and time slots';
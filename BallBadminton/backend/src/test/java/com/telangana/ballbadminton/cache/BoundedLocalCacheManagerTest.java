@@ -0,0 +1,164 @@
+package com.telangana.ballbadminton.cache;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BoundedLocalCacheManager
+ * Tests size and weight bounds, per-cache TTLs, loading of concurrent misses and
+ * exported statistics
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("BoundedLocalCacheManager Tests")
+class BoundedLocalCacheManagerTest extends BaseUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoundedLocalCacheManager createManager(int maxSize, long maxWeight) {
+        return new BoundedLocalCacheManager(
+            Map.of("players", Duration.ofHours(3), "districts", Duration.ofSeconds(30)),
+            maxSize, maxWeight, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should create only the configured caches")
+    void shouldCreateConfiguredCaches() {
+        BoundedLocalCacheManager manager = createManager(10, 0);
+
+        assertThat(manager.getCacheNames()).containsExactlyInAnyOrder("players", "districts");
+        assertThat(manager.getCache("players")).isSameAs(manager.getCache("players"));
+        assertThat(manager.getCache("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should bound the number of cached player lookups")
+    void shouldBoundEntries() {
+        BoundedLocalCache players = (BoundedLocalCache) createManager(100, 0).getCache("players");
+
+        for (int i = 0; i < 1_000; i++) {
+            players.put(UUID.randomUUID(), Optional.of("player " + i));
+        }
+
+        assertThat(players.size()).isEqualTo(100);
+        assertThat(players.getEvictionCount()).isEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries when lists exceed the weight bound")
+    void shouldBoundWeight() {
+        BoundedLocalCache players = (BoundedLocalCache) createManager(100, 50).getCache("players");
+        players.put("prominent", IntStream.range(0, 30).boxed().toList());
+        players.put("player-1", "player");
+        players.get("prominent");
+        players.put("top-20", IntStream.range(0, 20).boxed().toList());
+
+        assertThat(players.get("player-1")).isNull();
+        assertThat(players.get("prominent")).isNotNull();
+        assertThat(players.weight()).isEqualTo(50);
+        assertThat(players.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should expire entries after their cache's TTL")
+    void shouldExpireEntriesPerCache() {
+        BoundedLocalCacheManager manager = createManager(10, 0);
+        AtomicLong now = new AtomicLong(1_000L);
+        BoundedLocalCache players = (BoundedLocalCache) manager.getCache("players");
+        BoundedLocalCache districts = (BoundedLocalCache) manager.getCache("districts");
+        players.setClock(now::get);
+        districts.setClock(now::get);
+        players.put("prominent", List.of("player"));
+        districts.put("all-active", List.of("district"));
+
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+
+        assertThat(players.get("prominent")).isNotNull();
+        assertThat(districts.get("all-active")).isNull();
+        assertThat(districts.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should weigh collections, pages and wrapped values by their elements")
+    void shouldWeighByElements() {
+        assertThat(BoundedLocalCacheManager.elementWeight(List.of(1, 2, 3))).isEqualTo(3);
+        assertThat(BoundedLocalCacheManager.elementWeight(new PageImpl<>(List.of(1, 2)))).isEqualTo(2);
+        assertThat(BoundedLocalCacheManager.elementWeight(
+            new StampedeProtectedCache.TimedValue(List.of(1, 2, 3, 4), 0, 0))).isEqualTo(4);
+        assertThat(BoundedLocalCacheManager.elementWeight(Optional.of("player"))).isEqualTo(1);
+        assertThat(BoundedLocalCacheManager.elementWeight(List.of())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run the loader once for concurrent misses on the same key")
+    void shouldLoadConcurrentMissesOnce() throws Exception {
+        BoundedLocalCache players = (BoundedLocalCache) createManager(10, 0).getCache("players");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> players.get("ranked", () -> {
+                    loads.incrementAndGet();
+                    loaderStarted.countDown();
+                    releaseLoader.await(5, TimeUnit.SECONDS);
+                    return "ranked players";
+                })));
+            }
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            releaseLoader.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("ranked players");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(players.getPutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should export hit, miss, put and eviction counts")
+    void shouldExportStatistics() {
+        BoundedLocalCache districts = (BoundedLocalCache) createManager(1, 0).getCache("districts");
+        districts.put("a", "district a");
+        districts.get("a");
+        districts.get("b");
+        districts.put("b", "district b");
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "districts").tag("result", "hit")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "districts").tag("result", "miss")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.puts").tag("cache", "districts").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "districts").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.size").tag("cache", "districts").gauge().value()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,111 @@
+package com.telangana.ballbadminton.cache;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CacheTagService with the in-memory tag index
+ * Tests that evictions remove only tagged entries and wait for the transaction to commit
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("CacheTagService Tests")
+class CacheTagServiceTest extends BaseUnitTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("tournaments", "players");
+    private final CacheTagService cacheTagService = new CacheTagService(cacheManager, new InMemoryCacheTagIndex());
+
+    private final UUID tournamentId = UUID.randomUUID();
+    private final UUID otherTournamentId = UUID.randomUUID();
+    private final UUID districtId = UUID.randomUUID();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Cache cacheTournaments() {
+        Cache tournaments = cacheManager.getCache("tournaments");
+        tournaments.put(tournamentId, "tournament");
+        cacheTagService.tag("tournaments", tournamentId,
+            List.of(CacheTags.tournament(tournamentId), CacheTags.district(districtId)));
+        tournaments.put(otherTournamentId, "other tournament");
+        cacheTagService.tag("tournaments", otherTournamentId, List.of(CacheTags.tournament(otherTournamentId)));
+        tournaments.put("upcoming", "upcoming list");
+        cacheTagService.tag("tournaments", "upcoming",
+            List.of(CacheTags.UPCOMING_TOURNAMENTS, CacheTags.tournament(tournamentId)));
+        tournaments.put("featured", "featured list");
+        cacheTagService.tag("tournaments", "featured",
+            List.of(CacheTags.FEATURED_TOURNAMENTS, CacheTags.tournament(otherTournamentId)));
+        return tournaments;
+    }
+
+    @Test
+    @DisplayName("Should evict only entries carrying the tag")
+    void shouldEvictOnlyTaggedEntries() {
+        Cache tournaments = cacheTournaments();
+
+        cacheTagService.evictTags(CacheTags.tournament(tournamentId));
+
+        assertThat(tournaments.get(tournamentId)).isNull();
+        assertThat(tournaments.get("upcoming")).isNull();
+        assertThat(tournaments.get(otherTournamentId)).isNotNull();
+        assertThat(tournaments.get("featured")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict entries of any of several tags across caches")
+    void shouldEvictAcrossTagsAndCaches() {
+        Cache tournaments = cacheTournaments();
+        UUID playerId = UUID.randomUUID();
+        Cache players = cacheManager.getCache("players");
+        players.put(playerId, "player");
+        cacheTagService.tag("players", playerId, List.of(CacheTags.player(playerId), CacheTags.district(districtId)));
+
+        cacheTagService.evictTags(CacheTags.district(districtId), CacheTags.FEATURED_TOURNAMENTS, null);
+
+        assertThat(players.get(playerId)).isNull();
+        assertThat(tournaments.get(tournamentId)).isNull();
+        assertThat(tournaments.get("featured")).isNull();
+        assertThat(tournaments.get("upcoming")).isNotNull();
+        assertThat(tournaments.get(otherTournamentId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should defer evictions until the transaction commits")
+    void shouldDeferEvictionUntilCommit() {
+        Cache tournaments = cacheTournaments();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cacheTagService.evictTags(CacheTags.tournament(tournamentId));
+        assertThat(tournaments.get(tournamentId)).isNotNull();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(tournaments.get(tournamentId)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should forget tags once evicted")
+    void shouldForgetEvictedTags() {
+        Cache tournaments = cacheTournaments();
+        cacheTagService.evictTags(CacheTags.tournament(tournamentId));
+
+        tournaments.put(tournamentId, "reloaded without tags");
+        cacheTagService.evictTags(CacheTags.tournament(tournamentId));
+
+        assertThat(tournaments.get(tournamentId)).isNotNull();
+    }
+}
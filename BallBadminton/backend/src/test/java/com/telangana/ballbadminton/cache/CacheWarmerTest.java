@@ -0,0 +1,110 @@
+package com.telangana.ballbadminton.cache;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CacheWarmer and CacheWarmupHealthIndicator
+ * Tests bounded concurrency, failure isolation, the overall timeout and readiness reporting
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("CacheWarmer Tests")
+class CacheWarmerTest extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Should run every task with bounded concurrency")
+    void shouldRunTasksWithBoundedConcurrency() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Map<String, Runnable> tasks = new LinkedHashMap<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.put("task-" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+            });
+        }
+        CacheWarmer warmer = new CacheWarmer(tasks, 2, Duration.ofSeconds(10), false, new SimpleMeterRegistry());
+
+        warmer.start().get(10, TimeUnit.SECONDS);
+
+        assertThat(warmer.getStatus()).isEqualTo(CacheWarmer.Status.COMPLETED);
+        assertThat(warmer.getResults()).hasSize(8).containsValue("warmed");
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should record failed tasks without stopping the others")
+    void shouldIsolateFailedTasks() throws Exception {
+        Map<String, Runnable> tasks = new LinkedHashMap<>();
+        tasks.put("districts", () -> { });
+        tasks.put("featured-news", () -> {
+            throw new IllegalStateException("database unavailable");
+        });
+        CacheWarmer warmer = new CacheWarmer(tasks, 2, Duration.ofSeconds(10), false, new SimpleMeterRegistry());
+
+        warmer.start().get(10, TimeUnit.SECONDS);
+
+        assertThat(warmer.getResults())
+            .containsEntry("districts", "warmed")
+            .containsEntry("featured-news", "failed");
+        assertThat(warmer.getStatus()).isEqualTo(CacheWarmer.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should hold readiness until warm-up ends, even when it times out")
+    void shouldHoldReadinessUntilWarmupEnds() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CacheWarmer warmer = new CacheWarmer(Map.of("slow", () -> await(release)), 1,
+            Duration.ofMillis(200), true, new SimpleMeterRegistry());
+        CacheWarmupHealthIndicator indicator = new CacheWarmupHealthIndicator(warmer);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        var run = warmer.start();
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        run.get(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertThat(warmer.getStatus()).isEqualTo(CacheWarmer.Status.TIMED_OUT);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("Should report up while warming when readiness is not held")
+    void shouldNotHoldReadinessByDefault() {
+        CacheWarmer warmer = new CacheWarmer(Map.of("districts", () -> { }), 1,
+            Duration.ofSeconds(10), false, new SimpleMeterRegistry());
+
+        assertThat(new CacheWarmupHealthIndicator(warmer).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.telangana.ballbadminton.cache;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CacheCircuitBreaker, CircuitBreakingCache and CircuitBreakingCacheManager
+ * Tests tripping on failures and slow calls, local failover, recovery probes and metrics
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("CircuitBreakingCache Tests")
+class CircuitBreakingCacheTest extends BaseUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicBoolean redisDown = new AtomicBoolean();
+    private final AtomicInteger redisCalls = new AtomicInteger();
+    private final FlakyCache players = new FlakyCache("players");
+    private final FlakyCache districts = new FlakyCache("districts");
+
+    private final CacheCircuitBreaker circuitBreaker = new CacheCircuitBreaker("redis", 3,
+        Duration.ofMillis(500), Duration.ofHours(1), () -> {
+            if (redisDown.get()) {
+                throw new QueryTimeoutException("ping timed out");
+            }
+        }, meterRegistry);
+
+    /**
+     * Stands in for a Redis cache, timing out while redisDown is set
+     */
+    private class FlakyCache extends ConcurrentMapCache {
+
+        FlakyCache(String name) {
+            super(name);
+        }
+
+        private void call() {
+            redisCalls.incrementAndGet();
+            if (redisDown.get()) {
+                throw new QueryTimeoutException("Redis command timed out");
+            }
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            call();
+            return super.lookup(key);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            call();
+            super.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            call();
+            super.evict(key);
+        }
+
+        @Override
+        public void clear() {
+            call();
+            super.clear();
+        }
+    }
+
+    private CircuitBreakingCacheManager createManager() {
+        SimpleCacheManager sharedCacheManager = new SimpleCacheManager();
+        sharedCacheManager.setCaches(List.of(players, districts));
+        sharedCacheManager.afterPropertiesSet();
+        return new CircuitBreakingCacheManager(sharedCacheManager, circuitBreaker,
+            Map.of("players", Duration.ofHours(3), "districts", Duration.ofSeconds(30)),
+            100, Duration.ofSeconds(60), meterRegistry);
+    }
+
+    @AfterEach
+    void closeCircuitBreaker() {
+        circuitBreaker.close();
+    }
+
+    @Test
+    @DisplayName("Should stop calling Redis after consecutive timeouts and serve the local fallback")
+    void shouldOpenAfterFailures() {
+        Cache cache = createManager().getCache("players");
+        redisDown.set(true);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get("prominent")).isNull();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+
+        int callsWhenOpened = redisCalls.get();
+        cache.put("prominent", "players");
+        assertThat(cache.get("prominent").get()).isEqualTo("players");
+        assertThat(redisCalls.get()).isEqualTo(callsWhenOpened);
+    }
+
+    @Test
+    @DisplayName("Should count successful but slow calls as failures")
+    void shouldOpenAfterSlowCalls() {
+        Cache cache = createManager().getCache("players");
+        AtomicLong now = new AtomicLong();
+        circuitBreaker.setNanoClock(() -> now.addAndGet(Duration.ofMillis(400).toNanos()));
+
+        cache.get("prominent");
+        assertThat(circuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+
+        circuitBreaker.setNanoClock(() -> now.addAndGet(Duration.ofSeconds(1).toNanos()));
+        for (int i = 0; i < 3; i++) {
+            cache.get("prominent");
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should load values into the fallback while the breaker is open")
+    void shouldLoadThroughFallback() {
+        Cache cache = createManager().getCache("players");
+        AtomicInteger loads = new AtomicInteger();
+        redisDown.set(true);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.get("prominent", () -> "players " + loads.incrementAndGet())).isEqualTo("players 1");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stay open while probes fail and clear all caches when Redis recovers")
+    void shouldRecoverAfterProbe() {
+        CircuitBreakingCacheManager manager = createManager();
+        districts.put("all-active", "stale districts");
+        Cache cache = manager.getCache("players");
+        redisDown.set(true);
+        for (int i = 0; i < 3; i++) {
+            cache.get("prominent");
+        }
+        cache.put("prominent", "players");
+
+        assertThat(circuitBreaker.probe()).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+
+        redisDown.set(false);
+        assertThat(circuitBreaker.probe()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+        assertThat(districts.get("all-active")).isNull();
+        assertThat(cache.get("prominent")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict fallback entries even when Redis is unreachable")
+    void shouldEvictFallbackEntries() {
+        Cache cache = createManager().getCache("players");
+        redisDown.set(true);
+        cache.put("prominent", "players");
+
+        cache.evict("prominent");
+
+        assertThat(cache.get("prominent")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should publish breaker state, transitions and call outcomes")
+    void shouldPublishMetrics() {
+        Cache cache = createManager().getCache("players");
+        cache.get("prominent");
+        redisDown.set(true);
+        for (int i = 0; i < 4; i++) {
+            cache.get("prominent");
+        }
+
+        assertThat(meterRegistry.get("cache.circuit.state").tag("name", "redis").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.circuit.transitions").tag("state", "open").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.circuit.calls").tag("result", "success").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.circuit.calls").tag("result", "failure").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("cache.circuit.calls").tag("result", "rejected").counter().count()).isEqualTo(1);
+    }
+}
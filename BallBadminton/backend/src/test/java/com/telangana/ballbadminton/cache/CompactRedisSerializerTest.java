@@ -0,0 +1,225 @@
+package com.telangana.ballbadminton.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.cache.CompactRedisSerializer.Format;
+import com.telangana.ballbadminton.dto.player.PlayerResponse;
+import com.telangana.ballbadminton.dto.tournament.TournamentResponse;
+import com.telangana.ballbadminton.entity.Player;
+import com.telangana.ballbadminton.entity.Tournament;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CompactRedisSerializer
+ * Tests round trips of cached DTO lists, compression, cached nulls and a payload size
+ * comparison against the JSON serializer used by the default cache configuration.
+ * Round trip times are compared by a benchmark that only reports them
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("CompactRedisSerializer Tests")
+class CompactRedisSerializerTest extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Should round trip cached player and tournament lists")
+    @SuppressWarnings("unchecked")
+    void shouldRoundTripCachedLists() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(Format.SMILE, 4096);
+        List<PlayerResponse> players = players(20);
+        List<TournamentResponse> tournaments = tournaments(10);
+
+        List<PlayerResponse> cachedPlayers = (List<PlayerResponse>) serializer.deserialize(serializer.serialize(players));
+        List<TournamentResponse> cachedTournaments = (List<TournamentResponse>) serializer.deserialize(serializer.serialize(tournaments));
+
+        assertThat(cachedPlayers).hasSize(20);
+        assertThat(cachedPlayers.get(3).getId()).isEqualTo(players.get(3).getId());
+        assertThat(cachedPlayers.get(3).getDateOfBirth()).isEqualTo(players.get(3).getDateOfBirth());
+        assertThat(cachedPlayers.get(3).getCategory()).isEqualTo(players.get(3).getCategory());
+        assertThat(cachedPlayers.get(3).getStatistics().getWinPercentage())
+            .isEqualTo(players.get(3).getStatistics().getWinPercentage());
+        assertThat(cachedTournaments.get(2).getEntryFee()).isEqualByComparingTo(tournaments.get(2).getEntryFee());
+        assertThat(cachedTournaments.get(2).getStatus()).isEqualTo(tournaments.get(2).getStatus());
+        assertThat(cachedTournaments.get(2).getUpdatedAt()).isEqualTo(tournaments.get(2).getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Should compress values at or above the threshold")
+    @SuppressWarnings("unchecked")
+    void shouldCompressLargeValues() {
+        CompactRedisSerializer uncompressed = new CompactRedisSerializer(Format.SMILE, 0);
+        CompactRedisSerializer compressed = new CompactRedisSerializer(Format.SMILE, 1024);
+        List<PlayerResponse> players = players(50);
+
+        byte[] plain = uncompressed.serialize(players);
+        byte[] deflated = compressed.serialize(players);
+
+        assertThat(deflated.length).isLessThan(plain.length);
+        assertThat((List<PlayerResponse>) compressed.deserialize(deflated)).hasSize(50);
+        assertThat(compressed.serialize("small")[0]).isEqualTo(plain[0]);
+    }
+
+    @Test
+    @DisplayName("Should keep cached nulls and treat foreign payloads as misses")
+    void shouldHandleNullValuesAndForeignPayloads() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(Format.SMILE, 4096);
+
+        assertThat(serializer.deserialize(serializer.serialize(NullValue.INSTANCE))).isSameAs(NullValue.INSTANCE);
+        assertThat(serializer.deserialize("{\"@class\":\"java.util.ArrayList\"}".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("Should shrink cached payloads compared to JSON")
+    void shouldShrinkPayloadsComparedToJson() {
+        RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer(jsonMapper());
+        RedisSerializer<Object> smile = new CompactRedisSerializer(Format.SMILE, 0);
+        RedisSerializer<Object> smileDeflated = new CompactRedisSerializer(Format.SMILE, 1);
+        List<Object> values = List.of(players(50), tournaments(20));
+
+        long jsonBytes = payloadBytes(json, values);
+        long smileBytes = payloadBytes(smile, values);
+        long deflatedBytes = payloadBytes(smileDeflated, values);
+
+        assertThat(smileBytes).isLessThan(jsonBytes);
+        assertThat(deflatedBytes).isLessThan(smileBytes);
+    }
+
+    /**
+     * Total payload size of the values, checking that each one deserializes again
+     */
+    private long payloadBytes(RedisSerializer<Object> serializer, List<Object> values) {
+        long bytes = 0;
+        for (Object value : values) {
+            byte[] payload = serializer.serialize(value);
+            bytes += payload.length;
+            assertThat(serializer.deserialize(payload)).isNotNull();
+        }
+        return bytes;
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Benchmark: compact serialization against JSON")
+    void benchmarkRoundTrips() {
+        RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer(jsonMapper());
+        RedisSerializer<Object> smile = new CompactRedisSerializer(Format.SMILE, 0);
+        RedisSerializer<Object> smileDeflated = new CompactRedisSerializer(Format.SMILE, 1);
+        List<Object> values = List.of(players(50), tournaments(20));
+        int rounds = 200;
+
+        // Warm up all serializers before measuring
+        for (RedisSerializer<Object> serializer : List.of(json, smile, smileDeflated)) {
+            roundTripNanos(serializer, values, rounds / 4);
+        }
+
+        long jsonNanos = roundTripNanos(json, values, rounds);
+        long smileNanos = roundTripNanos(smile, values, rounds);
+        long deflatedNanos = roundTripNanos(smileDeflated, values, rounds);
+
+        // Timings are reported only, as they depend on the machine
+        System.out.printf("Cache payload bytes / round trip us: json %d / %d, smile %d / %d, smile+deflate %d / %d%n",
+            payloadBytes(json, values), jsonNanos / rounds / 1000,
+            payloadBytes(smile, values), smileNanos / rounds / 1000,
+            payloadBytes(smileDeflated, values), deflatedNanos / rounds / 1000);
+    }
+
+    /**
+     * Serialize and deserialize all values the given number of times
+     *
+     * @return total elapsed nanoseconds
+     */
+    private long roundTripNanos(RedisSerializer<Object> serializer, List<Object> values, int rounds) {
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (Object value : values) {
+                serializer.deserialize(serializer.serialize(value));
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * JSON mapper equivalent to the default cache serializer, with java.time support
+     */
+    private ObjectMapper jsonMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+            ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return mapper;
+    }
+
+    private List<PlayerResponse> players(int count) {
+        List<PlayerResponse> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PlayerResponse player = new PlayerResponse();
+            player.setId(UUID.randomUUID());
+            player.setName("Player " + i);
+            player.setDateOfBirth(LocalDate.of(1995, 1, 1).plusDays(i * 37L));
+            player.setAge(20 + i % 15);
+            player.setGender(i % 2 == 0 ? Player.Gender.MALE : Player.Gender.FEMALE);
+            player.setCategory(i % 2 == 0 ? Player.Category.MEN : Player.Category.WOMEN);
+            player.setProfilePhotoUrl("https://cdn.example.com/players/" + i + ".jpg");
+            player.setContactEmail("player" + i + "@example.com");
+            player.setIsProminent(i % 5 == 0);
+            player.setIsActive(true);
+            player.setDistrictId(UUID.randomUUID());
+            player.setDistrictName("Hyderabad");
+            player.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0).plusHours(i));
+            player.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 10, 0).plusHours(i));
+
+            PlayerResponse.PlayerStatisticsResponse statistics = new PlayerResponse.PlayerStatisticsResponse();
+            statistics.setMatchesPlayed(40 + i);
+            statistics.setMatchesWon(20 + i / 2);
+            statistics.setWinPercentage(50.0 + i % 10);
+            statistics.setCurrentRanking(i + 1);
+            statistics.setTotalPoints(1000 - i * 10);
+            player.setStatistics(statistics);
+            player.setTotalAchievements(i % 4);
+            players.add(player);
+        }
+        return players;
+    }
+
+    private List<TournamentResponse> tournaments(int count) {
+        List<TournamentResponse> tournaments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TournamentResponse tournament = new TournamentResponse();
+            tournament.setId(UUID.randomUUID());
+            tournament.setName("State Championship " + i);
+            tournament.setDescription("Annual state level ball badminton championship, edition " + i);
+            tournament.setStartDate(LocalDate.of(2025, 1, 10).plusWeeks(i));
+            tournament.setEndDate(LocalDate.of(2025, 1, 12).plusWeeks(i));
+            tournament.setVenue("LB Stadium, Hyderabad");
+            tournament.setMaxParticipants(64);
+            tournament.setEntryFee(new BigDecimal("500.00"));
+            tournament.setPrizeMoney(new BigDecimal("50000.00"));
+            tournament.setStatus(Tournament.Status.REGISTRATION_OPEN);
+            tournament.setTournamentType(Tournament.TournamentType.SINGLES);
+            tournament.setIsFeatured(i % 3 == 0);
+            tournament.setDistrictName("Hyderabad");
+            tournament.setCurrentRegistrationCount(i * 2);
+            tournament.setCreatedAt(LocalDateTime.of(2024, 12, 1, 9, 0));
+            tournament.setUpdatedAt(LocalDateTime.of(2024, 12, 2, 9, 0).plusMinutes(i));
+            tournaments.add(tournament);
+        }
+        return tournaments;
+    }
+}
@@ -0,0 +1,179 @@
+package com.telangana.ballbadminton.cache;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.cache.ResponseCacheFilter.Route;
+import com.telangana.ballbadminton.dto.player.PlayerResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ResponseCacheFilter and ResponseCacheTagAdvice
+ * Tests stored hits bypassing the controller, revalidation, gzip variants and tag eviction
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("ResponseCacheFilter Tests")
+class ResponseCacheFilterTest extends BaseUnitTest {
+
+    private static final String ETAG = "W/\"1-18f\"";
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("responses");
+    private final CacheTagService cacheTagService = new CacheTagService(cacheManager, new InMemoryCacheTagIndex());
+    private final UUID playerId = UUID.randomUUID();
+    private final AtomicInteger controllerCalls = new AtomicInteger();
+
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(cacheManager, "responses", cacheTagService,
+        List.of(new Route("/api/v1/players/prominent", CacheTags.PROMINENT_PLAYERS),
+                new Route("/api/v1/players/rankings/top", List.of("limit"), CacheTags.RANKED_PLAYERS)),
+        64, 1024 * 1024, new SimpleMeterRegistry());
+
+    /**
+     * Stands in for the controller and ResponseCacheTagAdvice
+     */
+    private FilterChain controller(String body, String eTag) {
+        return (request, response) -> {
+            controllerCalls.incrementAndGet();
+            if (request.getAttribute(ResponseCacheFilter.RECORDING_ATTRIBUTE) != null) {
+                request.setAttribute(ResponseCacheFilter.TAGS_ATTRIBUTE, Set.of(CacheTags.player(playerId)));
+            }
+            if (eTag != null) {
+                ((HttpServletResponse) response).setHeader(HttpHeaders.ETAG, eTag);
+            }
+            response.setContentType("application/json");
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse get(String uri, FilterChain chain, String... headers) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        for (int i = 0; i < headers.length; i += 2) {
+            request.addHeader(headers[i], headers[i + 1]);
+        }
+        int query = uri.indexOf('?');
+        if (query >= 0) {
+            request.setRequestURI(uri.substring(0, query));
+            for (String parameter : uri.substring(query + 1).split("&")) {
+                String[] parts = parameter.split("=");
+                request.addParameter(parts[0], parts[1]);
+            }
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should serve repeated requests from the stored bytes")
+    void shouldServeHitsWithoutController() throws Exception {
+        FilterChain chain = controller("[{\"name\":\"Player\"}]", ETAG);
+
+        MockHttpServletResponse first = get("/api/v1/players/prominent", chain);
+        MockHttpServletResponse second = get("/api/v1/players/prominent", chain);
+
+        assertThat(controllerCalls.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getContentType()).isEqualTo("application/json");
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match from the stored validators")
+    void shouldRevalidateHits() throws Exception {
+        FilterChain chain = controller("[]", ETAG);
+        get("/api/v1/players/prominent", chain);
+
+        MockHttpServletResponse response = get("/api/v1/players/prominent", chain, HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(controllerCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve the pre-gzipped copy to clients accepting gzip")
+    void shouldServeGzippedCopy() throws Exception {
+        String body = "[" + "{\"name\":\"Player\"},".repeat(20) + "{}]";
+        FilterChain chain = controller(body, ETAG);
+        get("/api/v1/players/prominent", chain);
+
+        MockHttpServletResponse gzipped = get("/api/v1/players/prominent", chain, HttpHeaders.ACCEPT_ENCODING, "gzip, br");
+        MockHttpServletResponse plain = get("/api/v1/players/prominent", chain, HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+        }
+        assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plain.getContentAsString()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("Should drop stored responses when their tags are evicted")
+    void shouldEvictByTag() throws Exception {
+        FilterChain chain = controller("[]", ETAG);
+        get("/api/v1/players/prominent", chain);
+        get("/api/v1/players/rankings/top?limit=10", chain);
+
+        cacheTagService.evictTags(CacheTags.RANKED_PLAYERS);
+        get("/api/v1/players/prominent", chain);
+        get("/api/v1/players/rankings/top?limit=10", chain);
+        assertThat(controllerCalls.get()).isEqualTo(3);
+
+        cacheTagService.evictTags(CacheTags.player(playerId));
+        get("/api/v1/players/prominent", chain);
+        assertThat(controllerCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not store responses without validators or with undeclared parameters")
+    void shouldSkipUncacheableResponses() throws Exception {
+        get("/api/v1/players/prominent", controller("[]", null));
+        get("/api/v1/players/prominent", controller("[]", null));
+        get("/api/v1/players/rankings/top?limit=5&page=2", controller("[]", ETAG));
+        get("/api/v1/players/rankings/top?limit=5&page=2", controller("[]", ETAG));
+
+        assertThat(controllerCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should key responses by sorted query parameters")
+    void shouldNormalizeQueryParameters() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/players/rankings/top");
+        request.addParameter("limit", "20", "10");
+        Route route = new Route("/api/v1/players/rankings/top", List.of("limit"));
+
+        assertThat(filter.key(request, route)).isEqualTo("/api/v1/players/rankings/top?limit=10&limit=20");
+    }
+
+    @Test
+    @DisplayName("Should tag known DTO bodies and refuse unknown ones")
+    void shouldDeriveTagsFromBodies() {
+        PlayerResponse player = new PlayerResponse();
+        player.setId(playerId);
+        UUID districtId = UUID.randomUUID();
+        player.setDistrictId(districtId);
+
+        assertThat(ResponseCacheTagAdvice.tagsOf(List.of(player)))
+            .containsExactly(CacheTags.player(playerId), CacheTags.district(districtId));
+        assertThat(ResponseCacheTagAdvice.tagsOf(List.of())).isEmpty();
+        assertThat(ResponseCacheTagAdvice.tagsOf("summary")).isNull();
+    }
+}
@@ -0,0 +1,158 @@
+package com.telangana.ballbadminton.cache;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for StampedeProtectedCache and StampedeProtectedCacheManager
+ * Tests single-flight loading of hot keys, XFetch early refresh and compatibility with plain values
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("StampedeProtectedCache Tests")
+class StampedeProtectedCacheTest extends BaseUnitTest {
+
+    private final ConcurrentMapCache target = new ConcurrentMapCache("tournaments");
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private StampedeProtectedCache createCache(StampedePolicy policy) {
+        StampedeProtectedCache cache = new StampedeProtectedCache(target, policy, Duration.ofMinutes(30),
+            Duration.ofSeconds(5), new SimpleMeterRegistry());
+        cache.setClock(now::get);
+        return cache;
+    }
+
+    @Test
+    @DisplayName("Should run the loader once for concurrent misses on the same key")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        StampedeProtectedCache cache = createCache(new StampedePolicy(true, 0));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get("upcoming", () -> {
+                    loads.incrementAndGet();
+                    loaderStarted.countDown();
+                    releaseLoader.await(5, TimeUnit.SECONDS);
+                    return "upcoming list";
+                })));
+            }
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            releaseLoader.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("upcoming list");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get("upcoming").get()).isEqualTo("upcoming list");
+    }
+
+    @Test
+    @DisplayName("Should refresh early near expiry and keep the value otherwise")
+    void shouldRefreshEarlyNearExpiry() {
+        StampedeProtectedCache cache = createCache(new StampedePolicy(true, 1.0));
+        cache.setRandom(() -> 0.5);
+        AtomicInteger loads = new AtomicInteger();
+        now.set(0);
+        cache.get("featured", () -> {
+            now.addAndGet(2_000L);
+            return "v" + loads.incrementAndGet();
+        });
+
+        // Expires at 2s + 30min; with a 2s load time and ln(0.5) the refresh window is the last ~1.4s
+        now.set(Duration.ofMinutes(29).toMillis());
+        assertThat(cache.get("featured", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        now.set(Duration.ofMinutes(30).toMillis() + 1_000L);
+        assertThat(cache.get("featured", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the current value when an early refresh fails")
+    void shouldKeepValueWhenEarlyRefreshFails() {
+        StampedeProtectedCache cache = createCache(new StampedePolicy(true, 1.0));
+        cache.setRandom(() -> 1e-9);
+        now.set(0);
+        cache.get("featured", () -> {
+            now.addAndGet(1_000L);
+            return "current";
+        });
+        now.set(Duration.ofMinutes(30).toMillis() - 10_000L);
+
+        String value = cache.get("featured", () -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        assertThat(value).isEqualTo("current");
+    }
+
+    @Test
+    @DisplayName("Should propagate loader failures on a miss")
+    void shouldPropagateLoaderFailuresOnMiss() {
+        StampedeProtectedCache cache = createCache(new StampedePolicy(true, 1.0));
+
+        assertThatThrownBy(() -> cache.get("featured", () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+        assertThat(cache.get("featured")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should read values stored without timing information")
+    void shouldReadPlainValues() {
+        StampedeProtectedCache cache = createCache(new StampedePolicy(true, 1.0));
+        target.put("upcoming", "stored before protection");
+
+        assertThat(cache.get("upcoming").get()).isEqualTo("stored before protection");
+        assertThat(cache.get("upcoming", () -> "reloaded")).isEqualTo("stored before protection");
+
+        cache.put("featured", "put directly");
+        assertThat(target.get("featured").get()).isInstanceOf(StampedeProtectedCache.TimedValue.class);
+        assertThat(cache.get("featured", String.class)).isEqualTo("put directly");
+    }
+
+    @Test
+    @DisplayName("Should wrap only caches with a stampede policy")
+    void shouldWrapOnlyConfiguredCaches() {
+        StampedeProtectedCacheManager manager = new StampedeProtectedCacheManager(
+            new ConcurrentMapCacheManager("tournaments", "members"),
+            Map.of("tournaments", new StampedePolicy(true, 1.0)),
+            Map.of("tournaments", Duration.ofMinutes(30)),
+            Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        assertThat(manager.getCache("tournaments")).isInstanceOf(StampedeProtectedCache.class);
+        assertThat(manager.getCache("tournaments")).isSameAs(manager.getCache("tournaments"));
+        assertThat(manager.getCache("members")).isInstanceOf(ConcurrentMapCache.class);
+    }
+}
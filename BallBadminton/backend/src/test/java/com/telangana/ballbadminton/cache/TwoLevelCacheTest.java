@@ -0,0 +1,129 @@
+package com.telangana.ballbadminton.cache;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TwoLevelCache and TwoLevelCacheManager
+ * Tests L1 fills, per-level statistics, invalidation broadcasts and L1 bounds
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("TwoLevelCache Tests")
+class TwoLevelCacheTest extends BaseUnitTest {
+
+    @Mock
+    private CacheInvalidationBroadcaster broadcaster;
+
+    private final ConcurrentMapCacheManager sharedCacheManager = new ConcurrentMapCacheManager("players", "districts");
+
+    private TwoLevelCacheManager createManager() {
+        return new TwoLevelCacheManager(sharedCacheManager, broadcaster,
+            Map.of("players", Duration.ofHours(3), "districts", Duration.ofSeconds(30)),
+            100, Duration.ofSeconds(60), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from L1 after the first L2 hit")
+    void shouldServeRepeatedReadsFromLocalTier() {
+        TwoLevelCacheManager manager = createManager();
+        UUID playerId = UUID.randomUUID();
+        sharedCacheManager.getCache("players").put(playerId, "player");
+        TwoLevelCache cache = (TwoLevelCache) manager.getCache("players");
+
+        assertThat(cache.get(playerId).get()).isEqualTo("player");
+        sharedCacheManager.getCache("players").clear();
+        assertThat(cache.get(playerId).get()).isEqualTo("player");
+
+        assertThat(cache.getSharedHits()).isEqualTo(1);
+        assertThat(cache.getLocalHits()).isEqualTo(1);
+        assertThat(cache.getLocalHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should load through both tiers once per key")
+    void shouldLoadThroughBothTiers() {
+        TwoLevelCache cache = (TwoLevelCache) createManager().getCache("players");
+        AtomicLong loads = new AtomicLong();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get("prominent", () -> "loaded-" + loads.incrementAndGet())).isEqualTo("loaded-1");
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getSharedMisses()).isEqualTo(1);
+        assertThat(sharedCacheManager.getCache("players").get("prominent").get()).isEqualTo("loaded-1");
+    }
+
+    @Test
+    @DisplayName("Should evict both tiers and broadcast the eviction")
+    void shouldEvictBothTiersAndBroadcast() {
+        Cache cache = createManager().getCache("players");
+        cache.put("prominent", "list");
+
+        cache.evict("prominent");
+
+        assertThat(cache.get("prominent")).isNull();
+        assertThat(sharedCacheManager.getCache("players").get("prominent")).isNull();
+        verify(broadcaster, times(2)).publishEvict("players", "prominent");
+    }
+
+    @Test
+    @DisplayName("Should drop only the L1 entry on a remote invalidation")
+    void shouldDropLocalEntryOnRemoteInvalidation() {
+        TwoLevelCacheManager manager = createManager();
+        TwoLevelCache cache = (TwoLevelCache) manager.getCache("players");
+        cache.put("prominent", "old");
+        sharedCacheManager.getCache("players").put("prominent", "new");
+
+        assertThat(cache.get("prominent").get()).isEqualTo("old");
+        manager.evict("players", "prominent");
+        assertThat(cache.get("prominent").get()).isEqualTo("new");
+
+        manager.clear("players");
+        assertThat(cache.getSharedHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cap the L1 TTL at the cache TTL and the configured maximum")
+    void shouldCapLocalTtl() {
+        TwoLevelCacheManager manager = createManager();
+
+        assertThat(manager.localTtl("players")).isEqualTo(Duration.ofSeconds(60));
+        assertThat(manager.localTtl("districts")).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used and expired L1 entries")
+    void shouldBoundLocalCache() {
+        AtomicLong now = new AtomicLong(1_000L);
+        BoundedLocalCache local = new BoundedLocalCache("players", 2, Duration.ofSeconds(10), true);
+        local.setClock(now::get);
+
+        local.put("a", 1);
+        local.put("b", 2);
+        local.get("a");
+        local.put("c", 3);
+
+        assertThat(local.get("a")).isNotNull();
+        assertThat(local.get("b")).isNull();
+        assertThat(local.size()).isEqualTo(2);
+
+        now.addAndGet(10_000L);
+        assertThat(local.get("a")).isNull();
+        assertThat(local.get("c")).isNull();
+    }
+}
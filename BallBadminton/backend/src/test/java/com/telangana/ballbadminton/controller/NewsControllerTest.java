@@ -1,6 +1,7 @@
 package com.telangana.ballbadminton.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telangana.ballbadminton.dto.ResourceVersion;
 import com.telangana.ballbadminton.dto.news.NewsArticleRequest;
 import com.telangana.ballbadminton.dto.news.NewsArticleResponse;
 import com.telangana.ballbadminton.dto.news.NewsCategoryRequest;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -150,18 +152,53 @@ class NewsControllerTest {
     void getFeaturedArticles_ShouldReturnFeaturedArticles() throws Exception {
         // Given
         List<NewsArticleResponse> articles = Arrays.asList(testArticleResponse);
+        ResourceVersion version = ResourceVersion.of(articles, NewsArticleResponse::getUpdatedAt);
+        when(newsService.getFeaturedArticlesVersion()).thenReturn(version);
         when(newsService.getFeaturedArticles()).thenReturn(articles);
 
         // When & Then
         mockMvc.perform(get("/api/v1/news/articles/featured"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, version.getETag()))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].isFeatured").value(true));
 
         verify(newsService).getFeaturedArticles();
     }
 
+    @Test
+    void getFeaturedArticles_WhenETagMatches_ShouldReturnNotModifiedWithoutLoadingArticles() throws Exception {
+        // Given
+        ResourceVersion version = ResourceVersion.of(List.of(testArticleResponse), NewsArticleResponse::getUpdatedAt);
+        when(newsService.getFeaturedArticlesVersion()).thenReturn(version);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/news/articles/featured")
+                .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.getETag()))
+                .andExpect(content().string(""));
+
+        verify(newsService, never()).getFeaturedArticles();
+    }
+
+    @Test
+    void getFeaturedArticles_WhenCachedBodyIsStale_ShouldNotSendValidators() throws Exception {
+        // Given
+        ResourceVersion current = new ResourceVersion(1L, testArticleResponse.getUpdatedAt().plusMinutes(5));
+        when(newsService.getFeaturedArticlesVersion()).thenReturn(current);
+        when(newsService.getFeaturedArticles()).thenReturn(List.of(testArticleResponse));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/news/articles/featured")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[0].isFeatured").value(true));
+    }
+
     @Test
     void getArticleBySlug_WhenArticleExists_ShouldReturnArticle() throws Exception {
         // Given
@@ -0,0 +1,80 @@
+package com.telangana.ballbadminton.dto;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for KeysetCursor and CursorPage
+ * Tests cursor round trips, rejection of foreign or malformed cursors and page trimming
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Should decode the position a cursor was encoded from")
+    void shouldRoundTripPositions() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime timestamp = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123456000);
+
+        KeysetCursor byName = KeysetCursor.decode(KeysetCursor.encode("name", "Ravi\nKumar", id), "name");
+        KeysetCursor byTimestamp = KeysetCursor.decode(KeysetCursor.encode("timestamp", timestamp, id), "timestamp");
+        KeysetCursor byDate = KeysetCursor.decode(KeysetCursor.encode("startDate", LocalDate.of(2024, 3, 1), id), "startDate");
+
+        assertThat(byName.getValue()).isEqualTo("Ravi\nKumar");
+        assertThat(byName.getId()).isEqualTo(id);
+        assertThat(byTimestamp.getDateTimeValue()).isEqualTo(timestamp);
+        assertThat(byDate.getDateValue()).isEqualTo(LocalDate.of(2024, 3, 1));
+    }
+
+    @Test
+    @DisplayName("Should start from the beginning without a cursor")
+    void shouldStartWithoutCursor() {
+        KeysetCursor start = KeysetCursor.decode(null, "name");
+
+        assertThat(start.isStart()).isTrue();
+        assertThat(start.getValue()).isNull();
+        assertThat(start.getDateTimeValue()).isNull();
+        assertThat(KeysetCursor.decode(" ", "name").isStart()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors and cursors of other listings")
+    void shouldRejectInvalidCursors() {
+        String byName = KeysetCursor.encode("name", "Ravi", UUID.randomUUID());
+
+        assertThatThrownBy(() -> KeysetCursor.decode(byName, "timestamp")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!", "name")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.encode("startDate", "soon", UUID.randomUUID()), "startDate")
+            .getDateValue()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.limit(KeysetCursor.MAX_SIZE + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should trim the look-ahead row and point the next cursor at the last returned row")
+    void shouldBuildPagesFromLookAheadRows() {
+        List<String> rows = List.of("a", "b", "c");
+
+        CursorPage<String> page = CursorPage.of(rows, 2, String::toUpperCase, row -> "after-" + row, null);
+        CursorPage<String> lastPage = CursorPage.of(rows, 3, String::toUpperCase, row -> "after-" + row, 3L);
+
+        assertThat(page.getContent()).containsExactly("A", "B");
+        assertThat(page.getNextCursor()).isEqualTo("after-b");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getTotalElements()).isNull();
+        assertThat(lastPage.getContent()).containsExactly("A", "B", "C");
+        assertThat(lastPage.isHasNext()).isFalse();
+        assertThat(lastPage.getTotalElements()).isEqualTo(3);
+        assertThat(KeysetCursor.limit(2).getPageSize()).isEqualTo(3);
+    }
+}
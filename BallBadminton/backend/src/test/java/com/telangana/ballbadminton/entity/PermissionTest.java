@@ -3,6 +3,9 @@ package com.telangana.ballbadminton.entity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -228,4 +231,26 @@ class PermissionTest {
             assertThat(permission.getDescription()).isNotBlank();
         }
     }
+
+    @Test
+    @DisplayName("Should give each permission its own mask bit")
+    void shouldGiveEachPermissionItsOwnMaskBit() {
+        long combined = 0L;
+        for (Permission permission : Permission.values()) {
+            assertThat(Long.bitCount(permission.getMask())).isEqualTo(1);
+            assertThat(combined & permission.getMask()).isZero();
+            combined |= permission.getMask();
+        }
+    }
+
+    @Test
+    @DisplayName("Should convert between permission sets and masks")
+    void shouldConvertBetweenSetsAndMasks() {
+        Set<Permission> permissions = EnumSet.of(Permission.NEWS_READ, Permission.FILE_MANAGE, Permission.USER_CREATE);
+
+        long mask = Permission.maskOf(permissions);
+
+        assertThat(Permission.fromMask(mask)).containsExactlyInAnyOrderElementsOf(permissions);
+        assertThat(Permission.fromMask(0L)).isEmpty();
+    }
 }
\ No newline at end of file
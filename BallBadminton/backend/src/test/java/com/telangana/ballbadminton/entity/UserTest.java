@@ -8,6 +8,7 @@ import org.springframework.security.core.GrantedAuthority;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -361,4 +362,27 @@ class UserTest extends BaseUnitTest {
         assertThat(user.hasAllPermissions()).isTrue(); // Empty array should return true
         assertThat(user.getAllPermissions()).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should keep the permission mask in sync with role changes")
+    void shouldKeepPermissionMaskInSyncWithRoleChanges() {
+        // Given
+        user.setRoles(new HashSet<>(Set.of(Role.USER)));
+        assertThat(user.getPermissionMask()).isEqualTo(Role.USER.getPermissionMask());
+        assertThat(user.hasPermission(Permission.USER_CREATE)).isFalse();
+
+        // When
+        user.addRole(Role.ADMIN);
+
+        // Then
+        assertThat(user.hasPermission(Permission.USER_CREATE)).isTrue();
+        assertThat(user.hasAllPermissions(Permission.USER_CREATE, Permission.NEWS_READ)).isTrue();
+
+        // When
+        user.removeRole(Role.ADMIN);
+
+        // Then
+        assertThat(user.hasPermission(Permission.USER_CREATE)).isFalse();
+        assertThat(user.getAllPermissions()).containsExactlyInAnyOrderElementsOf(Role.USER.getPermissions());
+    }
 }
\ No newline at end of file
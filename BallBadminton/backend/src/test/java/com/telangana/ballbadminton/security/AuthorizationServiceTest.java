@@ -5,15 +5,20 @@ import com.telangana.ballbadminton.entity.Role;
 import com.telangana.ballbadminton.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -388,4 +393,106 @@ class AuthorizationServiceTest {
                 .hasMessageContaining("Administrative privileges required");
         }
     }
+
+    @Test
+    @DisplayName("Should check permissions of the current user without allocating")
+    void shouldCheckPermissionsWithoutAllocating() {
+        // Given - an editor and moderator, authenticated the way JwtAuthenticationFilter does it
+        testUser.setRoles(Set.of(Role.EDITOR, Role.MODERATOR));
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(testUser, null, List.of()));
+        Permission[] publishing = {Permission.NEWS_PUBLISH, Permission.CONTENT_APPROVE};
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int requests = 20000;
+
+        try {
+            // Warm up so that class loading and the first resolution of the mask are not counted
+            checkPermissions(requests, publishing);
+
+            // When
+            long before = threads.getCurrentThreadAllocatedBytes();
+            int granted = checkPermissions(requests, publishing);
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+            // Then - less than a byte per request leaves room only for the measurement itself
+            assertThat(granted).isEqualTo(2 * requests);
+            assertThat(allocated).isLessThan(requests);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private int checkPermissions(int requests, Permission[] publishing) {
+        int granted = 0;
+        for (int i = 0; i < requests; i++) {
+            if (authorizationService.hasPermission(Permission.TOURNAMENT_UPDATE)) granted++;
+            if (authorizationService.hasPermission(Permission.USER_MANAGE_ROLES)) granted++;
+            if (authorizationService.hasAnyPermission(publishing)) granted++;
+        }
+        return granted;
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Benchmark: bitmask permission checks against rebuilding role permission sets")
+    void benchmarkPermissionChecks() {
+        // Given
+        testUser.setRoles(Set.of(Role.EDITOR, Role.MODERATOR));
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(testUser, null, List.of()));
+        int requests = 20000;
+
+        try {
+            // Warm up both paths before measuring
+            checkActions(requests / 4);
+            checkActionsRebuildingRoleSets(requests / 4);
+
+            // When
+            long maskNanos = checkActions(requests);
+            long rebuildNanos = checkActionsRebuildingRoleSets(requests);
+
+            // Then - timings are reported only, as they depend on the machine
+            System.out.printf("Authorization cost per request: rebuilt sets %d ns, bitmask %d ns%n",
+                rebuildNanos / requests, maskNanos / requests);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private long checkActions(int requests) {
+        long start = System.nanoTime();
+        int granted = 0;
+        for (int i = 0; i < requests; i++) {
+            if (authorizationService.canPerformAction("tournament", "update")) granted++;
+            if (authorizationService.canPerformAction("user", "manage_roles")) granted++;
+            if (authorizationService.hasAnyPermission(Permission.NEWS_PUBLISH, Permission.CONTENT_APPROVE)) granted++;
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(granted).isEqualTo(2 * requests);
+        return elapsed;
+    }
+
+    /**
+     * The same checks with each role's permission set rebuilt per call, as before permission masks
+     */
+    private long checkActionsRebuildingRoleSets(int requests) {
+        long start = System.nanoTime();
+        int granted = 0;
+        for (int i = 0; i < requests; i++) {
+            User user = authorizationService.getCurrentUser();
+            if (hasPermissionRebuildingRoleSets(user, Permission.TOURNAMENT_UPDATE)) granted++;
+            if (hasPermissionRebuildingRoleSets(user, Permission.USER_MANAGE_ROLES)) granted++;
+            if (hasPermissionRebuildingRoleSets(user, Permission.NEWS_PUBLISH)
+                    || hasPermissionRebuildingRoleSets(user, Permission.CONTENT_APPROVE)) granted++;
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(granted).isEqualTo(2 * requests);
+        return elapsed;
+    }
+
+    private boolean hasPermissionRebuildingRoleSets(User user, Permission permission) {
+        return user.getRoles().stream()
+            .anyMatch(role -> new HashSet<>(role.getPermissions()).contains(permission));
+    }
 }
\ No newline at end of file
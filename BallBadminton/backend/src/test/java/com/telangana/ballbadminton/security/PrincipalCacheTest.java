@@ -0,0 +1,171 @@
+package com.telangana.ballbadminton.security;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.cache.CacheInvalidationBroadcaster;
+import com.telangana.ballbadminton.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for PrincipalCache
+ * Tests expiry, size bound, invalidation, trusting of token role claims and
+ * token version changes broadcast between nodes
+ *
+ * Requirements: 6.1, 8.3
+ */
+@DisplayName("PrincipalCache Tests")
+class PrincipalCacheTest extends BaseUnitTest {
+
+    private static final long TOKEN_LIFETIME_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Mock
+    private CacheInvalidationBroadcaster broadcaster;
+
+    private PrincipalCache createCache(int maxSize, boolean trustTokenRoles) {
+        return createCache(maxSize, trustTokenRoles, Optional.empty());
+    }
+
+    private PrincipalCache createCache(int maxSize, boolean trustTokenRoles, Optional<CacheInvalidationBroadcaster> broadcaster) {
+        PrincipalCache cache = new PrincipalCache(true, maxSize, 60, trustTokenRoles, TOKEN_LIFETIME_MILLIS,
+            broadcaster, new SimpleMeterRegistry());
+        cache.setClock(now::get);
+        return cache;
+    }
+
+    private User user(UUID id) {
+        User user = new User("player" + id.toString().substring(0, 8), "player@example.com", "password", "Test", "Player");
+        user.setId(id);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should return cached principal until it expires")
+    void shouldExpireEntries() {
+        PrincipalCache cache = createCache(100, false);
+        UUID userId = UUID.randomUUID();
+        User user = user(userId);
+
+        cache.put(userId, 0, user);
+        assertThat(cache.get(userId, 0)).isSameAs(user);
+        assertThat(cache.get(userId, 1)).isNull();
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(61));
+        assertThat(cache.get(userId, 0)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop all entries of a user on invalidation")
+    void shouldInvalidateUser() {
+        PrincipalCache cache = createCache(100, false);
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+
+        cache.put(userId, 0, user(userId));
+        cache.put(userId, 1, user(userId));
+        cache.put(otherUserId, 0, user(otherUserId));
+
+        cache.invalidate(userId, 2);
+
+        assertThat(cache.get(userId, 0)).isNull();
+        assertThat(cache.get(userId, 1)).isNull();
+        assertThat(cache.get(otherUserId, 0)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should never grow beyond the maximum size")
+    void shouldBoundSize() {
+        PrincipalCache cache = createCache(10, false);
+
+        for (int i = 0; i < 50; i++) {
+            UUID userId = UUID.randomUUID();
+            cache.put(userId, 0, user(userId));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should only trust role claims from tokens at or above the user's current version")
+    void shouldTrustOnlyCurrentTokenVersions() {
+        PrincipalCache cache = createCache(100, true);
+        UUID userId = UUID.randomUUID();
+
+        assertThat(cache.canTrustTokenRoles(userId, 0)).isTrue();
+
+        cache.invalidate(userId, 1);
+        assertThat(cache.canTrustTokenRoles(userId, 0)).isFalse();
+        assertThat(cache.canTrustTokenRoles(userId, 1)).isTrue();
+
+        PrincipalCache untrusting = createCache(100, false);
+        assertThat(untrusting.canTrustTokenRoles(userId, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should broadcast token version changes and apply those of other nodes")
+    void shouldShareTokenVersionsBetweenNodes() {
+        PrincipalCache cache = createCache(100, true, Optional.of(broadcaster));
+        ArgumentCaptor<CacheInvalidationBroadcaster.TokenVersionHandler> handler =
+            ArgumentCaptor.forClass(CacheInvalidationBroadcaster.TokenVersionHandler.class);
+        verify(broadcaster).setTokenVersionHandler(handler.capture());
+        UUID demoted = UUID.randomUUID();
+        UUID deactivated = UUID.randomUUID();
+        cache.put(deactivated, 0, user(deactivated));
+
+        cache.invalidate(demoted, 1);
+        verify(broadcaster).publishTokenVersion(demoted, 1);
+
+        // Deactivated on another node
+        handler.getValue().tokenVersionChanged(deactivated, 1);
+        assertThat(cache.canTrustTokenRoles(deactivated, 0)).isFalse();
+        assertThat(cache.get(deactivated, 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should forget a token version once every older token has expired")
+    void shouldExpireTokenVersions() {
+        PrincipalCache cache = createCache(100, true);
+        UUID userId = UUID.randomUUID();
+
+        cache.invalidate(userId, 1);
+        now.addAndGet(TOKEN_LIFETIME_MILLIS - 1);
+        assertThat(cache.canTrustTokenRoles(userId, 0)).isFalse();
+
+        // Prunes the expired version when making room
+        now.addAndGet(1);
+        for (int i = 0; i < 100; i++) {
+            cache.recordTokenVersion(UUID.randomUUID(), 1);
+        }
+        assertThat(cache.tokenVersionCount()).isEqualTo(100);
+        assertThat(cache.canTrustTokenRoles(userId, 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stop trusting token roles for one token lifetime when too many versions change at once")
+    void shouldSuspendTrustWhenTokenVersionsOverflow() {
+        PrincipalCache cache = createCache(10, true);
+        UUID userId = UUID.randomUUID();
+
+        for (int i = 0; i < 11; i++) {
+            cache.recordTokenVersion(UUID.randomUUID(), 1);
+        }
+
+        assertThat(cache.tokenVersionCount()).isLessThanOrEqualTo(10);
+        assertThat(cache.canTrustTokenRoles(userId, 0)).isFalse();
+        now.addAndGet(TOKEN_LIFETIME_MILLIS);
+        assertThat(cache.canTrustTokenRoles(userId, 0)).isTrue();
+    }
+}
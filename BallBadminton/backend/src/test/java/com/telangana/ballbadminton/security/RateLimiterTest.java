@@ -0,0 +1,114 @@
+package com.telangana.ballbadminton.security;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.security.RateLimiter.Decision;
+import com.telangana.ballbadminton.security.RateLimiter.Mode;
+import com.telangana.ballbadminton.security.RateLimiter.Quota;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RateLimiter
+ * Tests burst capacity, refill rate, key isolation and idle bucket eviction
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("RateLimiter Tests")
+class RateLimiterTest extends BaseUnitTest {
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    private RateLimiter createLimiter(int maxTrackedKeys) {
+        RateLimiter limiter = new RateLimiter(Mode.LOCAL, maxTrackedKeys, redisTemplateProvider, new SimpleMeterRegistry());
+        limiter.setClock(now::get);
+        return limiter;
+    }
+
+    @Test
+    @DisplayName("Should allow a full burst and then reject")
+    void shouldAllowBurstThenReject() {
+        RateLimiter limiter = createLimiter(100);
+        Quota quota = new Quota(60, 5);
+
+        for (int i = 0; i < 5; i++) {
+            Decision decision = limiter.tryAcquire("user:1", quota);
+            assertThat(decision.isAllowed()).isTrue();
+            assertThat(decision.getRemaining()).isEqualTo(4 - i);
+        }
+
+        Decision rejected = limiter.tryAcquire("user:1", quota);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRetryAfterMillis()).isEqualTo(1000);
+        assertThat(limiter.getMode()).isEqualTo(Mode.LOCAL);
+    }
+
+    @Test
+    @DisplayName("Should refill tokens at the sustained rate")
+    void shouldRefillAtSustainedRate() {
+        RateLimiter limiter = createLimiter(100);
+        Quota quota = new Quota(60, 2);
+
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", quota).isAllowed()).isTrue();
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", quota).isAllowed()).isTrue();
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", quota).isAllowed()).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", quota).isAllowed()).isTrue();
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", quota).isAllowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per key")
+    void shouldIsolateKeys() {
+        RateLimiter limiter = createLimiter(100);
+        Quota quota = new Quota(60, 1);
+
+        assertThat(limiter.tryAcquire("user:1", quota).isAllowed()).isTrue();
+        assertThat(limiter.tryAcquire("user:1", quota).isAllowed()).isFalse();
+        assertThat(limiter.tryAcquire("user:2", quota).isAllowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should evict buckets once they have fully refilled")
+    void shouldEvictIdleBuckets() {
+        RateLimiter limiter = createLimiter(100);
+        Quota quota = new Quota(60, 10);
+
+        limiter.tryAcquire("user:1", quota);
+        limiter.tryAcquire("user:2", quota);
+        assertThat(limiter.getTrackedKeyCount()).isEqualTo(2);
+
+        limiter.evictIdleBuckets();
+        assertThat(limiter.getTrackedKeyCount()).isEqualTo(2);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.evictIdleBuckets();
+        assertThat(limiter.getTrackedKeyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict idle buckets before tracking more than the key limit")
+    void shouldBoundTrackedKeys() {
+        RateLimiter limiter = createLimiter(2);
+        Quota quota = new Quota(60, 10);
+
+        limiter.tryAcquire("ip:1", quota);
+        limiter.tryAcquire("ip:2", quota);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.tryAcquire("ip:3", quota);
+
+        assertThat(limiter.getTrackedKeyCount()).isEqualTo(1);
+    }
+}
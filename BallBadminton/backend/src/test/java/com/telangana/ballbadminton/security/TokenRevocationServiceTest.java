@@ -0,0 +1,134 @@
+package com.telangana.ballbadminton.security;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenRevocationService
+ * Tests the Bloom filter fast path, exact store checks, sync, failure handling and
+ * revocations kept locally while the store is unavailable
+ *
+ * Requirements: 6.1, 8.3
+ */
+@DisplayName("TokenRevocationService Tests")
+class TokenRevocationServiceTest extends BaseUnitTest {
+
+    @Mock
+    private TokenRevocationStore revocationStore;
+
+    private TokenRevocationService createService() {
+        return new TokenRevocationService(revocationStore, new SimpleMeterRegistry(), 1000, 0.01, 30000);
+    }
+
+    @Test
+    @DisplayName("Should answer unrevoked tokens from the Bloom filter without touching the store")
+    void shouldSkipStoreForBloomNegatives() {
+        TokenRevocationService service = createService();
+
+        for (int i = 0; i < 100; i++) {
+            service.isRevoked(UUID.randomUUID().toString());
+        }
+
+        verify(revocationStore, atMost(5)).isRevoked(anyString());
+    }
+
+    @Test
+    @DisplayName("Should report a token revoked on this node immediately")
+    void shouldDetectLocalRevocation() {
+        TokenRevocationService service = createService();
+        String tokenId = UUID.randomUUID().toString();
+        when(revocationStore.isRevoked(tokenId)).thenReturn(true);
+
+        service.revoke(tokenId, Instant.now().plusSeconds(3600));
+
+        assertThat(service.isRevoked(tokenId)).isTrue();
+        verify(revocationStore).revoke(eq(tokenId), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Should ignore tokens that have already expired")
+    void shouldIgnoreExpiredTokens() {
+        TokenRevocationService service = createService();
+
+        service.revoke(UUID.randomUUID().toString(), Instant.now().minusSeconds(1));
+
+        verifyNoInteractions(revocationStore);
+    }
+
+    @Test
+    @DisplayName("Should pick up revocations made on other nodes after a sync")
+    void shouldSyncRevocationsFromStore() {
+        TokenRevocationService service = createService();
+        String tokenId = UUID.randomUUID().toString();
+        when(revocationStore.isRevoked(tokenId)).thenReturn(true);
+
+        assertThat(service.isRevoked(tokenId)).isFalse();
+
+        when(revocationStore.findActiveRevocations()).thenReturn(List.of(tokenId));
+        service.syncBloomFilter();
+
+        assertThat(service.isRevoked(tokenId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should treat a Bloom filter hit as revoked when the store is unavailable")
+    void shouldFailClosedOnStoreFailure() {
+        TokenRevocationService service = createService();
+        String tokenId = UUID.randomUUID().toString();
+        service.revoke(tokenId, Instant.now().plusSeconds(3600));
+        when(revocationStore.isRevoked(tokenId)).thenThrow(new RuntimeException("Redis down"));
+
+        assertThat(service.isRevoked(tokenId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep a revocation on this node and write it later when the store is unavailable")
+    void shouldKeepRevocationWhenStoreIsDown() {
+        TokenRevocationService service = createService();
+        String tokenId = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        doThrow(new RuntimeException("Redis down")).doNothing().when(revocationStore).revoke(tokenId, expiresAt);
+
+        service.revoke(tokenId, expiresAt);
+
+        assertThat(service.isRevoked(tokenId)).isTrue();
+        assertThat(service.getPendingRevocationCount()).isEqualTo(1);
+        verify(revocationStore, never()).isRevoked(tokenId);
+
+        when(revocationStore.findActiveRevocations()).thenReturn(List.of(tokenId));
+        service.syncBloomFilter();
+
+        assertThat(service.getPendingRevocationCount()).isZero();
+        verify(revocationStore, times(2)).revoke(tokenId, expiresAt);
+    }
+
+    @Test
+    @DisplayName("Should keep false positive rate near the configured target")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            assertThat(filter.mightContain("revoked-" + i)).isTrue();
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
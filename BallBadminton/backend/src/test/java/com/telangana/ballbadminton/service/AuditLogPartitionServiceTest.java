@@ -0,0 +1,112 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditLogPartitionService
+ * Tests partition naming, pre-creation, partition-drop retention and retention of
+ * the default partition's rows
+ *
+ * Requirements: 6.2, 8.5
+ */
+@DisplayName("AuditLogPartitionService Tests")
+class AuditLogPartitionServiceTest extends BaseUnitTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AuditLogPartitionService partitionService;
+
+    @Override
+    protected void setupTest() {
+        ReflectionTestUtils.setField(partitionService, "monthsAhead", 2);
+    }
+
+    @Test
+    @DisplayName("Should round-trip partition names")
+    void shouldRoundTripPartitionNames() {
+        YearMonth month = YearMonth.of(2024, 3);
+
+        assertThat(AuditLogPartitionService.partitionName(month)).isEqualTo("audit_logs_2024_03");
+        assertThat(AuditLogPartitionService.parsePartitionMonth("audit_logs_2024_03")).isEqualTo(month);
+        assertThat(AuditLogPartitionService.parsePartitionMonth("audit_logs_default")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should create only missing future partitions")
+    void shouldCreateMissingFuturePartitions() {
+        YearMonth current = YearMonth.now();
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("audit_logs")))
+            .thenReturn(List.of(AuditLogPartitionService.partitionName(current), "audit_logs_default"));
+
+        int created = partitionService.createFuturePartitions();
+
+        assertThat(created).isEqualTo(2);
+        verify(jdbcTemplate).execute(contains(AuditLogPartitionService.partitionName(current.plusMonths(1))));
+        verify(jdbcTemplate).execute(contains(AuditLogPartitionService.partitionName(current.plusMonths(2))));
+    }
+
+    @Test
+    @DisplayName("Should drop only partitions entirely outside the retention window")
+    void shouldDropExpiredPartitions() {
+        YearMonth current = YearMonth.now();
+        String expired = AuditLogPartitionService.partitionName(current.minusMonths(6));
+        String boundary = AuditLogPartitionService.partitionName(current.minusMonths(2));
+        String recent = AuditLogPartitionService.partitionName(current);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("audit_logs")))
+            .thenReturn(List.of(expired, boundary, recent, "audit_logs_default"));
+
+        int dropped = partitionService.dropExpiredPartitions(90);
+
+        assertThat(dropped).isEqualTo(1);
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION " + expired);
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS " + expired);
+        verify(jdbcTemplate, never()).execute(contains(recent));
+        verify(jdbcTemplate, never()).execute(contains(boundary));
+        verify(jdbcTemplate, never()).execute(contains("audit_logs_default"));
+    }
+
+    @Test
+    @DisplayName("Should delete rows of the default partition older than the retention window")
+    void shouldPurgeDefaultPartition() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("audit_logs")))
+            .thenReturn(List.of(AuditLogPartitionService.partitionName(YearMonth.now()), "audit_logs_default"));
+        when(jdbcTemplate.update(eq("DELETE FROM audit_logs_default WHERE timestamp < ?"), any(LocalDateTime.class)))
+            .thenReturn(4);
+
+        LocalDateTime before = LocalDateTime.now().minusDays(90);
+        int deleted = partitionService.purgeDefaultPartition(90);
+        LocalDateTime after = LocalDateTime.now().minusDays(90);
+
+        assertThat(deleted).isEqualTo(4);
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jdbcTemplate).update(anyString(), cutoff.capture());
+        assertThat(cutoff.getValue()).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("Should skip the default partition when it is not attached")
+    void shouldSkipMissingDefaultPartition() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("audit_logs")))
+            .thenReturn(List.of(AuditLogPartitionService.partitionName(YearMonth.now())));
+
+        assertThat(partitionService.purgeDefaultPartition(90)).isZero();
+        verify(jdbcTemplate, never()).update(anyString(), any(LocalDateTime.class));
+    }
+}
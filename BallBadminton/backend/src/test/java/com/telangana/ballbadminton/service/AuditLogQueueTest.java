@@ -0,0 +1,101 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.entity.AuditLog;
+import com.telangana.ballbadminton.entity.AuditLog.AuditAction;
+import com.telangana.ballbadminton.service.AuditLogQueue.BackpressurePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AuditLogQueue
+ * Tests buffering and each backpressure policy
+ *
+ * Requirements: 6.2, 8.5
+ */
+@DisplayName("AuditLogQueue Tests")
+class AuditLogQueueTest extends BaseUnitTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    private AuditLogQueue createQueue(int capacity, BackpressurePolicy policy) {
+        return new AuditLogQueue(capacity, policy, 1, 50, spillDirectory.toString(),
+            objectMapper, new SimpleMeterRegistry());
+    }
+
+    private AuditLog auditLog(AuditAction action) {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setAction(action);
+        auditLog.setEntityType("Player");
+        auditLog.setDescription(action + " operation on Player");
+        return auditLog;
+    }
+
+    @Test
+    @DisplayName("Should buffer events and drain them in batches")
+    void shouldBufferAndDrain() {
+        AuditLogQueue queue = createQueue(10, BackpressurePolicy.BLOCK);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(queue.enqueue(auditLog(AuditAction.CREATE))).isTrue();
+        }
+
+        List<AuditLog> batch = new ArrayList<>();
+        assertThat(queue.drainTo(batch, 3)).isEqualTo(3);
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("BLOCK policy should drop only after the block timeout expires")
+    void blockPolicyShouldDropWhenFull() {
+        AuditLogQueue queue = createQueue(2, BackpressurePolicy.BLOCK);
+
+        queue.enqueue(auditLog(AuditAction.CREATE));
+        queue.enqueue(auditLog(AuditAction.CREATE));
+
+        assertThat(queue.enqueue(auditLog(AuditAction.DELETE))).isFalse();
+        assertThat(queue.getDroppedCount()).isEqualTo(1);
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DROP_READS policy should shed READ events above the high-water mark")
+    void dropReadsPolicyShouldShedReads() {
+        AuditLogQueue queue = createQueue(4, BackpressurePolicy.DROP_READS);
+
+        queue.enqueue(auditLog(AuditAction.READ));
+        queue.enqueue(auditLog(AuditAction.READ));
+
+        // High-water mark is 50% of 4
+        assertThat(queue.enqueue(auditLog(AuditAction.READ))).isFalse();
+        assertThat(queue.enqueue(auditLog(AuditAction.UPDATE))).isTrue();
+        assertThat(queue.getDroppedCount()).isEqualTo(1);
+        assertThat(queue.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("SPILL policy should write overflow to disk and replay it later")
+    void spillPolicyShouldSpillAndReplay() {
+        AuditLogQueue queue = createQueue(4, BackpressurePolicy.SPILL);
+
+        for (int i = 0; i < 6; i++) {
+            assertThat(queue.enqueue(auditLog(AuditAction.UPDATE))).isTrue();
+        }
+        assertThat(queue.getSpilledCount()).isEqualTo(2);
+        assertThat(spillDirectory.resolve("audit-spill.jsonl")).exists();
+
+        queue.drainTo(new ArrayList<>(), 4);
+        assertThat(queue.replaySpilled()).isEqualTo(2);
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.getSpilledCount()).isZero();
+    }
+}
@@ -0,0 +1,107 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.entity.AuditLog.AuditAction;
+import com.telangana.ballbadminton.entity.AuditLog.AuditSeverity;
+import com.telangana.ballbadminton.entity.AuditLog.AuditStatus;
+import com.telangana.ballbadminton.entity.AuditStatisticsBucket.Dimension;
+import com.telangana.ballbadminton.entity.AuditStatisticsBucket.Granularity;
+import com.telangana.ballbadminton.repository.AuditLogRepository;
+import com.telangana.ballbadminton.repository.AuditStatisticsBucketRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditStatisticsService
+ * Tests how a statistics range is split between raw edges, minute buckets and hour buckets
+ *
+ * Requirements: 6.2, 8.5
+ */
+@DisplayName("AuditStatisticsService Tests")
+class AuditStatisticsServiceTest extends BaseUnitTest {
+
+    @Mock
+    private AuditStatisticsBucketRepository bucketRepository;
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AuditStatisticsService auditStatisticsService;
+
+    @Override
+    protected void setupTest() {
+        ReflectionTestUtils.setField(auditStatisticsService, "rollupsEnabled", true);
+        ReflectionTestUtils.setField(auditStatisticsService, "minuteRetentionDays", 30);
+        ReflectionTestUtils.setField(auditStatisticsService, "hourRetentionDays", 400);
+    }
+
+    @Test
+    @DisplayName("Should read hour buckets for whole hours and raw rows only for partial minutes")
+    void shouldSplitRangeAcrossRollups() {
+        LocalDateTime base = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime start = base.plusSeconds(30);
+        LocalDateTime end = base.plusHours(3).plusMinutes(20).plusSeconds(15);
+
+        when(bucketRepository.sumByDimension(eq(Granularity.HOUR), any(), any()))
+            .thenReturn(List.<Object[]>of(new Object[] {Dimension.ACTION, "CREATE", 40L}));
+        when(auditLogRepository.getDimensionCounts(any(), any()))
+            .thenReturn(List.<Object[]>of(new Object[] {AuditAction.CREATE, AuditSeverity.INFO, AuditStatus.SUCCESS, "Player", 2L}));
+
+        Map<String, Object> statistics = auditStatisticsService.getStatistics(start, end);
+
+        verify(auditLogRepository).getDimensionCounts(start, base.plusMinutes(1));
+        verify(bucketRepository).sumByDimension(Granularity.MINUTE, base.plusMinutes(1), base.plusHours(1));
+        verify(bucketRepository).sumByDimension(Granularity.HOUR, base.plusHours(1), base.plusHours(3));
+        verify(bucketRepository).sumByDimension(Granularity.MINUTE, base.plusHours(3), base.plusHours(3).plusMinutes(20));
+        verify(auditLogRepository).getDimensionCountsInclusive(base.plusHours(3).plusMinutes(20), end);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Long> actions = (Map<String, Long>) statistics.get("actionStatistics");
+        assertThat(actions).containsEntry("CREATE", 42L);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Long> entityTypes = (Map<String, Long>) statistics.get("entityTypeStatistics");
+        assertThat(entityTypes).containsEntry("Player", 2L);
+    }
+
+    @Test
+    @DisplayName("Should use raw rows when the range does not contain a whole minute")
+    void shouldUseRawRowsForTinyRanges() {
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusSeconds(5);
+        LocalDateTime end = start.plusSeconds(30);
+
+        auditStatisticsService.getStatistics(start, end);
+
+        verify(auditLogRepository).getDimensionCountsInclusive(start, end);
+        verifyNoInteractions(bucketRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to raw rows for minute segments past minute retention")
+    void shouldUseRawRowsBeyondMinuteRetention() {
+        LocalDateTime start = LocalDateTime.now().minusDays(60).truncatedTo(ChronoUnit.HOURS).plusMinutes(10);
+        LocalDateTime end = start.plusMinutes(20);
+
+        auditStatisticsService.getStatistics(start, end);
+
+        verify(auditLogRepository).getDimensionCounts(start, end);
+        verify(bucketRepository, never()).sumByDimension(eq(Granularity.MINUTE), any(), any());
+    }
+}
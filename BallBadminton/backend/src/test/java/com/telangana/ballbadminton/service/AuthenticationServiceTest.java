@@ -7,6 +7,7 @@ import com.telangana.ballbadminton.dto.auth.RefreshTokenRequest;
 import com.telangana.ballbadminton.entity.Role;
 import com.telangana.ballbadminton.entity.User;
 import com.telangana.ballbadminton.repository.UserRepository;
+import com.telangana.ballbadminton.security.TokenRevocationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,7 +22,9 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -29,6 +32,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -52,6 +56,9 @@ class AuthenticationServiceTest extends BaseUnitTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -170,6 +177,48 @@ class AuthenticationServiceTest extends BaseUnitTest {
         verify(jwtService).generateRefreshToken(testUser);
     }
 
+    @Test
+    @DisplayName("Should revoke the old refresh token when rotating")
+    void shouldRevokeOldRefreshTokenOnRefresh() {
+        // Given
+        RefreshTokenRequest refreshRequest = new RefreshTokenRequest("valid-refresh-token");
+        Date expiration = Date.from(Instant.now().plusSeconds(3600));
+
+        when(jwtService.isValidTokenFormat("valid-refresh-token")).thenReturn(true);
+        when(jwtService.extractTokenId("valid-refresh-token")).thenReturn("refresh-jti");
+        when(jwtService.extractExpiration("valid-refresh-token")).thenReturn(expiration);
+        when(jwtService.extractUsername("valid-refresh-token")).thenReturn("testuser");
+        when(userRepository.findByUsernameOrEmail("testuser", "testuser"))
+                .thenReturn(Optional.of(testUser));
+        when(jwtService.isRefreshTokenValid("valid-refresh-token", testUser)).thenReturn(true);
+        when(jwtService.generateToken(testUser)).thenReturn("new-access-token");
+        when(jwtService.generateRefreshToken(testUser)).thenReturn("new-refresh-token");
+
+        // When
+        authenticationService.refreshToken(refreshRequest);
+
+        // Then
+        verify(tokenRevocationService).revoke("refresh-jti", expiration.toInstant());
+    }
+
+    @Test
+    @DisplayName("Should throw BadCredentialsException for revoked refresh token")
+    void shouldThrowBadCredentialsExceptionForRevokedRefreshToken() {
+        // Given
+        RefreshTokenRequest refreshRequest = new RefreshTokenRequest("revoked-token");
+
+        when(jwtService.isValidTokenFormat("revoked-token")).thenReturn(true);
+        when(jwtService.extractTokenId("revoked-token")).thenReturn("revoked-jti");
+        when(tokenRevocationService.isRevoked("revoked-jti")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> authenticationService.refreshToken(refreshRequest))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessage("Token refresh failed");
+
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     @DisplayName("Should throw BadCredentialsException for invalid refresh token format")
     void shouldThrowBadCredentialsExceptionForInvalidRefreshTokenFormat() {
@@ -258,6 +307,25 @@ class AuthenticationServiceTest extends BaseUnitTest {
         verify(jwtService).extractUsername(refreshToken);
     }
 
+    @Test
+    @DisplayName("Should revoke refresh and access tokens on logout")
+    void shouldRevokeTokensOnLogout() {
+        // Given
+        Date expiration = Date.from(Instant.now().plusSeconds(3600));
+        when(jwtService.isValidTokenFormat(anyString())).thenReturn(true);
+        when(jwtService.extractUsername("refresh-token")).thenReturn("testuser");
+        when(jwtService.extractTokenId("refresh-token")).thenReturn("refresh-jti");
+        when(jwtService.extractTokenId("access-token")).thenReturn("access-jti");
+        when(jwtService.extractExpiration(anyString())).thenReturn(expiration);
+
+        // When
+        authenticationService.logout("refresh-token", "access-token");
+
+        // Then
+        verify(tokenRevocationService).revoke("refresh-jti", expiration.toInstant());
+        verify(tokenRevocationService).revoke("access-jti", expiration.toInstant());
+    }
+
     @Test
     @DisplayName("Should handle logout with invalid token gracefully")
     void shouldHandleLogoutWithInvalidTokenGracefully() {
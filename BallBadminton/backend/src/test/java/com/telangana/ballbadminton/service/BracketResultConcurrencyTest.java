@@ -0,0 +1,120 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseIntegrationTest;
+import com.telangana.ballbadminton.dto.tournament.BracketResponse;
+import com.telangana.ballbadminton.entity.Player;
+import com.telangana.ballbadminton.entity.Tournament;
+import com.telangana.ballbadminton.entity.TournamentRegistration;
+import com.telangana.ballbadminton.repository.PlayerRepository;
+import com.telangana.ballbadminton.repository.TournamentMatchRepository;
+import com.telangana.ballbadminton.repository.TournamentRegistrationRepository;
+import com.telangana.ballbadminton.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency tests for bracket results
+ * Posts the results of both semi-finals of many brackets at once and checks that
+ * each final keeps both winners
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("Bracket Result Concurrency Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // results must commit to race each other
+class BracketResultConcurrencyTest extends BaseIntegrationTest {
+
+    private static final int BRACKETS = 20;
+
+    @Autowired
+    private BracketService bracketService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TournamentRegistrationRepository tournamentRegistrationRepository;
+
+    @Autowired
+    private TournamentMatchRepository tournamentMatchRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private final List<UUID> tournamentIds = new ArrayList<>();
+    private final List<UUID> playerIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteTestData() {
+        tournamentIds.forEach(id -> tournamentMatchRepository.deleteAll(
+                tournamentMatchRepository.findByTournamentIdOrderByRoundNumberAscMatchNumberAsc(id)));
+        // Registrations are removed with their tournaments
+        tournamentRepository.deleteAllById(tournamentIds);
+        playerRepository.deleteAllById(playerIds);
+    }
+
+    /**
+     * A tournament of four registered players with its bracket drawn
+     */
+    private BracketResponse drawBracket() {
+        Tournament tournament = new Tournament("Knockout Cup", LocalDate.now().plusMonths(1), LocalDate.now().plusMonths(1).plusDays(1));
+        tournament = tournamentRepository.save(tournament);
+        tournamentIds.add(tournament.getId());
+        for (int i = 1; i <= 4; i++) {
+            Player player = playerRepository.save(new Player("Knockout Player " + i));
+            playerIds.add(player.getId());
+            tournamentRegistrationRepository.save(new TournamentRegistration(tournament, player));
+        }
+        return bracketService.generateBracket(tournament.getId());
+    }
+
+    @Test
+    @DisplayName("Should keep both winners in the final when the semi-final results are posted together")
+    void shouldKeepBothWinnersOfConcurrentSiblingResults() throws Exception {
+        List<BracketResponse> brackets = new ArrayList<>();
+        for (int i = 0; i < BRACKETS; i++) {
+            brackets.add(drawBracket());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2 * BRACKETS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (BracketResponse bracket : brackets) {
+            for (BracketResponse.Match semiFinal : bracket.getRounds().get(0).getMatches()) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bracketService.recordMatchResult(bracket.getTournamentId(), 1, semiFinal.getMatchNumber(),
+                            semiFinal.getPlayer1Id(), "15-10, 15-12");
+                }));
+            }
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        for (BracketResponse bracket : brackets) {
+            List<BracketResponse.Match> semiFinals = bracket.getRounds().get(0).getMatches();
+            BracketResponse.Match matchFinal = bracketService.getBracket(bracket.getTournamentId())
+                    .getRounds().get(1).getMatches().get(0);
+            assertThat(matchFinal.getPlayer1Id()).isEqualTo(semiFinals.get(0).getPlayer1Id());
+            assertThat(matchFinal.getPlayer2Id()).isEqualTo(semiFinals.get(1).getPlayer1Id());
+        }
+    }
+}
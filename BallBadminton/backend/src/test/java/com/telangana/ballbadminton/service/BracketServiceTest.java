@@ -0,0 +1,186 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.dto.tournament.BracketResponse;
+import com.telangana.ballbadminton.entity.Player;
+import com.telangana.ballbadminton.entity.PlayerStatistics;
+import com.telangana.ballbadminton.entity.Tournament;
+import com.telangana.ballbadminton.entity.TournamentMatch;
+import com.telangana.ballbadminton.entity.TournamentRegistration;
+import com.telangana.ballbadminton.repository.TournamentMatchRepository;
+import com.telangana.ballbadminton.repository.TournamentRegistrationRepository;
+import com.telangana.ballbadminton.repository.TournamentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for BracketService
+ * Tests seeded draws with byes, including large draws, and result propagation to
+ * the next round
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("BracketService Tests")
+class BracketServiceTest extends BaseUnitTest {
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private TournamentRegistrationRepository tournamentRegistrationRepository;
+
+    @Mock
+    private TournamentMatchRepository tournamentMatchRepository;
+
+    @InjectMocks
+    private BracketService bracketService;
+
+    private final Tournament tournament = tournament();
+
+    private static Tournament tournament() {
+        Tournament tournament = new Tournament("State Open", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3));
+        tournament.setId(UUID.randomUUID());
+        return tournament;
+    }
+
+    private Player player(String name, Integer ranking) {
+        Player player = new Player(name);
+        player.setId(UUID.randomUUID());
+        if (ranking != null) {
+            PlayerStatistics statistics = new PlayerStatistics(player);
+            statistics.setCurrentRanking(ranking);
+            player.setStatistics(statistics);
+        }
+        return player;
+    }
+
+    /**
+     * Registrations of players ranked 1 to ranked, then unranked players, in shuffled order
+     */
+    private List<TournamentRegistration> registrations(int ranked, int unranked) {
+        List<TournamentRegistration> registrations = new ArrayList<>();
+        for (int i = 1; i <= ranked + unranked; i++) {
+            registrations.add(new TournamentRegistration(tournament, player("Player " + i, i <= ranked ? i : null)));
+        }
+        Collections.shuffle(registrations);
+        return registrations;
+    }
+
+    private List<TournamentMatch> generate(List<TournamentRegistration> registrations) {
+        when(tournamentRepository.findById(tournament.getId())).thenReturn(Optional.of(tournament));
+        when(tournamentRegistrationRepository.findByTournamentIdAndStatusIn(tournament.getId(), TournamentRegistration.ACTIVE_STATUSES))
+                .thenReturn(registrations);
+
+        bracketService.generateBracket(tournament.getId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TournamentMatch>> saved = ArgumentCaptor.forClass(List.class);
+        verify(tournamentMatchRepository).saveAll(saved.capture());
+        return saved.getValue();
+    }
+
+    private TournamentMatch match(List<TournamentMatch> matches, int round, int number) {
+        return matches.stream()
+                .filter(match -> match.getRoundNumber() == round && match.getMatchNumber() == number)
+                .findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should place seeds so the top seeds meet as late as possible")
+    void shouldComputeSeedPositions() {
+        assertThat(BracketService.seedPositions(8)).containsExactly(1, 8, 4, 5, 2, 7, 3, 6);
+        assertThat(BracketService.bracketSize(2)).isEqualTo(2);
+        assertThat(BracketService.bracketSize(5)).isEqualTo(8);
+        assertThat(BracketService.bracketSize(1024)).isEqualTo(1024);
+        assertThat(BracketService.bracketSize(1025)).isEqualTo(2048);
+    }
+
+    @Test
+    @DisplayName("Should draw every round of a 1,025 player bracket with byes for the top seeds")
+    void shouldDrawLargeBracketWithByes() {
+        List<TournamentMatch> matches = generate(registrations(1000, 25));
+
+        assertThat(matches).hasSize(2047);
+        assertThat(matches.stream().filter(match -> match.getRoundNumber() == 1)).hasSize(1024);
+        assertThat(matches.stream().filter(match -> match.getRoundNumber() == 11)).hasSize(1);
+
+        // 2048 - 1025 byes, one per top seed, each already through to round 2
+        List<TournamentMatch> walkovers = matches.stream()
+                .filter(match -> match.getStatus() == TournamentMatch.Status.WALKOVER).toList();
+        assertThat(walkovers).hasSize(1023);
+        assertThat(walkovers).allSatisfy(match -> assertThat(match.getSeedOf(match.getWinner())).isLessThanOrEqualTo(1023));
+
+        TournamentMatch opening = match(matches, 1, 1);
+        assertThat(opening.getPlayer1().getName()).isEqualTo("Player 1");
+        assertThat(opening.getPlayer2()).isNull();
+        assertThat(match(matches, 2, 1).getPlayer1().getName()).isEqualTo("Player 1");
+        assertThat(match(matches, 2, 1).getPlayer1Seed()).isEqualTo(1);
+        assertThat(match(matches, 1, 513).getPlayer1Seed()).isEqualTo(2);
+
+        // Seed 1024 plays seed 1025, the last of the unranked players
+        TournamentMatch played = matches.stream()
+                .filter(match -> match.getRoundNumber() == 1 && match.getStatus() == TournamentMatch.Status.PENDING)
+                .findFirst().orElseThrow();
+        assertThat(played.getPlayer1Seed() + played.getPlayer2Seed()).isEqualTo(2049);
+        assertThat(matches.stream().filter(match -> match.getRoundNumber() > 2))
+                .allSatisfy(match -> assertThat(match.getPlayer1()).isNull());
+    }
+
+    @Test
+    @DisplayName("Should refuse to draw a bracket for a single player")
+    void shouldRequireTwoPlayers() {
+        when(tournamentRepository.findById(tournament.getId())).thenReturn(Optional.of(tournament));
+        when(tournamentRegistrationRepository.findByTournamentIdAndStatusIn(tournament.getId(), TournamentRegistration.ACTIVE_STATUSES))
+                .thenReturn(registrations(1, 0));
+
+        assertThatThrownBy(() -> bracketService.generateBracket(tournament.getId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should move the winner into their slot of the next match only")
+    void shouldAdvanceWinnerToNextMatch() {
+        when(tournamentMatchRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<TournamentMatch> matches = generate(registrations(4, 0));
+        TournamentMatch semiFinal = match(matches, 1, 2);
+        TournamentMatch matchFinal = match(matches, 2, 1);
+        when(tournamentMatchRepository.findByPositionForUpdate(tournament.getId(), 1, 2))
+                .thenReturn(Optional.of(semiFinal));
+        when(tournamentMatchRepository.findByPositionForUpdate(tournament.getId(), 2, 1))
+                .thenReturn(Optional.of(matchFinal));
+        when(tournamentMatchRepository.findTotalRounds(tournament.getId())).thenReturn(2);
+
+        // Semi-final 2 is seed 2 against seed 3
+        Player underdog = semiFinal.getPlayer2();
+        BracketResponse.Match result = bracketService.recordMatchResult(tournament.getId(), 1, 2, underdog.getId(), "15-12, 15-10");
+
+        assertThat(result.getStatus()).isEqualTo(BracketResponse.MatchStatus.COMPLETED);
+        assertThat(result.getWinnerName()).isEqualTo(underdog.getName());
+        assertThat(matchFinal.getPlayer2()).isSameAs(underdog);
+        assertThat(matchFinal.getPlayer2Seed()).isEqualTo(3);
+        assertThat(matchFinal.getPlayer1()).isNull();
+
+        assertThatThrownBy(() -> bracketService.recordMatchResult(tournament.getId(), 1, 2, UUID.randomUUID(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        matchFinal.setStatus(TournamentMatch.Status.IN_PROGRESS);
+        assertThatThrownBy(() -> bracketService.recordMatchResult(tournament.getId(), 1, 2, semiFinal.getPlayer1().getId(), null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
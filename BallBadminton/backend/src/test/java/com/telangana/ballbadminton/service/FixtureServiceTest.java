@@ -0,0 +1,133 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.entity.TournamentFixture;
+import com.telangana.ballbadminton.repository.TournamentFixtureRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for FixtureService
+ * Tests the circle method pairings, court and time slot allocation with rest gaps,
+ * and the removal of a withdrawn entrant's fixtures
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("FixtureService Tests")
+class FixtureServiceTest extends BaseUnitTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 6, 1);
+
+    @Mock
+    private TournamentFixtureRepository tournamentFixtureRepository;
+
+    @InjectMocks
+    private FixtureService fixtureService;
+
+    private FixtureService.SlotGrid grid(int days, int matchMinutes, int courts) {
+        return new FixtureService.SlotGrid(FIRST_DAY, days, LocalTime.of(9, 0), LocalTime.of(18, 0), matchMinutes, courts);
+    }
+
+    /**
+     * Assert that every pair meets exactly once and nobody plays twice in a round
+     */
+    private void assertCompleteRoundRobin(int entrants) {
+        List<List<int[]>> rounds = FixtureService.roundRobinRounds(entrants);
+        Set<String> pairs = new HashSet<>();
+        for (List<int[]> round : rounds) {
+            Set<Integer> playing = new HashSet<>();
+            for (int[] pair : round) {
+                assertThat(playing.add(pair[0])).isTrue();
+                assertThat(playing.add(pair[1])).isTrue();
+                assertThat(pairs.add(Math.min(pair[0], pair[1]) + "-" + Math.max(pair[0], pair[1]))).isTrue();
+            }
+        }
+        assertThat(rounds).hasSize(entrants % 2 == 0 ? entrants - 1 : entrants);
+        assertThat(pairs).hasSize(entrants * (entrants - 1) / 2);
+    }
+
+    @Test
+    @DisplayName("Should pair every entrant with every other once for even and odd fields")
+    void shouldDrawCompleteRoundRobin() {
+        assertCompleteRoundRobin(2);
+        assertCompleteRoundRobin(6);
+        assertCompleteRoundRobin(7);
+        assertCompleteRoundRobin(101);
+    }
+
+    @Test
+    @DisplayName("Should never overbook a court and should give every entrant their rest gap")
+    void shouldRespectCourtsAndRestGaps() {
+        FixtureService.SlotGrid grid = grid(3, 30, 2);
+        List<FixtureService.PlannedFixture> fixtures =
+                FixtureService.schedule(FixtureService.roundRobinRounds(8), 8, grid, 30 + 45);
+
+        assertThat(fixtures).hasSize(28);
+        Map<String, Integer> courtBookings = new HashMap<>();
+        Map<Integer, LocalDateTime> lastStart = new HashMap<>();
+        fixtures.stream()
+                .sorted((a, b) -> Integer.compare(a.slot, b.slot))
+                .forEach(fixture -> {
+                    assertThat(fixture.courtNumber).isBetween(1, 2);
+                    assertThat(courtBookings.merge(fixture.slot + "/" + fixture.courtNumber, 1, Integer::sum)).isEqualTo(1);
+                    LocalDateTime start = grid.startOf(fixture.slot);
+                    for (int entrant : new int[] {fixture.entrant1, fixture.entrant2}) {
+                        LocalDateTime previous = lastStart.put(entrant, start);
+                        if (previous != null) {
+                            assertThat(previous.plusMinutes(75)).isBeforeOrEqualTo(start);
+                        }
+                    }
+                });
+        assertThat(grid.startOf(0)).isEqualTo(FIRST_DAY.atTime(9, 0));
+        assertThat(grid.startOf(18)).isEqualTo(FIRST_DAY.plusDays(1).atTime(9, 0));
+    }
+
+    @Test
+    @DisplayName("Should schedule a 200 entrant league of 19,900 fixtures")
+    void shouldScheduleLargeLeague() {
+        FixtureService.SlotGrid grid = new FixtureService.SlotGrid(FIRST_DAY, 21, LocalTime.of(8, 0), LocalTime.of(20, 0), 30, 60);
+
+        List<FixtureService.PlannedFixture> fixtures =
+                FixtureService.schedule(FixtureService.roundRobinRounds(200), 200, grid, 30);
+
+        assertThat(fixtures).hasSize(19_900);
+        assertThat(fixtures).allSatisfy(fixture -> assertThat(fixture.courtNumber).isBetween(1, 60));
+    }
+
+    @Test
+    @DisplayName("Should refuse a schedule that does not fit in the tournament days")
+    void shouldRejectScheduleThatDoesNotFit() {
+        FixtureService.SlotGrid grid = grid(1, 60, 1);
+
+        assertThatThrownBy(() -> FixtureService.schedule(FixtureService.roundRobinRounds(6), 6, grid, 60))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("9 of 15");
+    }
+
+    @Test
+    @DisplayName("Should remove only the scheduled fixtures of a withdrawn entrant")
+    void shouldRemoveWithdrawnEntrantFixtures() {
+        UUID tournamentId = UUID.randomUUID();
+        UUID playerId = UUID.randomUUID();
+        when(tournamentFixtureRepository.deleteByTournamentIdAndPlayerIdAndStatus(tournamentId, playerId,
+                TournamentFixture.Status.SCHEDULED)).thenReturn(5);
+
+        assertThat(fixtureService.removeEntrant(tournamentId, playerId)).isEqualTo(5);
+    }
+}
@@ -3,7 +3,9 @@ package com.telangana.ballbadminton.service;
 import com.telangana.ballbadminton.base.BaseUnitTest;
 import com.telangana.ballbadminton.entity.Role;
 import com.telangana.ballbadminton.entity.User;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,10 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Unit tests for JwtService
@@ -283,4 +289,94 @@ class JwtServiceTest extends BaseUnitTest {
         // Then
         assertThat(userId).isNull();
     }
+
+    @Test
+    @DisplayName("Should verify each token once and serve later lookups from the claims cache")
+    void shouldCacheVerifiedClaims() {
+        // Given
+        String token = jwtService.generateToken(testUser);
+        String otherToken = jwtService.generateToken(new HashMap<>(Map.of("purpose", "other")), testUser);
+
+        // When - the lookups JwtAuthenticationFilter makes for one request
+        jwtService.extractUsername(token);
+        jwtService.extractUserId(token);
+        jwtService.isTokenValid(token, testUser);
+        jwtService.extractUsername(otherToken);
+
+        // Then
+        assertThat(jwtService.getCachedClaimsCount()).isEqualTo(2);
+        assertThat(jwtService.extractUsername(token)).isEqualTo("testuser");
+    }
+
+    @Test
+    @DisplayName("Should not verify the signature again for a cached token")
+    void shouldNotReverifyCachedToken() {
+        // Given - the service's parser, built by verifying a third token and wrapped to count verifications
+        String token = jwtService.generateToken(testUser);
+        String otherToken = jwtService.generateToken(new HashMap<>(Map.of("purpose", "other")), testUser);
+        jwtService.isTokenExpired(jwtService.generateToken(testUser));
+        JwtParser parser = (JwtParser) ReflectionTestUtils.getField(jwtService, "jwtParser");
+        JwtParser countingParser = mock(JwtParser.class, delegatesTo(parser));
+        ReflectionTestUtils.setField(jwtService, "jwtParser", countingParser);
+
+        // When - repeated lookups of the same tokens
+        jwtService.extractUsername(token);
+        jwtService.extractUserId(token);
+        jwtService.isTokenValid(token, testUser);
+        jwtService.extractUsername(otherToken);
+        jwtService.extractTokenVersion(otherToken);
+
+        // Then - each token's signature was verified by the first lookup only
+        verify(countingParser, times(1)).parseSignedClaims(token);
+        verify(countingParser, times(1)).parseSignedClaims(otherToken);
+        assertThat(jwtService.extractUsername(token)).isEqualTo("testuser");
+    }
+
+    @Test
+    @DisplayName("Should not cache claims of tokens that fail verification")
+    void shouldNotCacheRejectedTokens() {
+        // Given
+        String token = jwtService.generateToken(testUser);
+        String tamperedToken = token.substring(0, token.length() - 2) + "xx";
+
+        // When & Then
+        assertThatThrownBy(() -> jwtService.extractUsername(tamperedToken))
+                .isInstanceOf(JwtException.class);
+        assertThat(jwtService.getCachedClaimsCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the claims cache within its size limit")
+    void shouldBoundClaimsCache() {
+        // Given
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaxSize", 5);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            String token = jwtService.generateToken(new HashMap<>(Map.of("n", i)), testUser);
+            jwtService.extractUsername(token);
+        }
+
+        // Then
+        assertThat(jwtService.getCachedClaimsCount()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should stop serving cached claims once the token expires")
+    void shouldExpireCachedClaims() throws InterruptedException {
+        // Given - a token expiring within two seconds, verified and cached
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 1500L);
+        String token = jwtService.generateToken(testUser);
+        assertThat(jwtService.extractUsername(token)).isEqualTo("testuser");
+        assertThat(jwtService.getCachedClaimsCount()).isEqualTo(1);
+
+        // When
+        Thread.sleep(2000);
+
+        // Then
+        assertThatThrownBy(() -> jwtService.extractUsername(token))
+                .isInstanceOf(ExpiredJwtException.class);
+        jwtService.evictExpiredClaims();
+        assertThat(jwtService.getCachedClaimsCount()).isZero();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,386 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.dto.tournament.LiveScoreEvent;
+import com.telangana.ballbadminton.dto.tournament.ScoreUpdateRequest;
+import com.telangana.ballbadminton.repository.TournamentFixtureRepository;
+import com.telangana.ballbadminton.repository.TournamentMatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LiveScoreService
+ * Tests fan-out to every subscriber in order, replay after Last-Event-ID from the
+ * ring buffer, dropping of broken and stalled streams, events relayed between
+ * nodes and the live score metrics
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("LiveScoreService Tests")
+class LiveScoreServiceTest extends BaseUnitTest {
+
+    private static final UUID TOURNAMENT_ID = UUID.randomUUID();
+    private static final UUID MATCH_ID = UUID.randomUUID();
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    @Mock
+    private TournamentMatchRepository tournamentMatchRepository;
+
+    @Mock
+    private TournamentFixtureRepository tournamentFixtureRepository;
+
+    @Mock
+    private LiveScoreRelay liveScoreRelay;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LiveScoreService liveScoreService;
+
+    /**
+     * Emitter recording the ids of the events sent to it, or failing every send
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean broken;
+
+        RecordingEmitter(boolean broken) {
+            this.broken = broken;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            Matcher matcher = EVENT_ID.matcher(text);
+            if (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+    }
+
+    /**
+     * Emitter whose sends block until released, like a client that stopped reading
+     */
+    private static class StalledEmitter extends SseEmitter {
+        private final CountDownLatch sending;
+        private final CountDownLatch release;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        StalledEmitter(CountDownLatch sending, CountDownLatch release) {
+            this.sending = sending;
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted", e);
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.set(true);
+            super.complete();
+        }
+    }
+
+    private final List<SseEmitter> nextEmitters = new ArrayList<>();
+
+    private LiveScoreService createService(int bufferSize) {
+        return createService(bufferSize, Optional.empty(), 60_000);
+    }
+
+    private LiveScoreService createService(int bufferSize, Optional<LiveScoreRelay> relay, long sendTimeoutMs) {
+        return createService(bufferSize, relay, sendTimeoutMs, 360);
+    }
+
+    private LiveScoreService createService(int bufferSize, Optional<LiveScoreRelay> relay, long sendTimeoutMs,
+                                           long idleChannelMinutes) {
+        lenient().when(tournamentMatchRepository.existsByIdAndTournamentId(MATCH_ID, TOURNAMENT_ID)).thenReturn(true);
+        liveScoreService = new LiveScoreService(tournamentMatchRepository, tournamentFixtureRepository, relay,
+                objectMapper, meterRegistry, bufferSize, 60_000, idleChannelMinutes, 2, 4, sendTimeoutMs) {
+            @Override
+            SseEmitter newEmitter() {
+                return nextEmitters.remove(0);
+            }
+        };
+        return liveScoreService;
+    }
+
+    @AfterEach
+    void closeService() {
+        if (liveScoreService != null) {
+            liveScoreService.close();
+        }
+    }
+
+    private RecordingEmitter subscribe(Long lastEventId, boolean broken) {
+        return subscribe(lastEventId, new RecordingEmitter(broken));
+    }
+
+    private <T extends SseEmitter> T subscribe(Long lastEventId, T emitter) {
+        nextEmitters.add(emitter);
+        assertThat(liveScoreService.subscribe(TOURNAMENT_ID, MATCH_ID, lastEventId)).isSameAs(emitter);
+        return emitter;
+    }
+
+    private LiveScoreEvent point(int player1Points, int player2Points) {
+        ScoreUpdateRequest update = new ScoreUpdateRequest();
+        update.setType(LiveScoreEvent.Type.POINT);
+        update.setPlayer1Points(player1Points);
+        update.setPlayer2Points(player2Points);
+        return liveScoreService.publish(TOURNAMENT_ID, MATCH_ID, update);
+    }
+
+    private static List<Long> range(long from, long to) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should send every event to every subscriber in order")
+    void shouldFanOutEventsInOrder() throws Exception {
+        createService(256);
+        List<RecordingEmitter> watchers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            watchers.add(subscribe(null, false));
+        }
+
+        for (int i = 1; i <= 100; i++) {
+            point(i, 0);
+        }
+
+        await(() -> watchers.stream().allMatch(watcher -> watcher.ids.size() == 100));
+        assertThat(watchers).allSatisfy(watcher -> assertThat(watcher.ids).isEqualTo(range(1, 100)));
+        assertThat(meterRegistry.get("live.score.events.published").counter().count()).isEqualTo(100);
+        assertThat(meterRegistry.get("live.score.events.delivered").counter().count()).isEqualTo(20_000);
+        assertThat(meterRegistry.get("live.score.subscribers").gauge().value()).isEqualTo(200);
+        assertThat(meterRegistry.get("live.score.channels").gauge().value()).isEqualTo(1);
+
+        // The match is only looked up once
+        verify(tournamentMatchRepository, times(1)).existsByIdAndTournamentId(MATCH_ID, TOURNAMENT_ID);
+    }
+
+    @Test
+    @DisplayName("Should start a new stream with the current score and resume a reconnect after Last-Event-ID")
+    void shouldReplayFromLastEventId() throws Exception {
+        createService(256);
+        for (int i = 1; i <= 10; i++) {
+            point(i, i - 1);
+        }
+
+        RecordingEmitter newcomer = subscribe(null, false);
+        RecordingEmitter reconnect = subscribe(7L, false);
+        RecordingEmitter unknownId = subscribe(99L, false);
+
+        await(() -> reconnect.ids.size() == 3 && newcomer.ids.size() == 1 && unknownId.ids.size() == 1);
+        assertThat(newcomer.ids).containsExactly(10L);
+        assertThat(reconnect.ids).containsExactly(8L, 9L, 10L);
+        assertThat(unknownId.ids).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("Should keep only the latest events once the buffer is full")
+    void shouldClampReplayToBuffer() throws Exception {
+        createService(16);
+        for (int i = 1; i <= 40; i++) {
+            point(i, 0);
+        }
+
+        assertThat(liveScoreService.bufferedEventIds(MATCH_ID)).isEqualTo(range(25, 40));
+
+        RecordingEmitter reconnect = subscribe(3L, false);
+        await(() -> reconnect.ids.size() == 16);
+        assertThat(reconnect.ids).isEqualTo(range(25, 40));
+    }
+
+    @Test
+    @DisplayName("Should drop a broken stream without holding up the others")
+    void shouldDropBrokenSubscriber() throws Exception {
+        createService(256);
+        RecordingEmitter healthy = subscribe(null, false);
+        subscribe(null, true);
+
+        point(1, 0);
+        point(2, 0);
+
+        await(() -> healthy.ids.size() == 2 && liveScoreService.getSubscriberCount() == 1);
+        assertThat(healthy.ids).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should drop streams that stop reading and keep the others moving")
+    void shouldDropStalledSubscribers() throws Exception {
+        createService(256, Optional.empty(), 200);
+        CountDownLatch sending = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        StalledEmitter first = subscribe(null, new StalledEmitter(sending, release));
+        StalledEmitter second = subscribe(null, new StalledEmitter(sending, release));
+        RecordingEmitter healthy = subscribe(null, false);
+
+        point(1, 0);
+        await(() -> sending.getCount() == 0);
+        // Both pool threads are now blocked
+        point(2, 0);
+        Thread.sleep(300);
+        liveScoreService.dropSlowSubscribers();
+
+        await(() -> healthy.ids.size() == 2);
+        assertThat(healthy.ids).containsExactly(1L, 2L);
+        assertThat(liveScoreService.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("live.score.subscribers.dropped.slow").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("live.score.fan.out.threads").gauge().value()).isEqualTo(4);
+
+        release.countDown();
+        await(() -> first.completed.get() && second.completed.get());
+        liveScoreService.dropSlowSubscribers();
+        assertThat(meterRegistry.get("live.score.fan.out.threads").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should never leave a new subscriber on a channel dropped as idle")
+    void shouldNotSubscribeToDroppedChannel() throws Exception {
+        // Given - channels are dropped as soon as their last subscriber leaves
+        createService(256, Optional.empty(), 60_000, 0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread heartbeats = new Thread(() -> {
+            while (running.get()) {
+                liveScoreService.sendHeartbeats();
+            }
+        });
+        heartbeats.start();
+
+        try {
+            for (int i = 1; i <= 50; i++) {
+                // When - a spectator joins while heartbeats drop the idle channel
+                RecordingEmitter spectator = subscribe(null, false);
+                long id = point(i, 0).getId();
+
+                // Then - it is on the channel the event went to, and leaves it again
+                await(() -> spectator.ids.contains(id));
+                spectator.broken = true;
+                await(() -> liveScoreService.getSubscriberCount() == 0);
+            }
+        } finally {
+            running.set(false);
+            heartbeats.join();
+        }
+    }
+
+    @Test
+    @DisplayName("Should number events from the relay and publish them to the other nodes")
+    void shouldPublishThroughRelay() {
+        createService(256, Optional.of(liveScoreRelay), 60_000);
+        when(liveScoreRelay.nextSequence(MATCH_ID, 0L)).thenReturn(41L);
+
+        LiveScoreEvent event = point(3, 2);
+
+        assertThat(event.getId()).isEqualTo(41);
+        assertThat(liveScoreService.bufferedEventIds(MATCH_ID)).containsExactly(41L);
+        verify(liveScoreRelay).publish(eq(MATCH_ID), eq(41L), contains("\"player1Points\":3"));
+    }
+
+    @Test
+    @DisplayName("Should stream events posted to other nodes, starting from the latest one kept in Redis")
+    void shouldStreamRelayedEvents() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<LiveScoreRelay.EventHandler>getArgument(1).accept(MATCH_ID, 12, "{\"id\":12}");
+            return null;
+        }).when(liveScoreRelay).loadLatest(eq(MATCH_ID), any());
+        createService(256, Optional.of(liveScoreRelay), 60_000);
+        ArgumentCaptor<LiveScoreRelay.EventHandler> handler = ArgumentCaptor.forClass(LiveScoreRelay.EventHandler.class);
+        verify(liveScoreRelay).setHandler(handler.capture());
+
+        RecordingEmitter watcher = subscribe(null, false);
+        await(() -> watcher.ids.size() == 1);
+        handler.getValue().accept(MATCH_ID, 13, "{\"id\":13}");
+        handler.getValue().accept(MATCH_ID, 14, "{\"id\":14}");
+
+        await(() -> watcher.ids.size() == 3);
+        assertThat(watcher.ids).containsExactly(12L, 13L, 14L);
+
+        // A match scored elsewhere gets a channel without a lookup here
+        UUID otherMatch = UUID.randomUUID();
+        handler.getValue().accept(otherMatch, 3, "{\"id\":3}");
+        assertThat(liveScoreService.bufferedEventIds(otherMatch)).containsExactly(3L);
+        verify(tournamentMatchRepository, never()).existsByIdAndTournamentId(otherMatch, TOURNAMENT_ID);
+    }
+
+    @Test
+    @DisplayName("Should reject updates and streams for a match not in the tournament")
+    void shouldRejectUnknownMatch() {
+        createService(256);
+        UUID otherMatch = UUID.randomUUID();
+        ScoreUpdateRequest update = new ScoreUpdateRequest();
+        update.setType(LiveScoreEvent.Type.MATCH_STARTED);
+
+        assertThatThrownBy(() -> liveScoreService.publish(TOURNAMENT_ID, otherMatch, update))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> liveScoreService.subscribe(TOURNAMENT_ID, otherMatch, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(liveScoreService.bufferedEventIds(otherMatch)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should accept league fixtures as well as bracket matches")
+    void shouldAcceptFixtures() {
+        createService(256);
+        UUID fixtureId = UUID.randomUUID();
+        when(tournamentFixtureRepository.existsByIdAndTournamentId(fixtureId, TOURNAMENT_ID)).thenReturn(true);
+        ScoreUpdateRequest update = new ScoreUpdateRequest();
+        update.setType(LiveScoreEvent.Type.MATCH_STARTED);
+
+        LiveScoreEvent event = liveScoreService.publish(TOURNAMENT_ID, fixtureId, update);
+
+        assertThat(event.getId()).isEqualTo(1);
+        assertThat(event.getMatchId()).isEqualTo(fixtureId);
+    }
+}
@@ -0,0 +1,140 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseIntegrationTest;
+import com.telangana.ballbadminton.config.CacheConfig;
+import com.telangana.ballbadminton.dto.player.PlayerResponse;
+import com.telangana.ballbadminton.entity.Achievement;
+import com.telangana.ballbadminton.entity.District;
+import com.telangana.ballbadminton.entity.Player;
+import com.telangana.ballbadminton.entity.PlayerStatistics;
+import com.telangana.ballbadminton.entity.Tournament;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.telangana.ballbadminton.util.SqlStatementCounter.assertStatementCount;
+import static com.telangana.ballbadminton.util.SqlStatementCounter.countStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the player list read path
+ * Tests that player listings issue a fixed number of SQL statements whatever the
+ * number of players, achievements and tournaments on the list
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("PlayerReadModel Integration Tests")
+class PlayerReadModelIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private District district;
+    private int seeded;
+
+    @BeforeEach
+    void seedPlayers() {
+        district = new District("Hyderabad", "HYD");
+        entityManager.persist(district);
+        seed(3);
+    }
+
+    /**
+     * Persist players with statistics and two tournament achievements each, then
+     * detach everything so the next read starts from an empty persistence context
+     */
+    private void seed(int players) {
+        for (int i = 0; i < players; i++) {
+            int n = ++seeded;
+            Tournament tournament = new Tournament("State Open " + n, LocalDate.of(2024, 1, n), LocalDate.of(2024, 1, n + 1));
+            entityManager.persist(tournament);
+
+            Player player = new Player("Player " + n);
+            player.setCategory(Player.Category.MEN);
+            player.setDistrict(district);
+            PlayerStatistics statistics = new PlayerStatistics(player);
+            statistics.setCurrentRanking(n);
+            statistics.setTournamentsWon(1);
+            player.setStatistics(statistics);
+            for (int a = 0; a < 2; a++) {
+                Achievement achievement = new Achievement("Title " + a, player);
+                achievement.setAchievementDate(LocalDate.of(2024, 2, a + 1));
+                achievement.setTournament(tournament);
+                player.addAchievement(achievement);
+            }
+            entityManager.persist(player);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        district = entityManager.find(District.class, district.getId());
+        Cache rankings = cacheManager.getCache(CacheConfig.RANKINGS_CACHE);
+        if (rankings != null) {
+            rankings.clear();
+        }
+    }
+
+    /**
+     * Statements of the action, counted once with the seeded players and once with
+     * ten more, so a per-row lazy load shows up as a difference
+     */
+    private void assertConstantStatementCount(int expected, Runnable action) {
+        assertStatementCount(expected, action);
+        seed(10);
+        assertStatementCount(expected, action);
+    }
+
+    @Test
+    @DisplayName("Should list all active players in two statements")
+    void shouldListActivePlayersInFixedStatements() {
+        assertConstantStatementCount(2, () -> playerService.getAllActivePlayers());
+    }
+
+    @Test
+    @DisplayName("Should list players by category and by district in two statements")
+    void shouldListPlayersByCategoryAndDistrictInFixedStatements() {
+        assertConstantStatementCount(2, () -> playerService.getPlayersByCategory(Player.Category.MEN));
+        assertConstantStatementCount(2, () -> playerService.getPlayersByDistrict(district.getId()));
+    }
+
+    @Test
+    @DisplayName("Should list top ranked and most winning players in two statements")
+    void shouldListLeaderboardsInFixedStatements() {
+        assertConstantStatementCount(2, () -> playerService.getTopRankedPlayers(50));
+        assertConstantStatementCount(2, () -> playerService.getPlayersWithMostTournamentWins(50));
+    }
+
+    @Test
+    @DisplayName("Should page players in three statements and scroll them in two")
+    void shouldPageAndScrollPlayersInFixedStatements() {
+        assertConstantStatementCount(3, () -> playerService.getActivePlayers(0, 2, "name", "asc"));
+        assertConstantStatementCount(2, () -> playerService.scrollActivePlayers(null, 2, false));
+    }
+
+    @Test
+    @DisplayName("Should build the same responses as the entity graph of each player")
+    void shouldBuildCompleteResponses() {
+        List<PlayerResponse> players = playerService.getAllActivePlayers();
+
+        assertThat(players).hasSize(3);
+        assertThat(players).allSatisfy(player -> {
+            assertThat(player.getDistrictName()).isEqualTo("Hyderabad");
+            assertThat(player.getStatistics()).isNotNull();
+            assertThat(player.getTotalAchievements()).isEqualTo(2);
+            assertThat(player.getRecentAchievements().get(0).getTournamentName()).startsWith("State Open");
+        });
+        assertThat(countStatements(() -> playerService.getPlayersByCategory(Player.Category.WOMEN))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,202 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.dto.tournament.RegistrationTicket;
+import com.telangana.ballbadminton.dto.tournament.TournamentRegistrationRequest;
+import com.telangana.ballbadminton.dto.tournament.TournamentRegistrationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RegistrationAdmissionQueue
+ * Tests ordered batching per tournament, the one-by-one fallback for a failed batch,
+ * queue overflow, queues only for tournaments taking registrations, dropping of
+ * drained queues and the admission metrics
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("RegistrationAdmissionQueue Tests")
+class RegistrationAdmissionQueueTest extends BaseUnitTest {
+
+    private static final UUID TOURNAMENT_ID = UUID.randomUUID();
+
+    @Mock
+    private TournamentService tournamentService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RegistrationAdmissionQueue createQueue(int capacity, int batchSize) {
+        return new RegistrationAdmissionQueue(tournamentService, meterRegistry, capacity, batchSize, 5, 2, 30);
+    }
+
+    private TournamentRegistrationRequest request() {
+        TournamentRegistrationRequest request = new TournamentRegistrationRequest();
+        request.setPlayerId(UUID.randomUUID());
+        return request;
+    }
+
+    private double outcomes(String result) {
+        return meterRegistry.get("registration.admission.outcomes").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should admit the tickets of a tournament in submission order and bounded batches")
+    void shouldAdmitInOrderedBatches() throws Exception {
+        List<UUID> admitted = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        when(tournamentService.registerPlayers(eq(TOURNAMENT_ID), anyList())).thenAnswer(invocation -> {
+            List<TournamentRegistrationRequest> requests = invocation.getArgument(1);
+            batchSizes.add(requests.size());
+            requests.forEach(request -> admitted.add(request.getPlayerId()));
+            return requests.stream().map(request -> RegistrationTicket.Outcome.registered(UUID.randomUUID())).toList();
+        });
+        RegistrationAdmissionQueue queue = createQueue(1000, 50);
+        queue.start();
+
+        List<UUID> submitted = new ArrayList<>();
+        List<CompletableFuture<RegistrationTicket>> completions = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            RegistrationTicket ticket = queue.submit(TOURNAMENT_ID, request()).orElseThrow();
+            submitted.add(ticket.getPlayerId());
+            completions.add(ticket.getCompletion());
+        }
+        CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        queue.stop();
+
+        assertThat(admitted).containsExactlyElementsOf(submitted);
+        assertThat(batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 50));
+        assertThat(completions).allSatisfy(completion ->
+                assertThat(completion.join().getStatus()).isEqualTo(RegistrationTicket.Status.REGISTERED));
+        assertThat(outcomes("registered")).isEqualTo(500);
+        assertThat(meterRegistry.get("registration.admission.latency").timer().count()).isEqualTo(500);
+        assertThat(meterRegistry.get("registration.admission.batch.size").summary().totalAmount()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should admit tickets one by one when their batch fails")
+    void shouldFallBackToSingleRegistrations() {
+        RegistrationAdmissionQueue queue = createQueue(10, 10);
+        RegistrationTicket first = queue.submit(TOURNAMENT_ID, request()).orElseThrow();
+        RegistrationTicket second = queue.submit(TOURNAMENT_ID, request()).orElseThrow();
+        TournamentRegistrationResponse registration = new TournamentRegistrationResponse();
+        registration.setId(UUID.randomUUID());
+        when(tournamentService.registerPlayers(eq(TOURNAMENT_ID), anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(tournamentService.registerPlayer(eq(TOURNAMENT_ID), any(TournamentRegistrationRequest.class)))
+                .thenReturn(registration)
+                .thenThrow(new IllegalStateException("Player is already registered for this tournament"));
+
+        queue.admit(TOURNAMENT_ID, List.of(first, second));
+
+        assertThat(first.getStatus()).isEqualTo(RegistrationTicket.Status.REGISTERED);
+        assertThat(first.getRegistrationId()).isEqualTo(registration.getId());
+        assertThat(second.getStatus()).isEqualTo(RegistrationTicket.Status.REJECTED);
+        assertThat(second.getReason()).isEqualTo("Player is already registered for this tournament");
+        assertThat(outcomes("registered")).isEqualTo(1);
+        assertThat(outcomes("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should turn requests away once the tournament queue is full")
+    void shouldRejectWhenQueueIsFull() {
+        RegistrationAdmissionQueue queue = createQueue(2, 10);
+
+        assertThat(queue.submit(TOURNAMENT_ID, request())).isPresent();
+        assertThat(queue.submit(TOURNAMENT_ID, request())).isPresent();
+        assertThat(queue.submit(TOURNAMENT_ID, request())).isEmpty();
+        assertThat(queue.submit(UUID.randomUUID(), request())).isPresent();
+
+        assertThat(meterRegistry.get("registration.admission.overflow").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("registration.admission.queue.depth").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not open a queue for a tournament that is not taking registrations")
+    void shouldRejectClosedTournament() {
+        RegistrationAdmissionQueue queue = createQueue(10, 10);
+        UUID unknown = UUID.randomUUID();
+        doThrow(new IllegalStateException("Registration is not open for this tournament"))
+                .when(tournamentService).checkRegistrationOpen(TOURNAMENT_ID);
+        doThrow(new IllegalArgumentException("Tournament not found with ID: " + unknown))
+                .when(tournamentService).checkRegistrationOpen(unknown);
+
+        assertThatThrownBy(() -> queue.submit(TOURNAMENT_ID, request())).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> queue.submit(unknown, request())).isInstanceOf(IllegalArgumentException.class);
+        assertThat(queue.laneCount()).isZero();
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop a tournament's queue once it has been drained")
+    void shouldDropDrainedQueues() throws Exception {
+        when(tournamentService.registerPlayers(eq(TOURNAMENT_ID), anyList())).thenAnswer(invocation -> {
+            List<TournamentRegistrationRequest> requests = invocation.getArgument(1);
+            return requests.stream().map(request -> RegistrationTicket.Outcome.registered(UUID.randomUUID())).toList();
+        });
+        RegistrationAdmissionQueue queue = createQueue(100, 10);
+        List<CompletableFuture<RegistrationTicket>> completions = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            completions.add(queue.submit(TOURNAMENT_ID, request()).orElseThrow().getCompletion());
+        }
+        // The burst checked the tournament once, when it opened the queue
+        verify(tournamentService, times(1)).checkRegistrationOpen(TOURNAMENT_ID);
+        assertThat(queue.laneCount()).isEqualTo(1);
+
+        queue.start();
+        CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        awaitNoLanes(queue);
+
+        // A later request opens a new queue
+        queue.submit(TOURNAMENT_ID, request()).orElseThrow().getCompletion().get(30, TimeUnit.SECONDS);
+        awaitNoLanes(queue);
+        queue.stop();
+
+        assertThat(outcomes("registered")).isEqualTo(26);
+        verify(tournamentService, times(2)).checkRegistrationOpen(TOURNAMENT_ID);
+    }
+
+    private static void awaitNoLanes(RegistrationAdmissionQueue queue) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (queue.laneCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(queue.laneCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should look tickets up by tournament and forget them after the retention period")
+    void shouldLookUpAndEvictTickets() {
+        RegistrationAdmissionQueue queue = new RegistrationAdmissionQueue(tournamentService, meterRegistry, 10, 10, 5, 1, 0);
+        RegistrationTicket ticket = queue.submit(TOURNAMENT_ID, request()).orElseThrow();
+
+        assertThat(queue.getTicket(TOURNAMENT_ID, ticket.getId())).contains(ticket);
+        assertThat(queue.getTicket(UUID.randomUUID(), ticket.getId())).isEmpty();
+
+        queue.evictCompletedTickets();
+        assertThat(queue.getTicket(TOURNAMENT_ID, ticket.getId())).contains(ticket);
+
+        ticket.complete(RegistrationTicket.Outcome.rejected("Tournament is full"));
+        queue.evictCompletedTickets();
+        assertThat(queue.getTicket(TOURNAMENT_ID, ticket.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,240 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseIntegrationTest;
+import com.telangana.ballbadminton.dto.tournament.TournamentRegistrationRequest;
+import com.telangana.ballbadminton.dto.tournament.TournamentRegistrationResponse;
+import com.telangana.ballbadminton.entity.Player;
+import com.telangana.ballbadminton.entity.Tournament;
+import com.telangana.ballbadminton.entity.TournamentRegistration;
+import com.telangana.ballbadminton.repository.PlayerRepository;
+import com.telangana.ballbadminton.repository.TournamentRegistrationRepository;
+import com.telangana.ballbadminton.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency tests for tournament registration
+ * Fires thousands of parallel registrations against the database and checks that the
+ * atomic slot counter never overfills a tournament and that duplicates are rejected,
+ * and that concurrent re-registrations and withdrawals change the counter only once
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("Tournament Registration Concurrency Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // registrations must commit to race each other
+class TournamentRegistrationConcurrencyTest extends BaseIntegrationTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TournamentRegistrationRepository tournamentRegistrationRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @MockBean
+    private EmailService emailService;
+
+    private final List<UUID> tournamentIds = new ArrayList<>();
+    private final List<UUID> playerIds = new ArrayList<>();
+
+    private final AtomicInteger registered = new AtomicInteger();
+    private final AtomicInteger full = new AtomicInteger();
+    private final AtomicInteger duplicates = new AtomicInteger();
+
+    @AfterEach
+    void deleteTestData() {
+        // Registrations are removed with their tournaments
+        tournamentRepository.deleteAllById(tournamentIds);
+        playerRepository.deleteAllById(playerIds);
+    }
+
+    private Tournament openTournament(Integer maxParticipants) {
+        Tournament tournament = new Tournament("Open Championship", LocalDate.now().plusMonths(1), LocalDate.now().plusMonths(1).plusDays(2));
+        tournament.setStatus(Tournament.Status.REGISTRATION_OPEN);
+        tournament.setMaxParticipants(maxParticipants);
+        tournament = tournamentRepository.save(tournament);
+        tournamentIds.add(tournament.getId());
+        return tournament;
+    }
+
+    private List<UUID> players(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(new Player("Concurrent Player " + i));
+        }
+        List<UUID> ids = playerRepository.saveAll(players).stream().map(Player::getId).toList();
+        playerIds.addAll(ids);
+        return ids;
+    }
+
+    private TournamentRegistrationResponse register(UUID tournamentId, UUID playerId) {
+        TournamentRegistrationRequest request = new TournamentRegistrationRequest();
+        request.setPlayerId(playerId);
+        return tournamentService.registerPlayer(tournamentId, request);
+    }
+
+    /**
+     * Register every player in the list at once from a thread pool, counting the outcomes
+     */
+    private void registerConcurrently(UUID tournamentId, List<UUID> players) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> attempts = new ArrayList<>();
+        for (UUID playerId : players) {
+            attempts.add(executor.submit(() -> {
+                start.await();
+                try {
+                    register(tournamentId, playerId);
+                    registered.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    (e.getMessage().contains("full") ? full : duplicates).incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> attempt : attempts) {
+            attempt.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Move the same registration to a status from many threads at once
+     */
+    private void updateStatusConcurrently(UUID tournamentId, UUID registrationId,
+                                          TournamentRegistration.RegistrationStatus status) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> attempts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            attempts.add(executor.submit(() -> {
+                start.await();
+                return tournamentService.updateRegistrationStatus(tournamentId, registrationId, status);
+            }));
+        }
+        start.countDown();
+        for (Future<?> attempt : attempts) {
+            attempt.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+    }
+
+    private int slotCount(UUID tournamentId) {
+        return tournamentRepository.findById(tournamentId).orElseThrow().getActiveRegistrationCount();
+    }
+
+    private long activeRegistrations(UUID tournamentId) {
+        return tournamentRegistrationRepository.countByTournamentIdAndStatusIn(tournamentId, TournamentRegistration.ACTIVE_STATUSES);
+    }
+
+    @Test
+    @DisplayName("Should fill exactly the available slots when thousands register at once")
+    void shouldNeverOverfillTournament() throws Exception {
+        Tournament tournament = openTournament(500);
+
+        registerConcurrently(tournament.getId(), players(3000));
+
+        assertThat(registered.get()).isEqualTo(500);
+        assertThat(full.get()).isEqualTo(2500);
+        assertThat(duplicates.get()).isZero();
+        assertThat(slotCount(tournament.getId())).isEqualTo(500);
+        assertThat(activeRegistrations(tournament.getId())).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should register each player once when the same players register concurrently")
+    void shouldRejectConcurrentDuplicates() throws Exception {
+        Tournament tournament = openTournament(null);
+        List<UUID> players = players(100);
+        List<UUID> attempts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            attempts.addAll(players);
+        }
+
+        registerConcurrently(tournament.getId(), attempts);
+
+        assertThat(registered.get()).isEqualTo(100);
+        assertThat(duplicates.get()).isEqualTo(1900);
+        assertThat(slotCount(tournament.getId())).isEqualTo(100);
+        assertThat(activeRegistrations(tournament.getId())).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should give back the slot of a withdrawn registration")
+    void shouldReleaseSlotOnWithdrawal() {
+        Tournament tournament = openTournament(1);
+        List<UUID> players = players(2);
+        TournamentRegistrationResponse first = register(tournament.getId(), players.get(0));
+
+        tournamentService.updateRegistrationStatus(tournament.getId(), first.getId(),
+                TournamentRegistration.RegistrationStatus.WITHDRAWN);
+        register(tournament.getId(), players.get(1));
+
+        assertThat(slotCount(tournament.getId())).isEqualTo(1);
+        assertThat(activeRegistrations(tournament.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should take one slot when a withdrawn player registers again from many requests at once")
+    void shouldReserveOnceForConcurrentReRegistrations() throws Exception {
+        Tournament tournament = openTournament(null);
+        List<UUID> players = players(2);
+        register(tournament.getId(), players.get(1));
+        TournamentRegistrationResponse withdrawn = register(tournament.getId(), players.get(0));
+        tournamentService.updateRegistrationStatus(tournament.getId(), withdrawn.getId(),
+                TournamentRegistration.RegistrationStatus.WITHDRAWN);
+
+        registerConcurrently(tournament.getId(), Collections.nCopies(THREADS, players.get(0)));
+
+        assertThat(registered.get()).isEqualTo(1);
+        assertThat(duplicates.get()).isEqualTo(THREADS - 1);
+        assertThat(slotCount(tournament.getId())).isEqualTo(2);
+        assertThat(activeRegistrations(tournament.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should give back one slot when the same registration is withdrawn and reinstated from many requests at once")
+    void shouldChangeSlotsOnceForConcurrentStatusUpdates() throws Exception {
+        Tournament tournament = openTournament(null);
+        List<UUID> players = players(2);
+        register(tournament.getId(), players.get(1));
+        TournamentRegistrationResponse registration = register(tournament.getId(), players.get(0));
+
+        updateStatusConcurrently(tournament.getId(), registration.getId(), TournamentRegistration.RegistrationStatus.WITHDRAWN);
+
+        assertThat(slotCount(tournament.getId())).isEqualTo(1);
+        assertThat(activeRegistrations(tournament.getId())).isEqualTo(1);
+
+        updateStatusConcurrently(tournament.getId(), registration.getId(), TournamentRegistration.RegistrationStatus.CONFIRMED);
+
+        assertThat(slotCount(tournament.getId())).isEqualTo(2);
+        assertThat(activeRegistrations(tournament.getId())).isEqualTo(2);
+    }
+}
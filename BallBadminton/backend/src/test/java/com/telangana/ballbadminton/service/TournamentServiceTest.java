@@ -0,0 +1,250 @@
+package com.telangana.ballbadminton.service;
+
+import com.telangana.ballbadminton.base.BaseUnitTest;
+import com.telangana.ballbadminton.cache.CacheTagService;
+import com.telangana.ballbadminton.dto.tournament.RegistrationTicket;
+import com.telangana.ballbadminton.dto.tournament.TournamentRegistrationRequest;
+import com.telangana.ballbadminton.dto.tournament.TournamentResponse;
+import com.telangana.ballbadminton.entity.Player;
+import com.telangana.ballbadminton.entity.Tournament;
+import com.telangana.ballbadminton.entity.TournamentRegistration;
+import com.telangana.ballbadminton.repository.DistrictRepository;
+import com.telangana.ballbadminton.repository.PlayerRepository;
+import com.telangana.ballbadminton.repository.TournamentRegistrationRepository;
+import com.telangana.ballbadminton.repository.TournamentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the TournamentService listings and late registrations
+ * Tests that listings are read with status, district and date range queries, that
+ * registration counts come from the tournament's counter and that no player can join,
+ * or rejoin after leaving, once fixtures have been scheduled
+ *
+ * Requirements: 8.5
+ */
+@DisplayName("TournamentService Tests")
+class TournamentServiceTest extends BaseUnitTest {
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private TournamentRegistrationRepository tournamentRegistrationRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private DistrictRepository districtRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private CacheTagService cacheTagService;
+
+    @Mock
+    private FixtureService fixtureService;
+
+    @InjectMocks
+    private TournamentService tournamentService;
+
+    private Tournament tournament(String name, Integer maxParticipants) {
+        Tournament tournament = new Tournament(name, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3));
+        tournament.setId(UUID.randomUUID());
+        tournament.setMaxParticipants(maxParticipants);
+        return tournament;
+    }
+
+    /**
+     * Withdrawn registration of a tournament taking registrations, whose fixtures have been scheduled
+     */
+    private TournamentRegistration withdrawnAfterFixtures(Tournament tournament) {
+        tournament.setStatus(Tournament.Status.REGISTRATION_OPEN);
+        Player player = new Player("Returning Player");
+        player.setId(UUID.randomUUID());
+        TournamentRegistration registration = new TournamentRegistration(tournament, player);
+        registration.setId(UUID.randomUUID());
+        registration.setStatus(TournamentRegistration.RegistrationStatus.WITHDRAWN);
+        when(fixtureService.hasFixtures(tournament.getId())).thenReturn(true);
+        return registration;
+    }
+
+    /**
+     * Player who never registered for a tournament taking registrations, whose fixtures have been scheduled
+     */
+    private Player newcomerAfterFixtures(Tournament tournament) {
+        tournament.setStatus(Tournament.Status.REGISTRATION_OPEN);
+        Player player = new Player("New Player");
+        player.setId(UUID.randomUUID());
+        when(fixtureService.hasFixtures(tournament.getId())).thenReturn(true);
+        return player;
+    }
+
+    private static TournamentRegistrationRequest request(Player player) {
+        TournamentRegistrationRequest request = new TournamentRegistrationRequest();
+        request.setPlayerId(player.getId());
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should list upcoming tournaments by status with their registration counters")
+    void shouldListUpcomingTournamentsByStatus() {
+        Tournament full = tournament("District Cup", 2);
+        full.setActiveRegistrationCount(2);
+        Tournament open = tournament("State Open", null);
+        when(tournamentRepository.findByStatusInOrderByStartDateAscIdAsc(EnumSet.of(Tournament.Status.UPCOMING,
+                Tournament.Status.REGISTRATION_OPEN, Tournament.Status.REGISTRATION_CLOSED))).thenReturn(List.of(full, open));
+
+        List<TournamentResponse> tournaments = tournamentService.getUpcomingTournaments();
+
+        assertThat(tournaments).extracting(TournamentResponse::getName).containsExactly("District Cup", "State Open");
+        assertThat(tournaments.get(0).getCurrentRegistrationCount()).isEqualTo(2);
+        assertThat(tournaments.get(0).getHasAvailableSlots()).isFalse();
+        assertThat(tournaments.get(1).getCurrentRegistrationCount()).isZero();
+        assertThat(tournaments.get(1).getHasAvailableSlots()).isTrue();
+        verify(tournamentRepository, never()).findAll();
+        verify(tournamentRegistrationRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should page completed tournaments in the database")
+    void shouldPageCompletedTournaments() {
+        Tournament completed = tournament("Champions Trophy", 16);
+        Pageable pageable = PageRequest.of(2, 1);
+        when(tournamentRepository.findByStatusOrderByStartDateDescIdDesc(Tournament.Status.COMPLETED, pageable))
+                .thenReturn(new PageImpl<>(List.of(completed), pageable, 7));
+
+        Page<TournamentResponse> page = tournamentService.getCompletedTournaments(2, 1);
+
+        assertThat(page.getContent()).extracting(TournamentResponse::getName).containsExactly("Champions Trophy");
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(page.getNumber()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should list tournaments of a district and a date range with indexed queries")
+    void shouldListByDistrictAndDateRange() {
+        UUID districtId = UUID.randomUUID();
+        when(tournamentRepository.findByDistrictIdOrderByStartDateDescIdDesc(eq(districtId), any(Pageable.class)))
+                .thenReturn(Page.empty());
+        when(tournamentRepository.findWithinDateRange(eq(LocalDate.of(2024, 1, 1)), eq(LocalDate.of(2024, 12, 31)),
+                any(Pageable.class))).thenReturn(Page.empty());
+
+        assertThat(tournamentService.getTournamentsByDistrict(districtId)).isEmpty();
+        assertThat(tournamentService.getTournamentsByDateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31))).isEmpty();
+        verify(tournamentRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should not reinstate a withdrawn registration once fixtures have been scheduled")
+    void shouldNotReinstateAfterFixtures() {
+        Tournament tournament = tournament("League Cup", 8);
+        TournamentRegistration registration = withdrawnAfterFixtures(tournament);
+        when(tournamentRegistrationRepository.findByIdAndTournamentId(registration.getId(), tournament.getId()))
+                .thenReturn(Optional.of(registration));
+
+        assertThatThrownBy(() -> tournamentService.updateRegistrationStatus(tournament.getId(), registration.getId(),
+                TournamentRegistration.RegistrationStatus.CONFIRMED))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no longer join or rejoin");
+        verify(tournamentRegistrationRepository, never()).transitionStatus(any(), anyCollection(), any(), any());
+        verify(tournamentRepository, never()).reserveRegistrationSlot(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not register a withdrawn player again once fixtures have been scheduled")
+    void shouldNotReRegisterAfterFixtures() {
+        Tournament tournament = tournament("League Cup", 8);
+        TournamentRegistration registration = withdrawnAfterFixtures(tournament);
+        Player player = registration.getPlayer();
+        when(tournamentRepository.findById(tournament.getId())).thenReturn(Optional.of(tournament));
+        when(playerRepository.findById(player.getId())).thenReturn(Optional.of(player));
+        when(tournamentRegistrationRepository.findByTournamentIdAndPlayerId(tournament.getId(), player.getId()))
+                .thenReturn(Optional.of(registration));
+
+        assertThatThrownBy(() -> tournamentService.registerPlayer(tournament.getId(), request(player)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no longer join or rejoin");
+        assertThat(registration.getStatus()).isEqualTo(TournamentRegistration.RegistrationStatus.WITHDRAWN);
+        verify(tournamentRegistrationRepository, never()).transitionStatus(any(), anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a withdrawn player in a registration batch once fixtures have been scheduled")
+    void shouldRejectReRegistrationInBatchAfterFixtures() {
+        Tournament tournament = tournament("League Cup", 8);
+        TournamentRegistration registration = withdrawnAfterFixtures(tournament);
+        Player player = registration.getPlayer();
+        when(tournamentRepository.findByIdForUpdate(tournament.getId())).thenReturn(Optional.of(tournament));
+        when(playerRepository.findAllById(Set.of(player.getId()))).thenReturn(List.of(player));
+        when(tournamentRegistrationRepository.findByTournamentIdAndPlayerIdIn(tournament.getId(), Set.of(player.getId())))
+                .thenReturn(List.of(registration));
+
+        List<RegistrationTicket.Outcome> outcomes = tournamentService.registerPlayers(tournament.getId(), List.of(request(player)));
+
+        assertThat(outcomes).hasSize(1);
+        assertThat(outcomes.get(0).isRegistered()).isFalse();
+        assertThat(outcomes.get(0).getRejectionReason()).contains("no longer join or rejoin");
+        verify(tournamentRepository, never()).addRegistrationSlots(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should not register a new player once fixtures have been scheduled")
+    void shouldNotRegisterNewPlayerAfterFixtures() {
+        Tournament tournament = tournament("League Cup", 8);
+        Player player = newcomerAfterFixtures(tournament);
+        when(tournamentRepository.findById(tournament.getId())).thenReturn(Optional.of(tournament));
+        when(playerRepository.findById(player.getId())).thenReturn(Optional.of(player));
+        when(tournamentRegistrationRepository.findByTournamentIdAndPlayerId(tournament.getId(), player.getId()))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> tournamentService.registerPlayer(tournament.getId(), request(player)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no longer join or rejoin");
+        verify(tournamentRegistrationRepository, never()).saveAndFlush(any());
+        verify(tournamentRepository, never()).reserveRegistrationSlot(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a new player in a registration batch once fixtures have been scheduled")
+    void shouldRejectNewPlayerInBatchAfterFixtures() {
+        Tournament tournament = tournament("League Cup", 8);
+        Player player = newcomerAfterFixtures(tournament);
+        when(tournamentRepository.findByIdForUpdate(tournament.getId())).thenReturn(Optional.of(tournament));
+        when(playerRepository.findAllById(Set.of(player.getId()))).thenReturn(List.of(player));
+        when(tournamentRegistrationRepository.findByTournamentIdAndPlayerIdIn(tournament.getId(), Set.of(player.getId())))
+                .thenReturn(List.of());
+
+        List<RegistrationTicket.Outcome> outcomes = tournamentService.registerPlayers(tournament.getId(), List.of(request(player)));
+
+        assertThat(outcomes).hasSize(1);
+        assertThat(outcomes.get(0).isRegistered()).isFalse();
+        assertThat(outcomes.get(0).getRejectionReason()).contains("no longer join or rejoin");
+        verify(tournamentRepository, never()).addRegistrationSlots(any(), anyInt(), any());
+    }
+}
@@ -0,0 +1,73 @@
+package com.telangana.ballbadminton.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate statement inspector recording the SQL statements prepared by each thread
+ *
+ * Registered for the test profile through
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector, so tests can
+ * assert how many statements a read path issues:
+ *
+ * <pre>
+ * SqlStatementCounter.assertStatementCount(2, () -> playerService.getAllActivePlayers());
+ * </pre>
+ *
+ * @author Telangana Ball Badminton Association
+ * @version 1.0.0
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * Forget the statements recorded so far on this thread
+     */
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * Number of statements recorded on this thread since the last reset
+     */
+    public static int count() {
+        return STATEMENTS.get().size();
+    }
+
+    /**
+     * Statements recorded on this thread since the last reset
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * Run the action and return the number of statements it issued
+     */
+    public static int countStatements(Runnable action) {
+        reset();
+        action.run();
+        return count();
+    }
+
+    /**
+     * Assert that the action issues exactly the expected number of statements
+     */
+    public static void assertStatementCount(int expected, Runnable action) {
+        int actual = countStatements(action);
+        assertThat(actual)
+                .as("SQL statements issued:%n%s", String.join(System.lineSeparator(), statements()))
+                .isEqualTo(expected);
+    }
+}